@@ -4,9 +4,7 @@ import java.util.concurrent.*;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import com.durion.audit.ProcessedIssuesStore;
 
 /**
  * Comment Backfill Agent
@@ -20,7 +18,6 @@ import java.nio.file.Paths;
 public class CommentBackfillAgent {
     
     private final GitHubApiClientSSLBypass githubClient;
-    private static final String PROCESSED_ISSUES_FILE = ".github/orchestration/processed-issues.txt";
     
     // Configuration
     private static final String DURION_REPO = "louisburroughs/durion";
@@ -49,7 +46,7 @@ public class CommentBackfillAgent {
         System.out.println();
         
         // Load processed issues
-        Set<Integer> processedIssues = loadProcessedIssues();
+        ProcessedIssuesStore processedIssues = loadProcessedIssues();
         System.out.println("📂 Found " + processedIssues.size() + " processed issues");
         
         if (processedIssues.isEmpty()) {
@@ -215,29 +212,10 @@ public class CommentBackfillAgent {
     }
     
     /**
-     * Loads processed issue numbers from the file
+     * Opens the shared processed issues store
      */
-    private Set<Integer> loadProcessedIssues() {
-        Set<Integer> processedIssues = new HashSet<>();
-        
-        try {
-            Path processedFile = Paths.get(PROCESSED_ISSUES_FILE);
-            if (Files.exists(processedFile)) {
-                List<String> lines = Files.readAllLines(processedFile);
-                for (String line : lines) {
-                    try {
-                        int issueNumber = Integer.parseInt(line.trim());
-                        processedIssues.add(issueNumber);
-                    } catch (NumberFormatException e) {
-                        // Skip invalid lines
-                    }
-                }
-            }
-        } catch (IOException e) {
-            System.out.println("⚠️ Warning: Could not load processed issues: " + e.getMessage());
-        }
-        
-        return processedIssues;
+    private ProcessedIssuesStore loadProcessedIssues() throws IOException {
+        return ProcessedIssuesStore.openDefault();
     }
     
     /**
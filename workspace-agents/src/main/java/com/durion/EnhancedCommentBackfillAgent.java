@@ -4,9 +4,9 @@ import java.util.concurrent.*;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import com.durion.audit.AuditCostPlanner;
+import com.durion.audit.GitHubApiClientWrapper;
+import com.durion.audit.ProcessedIssuesStore;
 
 /**
  * Enhanced Comment Backfill Agent
@@ -17,7 +17,6 @@ import java.nio.file.Paths;
 public class EnhancedCommentBackfillAgent {
     
     private final GitHubApiClientSSLBypass githubClient;
-    private static final String PROCESSED_ISSUES_FILE = ".github/orchestration/processed-issues.txt";
     
     // Configuration
     private static final String DURION_REPO = "louisburroughs/durion";
@@ -49,7 +48,7 @@ public class EnhancedCommentBackfillAgent {
         System.out.println();
         
         // Load processed issues
-        Set<Integer> processedIssues = loadProcessedIssues();
+        ProcessedIssuesStore processedIssues = loadProcessedIssues();
         System.out.println("📂 Found " + processedIssues.size() + " processed issues");
         
         if (processedIssues.isEmpty()) {
@@ -243,29 +242,21 @@ public class EnhancedCommentBackfillAgent {
     }
     
     /**
-     * Loads processed issue numbers from the file
+     * Opens the shared processed issues store
      */
-    private Set<Integer> loadProcessedIssues() {
-        Set<Integer> processedIssues = new HashSet<>();
-        
-        try {
-            Path processedFile = Paths.get(PROCESSED_ISSUES_FILE);
-            if (Files.exists(processedFile)) {
-                List<String> lines = Files.readAllLines(processedFile);
-                for (String line : lines) {
-                    try {
-                        int issueNumber = Integer.parseInt(line.trim());
-                        processedIssues.add(issueNumber);
-                    } catch (NumberFormatException e) {
-                        // Skip invalid lines
-                    }
-                }
-            }
-        } catch (IOException e) {
-            System.out.println("⚠️ Warning: Could not load processed issues: " + e.getMessage());
-        }
-        
-        return processedIssues;
+    private ProcessedIssuesStore loadProcessedIssues() throws IOException {
+        return ProcessedIssuesStore.openDefault();
+    }
+    
+    /**
+     * Estimates the backfill's API cost and duration without adding comments
+     */
+    public void planBackfill(String githubToken) throws IOException, InterruptedException {
+        ProcessedIssuesStore processedIssues = loadProcessedIssues();
+        AuditCostPlanner planner = new AuditCostPlanner(new GitHubApiClientWrapper(githubToken));
+        System.out.println(planner.planBackfill(processedIssues.size(), DURION_REPO).toReport());
+        System.out.println();
+        System.out.println("💡 Plan only - no comments were added");
     }
     
     /**
@@ -274,8 +265,12 @@ public class EnhancedCommentBackfillAgent {
     public static void main(String[] args) {
         // Get GitHub token from environment or command line
         String githubToken = System.getenv("GITHUB_TOKEN");
-        if (args.length > 0) {
-            githubToken = args[0];
+        boolean planOnly = Arrays.asList(args).contains("--plan");
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                githubToken = arg;
+                break;
+            }
         }
         
         if (githubToken == null || githubToken.trim().isEmpty()) {
@@ -284,12 +279,17 @@ public class EnhancedCommentBackfillAgent {
             System.out.println("   1. Set GITHUB_TOKEN environment variable, or");
             System.out.println("   2. Pass token as command line argument:");
             System.out.println("      java -cp \"target/classes\" EnhancedCommentBackfillAgent <your-github-token>");
+            System.out.println("   Add --plan to estimate API cost and duration without adding comments");
             return;
         }
         
         EnhancedCommentBackfillAgent agent = new EnhancedCommentBackfillAgent(githubToken);
         
         try {
+            if (planOnly) {
+                agent.planBackfill(githubToken);
+                return;
+            }
             agent.backfillCommentsWithSearch();
         } catch (Exception e) {
             System.out.println("❌ Error during enhanced comment backfill: " + e.getMessage());
@@ -9,6 +9,10 @@ import java.util.*;
 import java.util.regex.Pattern;
 import java.util.regex.Matcher;
 
+import com.durion.core.GitHubRequestMetrics;
+import com.durion.core.Span;
+import com.durion.core.Tracer;
+
 /**
  * GitHub API Client for Real GitHub Integration
  * 
@@ -18,12 +22,16 @@ import java.util.regex.Matcher;
  * - Update issue labels
  * - Monitor repository changes
  * 
- * Uses simple JSON parsing without external dependencies.
+ * Uses simple JSON parsing without external dependencies. Request latency,
+ * status codes and rate-limit headers are recorded in a
+ * {@link GitHubRequestMetrics} for export, and each request is traced as a
+ * client span tagged with its repository and status.
  */
 public class GitHubApiClient {
     
     private final HttpClient httpClient;
     private final String githubToken;
+    private final GitHubRequestMetrics requestMetrics = new GitHubRequestMetrics();
     private static final String GITHUB_API_BASE = "https://api.github.com";
     
     public GitHubApiClient(String githubToken) {
@@ -53,7 +61,7 @@ public class GitHubApiClient {
         System.out.println("📤 Sending request to GitHub API...");
         long startTime = System.currentTimeMillis();
         
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send("list_issues", repository, request);
         
         long responseTime = System.currentTimeMillis() - startTime;
         System.out.println("📥 Response received in " + responseTime + "ms");
@@ -126,7 +134,7 @@ public class GitHubApiClient {
             .POST(HttpRequest.BodyPublishers.ofString(jsonBuilder.toString()))
             .build();
         
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send("create_issue", repository, request);
         
         if (response.statusCode() == 201) {
             return parseIssueFromJson(response.body());
@@ -135,6 +143,41 @@ public class GitHubApiClient {
         }
     }
     
+    /**
+     * Sends a request, recording its latency, status and rate-limit headers
+     * under the given endpoint name
+     */
+    private HttpResponse<String> send(String endpoint, String repository, HttpRequest request)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try (Span span = Tracer.startSpan("github " + endpoint, Span.Kind.CLIENT)) {
+            span.setAttribute("http.method", request.method())
+                .setAttribute("http.path", request.uri().getPath())
+                .setAttribute("github.repository", repository);
+            try {
+                response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            } catch (IOException | InterruptedException e) {
+                requestMetrics.recordRequest(endpoint, 0, start);
+                span.setError(e);
+                throw e;
+            }
+            requestMetrics.recordRequest(endpoint, response.statusCode(), start);
+            requestMetrics.recordRateLimit(response);
+            span.setAttribute("http.status_code", response.statusCode())
+                .setAttribute("github.rate_limit_remaining",
+                    response.headers().firstValue("x-ratelimit-remaining").orElse(null));
+            if (response.statusCode() >= 400) {
+                span.setError("HTTP " + response.statusCode());
+            }
+        }
+        return response;
+    }
+    
+    public GitHubRequestMetrics getRequestMetrics() {
+        return requestMetrics;
+    }
+    
     /**
      * Checks if GitHub API is accessible with current token
      */
@@ -177,7 +220,7 @@ public class GitHubApiClient {
             System.out.println("📤 Sending request to GitHub API...");
             long startTime = System.currentTimeMillis();
             
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = send("user", null, request);
             
             long responseTime = System.currentTimeMillis() - startTime;
             System.out.println("📥 Response received in " + responseTime + "ms");
@@ -17,6 +17,10 @@ import java.security.cert.X509Certificate;
 import java.security.NoSuchAlgorithmException;
 import java.security.KeyManagementException;
 
+import com.durion.core.GitHubRequestMetrics;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * GitHub API Client with SSL Certificate Bypass
  * 
@@ -29,7 +33,9 @@ public class GitHubApiClientSSLBypass {
     
     private final HttpClient httpClient;
     private final String githubToken;
+    private final GitHubRequestMetrics requestMetrics = new GitHubRequestMetrics();
     private static final String GITHUB_API_BASE = "https://api.github.com";
+    private static final long SECONDARY_RATE_LIMIT_FALLBACK_MS = 60000; // GitHub asks for at least 60s without Retry-After
     
     public GitHubApiClientSSLBypass(String githubToken) {
         this.githubToken = githubToken;
@@ -78,12 +84,7 @@ public class GitHubApiClientSSLBypass {
         System.out.println("🔍 Searching for story issues in: " + repository);
         
         // Try the two correct search patterns
-        String[] searchQueries = {
-            String.format("repo:%s type:issue state:open label:\"type:story\"", repository),
-            String.format("repo:%s type:issue state:open \"[STORY]\" in:title", repository)
-        };
-        
-        for (String searchQuery : searchQueries) {
+        for (String searchQuery : storySearchQueries(repository)) {
             System.out.println("🔍 Trying search: " + searchQuery);
             
             List<GitHubIssue> allResults = getAllPaginatedResults(searchQuery);
@@ -107,6 +108,16 @@ public class GitHubApiClientSSLBypass {
         return new ArrayList<>();
     }
     
+    /**
+     * Search queries used to find story issues, in the order they are tried.
+     * The second pattern is only used when the first finds nothing.
+     */
+    public static List<String> storySearchQueries(String repository) {
+        return List.of(
+            String.format("repo:%s type:issue state:open label:\"type:story\"", repository),
+            String.format("repo:%s type:issue state:open \"[STORY]\" in:title", repository));
+    }
+    
     /**
      * Fetches all paginated results for a search query
      */
@@ -150,6 +161,52 @@ public class GitHubApiClientSSLBypass {
         return allResults;
     }
     
+    /**
+     * Finds an issue (open or closed) among the repository's most recently
+     * created issues whose body contains the given text. Lists issues directly
+     * rather than searching, because the search index lags behind and misses
+     * an issue created moments ago.
+     *
+     * @param maxIssues How many of the newest issues to examine
+     */
+    public Optional<GitHubIssue> findRecentIssueByBodyText(String repository, String text, int maxIssues)
+            throws IOException, InterruptedException {
+        System.out.println("🔍 Looking up existing issue in " + repository + " among the newest " + maxIssues
+            + " issues by body text: " + text);
+        ObjectMapper mapper = new ObjectMapper();
+        int perPage = Math.min(100, maxIssues);
+        for (int page = 1; (page - 1) * perPage < maxIssues; page++) {
+            String url = String.format("%s/repos/%s/issues?state=all&sort=created&direction=desc&per_page=%d&page=%d",
+                GITHUB_API_BASE, repository, perPage, page);
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .header("Authorization", "Bearer " + githubToken)
+                .header("Accept", "application/vnd.github.v3+json")
+                .header("User-Agent", "Durion-Workspace-Agent/1.0")
+                .GET()
+                .build();
+
+            HttpResponse<String> response = sendRequestWithRateLimit("list_issues", request);
+            if (response.statusCode() != 200) {
+                throw new IOException("Failed to list issues: " + response.statusCode() + " - " + response.body());
+            }
+            JsonNode issues = mapper.readTree(response.body());
+            for (JsonNode issue : issues) {
+                // The issues endpoint also returns pull requests
+                if (!issue.has("pull_request") && issue.path("body").asText("").contains(text)) {
+                    List<String> labels = new ArrayList<>();
+                    issue.path("labels").forEach(label -> labels.add(label.path("name").asText()));
+                    return Optional.of(new GitHubIssue(issue.path("number").asInt(), issue.path("title").asText(),
+                        issue.path("body").asText(""), issue.path("html_url").asText(), labels));
+                }
+            }
+            if (issues.size() < perPage) {
+                break;
+            }
+        }
+        return Optional.empty();
+    }
+    
     /**
      * Searches issues with a specific query URL
      */
@@ -165,7 +222,7 @@ public class GitHubApiClientSSLBypass {
         System.out.println("📤 Sending search request to GitHub API...");
         long startTime = System.currentTimeMillis();
         
-        HttpResponse<String> response = sendRequestWithRateLimit(request);
+        HttpResponse<String> response = sendRequestWithRateLimit("search_issues", request);
         
         long responseTime = System.currentTimeMillis() - startTime;
         System.out.println("📥 Response received in " + responseTime + "ms");
@@ -344,7 +401,7 @@ public class GitHubApiClientSSLBypass {
             .GET()
             .build();
         
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send("rate_limit", request);
         
         if (response.statusCode() == 200) {
             String responseBody = response.body();
@@ -387,6 +444,54 @@ public class GitHubApiClientSSLBypass {
         }
     }
     
+    /**
+     * Fetches the raw /rate_limit document covering every resource bucket.
+     * This endpoint does not count against any rate limit.
+     */
+    public String fetchRateLimitStatus() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(GITHUB_API_BASE + "/rate_limit"))
+            .header("Authorization", "Bearer " + githubToken)
+            .header("Accept", "application/vnd.github.v3+json")
+            .header("User-Agent", "Durion-Workspace-Agent/1.0")
+            .GET()
+            .build();
+        
+        HttpResponse<String> response = send("rate_limit", request);
+        if (response.statusCode() != 200) {
+            throw new IOException("Could not fetch rate limit status: " + response.statusCode());
+        }
+        return response.body();
+    }
+    
+    /**
+     * Runs a search with a page size of one and returns GitHub's total_count,
+     * so the size of a full scan can be known for a single search request.
+     * 
+     * @return total_count, or -1 if the search failed
+     */
+    public int probeSearchTotalCount(String searchQuery) throws IOException, InterruptedException {
+        String encodedQuery = java.net.URLEncoder.encode(searchQuery, "UTF-8");
+        String url = String.format("%s/search/issues?q=%s&per_page=1", GITHUB_API_BASE, encodedQuery);
+        
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(url))
+            .header("Authorization", "Bearer " + githubToken)
+            .header("Accept", "application/vnd.github.v3+json")
+            .header("User-Agent", "Durion-Workspace-Agent/1.0")
+            .GET()
+            .build();
+        
+        HttpResponse<String> response = send("search_issues", request);
+        if (response.statusCode() != 200) {
+            System.out.println("⚠️ total_count probe failed with status: " + response.statusCode());
+            return -1;
+        }
+        
+        Matcher totalCountMatcher = Pattern.compile("\"total_count\"\\s*:\\s*(\\d+)").matcher(response.body());
+        return totalCountMatcher.find() ? Integer.parseInt(totalCountMatcher.group(1)) : -1;
+    }
+    
     /**
      * Checks GitHub API rate limit status using response headers and waits if necessary
      */
@@ -474,8 +579,9 @@ public class GitHubApiClientSSLBypass {
     /**
      * Enhanced method that returns both response and handles rate limiting
      */
-    private HttpResponse<String> sendRequestWithRateLimit(HttpRequest request) throws IOException, InterruptedException {
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    private HttpResponse<String> sendRequestWithRateLimit(String endpoint, HttpRequest request)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = send(endpoint, request);
         
         // Check rate limit from this response for next request
         checkRateLimitFromHeaders(response);
@@ -483,6 +589,28 @@ public class GitHubApiClientSSLBypass {
         return response;
     }
     
+    /**
+     * Sends a request, recording its latency, status and rate-limit headers
+     * under the given endpoint name
+     */
+    private HttpResponse<String> send(String endpoint, HttpRequest request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException | InterruptedException e) {
+            requestMetrics.recordRequest(endpoint, 0, start);
+            throw e;
+        }
+        requestMetrics.recordRequest(endpoint, response.statusCode(), start);
+        requestMetrics.recordRateLimit(response);
+        return response;
+    }
+    
+    public GitHubRequestMetrics getRequestMetrics() {
+        return requestMetrics;
+    }
+    
     /**
      * Creates a new issue in the specified repository
      */
@@ -519,7 +647,7 @@ public class GitHubApiClientSSLBypass {
             .build();
         
         System.out.println("📤 Sending issue creation request...");
-        HttpResponse<String> response = sendRequestWithRateLimit(request);
+        HttpResponse<String> response = sendRequestWithRateLimit("create_issue", request);
         
         System.out.println("📊 HTTP Status: " + response.statusCode());
         
@@ -527,23 +655,11 @@ public class GitHubApiClientSSLBypass {
             GitHubIssue issue = parseIssueFromJson(response.body());
             System.out.println("✅ Issue created successfully: " + issue.getUrl());
             return issue;
-        } else if (response.statusCode() == 403 && response.body().contains("secondary rate limit")) {
-            System.out.println("⚠️ Hit secondary rate limit - waiting 60 seconds before retry...");
-            Thread.sleep(60000); // Wait 60 seconds for secondary rate limit
-            
-            // Retry once after waiting
-            System.out.println("🔄 Retrying issue creation after secondary rate limit wait...");
-            HttpResponse<String> retryResponse = sendRequestWithRateLimit(request);
-            
-            if (retryResponse.statusCode() == 201) {
-                GitHubIssue issue = parseIssueFromJson(retryResponse.body());
-                System.out.println("✅ Issue created successfully: " + issue.getUrl() + " (after retry)");
-                return issue;
-            } else {
-                System.out.println("❌ Failed to create issue even after retry");
-                System.out.println("📄 Response: " + retryResponse.body());
-                throw new IOException("Failed to create issue after retry: " + retryResponse.statusCode() + " - " + retryResponse.body());
-            }
+        } else if (isSecondaryRateLimit(response)) {
+            // Let the caller pause every worker instead of sleeping on this one thread
+            long waitMs = retryAfterMillis(response, SECONDARY_RATE_LIMIT_FALLBACK_MS);
+            System.out.println("⚠️ Hit secondary rate limit - deferring to caller for " + (waitMs / 1000) + " seconds");
+            throw new RateLimitExceededException(response.statusCode(), waitMs, response.body());
         } else {
             System.out.println("❌ Failed to create issue");
             System.out.println("📄 Response: " + response.body());
@@ -551,6 +667,32 @@ public class GitHubApiClientSSLBypass {
         }
     }
     
+    /**
+     * Checks whether a response is a secondary (abuse) rate limit rejection.
+     * GitHub reports these as 403 or 429 with a "secondary rate limit" message.
+     */
+    private boolean isSecondaryRateLimit(HttpResponse<String> response) {
+        int status = response.statusCode();
+        String body = response.body();
+        return (status == 403 || status == 429) && body != null && body.contains("secondary rate limit");
+    }
+    
+    /**
+     * Reads the Retry-After header (in seconds) and converts it to milliseconds,
+     * falling back to the given default when the header is absent or malformed.
+     */
+    private long retryAfterMillis(HttpResponse<String> response, long fallbackMs) {
+        String retryAfter = getHeader(response, "retry-after");
+        if (retryAfter != null) {
+            try {
+                return Math.max(0, Long.parseLong(retryAfter.trim())) * 1000;
+            } catch (NumberFormatException e) {
+                System.out.println("⚠️ Could not parse Retry-After header: " + retryAfter);
+            }
+        }
+        return fallbackMs;
+    }
+    
     /**
      * Adds a comment to an existing issue
      */
@@ -580,7 +722,7 @@ public class GitHubApiClientSSLBypass {
             .build();
         
         System.out.println("📤 Sending comment request...");
-        HttpResponse<String> response = sendRequestWithRateLimit(request);
+        HttpResponse<String> response = sendRequestWithRateLimit("add_comment", request);
         
         System.out.println("📊 HTTP Status: " + response.statusCode());
         
@@ -592,7 +734,7 @@ public class GitHubApiClientSSLBypass {
             
             // Retry once after waiting
             System.out.println("🔄 Retrying comment after secondary rate limit wait...");
-            HttpResponse<String> retryResponse = sendRequestWithRateLimit(request);
+            HttpResponse<String> retryResponse = sendRequestWithRateLimit("add_comment", request);
             
             if (retryResponse.statusCode() == 201) {
                 System.out.println("✅ Comment added successfully to issue #" + issueNumber + " (after retry)");
@@ -650,7 +792,7 @@ public class GitHubApiClientSSLBypass {
             System.out.println("📤 Sending request to GitHub API...");
             long startTime = System.currentTimeMillis();
             
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = send("user", request);
             
             long responseTime = System.currentTimeMillis() - startTime;
             System.out.println("📥 Response received in " + responseTime + "ms");
@@ -781,6 +923,28 @@ public class GitHubApiClientSSLBypass {
                   .replace("\\\\", "\\");
     }
     
+    /**
+     * Raised when GitHub keeps rejecting a write with a secondary rate limit.
+     * Carries the server-provided Retry-After so callers can pace themselves
+     * instead of sleeping a fixed interval.
+     */
+    public static class RateLimitExceededException extends IOException {
+        private static final long serialVersionUID = 1L;
+        
+        private final int statusCode;
+        private final long retryAfterMillis;
+        
+        public RateLimitExceededException(int statusCode, long retryAfterMillis, String responseBody) {
+            super("Secondary rate limit exceeded (" + statusCode + "), retry after "
+                    + (retryAfterMillis / 1000) + "s - " + responseBody);
+            this.statusCode = statusCode;
+            this.retryAfterMillis = retryAfterMillis;
+        }
+        
+        public int getStatusCode() { return statusCode; }
+        public long getRetryAfterMillis() { return retryAfterMillis; }
+    }
+    
     /**
      * GitHub Issue representation
      */
@@ -20,6 +20,7 @@ public class GitHubStoryMonitor {
     
     private final StoryOrchestrationAgent orchestrationAgent;
     private final GitHubIssueCreationAgent issueCreationAgent;
+    private final WorkspaceAgentRegistry agentRegistry;
     private final ScheduledExecutorService scheduler;
     private final AgentConfiguration config;
     private volatile boolean running = false;
@@ -31,13 +32,15 @@ public class GitHubStoryMonitor {
     
     public GitHubStoryMonitor() {
         this.orchestrationAgent = new StoryOrchestrationAgent();
-        this.issueCreationAgent = new GitHubIssueCreationAgent();
         this.scheduler = Executors.newScheduledThreadPool(2);
         this.config = createConfiguration();
         
-        // Initialize agents
-        this.orchestrationAgent.initialize(config);
-        this.issueCreationAgent.initialize(config);
+        // Start the orchestration agent now; issue creation starts on first use
+        this.agentRegistry = new WorkspaceAgentRegistry(config);
+        this.issueCreationAgent = new GitHubIssueCreationAgent(agentRegistry);
+        this.agentRegistry.registerAgent(orchestrationAgent);
+        this.agentRegistry.registerLazyAgent(issueCreationAgent);
+        this.agentRegistry.startAgents(config).join();
     }
     
     /**
@@ -101,8 +104,8 @@ public class GitHubStoryMonitor {
             System.out.println("🔍 [" + timestamp + "] Checking for new [STORY] issues...");
             
             // Step 1: Analyze stories from durion repository
-            CompletableFuture<AgentResult> analysisResult = orchestrationAgent.execute("ANALYZE_STORIES", new HashMap<>());
-            AgentResult analysis = analysisResult.get(30, TimeUnit.SECONDS);
+            CompletableFuture<AgentResult> analysisResult = agentRegistry.executeOperation("ANALYZE_STORIES", new HashMap<>());
+            AgentResult analysis = analysisResult.get();
             
             if (!analysis.isSuccess()) {
                 System.out.println("❌ Story analysis failed: " + analysis.getMessage());
@@ -113,8 +116,8 @@ public class GitHubStoryMonitor {
             System.out.println("   🔄 Processing stories and updating coordination documents...");
             
             // Step 3: Generate story sequence
-            CompletableFuture<AgentResult> sequenceResult = orchestrationAgent.execute("SEQUENCE_STORIES", new HashMap<>());
-            AgentResult sequence = sequenceResult.get(30, TimeUnit.SECONDS);
+            CompletableFuture<AgentResult> sequenceResult = agentRegistry.executeOperation("SEQUENCE_STORIES", new HashMap<>());
+            AgentResult sequence = sequenceResult.get();
             
             if (!sequence.isSuccess()) {
                 System.out.println("❌ Story sequencing failed: " + sequence.getMessage());
@@ -138,21 +141,29 @@ public class GitHubStoryMonitor {
         }
     }
     
+    /**
+     * Runs a document generation operation through the registry, joining an
+     * identical one already in flight
+     */
+    private CompletableFuture<AgentResult> generateDocument(String operation) {
+        return agentRegistry.executeCoalesced(operation, Map.of());
+    }
+    
     /**
      * Generates all coordination documents
      */
     private void generateCoordinationDocuments() throws Exception {
         // Generate story sequence document
-        CompletableFuture<AgentResult> sequenceDoc = orchestrationAgent.execute("GENERATE_SEQUENCE_DOCUMENT", new HashMap<>());
-        sequenceDoc.get(30, TimeUnit.SECONDS);
+        CompletableFuture<AgentResult> sequenceDoc = generateDocument("GENERATE_SEQUENCE_DOCUMENT");
+        sequenceDoc.get();
         
         // Generate frontend coordination document
-        CompletableFuture<AgentResult> frontendDoc = orchestrationAgent.execute("GENERATE_FRONTEND_COORDINATION", new HashMap<>());
-        frontendDoc.get(30, TimeUnit.SECONDS);
+        CompletableFuture<AgentResult> frontendDoc = generateDocument("GENERATE_FRONTEND_COORDINATION");
+        frontendDoc.get();
         
         // Generate backend coordination document
-        CompletableFuture<AgentResult> backendDoc = orchestrationAgent.execute("GENERATE_BACKEND_COORDINATION", new HashMap<>());
-        backendDoc.get(30, TimeUnit.SECONDS);
+        CompletableFuture<AgentResult> backendDoc = generateDocument("GENERATE_BACKEND_COORDINATION");
+        backendDoc.get();
     }
     
     /**
@@ -172,8 +183,8 @@ public class GitHubStoryMonitor {
             "domain", domain
         );
         
-        CompletableFuture<AgentResult> issueResult = orchestrationAgent.execute("CREATE_IMPLEMENTATION_ISSUES", issueParams);
-        AgentResult result = issueResult.get(30, TimeUnit.SECONDS);
+        CompletableFuture<AgentResult> issueResult = agentRegistry.executeOperation("CREATE_IMPLEMENTATION_ISSUES", issueParams);
+        AgentResult result = issueResult.get();
         
         if (result.isSuccess()) {
             System.out.println("   🎯 Implementation issues created successfully");
@@ -1,4 +1,5 @@
 package com.durion;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 
@@ -89,14 +90,20 @@ public class IntegrationTestRunner {
         agents.put("disaster-recovery", new DisasterRecoveryAgent());
         agents.put("data-governance", new DataGovernanceAgent());
         agents.put("documentation-coordination", new DocumentationCoordinationAgent());
+        agents.put("workflow-coordination", new SynchronousAgentAdapter(new WorkflowCoordinationAgent()));
         agents.put("story-orchestration", new StoryOrchestrationAgent());
         agents.put("story-orchestration", new StoryOrchestrationAgent());
         
-        // Initialize each agent
+        // Initialize independent agents concurrently, each after the agents it requires
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry(config);
+        agents.values().forEach(registry::registerAgent);
+        long startupStart = System.currentTimeMillis();
+        Map<String, Duration> timeToReady = registry.startAgents(config).join();
         for (Map.Entry<String, WorkspaceAgent> entry : agents.entrySet()) {
-            entry.getValue().initialize(config);
-            System.out.println("   ✅ " + entry.getKey());
+            Duration ready = timeToReady.get(entry.getValue().getAgentId());
+            System.out.println("   ✅ " + entry.getKey() + (ready != null ? " (" + ready.toMillis() + "ms)" : ""));
         }
+        System.out.println("   ⏱️ Startup completed in " + (System.currentTimeMillis() - startupStart) + "ms");
         
         System.out.println("   🎉 All " + agents.size() + " agents initialized successfully");
     }
@@ -159,31 +166,36 @@ public class IntegrationTestRunner {
         // Test Requirements → Integration coordination
         System.out.println("   🔄 Testing Requirements → Integration coordination...");
         
-        RequirementsDecompositionAgent reqAgent = 
-            (RequirementsDecompositionAgent) agents.get("requirements-decomposition");
-        FullStackIntegrationAgent integrationAgent = 
-            (FullStackIntegrationAgent) agents.get("full-stack-integration");
-        
-        // Decompose requirements
-        AgentResult decomposition = reqAgent.decomposeRequirements(
-            "Build user authentication with role-based access control");
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry();
+        registry.registerAgent(agents.get("requirements-decomposition"));
+        registry.registerAgent(agents.get("full-stack-integration"));
+        
+        // Decompose once, then coordinate integration and generate specs in parallel
+        AgentPipeline pipeline = AgentPipeline.builder("requirements-to-integration")
+            .stage("decompose", "decompose-requirements", List.of(),
+                inputs -> Map.of("requirement", inputs.getParameter("requirement")))
+            .stage("coordinate", "coordinate-guidance", List.of("decompose"),
+                inputs -> Map.of("decomposition", inputs.getResult("decompose").getData()))
+            .stage("specs", "generate-specs", List.of("decompose"),
+                inputs -> Map.of("decomposition", inputs.getResult("decompose").getData()))
+            .build();
+        
+        AgentPipeline.PipelineResult result = pipeline.execute(registry,
+            Map.of("requirement", "Build user authentication with role-based access control")).join();
+        
+        for (AgentPipeline.StageResult stage : result.getStages().values()) {
+            System.out.println("      ⏱️ " + stage.getStageName() + " (" + stage.getOperation() + "): "
+                + stage.getStatus() + " in " + stage.getDuration().toMillis() + "ms");
+        }
+        System.out.println("      🛤️ Critical path: " + String.join(" → ", result.getCriticalPath())
+            + " (" + result.getTotalDuration().toMillis() + "ms)");
         
-        if (decomposition.isSuccess()) {
-            // Use decomposition for integration
-            Map<String, Object> integrationParams = new HashMap<>();
-            integrationParams.put("decomposition", decomposition.getData());
-            
-            CompletableFuture<AgentResult> integrationResult = 
-                integrationAgent.execute("COORDINATE_INTEGRATION", integrationParams);
-            
-            AgentResult intResult = integrationResult.join();
-            if (intResult.isSuccess()) {
-                System.out.println("      ✅ Cross-agent coordination working");
-            } else {
-                System.out.println("      ❌ Integration coordination failed");
-            }
-        } else {
+        if (result.isSuccess()) {
+            System.out.println("      ✅ Cross-agent coordination working");
+        } else if (result.getStage("decompose").getStatus() != AgentPipeline.StageStatus.SUCCEEDED) {
             System.out.println("      ❌ Requirements decomposition failed");
+        } else {
+            System.out.println("      ❌ Integration coordination failed");
         }
         
         System.out.println("   🎉 Cross-agent coordination validated");
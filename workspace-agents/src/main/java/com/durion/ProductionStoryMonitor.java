@@ -1,10 +1,12 @@
 package com.durion;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.durion.agents.*;
 import com.durion.core.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.io.IOException;
@@ -20,16 +22,28 @@ import java.nio.file.Paths;
  * - Writes real coordination files
  * - Creates real GitHub issues
  * - Monitors real repositories
+ * - Serves Prometheus metrics for its agents, GitHub calls and polls when a
+ *   metrics port is configured (METRICS_PORT, bound to loopback unless
+ *   METRICS_HOST is set)
+ * - Traces each polling cycle, down to agent operations and GitHub requests,
+ *   into the trace file named by TRACE_FILE, if set
  */
 public class ProductionStoryMonitor {
     
     private final StoryOrchestrationAgent orchestrationAgent;
     private final GitHubIssueCreationAgent issueCreationAgent;
+    private final WorkspaceAgentRegistry agentRegistry;
     private final GitHubApiClient githubClient;
     private final ScheduledExecutorService scheduler;
+    private final DomainCorpusIndex corpusIndex;
     private final AgentConfiguration config;
+    private final LatencyHistogram pollDurations = new LatencyHistogram();
+    private final LongAdder pollFailures = new LongAdder();
+    private final MetricsExporter metricsExporter = new MetricsExporter();
+    // Null while tracing is disabled; polling cycles start their traces here
+    private volatile ZipkinFileSpanExporter traceExporter;
     private volatile boolean running = false;
-    private Set<Integer> processedIssueNumbers = new HashSet<>();
+    private final Set<Integer> processedIssueNumbers = ConcurrentHashMap.newKeySet();
     
     // Configuration
     private static final int POLLING_INTERVAL_MINUTES = 5;
@@ -40,13 +54,17 @@ public class ProductionStoryMonitor {
     public ProductionStoryMonitor(String githubToken) {
         this.githubClient = new GitHubApiClient(githubToken);
         this.orchestrationAgent = new StoryOrchestrationAgent();
-        this.issueCreationAgent = new GitHubIssueCreationAgent();
         this.scheduler = Executors.newScheduledThreadPool(2);
         this.config = createConfiguration();
         
-        // Initialize agents
-        this.orchestrationAgent.initialize(config);
-        this.issueCreationAgent.initialize(config);
+        // Start the orchestration agent while the corpus loads; issue creation starts on first use
+        this.agentRegistry = new WorkspaceAgentRegistry(config);
+        this.issueCreationAgent = new GitHubIssueCreationAgent(agentRegistry);
+        this.agentRegistry.registerAgent(orchestrationAgent);
+        this.agentRegistry.registerLazyAgent(issueCreationAgent);
+        CompletableFuture<Map<String, Duration>> agentStartup = agentRegistry.startAgents(config);
+        this.corpusIndex = StoryDomains.loadCorpusIndex();
+        agentStartup.join();
     }
     
     /**
@@ -69,6 +87,9 @@ public class ProductionStoryMonitor {
         System.out.println("✅ GitHub API connection successful");
         
         running = true;
+        corpusIndex.startAutoRefresh(Duration.ofMinutes(POLLING_INTERVAL_MINUTES));
+        startMetricsExporter();
+        startTraceExporter();
         System.out.println();
         System.out.println("🚀 **STARTING PRODUCTION STORY PROCESSING**");
         System.out.println("==========================================");
@@ -111,6 +132,9 @@ public class ProductionStoryMonitor {
      * Main story processing loop - connects to real GitHub API
      */
     private void processStories() {
+        long pollStart = System.nanoTime();
+        Span span = Tracer.startTrace("story.poll", traceExporter).setAttribute("github.repository", DURION_REPO);
+        Span.Scope scope = span.makeCurrent();
         try {
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
             System.out.println("🔍 [" + timestamp + "] Fetching [STORY] issues from GitHub...");
@@ -123,6 +147,7 @@ public class ProductionStoryMonitor {
             List<GitHubApiClient.GitHubIssue> newStories = storyIssues.stream()
                 .filter(issue -> !processedIssueNumbers.contains(issue.getNumber()))
                 .toList();
+            span.setAttribute("stories.found", storyIssues.size()).setAttribute("stories.new", newStories.size());
             
             if (newStories.isEmpty()) {
                 System.out.println("   ℹ️ No new stories detected");
@@ -152,8 +177,60 @@ public class ProductionStoryMonitor {
             System.out.println();
             
         } catch (Exception e) {
+            pollFailures.increment();
+            span.setError(e);
             System.out.println("❌ Error during story processing: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            scope.close();
+            span.end();
+            pollDurations.recordSince(pollStart);
+        }
+    }
+    
+    /**
+     * Serves agent, GitHub and poll metrics for scraping, unless the metrics
+     * port is disabled
+     */
+    private void startMetricsExporter() {
+        int port = config.getMetricsPort();
+        if (port < 0) {
+            return;
+        }
+        metricsExporter
+            .register(agentRegistry)
+            .register(githubClient.getRequestMetrics())
+            .register(writer -> {
+                writer.histogram("durion_monitor_poll_duration_seconds", "Duration of one story polling cycle",
+                    Map.of("monitor", "production"), pollDurations);
+                writer.counter("durion_monitor_poll_failures_total", "Polling cycles that ended in an error",
+                    Map.of("monitor", "production"), pollFailures.sum());
+                writer.gauge("durion_monitor_processed_stories", "Stories processed since the monitor started",
+                    Map.of("monitor", "production"), processedIssueNumbers.size());
+            });
+        try {
+            String host = config.getMetricsHost();
+            metricsExporter.start(host, port);
+            System.out.println("📈 Metrics available at http://" + (host.isBlank() ? "localhost" : host.trim()) + ":"
+                + metricsExporter.getPort() + MetricsExporter.PATH);
+        } catch (IOException e) {
+            System.out.println("⚠️ Warning: Could not start metrics endpoint on port " + port + ": " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Writes trace spans to the configured file, unless tracing is disabled
+     */
+    private void startTraceExporter() {
+        String traceFile = config.getTraceFile();
+        if (traceFile == null || traceFile.isBlank()) {
+            return;
+        }
+        try {
+            traceExporter = new ZipkinFileSpanExporter(Paths.get(traceFile), "durion-story-monitor");
+            System.out.println("🧭 Writing traces to: " + traceExporter.getFile().toAbsolutePath());
+        } catch (IOException e) {
+            System.out.println("⚠️ Warning: Could not open trace file " + traceFile + ": " + e.getMessage());
         }
     }
     
@@ -161,15 +238,28 @@ public class ProductionStoryMonitor {
      * Processes a single new story
      */
     private void processNewStory(GitHubApiClient.GitHubIssue story) {
+        Span span = Tracer.startSpan("story.process")
+            .setAttribute("github.repository", DURION_REPO)
+            .setAttribute("issue.number", story.getNumber());
+        Span.Scope scope = span.makeCurrent();
         try {
             System.out.println("   🔄 Processing story #" + story.getNumber() + ": " + story.getTitle());
             
             // Extract domain from story (simple heuristic)
-            String domain = extractDomain(story.getTitle(), story.getBody());
+            String domain = StoryDomains.extractDomain(corpusIndex, story.getTitle(), story.getBody());
+            span.setAttribute("story.domain", domain);
             
             // Create implementation issues using the GitHubIssueCreationAgent
+            Span startup = Tracer.startSpan("agent.start").setAttribute("agent.id", issueCreationAgent.getAgentId());
+            try {
+                agentRegistry.ensureStarted(issueCreationAgent.getAgentId()).join();
+            } finally {
+                startup.end();
+            }
             GitHubIssueCreationAgent.IssueCreationResult result = 
                 issueCreationAgent.createIssuesFromStory(story.getTitle(), story.getBody(), domain);
+            span.setAttribute("issue.frontend_url", result.frontendIssueUrl())
+                .setAttribute("issue.backend_url", result.backendIssueUrl());
             
             if (result.success()) {
                 System.out.println("      ✅ Created implementation issues:");
@@ -180,24 +270,39 @@ public class ProductionStoryMonitor {
                     System.out.println("         ⚙️ Backend: " + result.backendIssueUrl());
                 }
             } else {
+                span.setError(result.message());
                 System.out.println("      ⚠️ Issue creation failed: " + result.message());
             }
             
         } catch (Exception e) {
+            span.setError(e);
             System.out.println("      ❌ Error processing story: " + e.getMessage());
+        } finally {
+            scope.close();
+            span.end();
         }
     }
     
+    /**
+     * Runs a document generation operation through the registry, joining an
+     * identical one already in flight
+     */
+    private CompletableFuture<AgentResult> generateDocument(String operation) {
+        return agentRegistry.executeCoalesced(operation, Map.of());
+    }
+    
     /**
      * Updates coordination documents with current story state
      */
     private void updateCoordinationDocuments(List<GitHubApiClient.GitHubIssue> stories) {
+        Span span = Tracer.startSpan("coordination.update").setAttribute("stories.count", stories.size());
+        Span.Scope scope = span.makeCurrent();
         try {
             System.out.println("   📝 Updating coordination documents...");
             
             // Use the StoryOrchestrationAgent to generate documents
-            CompletableFuture<AgentResult> sequenceDoc = orchestrationAgent.execute("GENERATE_SEQUENCE_DOCUMENT", new HashMap<>());
-            AgentResult sequenceResult = sequenceDoc.get(30, TimeUnit.SECONDS);
+            CompletableFuture<AgentResult> sequenceDoc = generateDocument("GENERATE_SEQUENCE_DOCUMENT");
+            AgentResult sequenceResult = sequenceDoc.get();
             
             if (sequenceResult.isSuccess()) {
                 System.out.println("      ✅ Updated story-sequence.md");
@@ -205,8 +310,8 @@ public class ProductionStoryMonitor {
                 System.out.println("      ⚠️ Failed to update story-sequence.md: " + sequenceResult.getMessage());
             }
             
-            CompletableFuture<AgentResult> frontendDoc = orchestrationAgent.execute("GENERATE_FRONTEND_COORDINATION", new HashMap<>());
-            AgentResult frontendResult = frontendDoc.get(30, TimeUnit.SECONDS);
+            CompletableFuture<AgentResult> frontendDoc = generateDocument("GENERATE_FRONTEND_COORDINATION");
+            AgentResult frontendResult = frontendDoc.get();
             
             if (frontendResult.isSuccess()) {
                 System.out.println("      ✅ Updated frontend-coordination.md");
@@ -214,8 +319,8 @@ public class ProductionStoryMonitor {
                 System.out.println("      ⚠️ Failed to update frontend-coordination.md: " + frontendResult.getMessage());
             }
             
-            CompletableFuture<AgentResult> backendDoc = orchestrationAgent.execute("GENERATE_BACKEND_COORDINATION", new HashMap<>());
-            AgentResult backendResult = backendDoc.get(30, TimeUnit.SECONDS);
+            CompletableFuture<AgentResult> backendDoc = generateDocument("GENERATE_BACKEND_COORDINATION");
+            AgentResult backendResult = backendDoc.get();
             
             if (backendResult.isSuccess()) {
                 System.out.println("      ✅ Updated backend-coordination.md");
@@ -224,29 +329,14 @@ public class ProductionStoryMonitor {
             }
             
         } catch (Exception e) {
+            span.setError(e);
             System.out.println("      ❌ Error updating coordination documents: " + e.getMessage());
+        } finally {
+            scope.close();
+            span.end();
         }
     }
     
-    /**
-     * Extracts domain from story title and body
-     */
-    private String extractDomain(String title, String body) {
-        String text = (title + " " + body).toLowerCase();
-        
-        // Simple domain detection heuristics
-        if (text.contains("payment") || text.contains("billing")) return "payment";
-        if (text.contains("user") || text.contains("auth") || text.contains("login")) return "user";
-        if (text.contains("product") || text.contains("catalog")) return "product";
-        if (text.contains("order") || text.contains("cart")) return "order";
-        if (text.contains("inventory") || text.contains("stock")) return "inventory";
-        if (text.contains("customer") || text.contains("crm")) return "customer";
-        if (text.contains("report") || text.contains("analytics")) return "reporting";
-        if (text.contains("admin") || text.contains("management")) return "admin";
-        
-        return "general";
-    }
-    
     /**
      * Stops the monitoring service
      */
@@ -258,6 +348,13 @@ public class ProductionStoryMonitor {
         
         running = false;
         scheduler.shutdown();
+        corpusIndex.close();
+        metricsExporter.close();
+        ZipkinFileSpanExporter exporter = traceExporter;
+        if (exporter != null) {
+            traceExporter = null;
+            exporter.close();
+        }
         
         System.out.println("🛑 **STOPPING PRODUCTION STORY PROCESSING**");
         System.out.println("📊 **MONITORING STATUS: STOPPED** 🔴");
@@ -295,6 +392,18 @@ public class ProductionStoryMonitor {
         settings.put("github.backend.repository", BACKEND_REPO);
         settings.put("maxConcurrentUsers", 100);
         settings.put("responseTimeoutSeconds", 30);
+        String metricsPort = System.getenv("METRICS_PORT");
+        if (metricsPort != null && !metricsPort.isBlank()) {
+            settings.put("metricsPort", Integer.parseInt(metricsPort.trim()));
+        }
+        String metricsHost = System.getenv("METRICS_HOST");
+        if (metricsHost != null) {
+            settings.put("metricsHost", metricsHost.trim());
+        }
+        String traceFile = System.getenv("TRACE_FILE");
+        if (traceFile != null) {
+            settings.put("traceFile", traceFile.trim());
+        }
         
         return new AgentConfiguration("production-story-monitor", props, settings);
     }
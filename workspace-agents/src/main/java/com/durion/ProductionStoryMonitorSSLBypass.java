@@ -1,19 +1,26 @@
 package com.durion;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
+import com.durion.audit.ProcessedIssuesStore;
+import com.durion.core.AgentConfiguration;
+import com.durion.core.DomainCorpusIndex;
+import com.durion.core.LatencyHistogram;
+import com.durion.core.MetricsExporter;
 
 /**
  * Production GitHub Story Monitor with SSL Bypass
  * 
  * This version uses GitHubApiClientSSLBypass to work around SSL certificate issues
- * commonly encountered in corporate environments.
+ * commonly encountered in corporate environments. Like ProductionStoryMonitor
+ * it serves GitHub call and poll metrics when METRICS_PORT is set.
  * 
  * ⚠️ WARNING: Only use this in development environments!
  */
@@ -21,9 +28,16 @@ public class ProductionStoryMonitorSSLBypass {
     
     private final GitHubApiClientSSLBypass githubClient;
     private final ScheduledExecutorService scheduler;
+    private final DomainCorpusIndex corpusIndex;
+    private final AgentConfiguration config;
+    private final LatencyHistogram pollDurations = new LatencyHistogram();
+    private final LongAdder pollFailures = new LongAdder();
+    private final MetricsExporter metricsExporter = new MetricsExporter();
     private volatile boolean running = false;
-    private Set<Integer> processedIssueNumbers = new HashSet<>();
-    private static final String PROCESSED_ISSUES_FILE = ".github/orchestration/processed-issues.txt";
+    // Null when the store could not be opened; history is then kept in memory only
+    private ProcessedIssuesStore processedIssueNumbers;
+    // Issues processed in this run whose record could not be persisted
+    private final Set<Integer> unsavedIssueNumbers = ConcurrentHashMap.newKeySet();
     
     // Configuration
     private static final int POLLING_INTERVAL_MINUTES = 5;
@@ -34,6 +48,8 @@ public class ProductionStoryMonitorSSLBypass {
     public ProductionStoryMonitorSSLBypass(String githubToken) {
         this.githubClient = new GitHubApiClientSSLBypass(githubToken);
         this.scheduler = Executors.newScheduledThreadPool(2);
+        this.corpusIndex = StoryDomains.loadCorpusIndex();
+        this.config = createConfiguration();
         
         // Load previously processed issues
         loadProcessedIssues();
@@ -58,6 +74,8 @@ public class ProductionStoryMonitorSSLBypass {
         System.out.println("✅ GitHub API connection successful");
         
         running = true;
+        corpusIndex.startAutoRefresh(Duration.ofMinutes(POLLING_INTERVAL_MINUTES));
+        startMetricsExporter();
         System.out.println();
         System.out.println("🚀 **STARTING PRODUCTION STORY PROCESSING (SSL BYPASS)**");
         System.out.println("========================================================");
@@ -101,6 +119,7 @@ public class ProductionStoryMonitorSSLBypass {
      * Main story processing loop - connects to real GitHub API
      */
     private void processStories() {
+        long pollStart = System.nanoTime();
         try {
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
             System.out.println("🔍 [" + timestamp + "] Fetching [STORY] issues from GitHub...");
@@ -111,7 +130,7 @@ public class ProductionStoryMonitorSSLBypass {
             
             // Step 2: Check for new stories
             List<GitHubApiClientSSLBypass.GitHubIssue> newStories = storyIssues.stream()
-                .filter(issue -> !processedIssueNumbers.contains(issue.getNumber()))
+                .filter(issue -> !isProcessed(issue.getNumber()))
                 .toList();
             
             if (newStories.isEmpty()) {
@@ -148,8 +167,7 @@ public class ProductionStoryMonitorSSLBypass {
                 }
                 
                 processNewStory(story);
-                processedIssueNumbers.add(story.getNumber());
-                saveProcessedIssue(story.getNumber()); // Persist to file
+                saveProcessedIssue(story.getNumber()); // Persist to the processed issues store
                 
                 // Add delay between each story to be more respectful
                 if (i < newStories.size() - 1) { // Don't delay after the last story
@@ -166,11 +184,56 @@ public class ProductionStoryMonitorSSLBypass {
             System.out.println();
             
         } catch (Exception e) {
+            pollFailures.increment();
             System.out.println("❌ Error during story processing: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            pollDurations.recordSince(pollStart);
         }
     }
     
+    /**
+     * Serves GitHub and poll metrics for scraping, unless the metrics port is
+     * disabled
+     */
+    private void startMetricsExporter() {
+        int port = config.getMetricsPort();
+        if (port < 0) {
+            return;
+        }
+        metricsExporter
+            .register(githubClient.getRequestMetrics())
+            .register(writer -> {
+                writer.histogram("durion_monitor_poll_duration_seconds", "Duration of one story polling cycle",
+                    Map.of("monitor", "ssl-bypass"), pollDurations);
+                writer.counter("durion_monitor_poll_failures_total", "Polling cycles that ended in an error",
+                    Map.of("monitor", "ssl-bypass"), pollFailures.sum());
+                writer.gauge("durion_monitor_processed_stories", "Stories recorded in the processing history",
+                    Map.of("monitor", "ssl-bypass"), getProcessedIssueCount());
+            });
+        try {
+            String host = config.getMetricsHost();
+            metricsExporter.start(host, port);
+            System.out.println("📈 Metrics available at http://" + (host.isBlank() ? "localhost" : host.trim()) + ":"
+                + metricsExporter.getPort() + MetricsExporter.PATH);
+        } catch (IOException e) {
+            System.out.println("⚠️ Warning: Could not start metrics endpoint on port " + port + ": " + e.getMessage());
+        }
+    }
+    
+    private AgentConfiguration createConfiguration() {
+        Map<String, Object> settings = new HashMap<>();
+        String metricsPort = System.getenv("METRICS_PORT");
+        if (metricsPort != null && !metricsPort.isBlank()) {
+            settings.put("metricsPort", Integer.parseInt(metricsPort.trim()));
+        }
+        String metricsHost = System.getenv("METRICS_HOST");
+        if (metricsHost != null) {
+            settings.put("metricsHost", metricsHost.trim());
+        }
+        return new AgentConfiguration("production-story-monitor-ssl-bypass", new Properties(), settings);
+    }
+    
     /**
      * Processes a single new story
      */
@@ -179,7 +242,7 @@ public class ProductionStoryMonitorSSLBypass {
             System.out.println("   🔄 Processing story #" + story.getNumber() + ": " + story.getTitle());
             
             // Extract domain from story (simple heuristic)
-            String domain = extractDomain(story.getTitle(), story.getBody());
+            String domain = StoryDomains.extractDomain(corpusIndex, story.getTitle(), story.getBody());
             
             // Create implementation issues directly using GitHub API
             String frontendUrl = null;
@@ -288,25 +351,6 @@ public class ProductionStoryMonitorSSLBypass {
         }
     }
     
-    /**
-     * Extracts domain from story title and body
-     */
-    private String extractDomain(String title, String body) {
-        String text = (title + " " + body).toLowerCase();
-        
-        // Simple domain detection heuristics
-        if (text.contains("payment") || text.contains("billing")) return "payment";
-        if (text.contains("user") || text.contains("auth") || text.contains("login")) return "user";
-        if (text.contains("product") || text.contains("catalog")) return "product";
-        if (text.contains("order") || text.contains("cart")) return "order";
-        if (text.contains("inventory") || text.contains("stock")) return "inventory";
-        if (text.contains("customer") || text.contains("crm")) return "customer";
-        if (text.contains("report") || text.contains("analytics")) return "reporting";
-        if (text.contains("admin") || text.contains("management")) return "admin";
-        
-        return "general";
-    }
-    
     /**
      * Stops the monitoring service
      */
@@ -318,6 +362,8 @@ public class ProductionStoryMonitorSSLBypass {
         
         running = false;
         scheduler.shutdown();
+        corpusIndex.close();
+        metricsExporter.close();
         
         System.out.println("🛑 **STOPPING PRODUCTION STORY PROCESSING**");
         System.out.println("📊 **MONITORING STATUS: STOPPED** 🔴");
@@ -412,8 +458,8 @@ public class ProductionStoryMonitorSSLBypass {
         for (GitHubApiClientSSLBypass.GitHubIssue story : stories) {
             content.append("### Story #").append(story.getNumber()).append(": ").append(story.getTitle()).append("\n\n");
             content.append("**URL**: ").append(story.getUrl()).append("\n\n");
-            content.append("**Domain**: ").append(extractDomain(story.getTitle(), story.getBody())).append("\n\n");
-            content.append("**Status**: ").append(processedIssueNumbers.contains(story.getNumber()) ? "Processed" : "Pending").append("\n\n");
+            content.append("**Domain**: ").append(StoryDomains.extractDomain(corpusIndex, story.getTitle(), story.getBody())).append("\n\n");
+            content.append("**Status**: ").append(isProcessed(story.getNumber()) ? "Processed" : "Pending").append("\n\n");
             content.append("---\n\n");
         }
         
@@ -440,7 +486,7 @@ public class ProductionStoryMonitorSSLBypass {
         
         content.append("## Stories Ready for Frontend Development\n\n");
         for (GitHubApiClientSSLBypass.GitHubIssue story : stories) {
-            if (processedIssueNumbers.contains(story.getNumber())) {
+            if (isProcessed(story.getNumber())) {
                 content.append("- ✅ **Story #").append(story.getNumber()).append("**: ").append(story.getTitle()).append("\n");
             } else {
                 content.append("- ⏳ **Story #").append(story.getNumber()).append("**: ").append(story.getTitle()).append(" (Pending)\n");
@@ -470,7 +516,7 @@ public class ProductionStoryMonitorSSLBypass {
         
         content.append("## Stories Ready for Backend Development\n\n");
         for (GitHubApiClientSSLBypass.GitHubIssue story : stories) {
-            if (processedIssueNumbers.contains(story.getNumber())) {
+            if (isProcessed(story.getNumber())) {
                 content.append("- ✅ **Story #").append(story.getNumber()).append("**: ").append(story.getTitle()).append("\n");
             } else {
                 content.append("- ⏳ **Story #").append(story.getNumber()).append("**: ").append(story.getTitle()).append(" (Pending)\n");
@@ -481,21 +527,12 @@ public class ProductionStoryMonitorSSLBypass {
     }
     
     /**
-     * Loads previously processed issue numbers from persistent storage
+     * Loads previously processed issue numbers from the shared processed issues store
      */
     private void loadProcessedIssues() {
         try {
-            Path processedFile = Paths.get(PROCESSED_ISSUES_FILE);
-            if (Files.exists(processedFile)) {
-                List<String> lines = Files.readAllLines(processedFile);
-                for (String line : lines) {
-                    try {
-                        int issueNumber = Integer.parseInt(line.trim());
-                        processedIssueNumbers.add(issueNumber);
-                    } catch (NumberFormatException e) {
-                        // Skip invalid lines
-                    }
-                }
+            processedIssueNumbers = ProcessedIssuesStore.openDefault();
+            if (!processedIssueNumbers.isEmpty()) {
                 System.out.println("📂 Loaded " + processedIssueNumbers.size() + " previously processed issues");
             } else {
                 System.out.println("📂 No previous processing history found (starting fresh)");
@@ -509,32 +546,46 @@ public class ProductionStoryMonitorSSLBypass {
      * Saves a processed issue number to persistent storage
      */
     private void saveProcessedIssue(int issueNumber) {
+        if (processedIssueNumbers == null) {
+            unsavedIssueNumbers.add(issueNumber);
+            return;
+        }
         try {
-            Path processedFile = Paths.get(PROCESSED_ISSUES_FILE);
-            Files.createDirectories(processedFile.getParent());
-            
-            String issueEntry = issueNumber + "\n";
-            Files.write(processedFile, issueEntry.getBytes(), 
-                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
-                
+            processedIssueNumbers.add(issueNumber);
             System.out.println("      💾 Saved issue #" + issueNumber + " to processing history");
         } catch (IOException e) {
+            unsavedIssueNumbers.add(issueNumber);
             System.out.println("      ⚠️ Warning: Could not save processed issue: " + e.getMessage());
         }
     }
     
+    private int getProcessedIssueCount() {
+        ProcessedIssuesStore store = processedIssueNumbers;
+        return unsavedIssueNumbers.size() + (store != null ? store.size() : 0);
+    }
+    
+    private boolean isProcessed(int issueNumber) {
+        return unsavedIssueNumbers.contains(issueNumber)
+            || (processedIssueNumbers != null && processedIssueNumbers.contains(issueNumber));
+    }
+    
     /**
      * Gets list of all processed issue numbers (for debugging)
      */
     public Set<Integer> getProcessedIssues() {
-        return new HashSet<>(processedIssueNumbers);
+        Set<Integer> issues = new HashSet<>(unsavedIssueNumbers);
+        if (processedIssueNumbers != null) {
+            for (int issueNumber : processedIssueNumbers.toArray()) {
+                issues.add(issueNumber);
+            }
+        }
+        return issues;
     }
     
     /**
      * Manually marks an issue as processed (useful for skipping issues)
      */
     public void markIssueAsProcessed(int issueNumber) {
-        processedIssueNumbers.add(issueNumber);
         saveProcessedIssue(issueNumber);
         System.out.println("✅ Manually marked issue #" + issueNumber + " as processed");
     }
@@ -544,9 +595,10 @@ public class ProductionStoryMonitorSSLBypass {
      */
     public void clearProcessingHistory() {
         try {
-            Path processedFile = Paths.get(PROCESSED_ISSUES_FILE);
-            Files.deleteIfExists(processedFile);
-            processedIssueNumbers.clear();
+            unsavedIssueNumbers.clear();
+            if (processedIssueNumbers != null) {
+                processedIssueNumbers.clear();
+            }
             System.out.println("🗑️ Cleared all processing history");
         } catch (IOException e) {
             System.out.println("❌ Error clearing processing history: " + e.getMessage());
@@ -0,0 +1,86 @@
+package com.durion;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+
+import com.durion.core.DomainCorpusIndex;
+
+/**
+ * Story domain detection shared by the production story monitors
+ *
+ * Domains are reported in the monitors' label vocabulary (payment, user,
+ * customer, reporting, ...). The domains/ corpus is consulted first and its
+ * directory names are mapped onto that vocabulary; stories the corpus cannot
+ * place confidently fall back to keyword heuristics.
+ */
+final class StoryDomains {
+
+    static final String DOMAINS_DIR = "domains";
+
+    // Corpus directory -> story label; directories not listed use the keywords
+    private static final Map<String, String> CORPUS_DOMAINS = Map.ofEntries(
+        Map.entry("accounting", "payment"),
+        Map.entry("billing", "payment"),
+        Map.entry("people", "user"),
+        Map.entry("security", "user"),
+        Map.entry("product", "product"),
+        Map.entry("pricing", "product"),
+        Map.entry("order", "order"),
+        Map.entry("workexec", "order"),
+        Map.entry("inventory", "inventory"),
+        Map.entry("crm", "customer"),
+        Map.entry("audit", "reporting"),
+        Map.entry("shopmgmt", "admin"),
+        Map.entry("location", "admin"));
+
+    private StoryDomains() {
+    }
+
+    /**
+     * Loads the domain corpus index from domains/ in the working directory or
+     * its parent. A missing corpus leaves the index empty.
+     */
+    static DomainCorpusIndex loadCorpusIndex() {
+        Path domainsDir = Paths.get(DOMAINS_DIR);
+        if (!Files.isDirectory(domainsDir)) {
+            domainsDir = Paths.get("..", DOMAINS_DIR);
+        }
+        DomainCorpusIndex index = new DomainCorpusIndex(domainsDir);
+        try {
+            DomainCorpusIndex.RefreshResult result = index.refresh();
+            System.out.println("📚 Domain corpus indexed: " + result);
+        } catch (IOException e) {
+            System.out.println("⚠️ Warning: Could not index domain corpus: " + e.getMessage());
+        }
+        return index;
+    }
+
+    /**
+     * Extracts domain from story title and body, preferring the domain corpus
+     * index and falling back to keyword heuristics
+     */
+    static String extractDomain(DomainCorpusIndex corpusIndex, String title, String body) {
+        Optional<String> indexed = corpusIndex.inferDomain(title + " " + body).map(CORPUS_DOMAINS::get);
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+
+        String text = (title + " " + body).toLowerCase();
+
+        // Simple domain detection heuristics
+        if (text.contains("payment") || text.contains("billing")) return "payment";
+        if (text.contains("user") || text.contains("auth") || text.contains("login")) return "user";
+        if (text.contains("product") || text.contains("catalog")) return "product";
+        if (text.contains("order") || text.contains("cart")) return "order";
+        if (text.contains("inventory") || text.contains("stock")) return "inventory";
+        if (text.contains("customer") || text.contains("crm")) return "customer";
+        if (text.contains("report") || text.contains("analytics")) return "reporting";
+        if (text.contains("admin") || text.contains("management")) return "admin";
+
+        return "general";
+    }
+}
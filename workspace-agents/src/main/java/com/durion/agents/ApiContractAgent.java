@@ -1,6 +1,5 @@
 package com.durion.agents;
 
-import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -8,6 +7,7 @@ import java.util.concurrent.CompletableFuture;
 
 import com.durion.core.AgentCapabilities;
 import com.durion.core.AgentConfiguration;
+import com.durion.core.AgentExecutor;
 import com.durion.core.AgentHealth;
 import com.durion.core.AgentMetrics;
 import com.durion.core.AgentResult;
@@ -25,6 +25,12 @@ import com.durion.core.WorkspaceAgent;
  */
 public class ApiContractAgent implements WorkspaceAgent {
 
+    private static final String AGENT_ID = "api-contract-agent";
+    private static final int MAX_CONCURRENT_OPERATIONS = 100;
+
+    private final AgentExecutor executor = AgentExecutor.forAgent(AGENT_ID, MAX_CONCURRENT_OPERATIONS,
+        AgentExecutor.Workload.CPU);
+
     private final Map<String, Object> contracts = new HashMap<>();
     private final Map<String, Object> groovyInterfaces = new HashMap<>();
     private AgentConfiguration config;
@@ -32,7 +38,7 @@ public class ApiContractAgent implements WorkspaceAgent {
 
     @Override
     public String getAgentId() {
-        return "api-contract-agent";
+        return AGENT_ID;
     }
 
     @Override
@@ -47,13 +53,13 @@ public class ApiContractAgent implements WorkspaceAgent {
                 "test-contracts", "Run contract tests between backend and Moqui"
             ),
             Set.of("java21", "spring-boot", "moqui"),
-            100
+            MAX_CONCURRENT_OPERATIONS
         );
     }
 
     @Override
     public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.execute(() -> {
             long start = System.nanoTime();
             try {
                 AgentResult result;
@@ -89,7 +95,7 @@ public class ApiContractAgent implements WorkspaceAgent {
 
     @Override
     public AgentMetrics getMetrics() {
-        return new AgentMetrics(0, 0, 0, Duration.ZERO, Duration.ZERO, 1.0, 0);
+        return executor.getMetrics();
     }
 
     @Override
@@ -100,6 +106,7 @@ public class ApiContractAgent implements WorkspaceAgent {
 
     @Override
     public void shutdown() {
+        executor.close();
         // Cleanup resources
     }
 
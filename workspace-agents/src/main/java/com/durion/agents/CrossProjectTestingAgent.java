@@ -1,6 +1,5 @@
 package com.durion.agents;
 
-import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -8,6 +7,7 @@ import java.util.concurrent.CompletableFuture;
 
 import com.durion.core.AgentCapabilities;
 import com.durion.core.AgentConfiguration;
+import com.durion.core.AgentExecutor;
 import com.durion.core.AgentHealth;
 import com.durion.core.AgentMetrics;
 import com.durion.core.AgentResult;
@@ -27,6 +27,12 @@ import com.durion.core.WorkspaceAgent;
  */
 public class CrossProjectTestingAgent implements WorkspaceAgent {
 
+    private static final String AGENT_ID = "cross-project-testing-agent";
+    private static final int MAX_CONCURRENT_OPERATIONS = 100;
+
+    private final AgentExecutor executor = AgentExecutor.forAgent(AGENT_ID, MAX_CONCURRENT_OPERATIONS,
+        AgentExecutor.Workload.CPU);
+
     private final Map<String, TestFramework> testFrameworks;
     private final TestCoordinator testCoordinator;
     private final ContractTestManager contractTestManager;
@@ -43,7 +49,7 @@ public class CrossProjectTestingAgent implements WorkspaceAgent {
 
     @Override
     public String getAgentId() {
-        return "cross-project-testing-agent";
+        return AGENT_ID;
     }
 
     @Override
@@ -58,13 +64,13 @@ public class CrossProjectTestingAgent implements WorkspaceAgent {
                 "validate-integration", "Validate integration paths"
             ),
             Set.of("java21"),
-            100
+            MAX_CONCURRENT_OPERATIONS
         );
     }
 
     @Override
     public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.execute(() -> {
             long start = System.nanoTime();
             try {
                 AgentResult result;
@@ -100,7 +106,7 @@ public class CrossProjectTestingAgent implements WorkspaceAgent {
 
     @Override
     public AgentMetrics getMetrics() {
-        return new AgentMetrics(0, 0, 0, Duration.ZERO, Duration.ZERO, 1.0, 0);
+        return executor.getMetrics();
     }
 
     @Override
@@ -111,6 +117,7 @@ public class CrossProjectTestingAgent implements WorkspaceAgent {
 
     @Override
     public void shutdown() {
+        executor.close();
         // Cleanup resources
     }
 
@@ -6,6 +6,7 @@ import java.util.concurrent.CompletableFuture;
 
 import com.durion.core.AgentCapabilities;
 import com.durion.core.AgentConfiguration;
+import com.durion.core.AgentExecutor;
 import com.durion.core.AgentHealth;
 import com.durion.core.AgentMetrics;
 import com.durion.core.AgentResult;
@@ -24,12 +25,18 @@ import com.durion.core.WorkspaceAgent;
  */
 public class DataGovernanceAgent implements WorkspaceAgent {
 
+    private static final String AGENT_ID = "data-governance-agent";
+    private static final int MAX_CONCURRENT_OPERATIONS = 100;
+
+    private final AgentExecutor executor = AgentExecutor.forAgent(AGENT_ID, MAX_CONCURRENT_OPERATIONS,
+        AgentExecutor.Workload.CPU);
+
     private AgentConfiguration config;
     private volatile boolean ready = false;
 
     @Override
     public String getAgentId() {
-        return "data-governance-agent";
+        return AGENT_ID;
     }
 
     @Override
@@ -45,13 +52,13 @@ public class DataGovernanceAgent implements WorkspaceAgent {
                 "generate-governance-report", "Generate governance report"
             ),
             Set.of("governance", "compliance", "data-quality", "audit"),
-            100
+            MAX_CONCURRENT_OPERATIONS
         );
     }
 
     @Override
     public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.execute(() -> {
             long start = System.nanoTime();
             try {
                 AgentResult result;
@@ -90,7 +97,7 @@ public class DataGovernanceAgent implements WorkspaceAgent {
 
     @Override
     public AgentMetrics getMetrics() {
-        return new AgentMetrics(0, 0, 0, java.time.Duration.ZERO, java.time.Duration.ZERO, 1.0, 0);
+        return executor.getMetrics();
     }
 
     @Override
@@ -101,6 +108,7 @@ public class DataGovernanceAgent implements WorkspaceAgent {
 
     @Override
     public void shutdown() {
+        executor.close();
         // Cleanup resources
     }
 
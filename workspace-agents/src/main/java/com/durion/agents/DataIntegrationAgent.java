@@ -1,6 +1,5 @@
 package com.durion.agents;
 
-import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 import java.util.HashMap;
@@ -8,6 +7,7 @@ import java.util.concurrent.CompletableFuture;
 
 import com.durion.core.AgentCapabilities;
 import com.durion.core.AgentConfiguration;
+import com.durion.core.AgentExecutor;
 import com.durion.core.AgentHealth;
 import com.durion.core.AgentMetrics;
 import com.durion.core.AgentResult;
@@ -27,6 +27,11 @@ import com.durion.core.WorkspaceAgent;
 public class DataIntegrationAgent implements WorkspaceAgent {
 
     private static final String AGENT_NAME = "data-integration-agent";
+    private static final int MAX_CONCURRENT_OPERATIONS = 5;
+
+    private final AgentExecutor executor = AgentExecutor.forAgent(AGENT_NAME, MAX_CONCURRENT_OPERATIONS,
+        AgentExecutor.Workload.CPU);
+
     private volatile boolean ready = false;
     private AgentConfiguration config;
 
@@ -48,7 +53,7 @@ public class DataIntegrationAgent implements WorkspaceAgent {
                 "synchronize_databases", "Cross-database synchronization with <1% data loss and 99.9% reliability"
             ),
             Set.of("database-access", "schema-mapping"),
-            5
+            MAX_CONCURRENT_OPERATIONS
         );
     }
     
@@ -59,7 +64,7 @@ public class DataIntegrationAgent implements WorkspaceAgent {
     
     @Override
     public AgentMetrics getMetrics() {
-        return new AgentMetrics(0, 0, 0, Duration.ZERO, Duration.ZERO, 1.0, 0);
+        return executor.getMetrics();
     }
     
     @Override
@@ -71,11 +76,12 @@ public class DataIntegrationAgent implements WorkspaceAgent {
     
     @Override
     public void shutdown() {
+        executor.close();
         // Close database connections and cleanup resources
     }
     
     public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.execute(() -> {
             long start = System.nanoTime();
             try {
                 AgentResult result;
@@ -1,12 +1,12 @@
 package com.durion.agents;
 
-import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import com.durion.core.AgentCapabilities;
 import com.durion.core.AgentConfiguration;
+import com.durion.core.AgentExecutor;
 import com.durion.core.AgentHealth;
 import com.durion.core.AgentMetrics;
 import com.durion.core.AgentResult;
@@ -25,12 +25,18 @@ import com.durion.core.WorkspaceAgent;
  */
 public class DisasterRecoveryAgent implements WorkspaceAgent {
 
+    private static final String AGENT_ID = "disaster-recovery-agent";
+    private static final int MAX_CONCURRENT_OPERATIONS = 100;
+
+    private final AgentExecutor executor = AgentExecutor.forAgent(AGENT_ID, MAX_CONCURRENT_OPERATIONS,
+        AgentExecutor.Workload.CPU);
+
     private AgentConfiguration config;
     private volatile boolean ready = false;
 
     @Override
     public String getAgentId() {
-        return "disaster-recovery-agent";
+        return AGENT_ID;
     }
 
     @Override
@@ -52,13 +58,13 @@ public class DisasterRecoveryAgent implements WorkspaceAgent {
                 "identify-recovery-gaps", "Identify gaps and failure points in DR"
             ),
             Set.of("java21", "springboot3", "moqui3"),
-            100
+            MAX_CONCURRENT_OPERATIONS
         );
     }
 
     @Override
     public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.execute(() -> {
             long start = System.nanoTime();
             try {
                 AgentResult result;
@@ -97,15 +103,7 @@ public class DisasterRecoveryAgent implements WorkspaceAgent {
 
     @Override
     public AgentMetrics getMetrics() {
-        return new AgentMetrics(
-            0, // totalRequests
-            0, // successfulRequests
-            0, // failedRequests
-            Duration.ZERO, // averageResponseTime
-            Duration.ZERO, // maxResponseTime
-            1.0, // currentAvailability
-            0 // activeConnections
-        );
+        return executor.getMetrics();
     }
 
     @Override
@@ -116,6 +114,7 @@ public class DisasterRecoveryAgent implements WorkspaceAgent {
 
     @Override
     public void shutdown() {
+        executor.close();
         // Cleanup resources
     }
 
@@ -1,6 +1,5 @@
 package com.durion.agents;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -10,6 +9,7 @@ import java.util.concurrent.CompletableFuture;
 
 import com.durion.core.AgentCapabilities;
 import com.durion.core.AgentConfiguration;
+import com.durion.core.AgentExecutor;
 import com.durion.core.AgentHealth;
 import com.durion.core.AgentMetrics;
 import com.durion.core.AgentResult;
@@ -27,6 +27,12 @@ import com.durion.core.WorkspaceAgent;
  */
 public class DocumentationCoordinationAgent implements WorkspaceAgent {
 
+    private static final String AGENT_ID = "documentation-coordination-agent";
+    private static final int MAX_CONCURRENT_OPERATIONS = 100;
+
+    private final AgentExecutor executor = AgentExecutor.forAgent(AGENT_ID, MAX_CONCURRENT_OPERATIONS,
+        AgentExecutor.Workload.CPU);
+
     private final Map<String, DocumentationState> documentationStates = new HashMap<>();
     private final Map<String, List<String>> crossProjectDependencies = new HashMap<>();
     private final Map<String, UserRole> userRoles = new HashMap<>();
@@ -34,7 +40,7 @@ public class DocumentationCoordinationAgent implements WorkspaceAgent {
 
     @Override
     public String getAgentId() {
-        return "documentation-coordination-agent";
+        return AGENT_ID;
     }
 
     @Override
@@ -49,13 +55,13 @@ public class DocumentationCoordinationAgent implements WorkspaceAgent {
                 "generate-guides", "Generate role-based guides"
             ),
             Set.of("java21"),
-            100
+            MAX_CONCURRENT_OPERATIONS
         );
     }
 
     @Override
     public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.execute(() -> {
             long start = System.nanoTime();
             try {
                 AgentResult result;
@@ -91,7 +97,7 @@ public class DocumentationCoordinationAgent implements WorkspaceAgent {
 
     @Override
     public AgentMetrics getMetrics() {
-        return new AgentMetrics(0, 0, 0, Duration.ZERO, Duration.ZERO, 1.0, 0);
+        return executor.getMetrics();
     }
 
     @Override
@@ -102,6 +108,7 @@ public class DocumentationCoordinationAgent implements WorkspaceAgent {
 
     @Override
     public void shutdown() {
+        executor.close();
         // Cleanup resources
     }
 
@@ -5,6 +5,7 @@ import java.util.concurrent.CompletableFuture;
 
 import com.durion.core.AgentCapabilities;
 import com.durion.core.AgentConfiguration;
+import com.durion.core.AgentExecutor;
 import com.durion.core.AgentHealth;
 import com.durion.core.AgentMetrics;
 import com.durion.core.AgentResult;
@@ -20,12 +21,18 @@ import com.durion.core.WorkspaceAgent;
  */
 public class FrontendBackendBridgeAgent implements WorkspaceAgent {
 
+    private static final String AGENT_ID = "frontend-backend-bridge";
+    private static final int MAX_CONCURRENT_OPERATIONS = 100;
+
+    private final AgentExecutor executor = AgentExecutor.forAgent(AGENT_ID, MAX_CONCURRENT_OPERATIONS,
+        AgentExecutor.Workload.CPU);
+
     private AgentConfiguration config;
     private volatile boolean ready = false;
 
     @Override
     public String getAgentId() {
-        return "frontend-backend-bridge";
+        return AGENT_ID;
     }
 
     @Override
@@ -41,13 +48,13 @@ public class FrontendBackendBridgeAgent implements WorkspaceAgent {
                 "validate-bridge-patterns", "Validate bridge patterns"
             ),
             Set.of("moqui", "spring-boot", "vue-js", "groovy"),
-            100
+            MAX_CONCURRENT_OPERATIONS
         );
     }
 
     @Override
     public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.execute(() -> {
             long start = System.nanoTime();
             try {
                 AgentResult result;
@@ -86,7 +93,7 @@ public class FrontendBackendBridgeAgent implements WorkspaceAgent {
 
     @Override
     public AgentMetrics getMetrics() {
-        return new AgentMetrics(0, 0, 0, java.time.Duration.ZERO, java.time.Duration.ZERO, 1.0, 0);
+        return executor.getMetrics();
     }
 
     @Override
@@ -97,6 +104,7 @@ public class FrontendBackendBridgeAgent implements WorkspaceAgent {
 
     @Override
     public void shutdown() {
+        executor.close();
         // Cleanup resources
     }
 
@@ -1,21 +1,25 @@
 package com.durion.agents;
 
-import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 
 import com.durion.core.AgentCapabilities;
 import com.durion.core.AgentConfiguration;
+import com.durion.core.AgentExecutor;
 import com.durion.core.AgentHealth;
 import com.durion.core.AgentMetrics;
+import com.durion.core.AgentPipeline;
 import com.durion.core.AgentResult;
+import com.durion.core.Tracer;
 import com.durion.core.WorkspaceAgent;
+import com.durion.core.WorkspaceAgentRegistry;
 
 import java.io.IOException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -34,10 +38,52 @@ import java.time.format.DateTimeFormatter;
  */
 public class GitHubIssueCreationAgent implements WorkspaceAgent {
 
+    private static final String AGENT_ID = "github-issue-creation-agent";
+    private static final int MAX_CONCURRENT_OPERATIONS = 50;
+
+    private final AgentExecutor executor = AgentExecutor.forAgent(AGENT_ID, MAX_CONCURRENT_OPERATIONS,
+        AgentExecutor.Workload.IO);
+
     private AgentConfiguration config;
     private volatile boolean ready = false;
     private HttpClient httpClient;
     private RequirementsDecompositionAgent decompositionAgent;
+    private WorkspaceAgentRegistry workflowRegistry;
+
+    /**
+     * Creates a standalone agent; its story-to-issues pipeline runs on a
+     * registry of its own
+     */
+    public GitHubIssueCreationAgent() {
+        this(null);
+    }
+
+    /**
+     * Creates an agent whose story-to-issues pipeline runs on the registry
+     * the agent is registered in
+     *
+     * @param workflowRegistry Registry this agent is registered in; the
+     *                         requirements decomposition agent is added to it
+     */
+    public GitHubIssueCreationAgent(WorkspaceAgentRegistry workflowRegistry) {
+        this.workflowRegistry = workflowRegistry;
+    }
+
+    /**
+     * Story to issues: decompose the story, then create the frontend and
+     * backend issues in parallel, each only if the decomposition found work
+     * for that layer
+     */
+    private static final AgentPipeline STORY_TO_ISSUES = AgentPipeline.builder("story-to-issues")
+        .stage("decompose", "decompose-requirements", List.of(),
+            inputs -> Map.of("requirement", inputs.getParameter("storyDescription")))
+        .stage("frontend", "CREATE_FRONTEND_ISSUES", List.of("decompose"),
+            inputs -> hasFrontendWork(inputs.getData("decompose", RequirementsDecompositionAgent.DecompositionResult.class)),
+            inputs -> issueParameters(inputs))
+        .stage("backend", "CREATE_BACKEND_ISSUES", List.of("decompose"),
+            inputs -> hasBackendWork(inputs.getData("decompose", RequirementsDecompositionAgent.DecompositionResult.class)),
+            inputs -> issueParameters(inputs))
+        .build();
 
     // GitHub API configuration
     private static final String GITHUB_API_BASE = "https://api.github.com";
@@ -67,7 +113,7 @@ public class GitHubIssueCreationAgent implements WorkspaceAgent {
 
     @Override
     public String getAgentId() {
-        return "github-issue-creation-agent";
+        return AGENT_ID;
     }
 
     @Override
@@ -84,13 +130,13 @@ public class GitHubIssueCreationAgent implements WorkspaceAgent {
                 "VALIDATE_ISSUE_CREATION", "Validates issue creation and provides feedback"
             ),
             Set.of("github-api", "requirements-decomposition"),
-            50
+            MAX_CONCURRENT_OPERATIONS
         );
     }
 
     @Override
     public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.execute(() -> {
             long start = System.nanoTime();
             try {
                 AgentResult result;
@@ -129,7 +175,7 @@ public class GitHubIssueCreationAgent implements WorkspaceAgent {
 
     @Override
     public AgentMetrics getMetrics() {
-        return new AgentMetrics(0, 0, 0, Duration.ZERO, Duration.ZERO, 1.0, 0);
+        return executor.getMetrics();
     }
 
     @Override
@@ -138,11 +184,21 @@ public class GitHubIssueCreationAgent implements WorkspaceAgent {
         this.httpClient = HttpClient.newHttpClient();
         this.decompositionAgent = new RequirementsDecompositionAgent();
         this.decompositionAgent.initialize(config);
+        if (this.workflowRegistry == null) {
+            this.workflowRegistry = new WorkspaceAgentRegistry(config);
+            this.workflowRegistry.registerAgent(this);
+        }
+        this.workflowRegistry.registerAgent(decompositionAgent);
         this.ready = true;
     }
 
     @Override
     public void shutdown() {
+        if (decompositionAgent != null) {
+            // Unregistering shuts the decomposition agent down
+            workflowRegistry.unregisterAgent(decompositionAgent.getAgentId());
+        }
+        executor.close();
         this.ready = false;
     }
 
@@ -150,52 +206,79 @@ public class GitHubIssueCreationAgent implements WorkspaceAgent {
     public boolean isReady() { 
         return ready; 
     }
+    
+    /**
+     * Issue creation calls GitHub, so its deadline comes from the configured
+     * response timeout
+     */
+    @Override
+    public Duration getResponseTimeTarget() {
+        return config != null ? Duration.ofSeconds(config.getResponseTimeoutSeconds())
+            : WorkspaceAgent.super.getResponseTimeTarget();
+    }
 
     /**
-     * Public method to create issues from a story requirement
+     * Public method to create issues from a story requirement, run as the
+     * story-to-issues pipeline
      */
     public IssueCreationResult createIssuesFromStory(String storyTitle, String storyDescription, String domain) {
         try {
-            // Step 1: Decompose the story using Requirements Decomposition Agent
-            AgentResult decompositionResult = decompositionAgent.decomposeRequirements(storyDescription);
-            
-            if (!decompositionResult.isSuccess()) {
+            AgentPipeline.PipelineResult pipeline = STORY_TO_ISSUES.execute(workflowRegistry, Map.of(
+                "storyTitle", storyTitle,
+                "storyDescription", storyDescription == null ? "" : storyDescription,
+                "domain", domain)).join();
+
+            AgentPipeline.StageResult decomposition = pipeline.getStage("decompose");
+            if (decomposition.getStatus() != AgentPipeline.StageStatus.SUCCEEDED) {
                 return new IssueCreationResult(null, null, false, 
-                    "Failed to decompose requirements: " + decompositionResult.getMessage(), 
+                    "Failed to decompose requirements: " + decomposition.getResult().getMessage(), 
                     List.of("Requirements decomposition failed"));
             }
 
-            RequirementsDecompositionAgent.DecompositionResult decomposition = 
-                (RequirementsDecompositionAgent.DecompositionResult) decompositionResult.getData();
-
-            // Step 2: Create frontend issue if frontend work exists
-            String frontendIssueUrl = null;
-            if (!decomposition.frontendWork().components().isEmpty() || 
-                !decomposition.frontendWork().screens().isEmpty() || 
-                !decomposition.frontendWork().forms().isEmpty()) {
-                
-                frontendIssueUrl = createFrontendIssue(storyTitle, storyDescription, decomposition, domain);
-            }
-
-            // Step 3: Create backend issue if backend work exists  
-            String backendIssueUrl = null;
-            if (!decomposition.backendWork().apis().isEmpty() || 
-                !decomposition.backendWork().businessLogic().isEmpty()) {
-                
-                backendIssueUrl = createBackendIssue(storyTitle, storyDescription, decomposition, domain);
-            }
+            String frontendIssueUrl = issueUrl(pipeline.getStage("frontend"));
+            String backendIssueUrl = issueUrl(pipeline.getStage("backend"));
+            List<String> errors = pipeline.getStages().values().stream()
+                .filter(stage -> stage.getStatus() == AgentPipeline.StageStatus.FAILED)
+                .map(stage -> stage.getResult().getMessage())
+                .toList();
 
-            // Step 4: Validate creation
             boolean success = (frontendIssueUrl != null || backendIssueUrl != null);
             String message = success ? "Issues created successfully" : "No issues created - no work identified";
 
-            return new IssueCreationResult(frontendIssueUrl, backendIssueUrl, success, message, List.of());
+            return new IssueCreationResult(frontendIssueUrl, backendIssueUrl, success, message, errors);
 
         } catch (Exception e) {
             return new IssueCreationResult(null, null, false, 
                 "Error creating issues: " + e.getMessage(), 
-                List.of(e.getMessage()));
+                List.of(String.valueOf(e.getMessage())));
+        }
+    }
+
+    private static boolean hasFrontendWork(RequirementsDecompositionAgent.DecompositionResult decomposition) {
+        return !decomposition.frontendWork().components().isEmpty() || 
+               !decomposition.frontendWork().screens().isEmpty() || 
+               !decomposition.frontendWork().forms().isEmpty();
+    }
+
+    private static boolean hasBackendWork(RequirementsDecompositionAgent.DecompositionResult decomposition) {
+        return !decomposition.backendWork().apis().isEmpty() || 
+               !decomposition.backendWork().businessLogic().isEmpty();
+    }
+
+    private static Map<String, Object> issueParameters(AgentPipeline.StageInputs inputs) {
+        return Map.of(
+            "storyTitle", inputs.getParameter("storyTitle"),
+            "storyDescription", inputs.getParameter("storyDescription"),
+            "domain", inputs.getParameter("domain"),
+            "decomposition", inputs.getResult("decompose").getData());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String issueUrl(AgentPipeline.StageResult stage) {
+        if (stage.getStatus() != AgentPipeline.StageStatus.SUCCEEDED) {
+            return null;
         }
+        return (String) ((Map<String, Object>) stage.getResult().getData()).get("issueUrl");
     }
 
     private AgentResult createFrontendIssues(Map<String, Object> parameters, long startNano) {
@@ -205,7 +288,9 @@ public class GitHubIssueCreationAgent implements WorkspaceAgent {
 
         try {
             // Simulate issue creation for now - in production would use GitHub API
-            String issueUrl = simulateGitHubIssueCreation(FRONTEND_REPO, storyTitle, storyDescription, domain, "frontend");
+            String issueUrl = parameters.get("decomposition") instanceof RequirementsDecompositionAgent.DecompositionResult decomposition
+                ? createFrontendIssue(storyTitle, storyDescription, decomposition, domain)
+                : simulateGitHubIssueCreation(FRONTEND_REPO, storyTitle, storyDescription, domain, "frontend");
             
             long durationMs = (System.nanoTime() - startNano) / 1_000_000;
             return AgentResult.success(
@@ -226,7 +311,9 @@ public class GitHubIssueCreationAgent implements WorkspaceAgent {
 
         try {
             // Simulate issue creation for now - in production would use GitHub API
-            String issueUrl = simulateGitHubIssueCreation(BACKEND_REPO, storyTitle, storyDescription, domain, "backend");
+            String issueUrl = parameters.get("decomposition") instanceof RequirementsDecompositionAgent.DecompositionResult decomposition
+                ? createBackendIssue(storyTitle, storyDescription, decomposition, domain)
+                : simulateGitHubIssueCreation(BACKEND_REPO, storyTitle, storyDescription, domain, "backend");
             
             long durationMs = (System.nanoTime() - startNano) / 1_000_000;
             return AgentResult.success(
@@ -508,6 +595,9 @@ public class GitHubIssueCreationAgent implements WorkspaceAgent {
         
         String issueNumber = String.valueOf(System.currentTimeMillis() % 10000);
         String issueUrl = String.format("https://github.com/%s/issues/%s", repository, issueNumber);
+        Tracer.currentSpan()
+            .setAttribute("github.repository", repository)
+            .setAttribute("github.issue_url", issueUrl);
         
         // Log the simulated creation
         System.out.println(String.format(
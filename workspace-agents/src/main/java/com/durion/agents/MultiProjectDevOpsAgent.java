@@ -7,6 +7,7 @@ import java.util.concurrent.CompletableFuture;
 
 import com.durion.core.AgentCapabilities;
 import com.durion.core.AgentConfiguration;
+import com.durion.core.AgentExecutor;
 import com.durion.core.AgentHealth;
 import com.durion.core.AgentMetrics;
 import com.durion.core.AgentResult;
@@ -27,6 +28,12 @@ import com.durion.core.WorkspaceAgent;
  */
 public class MultiProjectDevOpsAgent implements WorkspaceAgent {
 
+    private static final String AGENT_ID = "multi-project-devops-agent";
+    private static final int MAX_CONCURRENT_OPERATIONS = 100;
+
+    private final AgentExecutor executor = AgentExecutor.forAgent(AGENT_ID, MAX_CONCURRENT_OPERATIONS,
+        AgentExecutor.Workload.CPU);
+
     private AgentConfiguration config;
     private volatile boolean ready = false;
 
@@ -39,7 +46,7 @@ public class MultiProjectDevOpsAgent implements WorkspaceAgent {
 
     @Override
     public String getAgentId() {
-        return "multi-project-devops-agent";
+        return AGENT_ID;
     }
 
     @Override
@@ -55,13 +62,13 @@ public class MultiProjectDevOpsAgent implements WorkspaceAgent {
                 "coordinate-incidents", "Coordinate incident response"
             ),
             Set.of("docker", "aws-fargate", "ci-cd", "monitoring"),
-            100
+            MAX_CONCURRENT_OPERATIONS
         );
     }
 
     @Override
     public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.execute(() -> {
             long start = System.nanoTime();
             try {
                 AgentResult result;
@@ -98,7 +105,7 @@ public class MultiProjectDevOpsAgent implements WorkspaceAgent {
 
     @Override
     public AgentMetrics getMetrics() {
-        return new AgentMetrics(0, 0, 0, Duration.ZERO, Duration.ZERO, 1.0, 0);
+        return executor.getMetrics();
     }
 
     @Override
@@ -109,6 +116,7 @@ public class MultiProjectDevOpsAgent implements WorkspaceAgent {
 
     @Override
     public void shutdown() {
+        executor.close();
         // Cleanup resources if needed
     }
 
@@ -6,6 +6,7 @@ import java.util.concurrent.CompletableFuture;
 
 import com.durion.core.AgentCapabilities;
 import com.durion.core.AgentConfiguration;
+import com.durion.core.AgentExecutor;
 import com.durion.core.AgentHealth;
 import com.durion.core.AgentMetrics;
 import com.durion.core.AgentResult;
@@ -26,6 +27,12 @@ import com.durion.core.WorkspaceAgent;
  */
 public class PerformanceCoordinationAgent implements WorkspaceAgent {
 
+    private static final String AGENT_ID = "performance-coordination-agent";
+    private static final int MAX_CONCURRENT_OPERATIONS = 100;
+
+    private final AgentExecutor executor = AgentExecutor.forAgent(AGENT_ID, MAX_CONCURRENT_OPERATIONS,
+        AgentExecutor.Workload.CPU);
+
     private AgentConfiguration config;
     private volatile boolean ready = false;
 
@@ -43,7 +50,7 @@ public class PerformanceCoordinationAgent implements WorkspaceAgent {
 
     @Override
     public String getAgentId() {
-        return "performance-coordination-agent";
+        return AGENT_ID;
     }
 
     @Override
@@ -59,13 +66,13 @@ public class PerformanceCoordinationAgent implements WorkspaceAgent {
                 "generate-optimization-recommendations", "Generate optimization recommendations"
             ),
             Set.of("monitoring", "optimization"),
-            100
+            MAX_CONCURRENT_OPERATIONS
         );
     }
 
     @Override
     public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.execute(() -> {
             long start = System.nanoTime();
             try {
                 AgentResult result;
@@ -104,7 +111,7 @@ public class PerformanceCoordinationAgent implements WorkspaceAgent {
 
     @Override
     public AgentMetrics getMetrics() {
-        return new AgentMetrics(0, 0, 0, Duration.ZERO, Duration.ZERO, 1.0, 0);
+        return executor.getMetrics();
     }
 
     @Override
@@ -115,6 +122,7 @@ public class PerformanceCoordinationAgent implements WorkspaceAgent {
 
     @Override
     public void shutdown() {
+        executor.close();
         // Cleanup resources
     }
 
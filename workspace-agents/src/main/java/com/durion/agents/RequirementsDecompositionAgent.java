@@ -1,11 +1,11 @@
 package com.durion.agents;
 
-import java.time.Duration;
 import java.util.*;
 import java.util.regex.Pattern;
 
 import com.durion.core.AgentCapabilities;
 import com.durion.core.AgentConfiguration;
+import com.durion.core.AgentExecutor;
 import com.durion.core.AgentHealth;
 import com.durion.core.AgentMetrics;
 import com.durion.core.AgentResult;
@@ -21,6 +21,12 @@ import java.util.concurrent.CompletableFuture;
  */
 public class RequirementsDecompositionAgent implements WorkspaceAgent {
 
+    private static final String AGENT_ID = "requirements-decomposition-agent";
+    private static final int MAX_CONCURRENT_OPERATIONS = 100;
+
+    private final AgentExecutor executor = AgentExecutor.forAgent(AGENT_ID, MAX_CONCURRENT_OPERATIONS,
+        AgentExecutor.Workload.CPU);
+
     private AgentConfiguration config;
     private volatile boolean ready = false;
 
@@ -45,7 +51,7 @@ public class RequirementsDecompositionAgent implements WorkspaceAgent {
 
     @Override
     public String getAgentId() {
-        return "requirements-decomposition-agent";
+        return AGENT_ID;
     }
 
     @Override
@@ -61,13 +67,14 @@ public class RequirementsDecompositionAgent implements WorkspaceAgent {
                 "enforce-boundaries", "Enforce architectural boundaries"
             ),
             Set.of("java21"),
-            100
+            MAX_CONCURRENT_OPERATIONS,
+            Set.of("decompose-requirements", "identify-frontend", "identify-backend")
         );
     }
 
     @Override
     public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.execute(() -> {
             long start = System.nanoTime();
             try {
                 AgentResult result;
@@ -107,7 +114,7 @@ public class RequirementsDecompositionAgent implements WorkspaceAgent {
 
     @Override
     public AgentMetrics getMetrics() {
-        return new AgentMetrics(0, 0, 0, Duration.ZERO, Duration.ZERO, 1.0, 0);
+        return executor.getMetrics();
     }
 
     @Override
@@ -118,6 +125,7 @@ public class RequirementsDecompositionAgent implements WorkspaceAgent {
 
     @Override
     public void shutdown() {
+        executor.close();
         // Cleanup resources
     }
 
@@ -14,12 +14,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import com.durion.core.AgentCapabilities;
 import com.durion.core.AgentConfiguration;
+import com.durion.core.AgentExecutor;
 import com.durion.core.AgentHealth;
 import com.durion.core.AgentMetrics;
 import com.durion.core.AgentResult;
+import com.durion.core.StoryEvent;
+import com.durion.core.StoryEventBus;
 import com.durion.core.WorkspaceAgent;
 
 /**
@@ -33,6 +37,17 @@ import com.durion.core.WorkspaceAgent;
  */
 public class StoryOrchestrationAgent implements WorkspaceAgent {
 
+    /** Story events that can require re-running orchestration */
+    private static final Set<String> ORCHESTRATION_EVENTS = Set.of(
+            StoryEvent.STORY_CREATED, StoryEvent.STORY_CLOSED, StoryEvent.DEPENDENCIES_CHANGED,
+            StoryEvent.LABELS_CHANGED, StoryEvent.NOTES_FOR_AGENTS_CHANGED, StoryEvent.LINKED_STORY_CHANGED);
+
+    private static final String AGENT_ID = "story-orchestration-agent";
+    private static final int DEFAULT_MAX_CONCURRENT_OPERATIONS = 10;
+
+    private final int maxConcurrentOperations;
+    private final AgentExecutor executor;
+
     private final Map<String, Story> stories = new HashMap<>();
     private final Map<String, Set<String>> dependencies = new HashMap<>();
     private final Map<String, String> lastKnownStoryHashes = new HashMap<>();
@@ -41,10 +56,38 @@ public class StoryOrchestrationAgent implements WorkspaceAgent {
     private boolean triggersEnabled = false;
     private long lastOrchestrationRun = 0;
     private GitHubIssueCreationAgent issueCreationAgent;
+    private StoryEventBus eventBus;
+    private boolean ownsEventBus = false;
+    private StoryEventBus.Subscription eventSubscription;
+    private volatile String lastOrchestrationSummary;
+    // Event-triggered orchestration runs, one after another on the executor
+    private volatile CompletableFuture<AgentResult> orchestrationRuns = CompletableFuture.completedFuture(null);
+
+    public StoryOrchestrationAgent() {
+        this(null);
+    }
+
+    /**
+     * Creates an agent that reacts to story events on a shared bus. Without
+     * one, the agent creates its own bus when triggers are set up.
+     */
+    public StoryOrchestrationAgent(StoryEventBus eventBus) {
+        this(eventBus, DEFAULT_MAX_CONCURRENT_OPERATIONS);
+    }
+
+    /**
+     * Creates an agent whose bulkhead runs the given number of operations at
+     * once, such as one sized to a registry's admission limit under load tests
+     */
+    public StoryOrchestrationAgent(StoryEventBus eventBus, int maxConcurrentOperations) {
+        this.eventBus = eventBus;
+        this.maxConcurrentOperations = maxConcurrentOperations;
+        this.executor = AgentExecutor.forAgent(AGENT_ID, maxConcurrentOperations, AgentExecutor.Workload.IO);
+    }
 
     @Override
     public String getAgentId() {
-        return "story-orchestration-agent";
+        return AGENT_ID;
     }
 
     @Override
@@ -69,12 +112,15 @@ public class StoryOrchestrationAgent implements WorkspaceAgent {
                         "CREATE_IMPLEMENTATION_ISSUES",
                         "Creates GitHub issues in target repositories after story sequencing"),
                 Set.of("github-api"),
-                10);
+                maxConcurrentOperations,
+                // Reads the analyzed stories, which only the mutating operations change
+                Set.of("CLASSIFY_STORY"),
+                Set.of("ANALYZE_STORIES", "SEQUENCE_STORIES", "HANDLE_STORY_EVENT"));
     }
 
     @Override
     public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.execute(() -> {
             long startTime = System.currentTimeMillis();
             try {
                 String result = processOperation(operation, parameters);
@@ -94,7 +140,7 @@ public class StoryOrchestrationAgent implements WorkspaceAgent {
 
     @Override
     public AgentMetrics getMetrics() {
-        return new AgentMetrics(0L, 0L, 0L, Duration.ofMillis(100), Duration.ofSeconds(1), 0.999, 0);
+        return executor.getMetrics();
     }
 
     @Override
@@ -112,7 +158,18 @@ public class StoryOrchestrationAgent implements WorkspaceAgent {
     }
 
     @Override
-    public void shutdown() {
+    public synchronized void shutdown() {
+        if (eventSubscription != null) {
+            // Let events already published reach this agent before unsubscribing
+            eventBus.flush();
+            eventSubscription.close();
+            eventSubscription = null;
+            orchestrationRuns.exceptionally(error -> null).join();
+        }
+        if (ownsEventBus) {
+            eventBus.close();
+        }
+        executor.close();
         this.ready = false;
     }
 
@@ -121,6 +178,16 @@ public class StoryOrchestrationAgent implements WorkspaceAgent {
         return ready;
     }
 
+    /**
+     * Story operations call GitHub, so their deadline comes from the
+     * configured response timeout
+     */
+    @Override
+    public Duration getResponseTimeTarget() {
+        return config != null ? Duration.ofSeconds(config.getResponseTimeoutSeconds())
+            : WorkspaceAgent.super.getResponseTimeTarget();
+    }
+
     private String processOperation(String operation, Map<String, Object> parameters) {
         switch (operation) {
             case "ANALYZE_STORIES":
@@ -1019,33 +1086,87 @@ public class StoryOrchestrationAgent implements WorkspaceAgent {
     /**
      * Sets up periodic and event-based orchestration triggers
      */
-    public String setupTriggers() {
-        triggersEnabled = true;
+    public synchronized String setupTriggers() {
+        if (!triggersEnabled) {
+            if (eventBus == null) {
+                int windowMillis = config != null ? config.getEventBatchWindowMillis() : 30_000;
+                eventBus = new StoryEventBus(StoryEventBus.DEFAULT_CAPACITY, Duration.ofMillis(windowMillis));
+                ownsEventBus = true;
+            }
+            eventSubscription = eventBus.subscribe(ORCHESTRATION_EVENTS, this::onStoryEvents);
+            triggersEnabled = true;
+        }
         lastOrchestrationRun = System.currentTimeMillis();
 
         // In real implementation, would set up:
         // - GitHub webhook listeners for issue events
         // - Periodic timer for checking story changes
-        // - Event handlers for dependency/label changes
 
         return "Orchestration triggers enabled - monitoring for story events";
     }
 
     /**
-     * Handles story creation, closure, or metadata changes
+     * Handles story creation, closure, or metadata changes by publishing them
+     * on the event bus; events arriving close together are handled by one
+     * orchestration run
      */
     public String handleStoryEvent(String eventType, String storyId) {
         if (!triggersEnabled) {
             return "Triggers not enabled - call SETUP_TRIGGERS first";
         }
 
-        boolean shouldRerun = shouldTriggerOrchestration(eventType, storyId);
-
-        if (shouldRerun) {
-            return runIncrementalOrchestration(eventType, storyId);
-        } else {
+        if (eventType == null || !ORCHESTRATION_EVENTS.contains(eventType)) {
             return "Event " + eventType + " for " + storyId + " - no orchestration rerun needed";
         }
+
+        eventBus.publish(new StoryEvent(eventType, storyId));
+        return "Event " + eventType + " for " + storyId + " queued for the next orchestration batch";
+    }
+
+    /**
+     * Receives a batch of story events on the bus's dispatcher thread and
+     * hands it to the agent's executor, after any run still in progress; a
+     * failed run is logged and does not stop later batches
+     */
+    private void onStoryEvents(List<StoryEvent> events) {
+        orchestrationRuns = orchestrationRuns
+            .exceptionally(error -> null)
+            .thenCompose(previous -> executor.execute(() -> orchestrate(events)))
+            .whenComplete((result, error) -> {
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                    System.err.println("❌ Event-triggered orchestration failed for " + events.size()
+                        + " story event(s): " + cause);
+                } else if (!result.isSuccess()) {
+                    System.err.println("⚠️ Event-triggered orchestration did not run: " + result.getMessage());
+                }
+            });
+    }
+
+    /**
+     * Re-runs orchestration once if any of a batch's events is significant
+     */
+    private AgentResult orchestrate(List<StoryEvent> events) {
+        long startTime = System.currentTimeMillis();
+        List<StoryEvent> significant = new ArrayList<>();
+        for (StoryEvent event : events) {
+            if (shouldTriggerOrchestration(event.getType(), event.getStoryId())) {
+                significant.add(event);
+            }
+        }
+        if (!significant.isEmpty()) {
+            lastOrchestrationSummary = runIncrementalOrchestration(significant);
+        }
+        return AgentResult.success(lastOrchestrationSummary, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Gets the summary of the last event-triggered orchestration run, or null
+     * if none has run
+     */
+    public String getLastOrchestrationSummary() {
+        return lastOrchestrationSummary;
     }
 
     /**
@@ -1101,17 +1222,10 @@ public class StoryOrchestrationAgent implements WorkspaceAgent {
     }
 
     /**
-     * Runs incremental orchestration minimizing churn in story ordering
+     * Runs incremental orchestration once for a batch of story events; the
+     * event bus batches rapid changes, which minimizes churn in story ordering
      */
-    private String runIncrementalOrchestration(String eventType, String storyId) {
-        long timeSinceLastRun = System.currentTimeMillis() - lastOrchestrationRun;
-
-        // Minimize churn by batching rapid changes
-        if (timeSinceLastRun < 30000) { // 30 seconds
-            return "Orchestration batched - recent run detected, minimizing churn";
-        }
-
-        // Run full orchestration pipeline
+    String runIncrementalOrchestration(List<StoryEvent> events) {
         analyzeStories();
         sequenceStories();
         generateSequenceDocument();
@@ -1121,7 +1235,7 @@ public class StoryOrchestrationAgent implements WorkspaceAgent {
 
         lastOrchestrationRun = System.currentTimeMillis();
 
-        return "Incremental orchestration completed for " + eventType + " on " + storyId +
+        return "Incremental orchestration completed for " + events.size() + " story event(s) " + events +
                 " - story ordering updated with minimal churn";
     }
 
@@ -5,8 +5,6 @@ import java.util.*;
 import com.durion.core.*;
 import com.durion.interfaces.WorkspaceAgent;
 
-import java.time.Duration;
-
 /**
  * Workflow Coordination Agent
  * 
@@ -29,7 +27,7 @@ public class WorkflowCoordinationAgent implements WorkspaceAgent {
     private final WorkflowMetrics metrics;
     private final AgentCapabilities capabilities;
     private final AgentHealth health;
-    private final AgentMetrics agentMetrics;
+    private final AgentMetricsRecorder agentMetrics;
     
     public WorkflowCoordinationAgent() {
         this.projectWorkflows = new HashMap<>();
@@ -52,7 +50,7 @@ public class WorkflowCoordinationAgent implements WorkspaceAgent {
             5
         );
         this.health = AgentHealth.HEALTHY;
-        this.agentMetrics = new AgentMetrics(0, 0, 0, Duration.ofSeconds(0), Duration.ofSeconds(0), 1.0, 0);
+        this.agentMetrics = new AgentMetricsRecorder();
         
         initializeProjectWorkflows();
         initializeVersionTracking();
@@ -70,6 +68,17 @@ public class WorkflowCoordinationAgent implements WorkspaceAgent {
     
     @Override
     public AgentResult execute(String operation, Object... parameters) {
+        long started = agentMetrics.recordStart();
+        AgentResult result = null;
+        try {
+            result = executeOperation(operation);
+            return result;
+        } finally {
+            agentMetrics.recordCompletion(started, result != null && result.isSuccess());
+        }
+    }
+    
+    private AgentResult executeOperation(String operation) {
         long startTime = System.currentTimeMillis();
         
         try {
@@ -101,7 +110,7 @@ public class WorkflowCoordinationAgent implements WorkspaceAgent {
     
     @Override
     public AgentMetrics getMetrics() {
-        return agentMetrics;
+        return agentMetrics.snapshot();
     }
     
     @Override
@@ -1,12 +1,12 @@
 package com.durion.agents;
 
-import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import com.durion.core.AgentCapabilities;
 import com.durion.core.AgentConfiguration;
+import com.durion.core.AgentExecutor;
 import com.durion.core.AgentHealth;
 import com.durion.core.AgentMetrics;
 import com.durion.core.AgentResult;
@@ -24,6 +24,12 @@ import com.durion.core.WorkspaceAgent;
  */
 public class WorkspaceArchitectureAgent implements WorkspaceAgent {
 
+    private static final String AGENT_ID = "workspace-architecture-agent";
+    private static final int MAX_CONCURRENT_OPERATIONS = 100;
+
+    private final AgentExecutor executor = AgentExecutor.forAgent(AGENT_ID, MAX_CONCURRENT_OPERATIONS,
+        AgentExecutor.Workload.CPU);
+
     private AgentConfiguration config;
     private volatile boolean ready = false;
     private final com.durion.core.WorkspaceAgentRegistry registry;
@@ -38,7 +44,7 @@ public class WorkspaceArchitectureAgent implements WorkspaceAgent {
 
     @Override
     public String getAgentId() {
-        return "workspace-architecture-agent";
+        return AGENT_ID;
     }
 
     @Override
@@ -54,13 +60,13 @@ public class WorkspaceArchitectureAgent implements WorkspaceAgent {
                 "manage-integration-patterns", "Manage stack integration patterns"
             ),
             Set.of("java21", "springboot3", "moqui3", "vue3"),
-            100
+            MAX_CONCURRENT_OPERATIONS
         );
     }
 
     @Override
     public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.execute(() -> {
             long start = System.nanoTime();
             try {
                 AgentResult result;
@@ -99,15 +105,7 @@ public class WorkspaceArchitectureAgent implements WorkspaceAgent {
 
     @Override
     public AgentMetrics getMetrics() {
-        return new AgentMetrics(
-            0, // totalRequests
-            0, // successfulRequests
-            0, // failedRequests
-            Duration.ZERO, // averageResponseTime
-            Duration.ZERO, // maxResponseTime
-            1.0, // currentAvailability
-            0 // activeConnections
-        );
+        return executor.getMetrics();
     }
 
     @Override
@@ -118,6 +116,7 @@ public class WorkspaceArchitectureAgent implements WorkspaceAgent {
 
     @Override
     public void shutdown() {
+        executor.close();
         // Cleanup resources
     }
 
@@ -1,12 +1,12 @@
 package com.durion.agents;
 
-import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import com.durion.core.AgentCapabilities;
 import com.durion.core.AgentConfiguration;
+import com.durion.core.AgentExecutor;
 import com.durion.core.AgentHealth;
 import com.durion.core.AgentMetrics;
 import com.durion.core.AgentResult;
@@ -24,12 +24,18 @@ import com.durion.core.WorkspaceAgent;
  */
 public class WorkspaceSREAgent implements WorkspaceAgent {
 
+    private static final String AGENT_ID = "workspace-sre-agent";
+    private static final int MAX_CONCURRENT_OPERATIONS = 100;
+
+    private final AgentExecutor executor = AgentExecutor.forAgent(AGENT_ID, MAX_CONCURRENT_OPERATIONS,
+        AgentExecutor.Workload.CPU);
+
     private AgentConfiguration config;
     private volatile boolean ready = false;
 
     @Override
     public String getAgentId() {
-        return "workspace-sre-agent";
+        return AGENT_ID;
     }
 
     @Override
@@ -44,13 +50,13 @@ public class WorkspaceSREAgent implements WorkspaceAgent {
                 "manage-incidents", "Coordinate incident response"
             ),
             Set.of("java21"),
-            100
+            MAX_CONCURRENT_OPERATIONS
         );
     }
 
     @Override
     public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.execute(() -> {
             long start = System.nanoTime();
             try {
                 AgentResult result;
@@ -86,7 +92,7 @@ public class WorkspaceSREAgent implements WorkspaceAgent {
 
     @Override
     public AgentMetrics getMetrics() {
-        return new AgentMetrics(0, 0, 0, Duration.ZERO, Duration.ZERO, 1.0, 0);
+        return executor.getMetrics();
     }
 
     @Override
@@ -97,6 +103,7 @@ public class WorkspaceSREAgent implements WorkspaceAgent {
 
     @Override
     public void shutdown() {
+        executor.close();
         // Cleanup resources
     }
 
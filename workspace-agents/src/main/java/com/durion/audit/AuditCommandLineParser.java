@@ -35,6 +35,9 @@ public class AuditCommandLineParser {
           --no-cache              Disable caching
           --rate-limit-delay <ms>  Delay between API calls (default: 2000ms)
           --batch-size <N>        Batch size for rate limiting (default: 5)
+          --max-concurrency <N>   Maximum concurrent issue creations (default: 4)
+          --plan                  Estimate API cost and duration without running
+          --ndjson                Also write missing issues as newline-delimited JSON
           --help                  Show this help message
         
         Examples:
@@ -53,6 +56,9 @@ public class AuditCommandLineParser {
           
           # Audit and create missing issues
           java -jar missing-issues-audit.jar --token ghp_your_token_here --audit --create-issues
+          
+          # Estimate cost of creating missing issues before running it
+          java -jar missing-issues-audit.jar --token ghp_your_token_here --audit --create-issues --plan
         """;
     
     /**
@@ -128,7 +134,11 @@ public class AuditCommandLineParser {
             .useCache(!containsArg(args, "--no-cache"))
             .outputDirectory(getStringArg(args, "--output-dir", ".github/orchestration/missing-issues/"))
             .rateLimitDelayMs(getIntArg(args, "--rate-limit-delay", 2000))
-            .batchSize(getIntArg(args, "--batch-size", 5));
+            .batchSize(getIntArg(args, "--batch-size", 5))
+            .maxConcurrentCreations(getIntArg(args, "--max-concurrency",
+                    IssueCreationScheduler.DEFAULT_MAX_CONCURRENCY))
+            .planOnly(containsArg(args, "--plan"))
+            .ndjsonOutput(containsArg(args, "--ndjson"));
         
         return configBuilder.build();
     }
@@ -223,6 +233,10 @@ public class AuditCommandLineParser {
             throw new IllegalArgumentException("Batch size must be at least 1");
         }
         
+        if (config.getMaxConcurrentCreations() < 1) {
+            throw new IllegalArgumentException("Max concurrency must be at least 1");
+        }
+        
         System.out.println("✅ Configuration validated successfully");
     }
 }
\ No newline at end of file
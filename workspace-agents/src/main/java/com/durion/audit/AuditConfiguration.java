@@ -20,9 +20,12 @@ public class AuditConfiguration {
     private final String outputDirectory;
     private final int rateLimitDelayMs;
     private final int batchSize;
+    private final int maxConcurrentCreations;
     private final Optional<Integer> daysBack;
     private final boolean resumeMode;
     private final Optional<Integer> resumeFromStory;
+    private final boolean planOnly;
+    private final boolean ndjsonOutput;
 
     private AuditConfiguration(Builder builder) {
         this.githubToken = Objects.requireNonNull(builder.githubToken, "GitHub token cannot be null");
@@ -36,9 +39,12 @@ public class AuditConfiguration {
         this.outputDirectory = Objects.requireNonNull(builder.outputDirectory, "Output directory cannot be null");
         this.rateLimitDelayMs = builder.rateLimitDelayMs;
         this.batchSize = builder.batchSize;
+        this.maxConcurrentCreations = builder.maxConcurrentCreations;
         this.daysBack = Optional.ofNullable(builder.daysBack);
         this.resumeMode = builder.resumeMode;
         this.resumeFromStory = Optional.ofNullable(builder.resumeFromStory);
+        this.planOnly = builder.planOnly;
+        this.ndjsonOutput = builder.ndjsonOutput;
     }
 
     public String getGithubToken() {
@@ -85,6 +91,10 @@ public class AuditConfiguration {
         return batchSize;
     }
 
+    public int getMaxConcurrentCreations() {
+        return maxConcurrentCreations;
+    }
+
     public Optional<Integer> getDaysBack() {
         return daysBack;
     }
@@ -97,6 +107,21 @@ public class AuditConfiguration {
         return resumeFromStory;
     }
 
+    /**
+     * Whether to only estimate the run's API cost and duration, without
+     * scanning repositories or creating issues.
+     */
+    public boolean isPlanOnly() {
+        return planOnly;
+    }
+
+    /**
+     * Whether to also write missing issues as newline-delimited JSON.
+     */
+    public boolean isNdjsonOutput() {
+        return ndjsonOutput;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -113,9 +138,12 @@ public class AuditConfiguration {
         private String outputDirectory = ".github/orchestration/missing-issues/";
         private int rateLimitDelayMs = 2000;
         private int batchSize = 5;
+        private int maxConcurrentCreations = IssueCreationScheduler.DEFAULT_MAX_CONCURRENCY;
         private Integer daysBack;
         private boolean resumeMode = false;
         private Integer resumeFromStory;
+        private boolean planOnly = false;
+        private boolean ndjsonOutput = false;
 
         public Builder githubToken(String githubToken) {
             this.githubToken = githubToken;
@@ -164,6 +192,11 @@ public class AuditConfiguration {
             return this;
         }
 
+        public Builder maxConcurrentCreations(int maxConcurrentCreations) {
+            this.maxConcurrentCreations = maxConcurrentCreations;
+            return this;
+        }
+
         public Builder setDaysBack(Integer daysBack) {
             this.daysBack = daysBack;
             return this;
@@ -179,6 +212,16 @@ public class AuditConfiguration {
             return this;
         }
 
+        public Builder planOnly(boolean planOnly) {
+            this.planOnly = planOnly;
+            return this;
+        }
+
+        public Builder ndjsonOutput(boolean ndjsonOutput) {
+            this.ndjsonOutput = ndjsonOutput;
+            return this;
+        }
+
         public AuditConfiguration build() {
             return new AuditConfiguration(this);
         }
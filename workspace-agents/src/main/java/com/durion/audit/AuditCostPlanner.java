@@ -0,0 +1,486 @@
+package com.durion.audit;
+
+import com.durion.GitHubApiClientSSLBypass;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dry-run planner that estimates what an audit or comment backfill will cost
+ * before it runs.
+ *
+ * The planner spends a handful of one-item search probes to learn result
+ * counts ({@code total_count}), reads the current budget of each rate limit
+ * bucket, and checks the audit cache. From that it estimates the requests per
+ * bucket, the time spent waiting for limits to reset and the total wall-clock
+ * duration. No issues or comments are created.
+ *
+ * For each repository the plan also reports the cheapest scan strategy a
+ * cache-aware scan could use: a fresh cache costs nothing, an expired cache
+ * can be brought up to date with a delta search on {@code updated:>=},
+ * otherwise a full paginated scan is needed. The audit's repository scanner
+ * always runs full scans today, so the strategy is shown as a possible saving
+ * and does not lower the audit estimate.
+ */
+public class AuditCostPlanner {
+
+    public static final String CORE_RESOURCE = "core";
+    public static final String SEARCH_RESOURCE = "search";
+
+    /**
+     * How a repository's issues would be obtained.
+     */
+    public enum ScanStrategy {
+        CACHED,
+        DELTA_REFRESH,
+        FULL_SCAN
+    }
+
+    private static final int SEARCH_PAGE_SIZE = 100;
+    private static final long CORE_WINDOW_MS = 3600000;
+    private static final long SEARCH_WINDOW_MS = 60000;
+
+    // Mirrors GitHubRateLimiter's pre-request delays used by the scanner
+    private static final long SCANNER_REQUEST_DELAY_MS = 2000;
+    private static final long SCANNER_BATCH_DELAY_MS = 10000;
+    private static final int SCANNER_BATCH_SIZE = 5;
+
+    // Secondary limits on content creation are not reported by /rate_limit
+    private static final int HOURLY_CONTENT_CREATION_LIMIT = 500;
+    private static final long CREATION_INTERVAL_STEP_MS = 50;
+    private static final long BACKFILL_COMMENT_DELAY_MS = 5000;
+
+    private static final DateTimeFormatter DELTA_TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+
+    private final GitHubBudgetProbe probe;
+    private final CacheManager cacheManager;
+    private int probeRequests;
+
+    /**
+     * Creates a planner that assumes no cached scan results.
+     */
+    public AuditCostPlanner(GitHubBudgetProbe probe) {
+        this(probe, null);
+    }
+
+    /**
+     * Creates a planner.
+     *
+     * @param probe        Read-only access to GitHub budgets and result counts
+     * @param cacheManager Audit cache to consult, or null to plan full scans
+     */
+    public AuditCostPlanner(GitHubBudgetProbe probe, CacheManager cacheManager) {
+        this.probe = probe;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Plans a missing issues audit of the given number of stories.
+     *
+     * @param configuration      Audit configuration (issue creation, pacing)
+     * @param storiesToAudit     Number of processed stories after filtering
+     * @param frontendRepository Frontend repository (owner/repo)
+     * @param backendRepository  Backend repository (owner/repo)
+     * @return The execution plan
+     * @throws IOException          if the budget or a probe cannot be read
+     * @throws InterruptedException if the operation is interrupted
+     */
+    public ExecutionPlan planAudit(AuditConfiguration configuration, int storiesToAudit,
+            String frontendRepository, String backendRepository) throws IOException, InterruptedException {
+        probeRequests = 0;
+        List<RepositoryScanPlan> scans = new ArrayList<>();
+        scans.add(planRepositoryScan(frontendRepository, "frontend"));
+        scans.add(planRepositoryScan(backendRepository, "backend"));
+
+        // The access test and the scan itself each fetch every story issue
+        int searchRequests = 0;
+        int writes = 0;
+        for (RepositoryScanPlan scan : scans) {
+            searchRequests += 2 * scan.getFullScanRequests();
+            if (configuration.isCreateMissingIssues()) {
+                writes += Math.max(0, storiesToAudit - scan.getIssueCount());
+            }
+        }
+        int coreRequests = scans.size() + writes;
+
+        int scannerOperations = scans.size() * 2;
+        long executionMs = scannerOperations * SCANNER_REQUEST_DELAY_MS
+                + (scannerOperations / SCANNER_BATCH_SIZE) * SCANNER_BATCH_DELAY_MS
+                + creationPacingMs(writes, configuration.getRateLimitDelayMs());
+
+        return buildPlan("Missing issues audit", scans, coreRequests, searchRequests, writes, executionMs);
+    }
+
+    /**
+     * Plans a comment backfill over the processed stories.
+     *
+     * @param processedStories Number of stories recorded as processed
+     * @param storyRepository  Repository holding the story issues (owner/repo)
+     * @return The execution plan
+     * @throws IOException          if the budget or a probe cannot be read
+     * @throws InterruptedException if the operation is interrupted
+     */
+    public ExecutionPlan planBackfill(int processedStories, String storyRepository)
+            throws IOException, InterruptedException {
+        probeRequests = 0;
+        RepositoryScanPlan scan = planFullScan(storyRepository, "story");
+
+        int comments = Math.min(processedStories, scan.getIssueCount());
+        int coreRequests = 1 + comments;
+        long executionMs = Math.max(0, comments - 1) * BACKFILL_COMMENT_DELAY_MS
+                + contentCreationWaitMs(comments);
+
+        return buildPlan("Comment backfill", List.of(scan), coreRequests, scan.getSearchRequests(), comments,
+                executionMs);
+    }
+
+    /**
+     * Chooses the cheapest way to obtain a repository's story issues.
+     */
+    RepositoryScanPlan planRepositoryScan(String repository, String repositoryType)
+            throws IOException, InterruptedException {
+        RepositoryScanPlan fullScan = planFullScan(repository, repositoryType);
+        if (cacheManager == null) {
+            return fullScan;
+        }
+
+        LocalDateTime cachedAt = cacheManager.getCacheTimestamp(repository, repositoryType).orElse(null);
+        if (cachedAt == null) {
+            return fullScan;
+        }
+        if (LocalDateTime.now().isBefore(cachedAt.plusHours(cacheManager.getCacheExpirationHours()))) {
+            return new RepositoryScanPlan(repository, ScanStrategy.CACHED, fullScan.getIssueCount(), 0,
+                    fullScan.getFullScanRequests());
+        }
+
+        String deltaQuery = GitHubApiClientSSLBypass.storySearchQueries(repository).get(0)
+                + " updated:>=" + deltaTimestamp(cachedAt);
+        int changed = countSearchResults(deltaQuery);
+        int deltaRequests = changed < 0 ? Integer.MAX_VALUE : pages(changed);
+        if (deltaRequests < fullScan.getFullScanRequests()) {
+            return new RepositoryScanPlan(repository, ScanStrategy.DELTA_REFRESH, fullScan.getIssueCount(),
+                    deltaRequests, fullScan.getFullScanRequests());
+        }
+        return fullScan;
+    }
+
+    /**
+     * Formats a cache timestamp, kept in local time, as the UTC instant GitHub
+     * search expects.
+     */
+    static String deltaTimestamp(LocalDateTime cachedAt) {
+        return cachedAt.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC)
+                .format(DELTA_TIMESTAMP_FORMAT);
+    }
+
+    /**
+     * Sizes a full scan the same way getStoryIssues runs it: the label query
+     * first, then the title query only when the label query finds nothing.
+     */
+    private RepositoryScanPlan planFullScan(String repository, String repositoryType)
+            throws IOException, InterruptedException {
+        int requests = 0;
+        int issueCount = 0;
+        for (String query : GitHubApiClientSSLBypass.storySearchQueries(repository)) {
+            issueCount = Math.max(0, countSearchResults(query));
+            requests += pages(issueCount);
+            if (issueCount > 0) {
+                break;
+            }
+        }
+        return new RepositoryScanPlan(repository, ScanStrategy.FULL_SCAN, issueCount, requests, requests);
+    }
+
+    private int countSearchResults(String query) throws IOException, InterruptedException {
+        probeRequests++;
+        return probe.countSearchResults(query);
+    }
+
+    private ExecutionPlan buildPlan(String jobName, List<RepositoryScanPlan> scans, int coreRequests,
+            int searchRequests, int writes, long executionMs) throws IOException, InterruptedException {
+        Map<String, RateLimitInfo> rateLimits = probe.getRateLimits();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<String, BucketEstimate> buckets = new LinkedHashMap<>();
+        buckets.put(CORE_RESOURCE, new BucketEstimate(CORE_RESOURCE, coreRequests,
+                rateLimits.get(CORE_RESOURCE), CORE_WINDOW_MS, now));
+        // Probes are spent from the search budget before the job starts
+        buckets.put(SEARCH_RESOURCE, new BucketEstimate(SEARCH_RESOURCE, searchRequests,
+                remainingAfterProbes(rateLimits.get(SEARCH_RESOURCE)), SEARCH_WINDOW_MS, now));
+
+        return new ExecutionPlan(jobName, scans, buckets, writes, executionMs, probeRequests, now);
+    }
+
+    private RateLimitInfo remainingAfterProbes(RateLimitInfo info) {
+        if (info == null) {
+            return null;
+        }
+        return new RateLimitInfo(info.getLimit(), Math.max(0, info.getRemaining() - probeRequests),
+                info.getUsed() + probeRequests, info.getResetTime(), info.getResource());
+    }
+
+    /**
+     * Estimates time spent pacing issue creations, following
+     * IssueCreationScheduler: the interval starts at the configured delay and
+     * shrinks by 50ms per success down to its floor.
+     */
+    static long creationPacingMs(int creations, long initialIntervalMs) {
+        long floor = IssueCreationScheduler.MIN_INTERVAL_MS;
+        long interval = Math.max(floor, Math.min(initialIntervalMs, IssueCreationScheduler.MAX_INTERVAL_MS));
+        long total = 0;
+        for (int i = 1; i < creations; i++) {
+            total += interval;
+            interval = Math.max(floor, interval - CREATION_INTERVAL_STEP_MS);
+        }
+        return total + contentCreationWaitMs(creations);
+    }
+
+    /**
+     * Hours spent waiting on GitHub's hourly content creation limit.
+     */
+    private static long contentCreationWaitMs(int writes) {
+        return writes <= HOURLY_CONTENT_CREATION_LIMIT ? 0
+                : ((writes - 1) / HOURLY_CONTENT_CREATION_LIMIT) * CORE_WINDOW_MS;
+    }
+
+    /**
+     * Search requests needed to page through a result set; the scanner stops
+     * on the first short page, so an exact multiple costs one extra request.
+     */
+    static int pages(int resultCount) {
+        return resultCount / SEARCH_PAGE_SIZE + 1;
+    }
+
+    /**
+     * Planned scan of one repository.
+     */
+    public static class RepositoryScanPlan {
+        private final String repository;
+        private final ScanStrategy strategy;
+        private final int issueCount;
+        private final int searchRequests;
+        private final int fullScanRequests;
+
+        public RepositoryScanPlan(String repository, ScanStrategy strategy, int issueCount, int searchRequests,
+                int fullScanRequests) {
+            this.repository = repository;
+            this.strategy = strategy;
+            this.issueCount = issueCount;
+            this.searchRequests = searchRequests;
+            this.fullScanRequests = fullScanRequests;
+        }
+
+        public String getRepository() {
+            return repository;
+        }
+
+        public ScanStrategy getStrategy() {
+            return strategy;
+        }
+
+        public int getIssueCount() {
+            return issueCount;
+        }
+
+        /**
+         * Search requests the chosen strategy would need.
+         */
+        public int getSearchRequests() {
+            return searchRequests;
+        }
+
+        /**
+         * Search requests a full scan would need.
+         */
+        public int getFullScanRequests() {
+            return fullScanRequests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d issues, %d search requests per full scan (%s would need %d)",
+                    repository, issueCount, fullScanRequests, strategy, searchRequests);
+        }
+    }
+
+    /**
+     * Planned usage of one rate limit bucket and the wait it implies.
+     */
+    public static class BucketEstimate {
+        private final String resource;
+        private final int plannedRequests;
+        private final RateLimitInfo rateLimit;
+        private final long waitMillis;
+
+        BucketEstimate(String resource, int plannedRequests, RateLimitInfo rateLimit, long windowMillis,
+                LocalDateTime now) {
+            this.resource = resource;
+            this.plannedRequests = plannedRequests;
+            this.rateLimit = rateLimit;
+            this.waitMillis = calculateWaitMillis(plannedRequests, rateLimit, windowMillis, now);
+        }
+
+        /**
+         * Requests beyond the remaining budget wait for the reset, plus one full
+         * window for every further limit's worth of requests.
+         */
+        static long calculateWaitMillis(int plannedRequests, RateLimitInfo rateLimit, long windowMillis,
+                LocalDateTime now) {
+            if (rateLimit == null || plannedRequests <= rateLimit.getRemaining() || rateLimit.getLimit() <= 0) {
+                return 0;
+            }
+            int overflow = plannedRequests - rateLimit.getRemaining();
+            int windows = (overflow + rateLimit.getLimit() - 1) / rateLimit.getLimit();
+            long untilReset = Math.max(0, Duration.between(now, rateLimit.getResetTime()).toMillis());
+            return untilReset + (windows - 1) * windowMillis;
+        }
+
+        public String getResource() {
+            return resource;
+        }
+
+        public int getPlannedRequests() {
+            return plannedRequests;
+        }
+
+        /**
+         * Gets the bucket status the estimate is based on, or null if GitHub
+         * did not report this bucket.
+         */
+        public RateLimitInfo getRateLimit() {
+            return rateLimit;
+        }
+
+        public long getWaitMillis() {
+            return waitMillis;
+        }
+
+        public boolean fitsCurrentWindow() {
+            return waitMillis == 0;
+        }
+
+        @Override
+        public String toString() {
+            String budget = rateLimit == null ? "unknown budget"
+                    : rateLimit.getRemaining() + "/" + rateLimit.getLimit() + " remaining";
+            return String.format("%s: %d planned, %s, wait %ds", resource, plannedRequests, budget,
+                    waitMillis / 1000);
+        }
+    }
+
+    /**
+     * Result of planning a job: what it will spend and how long it will take.
+     */
+    public static class ExecutionPlan {
+        private final String jobName;
+        private final List<RepositoryScanPlan> scans;
+        private final Map<String, BucketEstimate> buckets;
+        private final int plannedWrites;
+        private final long executionMillis;
+        private final int probeRequests;
+        private final LocalDateTime plannedAt;
+
+        public ExecutionPlan(String jobName, List<RepositoryScanPlan> scans, Map<String, BucketEstimate> buckets,
+                int plannedWrites, long executionMillis, int probeRequests, LocalDateTime plannedAt) {
+            this.jobName = jobName;
+            this.scans = Collections.unmodifiableList(new ArrayList<>(scans));
+            this.buckets = Collections.unmodifiableMap(new LinkedHashMap<>(buckets));
+            this.plannedWrites = plannedWrites;
+            this.executionMillis = executionMillis;
+            this.probeRequests = probeRequests;
+            this.plannedAt = plannedAt;
+        }
+
+        public String getJobName() {
+            return jobName;
+        }
+
+        public List<RepositoryScanPlan> getScans() {
+            return scans;
+        }
+
+        public Map<String, BucketEstimate> getBuckets() {
+            return buckets;
+        }
+
+        public int getPlannedWrites() {
+            return plannedWrites;
+        }
+
+        /**
+         * Time spent on pacing delays, excluding rate limit waits.
+         */
+        public long getExecutionMillis() {
+            return executionMillis;
+        }
+
+        /**
+         * Longest wait for any bucket to reset.
+         */
+        public long getExpectedWaitMillis() {
+            return buckets.values().stream().mapToLong(BucketEstimate::getWaitMillis).max().orElse(0);
+        }
+
+        public long getEstimatedDurationMillis() {
+            return executionMillis + getExpectedWaitMillis();
+        }
+
+        public int getProbeRequests() {
+            return probeRequests;
+        }
+
+        /**
+         * Earliest time the job can start without hitting a rate limit wait in
+         * its first window: now if every bucket fits, otherwise the latest reset
+         * of a bucket that does not.
+         */
+        public LocalDateTime getRecommendedStart() {
+            LocalDateTime start = plannedAt;
+            for (BucketEstimate bucket : buckets.values()) {
+                if (!bucket.fitsCurrentWindow() && bucket.getRateLimit().getResetTime().isAfter(start)) {
+                    start = bucket.getRateLimit().getResetTime();
+                }
+            }
+            return start;
+        }
+
+        public String toReport() {
+            DateTimeFormatter timeFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+            StringBuilder report = new StringBuilder();
+            report.append("📐 Execution Plan: ").append(jobName).append("\n");
+            report.append("   • Planned at: ").append(plannedAt.format(timeFormat)).append("\n");
+            report.append("   • Probe requests spent: ").append(probeRequests).append(" search\n");
+            for (RepositoryScanPlan scan : scans) {
+                report.append("   • ").append(scan).append("\n");
+            }
+            for (BucketEstimate bucket : buckets.values()) {
+                report.append("   • ").append(bucket).append("\n");
+            }
+            report.append("   • Planned writes: ").append(plannedWrites).append("\n");
+            report.append("   • Expected wait: ").append(formatDuration(getExpectedWaitMillis())).append("\n");
+            report.append("   • Estimated duration: ").append(formatDuration(getEstimatedDurationMillis()))
+                    .append("\n");
+            report.append("   • Recommended start: ").append(getRecommendedStart().format(timeFormat));
+            return report.toString();
+        }
+
+        private static String formatDuration(long millis) {
+            long seconds = millis / 1000;
+            return String.format("%dh %02dm %02ds", seconds / 3600, (seconds % 3600) / 60, seconds % 60);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ExecutionPlan{job='%s', writes=%d, wait=%dms, duration=%dms}",
+                    jobName, plannedWrites, getExpectedWaitMillis(), getEstimatedDurationMillis());
+        }
+    }
+}
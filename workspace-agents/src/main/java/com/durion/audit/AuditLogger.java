@@ -1,288 +1,795 @@
 package com.durion.audit;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.durion.core.BoundedMpscQueue;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 /**
  * Comprehensive audit logging and tracking system for the missing issues audit.
- * 
+ *
  * Provides detailed logging for all API requests, responses, errors, and audit operations
  * with context for troubleshooting and audit history tracking.
- * 
+ *
+ * Every log call becomes a structured event with a level. Events are rendered
+ * as the familiar console blocks and, optionally, as NDJSON lines in a log
+ * file. By default events are written on the calling thread; an asynchronous
+ * logger instead hands them to a background writer through a
+ * {@link BoundedMpscQueue}, batching console and file I/O. Calls for a disabled level return
+ * before allocating anything, and high-volume DEBUG events can be sampled.
+ *
  * Requirements: 6.1, 6.2 - Comprehensive logging for audit operations and decisions
  */
-public class AuditLogger {
-    
+public final class AuditLogger implements AutoCloseable {
+
     private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final long FLUSH_TIMEOUT_MS = 5000;
+
+    /**
+     * Event severity, lowest first.
+     */
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR
+    }
+
+    /**
+     * Kinds of events, with the field names used for their NDJSON form.
+     */
+    enum EventType {
+        SESSION_START("session_start", "sessionId", "startTime"),
+        CONFIGURATION_VALIDATION("configuration_validation", "auditMode", "outputDirectory", "useCache",
+                "createMissingIssues", "rateLimitDelayMs", "batchSize", "maxConcurrentCreations", "dateRange",
+                "storyRange"),
+        AUDIT_START("audit_start", "processedIssues", "storyMetadata", "minIssue", "maxIssue"),
+        API_REQUEST("api_request", "request", "method", "repository", "url"),
+        API_RESPONSE("api_response", "request", "statusCode", "responseTimeMs", "resultCount"),
+        RATE_LIMIT("rate_limit", "remaining", "limit", "used", "resetTime", "resource"),
+        ERROR("error", "error", "operation", "errorType", "errorMessage", "context", "sessionId", "causeType",
+                "causeMessage"),
+        PROGRESS("progress", "phase", "completed", "total", "percentage"),
+        MISSING_ISSUE_DETECTION("missing_issue_detection", "frontendMissing", "backendMissing", "totalMissing",
+                "frontendSample", "backendSample"),
+        AUDIT_SUMMARY("audit_summary", "sessionId", "durationMinutes", "apiRequests", "errors", "processedStories",
+                "missingFrontend", "missingBackend", "totalMissing", "frontendIssuesFound", "backendIssuesFound",
+                "auditTimestamp"),
+        ISSUE_CREATION("issue_creation", "storyNumber", "title", "repository", "type", "success", "errorMessage"),
+        SESSION_END("session_end", "sessionId", "endTime", "durationMinutes", "apiRequests", "errors");
+
+        private final String eventName;
+        private final String[] fieldNames;
+
+        EventType(String eventName, String... fieldNames) {
+            this.eventName = eventName;
+            this.fieldNames = fieldNames;
+        }
+    }
+
     private final String auditSessionId;
-    private int requestCounter = 0;
-    private int errorCounter = 0;
+    private final AtomicInteger requestCounter = new AtomicInteger();
+    private final AtomicInteger errorCounter = new AtomicInteger();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final AtomicLong eventSequence = new AtomicLong();
     private LocalDateTime sessionStartTime;
-    
+
+    private final Level consoleLevel;
+    private final Level minimumLevel;
+    private final int debugSampleRate;
+    private final BufferedWriter ndjsonWriter;
+    private final Object writeLock = new Object();
+
+    // Asynchronous delivery: the single writer thread drains events in the order they were logged
+    private final BoundedMpscQueue<Event> queue;
+    private volatile boolean running;
+    private final Thread writerThread;
+    private final Thread shutdownHook;
+
     public AuditLogger() {
+        this(builder());
+    }
+
+    private AuditLogger(Builder builder) {
         this.auditSessionId = generateSessionId();
         this.sessionStartTime = LocalDateTime.now();
+        this.consoleLevel = builder.consoleLevel;
+        this.debugSampleRate = Math.max(1, builder.debugSampleRate);
+        this.ndjsonWriter = openNdjson(builder.ndjsonFile);
+        Level minimum = consoleLevel;
+        if (ndjsonWriter != null && builder.ndjsonLevel.ordinal() < minimum.ordinal()) {
+            minimum = builder.ndjsonLevel;
+        }
+        this.minimumLevel = minimum;
+
+        if (builder.async) {
+            this.queue = new BoundedMpscQueue<>(builder.ringBufferSize);
+            this.running = true;
+            this.writerThread = new Thread(this::drainLoop, "audit-log-writer");
+            this.writerThread.setDaemon(true);
+            this.queue.setConsumer(writerThread);
+            this.writerThread.start();
+            this.shutdownHook = new Thread(this::flush, "audit-log-flush");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        } else {
+            this.queue = null;
+            this.writerThread = null;
+            this.shutdownHook = null;
+        }
+
         logSessionStart();
     }
-    
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
     /**
      * Generates a unique session ID for this audit run.
      */
     private String generateSessionId() {
         return "AUDIT-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
     }
-    
+
+    private static BufferedWriter openNdjson(Path ndjsonFile) {
+        if (ndjsonFile == null) {
+            return null;
+        }
+        try {
+            if (ndjsonFile.getParent() != null) {
+                Files.createDirectories(ndjsonFile.getParent());
+            }
+            return Files.newBufferedWriter(ndjsonFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not open structured log " + ndjsonFile + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether events at a level are written anywhere.
+     */
+    public boolean isEnabled(Level level) {
+        return level.ordinal() >= minimumLevel.ordinal();
+    }
+
     /**
      * Logs the start of an audit session.
      */
     private void logSessionStart() {
-        System.out.println("🚀 ===== MISSING ISSUES AUDIT SESSION STARTED =====");
-        System.out.println("📅 Session ID: " + auditSessionId);
-        System.out.println("⏰ Start Time: " + sessionStartTime.format(TIMESTAMP_FORMAT));
-        System.out.println("🔍 Audit Engine: Enhanced Missing Issues Detection");
-        System.out.println("================================================");
+        if (isEnabled(Level.INFO)) {
+            publish(Level.INFO, EventType.SESSION_START, auditSessionId, sessionStartTime);
+        }
     }
-    
+
     /**
      * Logs the start of audit configuration validation.
      */
     public void logConfigurationValidation(AuditConfiguration configuration) {
-        System.out.println("\n🔧 CONFIGURATION VALIDATION");
-        System.out.println("├─ Audit Mode: " + configuration.getAuditMode());
-        System.out.println("├─ Output Directory: " + configuration.getOutputDirectory());
-        System.out.println("├─ Use Cache: " + configuration.isUseCache());
-        System.out.println("├─ Create Missing Issues: " + configuration.isCreateMissingIssues());
-        System.out.println("├─ Rate Limit Delay: " + configuration.getRateLimitDelayMs() + "ms");
-        System.out.println("├─ Batch Size: " + configuration.getBatchSize());
-        
+        if (!isEnabled(Level.INFO)) {
+            return;
+        }
+        String dateRange = null;
         if (configuration.getStartDate().isPresent() || configuration.getEndDate().isPresent()) {
-            System.out.println("├─ Date Range: " + 
-                configuration.getStartDate().orElse(null) + " to " + 
-                configuration.getEndDate().orElse(null));
+            dateRange = configuration.getStartDate().orElse(null) + " to " + configuration.getEndDate().orElse(null);
         }
-        
+        String storyRange = null;
         if (configuration.getStoryRangeStart().isPresent() || configuration.getStoryRangeEnd().isPresent()) {
-            System.out.println("├─ Story Range: " + 
-                configuration.getStoryRangeStart().orElse(null) + " to " + 
-                configuration.getStoryRangeEnd().orElse(null));
+            storyRange = configuration.getStoryRangeStart().orElse(null) + " to "
+                    + configuration.getStoryRangeEnd().orElse(null);
         }
-        
-        System.out.println("└─ ✅ Configuration validated successfully");
+        publish(Level.INFO, EventType.CONFIGURATION_VALIDATION,
+                configuration.getAuditMode(),
+                configuration.getOutputDirectory(),
+                configuration.isUseCache(),
+                configuration.isCreateMissingIssues(),
+                configuration.getRateLimitDelayMs(),
+                configuration.getBatchSize(),
+                configuration.getMaxConcurrentCreations(),
+                dateRange,
+                storyRange);
     }
-    
+
     /**
      * Logs the start of the audit process.
      */
     public void logAuditStart(List<Integer> processedIssues, Map<Integer, StoryMetadata> storyMetadata) {
-        System.out.println("\n📊 AUDIT PROCESS INITIALIZATION");
-        System.out.println("├─ Processed Issues Count: " + processedIssues.size());
-        System.out.println("├─ Story Metadata Count: " + storyMetadata.size());
-        System.out.println("├─ Issue Range: #" + 
-            processedIssues.stream().min(Integer::compareTo).orElse(0) + " to #" + 
-            processedIssues.stream().max(Integer::compareTo).orElse(0));
-        System.out.println("└─ 🔍 Starting repository scanning...");
-    }
-    
+        if (!isEnabled(Level.INFO)) {
+            return;
+        }
+        publish(Level.INFO, EventType.AUDIT_START,
+                processedIssues.size(),
+                storyMetadata.size(),
+                processedIssues.stream().min(Integer::compareTo).orElse(0),
+                processedIssues.stream().max(Integer::compareTo).orElse(0));
+    }
+
     /**
      * Logs API request details.
      */
     public void logApiRequest(String method, String url, String repository) {
-        requestCounter++;
-        System.out.println("\n📤 API REQUEST #" + requestCounter);
-        System.out.println("├─ Method: " + method);
-        System.out.println("├─ Repository: " + repository);
-        System.out.println("├─ URL: " + url);
-        System.out.println("└─ Timestamp: " + LocalDateTime.now().format(TIMESTAMP_FORMAT));
-    }
-    
+        int requestNumber = requestCounter.incrementAndGet();
+        if (isEnabled(Level.DEBUG) && sampled()) {
+            publish(Level.DEBUG, EventType.API_REQUEST, requestNumber, method, repository, url);
+        }
+    }
+
     /**
      * Logs API response details.
      */
     public void logApiResponse(int statusCode, long responseTimeMs, int resultCount) {
-        System.out.println("📥 API RESPONSE #" + requestCounter);
-        System.out.println("├─ Status Code: " + statusCode);
-        System.out.println("├─ Response Time: " + responseTimeMs + "ms");
-        System.out.println("├─ Result Count: " + resultCount);
-        
-        if (statusCode == 200) {
-            System.out.println("└─ ✅ Request successful");
-        } else if (statusCode == 403) {
-            System.out.println("└─ ⚠️ Rate limit encountered");
-        } else if (statusCode >= 400) {
-            System.out.println("└─ ❌ Request failed");
-        } else {
-            System.out.println("└─ ℹ️ Unexpected status code");
+        Level level = statusCode >= 400 ? Level.WARN : Level.DEBUG;
+        if (isEnabled(level) && (level != Level.DEBUG || sampled())) {
+            publish(level, EventType.API_RESPONSE, requestCounter.get(), statusCode, responseTimeMs, resultCount);
         }
     }
-    
+
     /**
      * Logs rate limiting information.
      */
     public void logRateLimit(RateLimitInfo rateLimitInfo) {
-        if (rateLimitInfo != null) {
-            System.out.println("\n⏱️ RATE LIMIT STATUS");
-            System.out.println("├─ Remaining: " + rateLimitInfo.getRemaining() + "/" + rateLimitInfo.getLimit());
-            System.out.println("├─ Used: " + rateLimitInfo.getUsed());
-            System.out.println("├─ Reset Time: " + rateLimitInfo.getResetTime().format(TIMESTAMP_FORMAT));
-            System.out.println("└─ Resource: " + rateLimitInfo.getResource());
-            
-            if (rateLimitInfo.getRemaining() < 10) {
-                System.out.println("🚨 WARNING: Rate limit critically low!");
-            } else if (rateLimitInfo.getRemaining() < 100) {
-                System.out.println("⚠️ CAUTION: Rate limit getting low");
-            }
+        if (rateLimitInfo == null) {
+            return;
+        }
+        Level level = rateLimitInfo.getRemaining() < 100 ? Level.WARN : Level.INFO;
+        if (isEnabled(level)) {
+            publish(level, EventType.RATE_LIMIT,
+                    rateLimitInfo.getRemaining(),
+                    rateLimitInfo.getLimit(),
+                    rateLimitInfo.getUsed(),
+                    rateLimitInfo.getResetTime(),
+                    rateLimitInfo.getResource());
         }
     }
-    
+
     /**
      * Logs error details with context.
      */
     public void logError(String operation, Exception error, String context) {
-        errorCounter++;
-        System.out.println("\n❌ ERROR #" + errorCounter);
-        System.out.println("├─ Operation: " + operation);
-        System.out.println("├─ Error Type: " + error.getClass().getSimpleName());
-        System.out.println("├─ Error Message: " + error.getMessage());
-        System.out.println("├─ Context: " + context);
-        System.out.println("├─ Timestamp: " + LocalDateTime.now().format(TIMESTAMP_FORMAT));
-        System.out.println("└─ Session: " + auditSessionId);
-        
-        // Log stack trace for debugging if needed
-        if (error.getCause() != null) {
-            System.out.println("   Caused by: " + error.getCause().getClass().getSimpleName() + 
-                             ": " + error.getCause().getMessage());
-        }
-    }
-    
+        int errorNumber = errorCounter.incrementAndGet();
+        if (!isEnabled(Level.ERROR)) {
+            return;
+        }
+        Throwable cause = error.getCause();
+        publish(Level.ERROR, EventType.ERROR,
+                errorNumber,
+                operation,
+                error.getClass().getSimpleName(),
+                error.getMessage(),
+                context,
+                auditSessionId,
+                cause != null ? cause.getClass().getSimpleName() : null,
+                cause != null ? cause.getMessage() : null);
+    }
+
     /**
      * Logs audit progress updates.
      */
     public void logProgress(String phase, int completed, int total) {
+        if (!isEnabled(Level.INFO)) {
+            return;
+        }
         double percentage = total > 0 ? (completed * 100.0) / total : 0;
-        System.out.println("\n📈 PROGRESS UPDATE");
-        System.out.println("├─ Phase: " + phase);
-        System.out.println("├─ Completed: " + completed + "/" + total);
-        System.out.println("├─ Progress: " + String.format("%.1f%%", percentage));
-        System.out.println("└─ Timestamp: " + LocalDateTime.now().format(TIMESTAMP_FORMAT));
+        publish(Level.INFO, EventType.PROGRESS, phase, completed, total, percentage);
     }
-    
+
     /**
      * Logs missing issue detection results.
      */
     public void logMissingIssueDetection(List<MissingIssue> frontendMissing, List<MissingIssue> backendMissing) {
-        System.out.println("\n🔍 MISSING ISSUE DETECTION RESULTS");
-        System.out.println("├─ Frontend Missing: " + frontendMissing.size() + " issues");
-        System.out.println("├─ Backend Missing: " + backendMissing.size() + " issues");
-        System.out.println("├─ Total Missing: " + (frontendMissing.size() + backendMissing.size()) + " issues");
-        
-        if (!frontendMissing.isEmpty()) {
-            System.out.println("├─ Frontend Missing Issues:");
-            frontendMissing.stream().limit(5).forEach(issue -> 
-                System.out.println("│  • #" + issue.getStoryNumber() + ": " + issue.getStoryTitle()));
-            if (frontendMissing.size() > 5) {
-                System.out.println("│  ... and " + (frontendMissing.size() - 5) + " more");
-            }
+        if (!isEnabled(Level.INFO)) {
+            return;
         }
-        
-        if (!backendMissing.isEmpty()) {
-            System.out.println("├─ Backend Missing Issues:");
-            backendMissing.stream().limit(5).forEach(issue -> 
-                System.out.println("│  • #" + issue.getStoryNumber() + ": " + issue.getStoryTitle()));
-            if (backendMissing.size() > 5) {
-                System.out.println("│  ... and " + (backendMissing.size() - 5) + " more");
-            }
+        publish(Level.INFO, EventType.MISSING_ISSUE_DETECTION,
+                frontendMissing.size(),
+                backendMissing.size(),
+                frontendMissing.size() + backendMissing.size(),
+                sample(frontendMissing),
+                sample(backendMissing));
+    }
+
+    private static List<String> sample(List<MissingIssue> issues) {
+        List<String> sample = new ArrayList<>();
+        for (int i = 0; i < issues.size() && i < 5; i++) {
+            sample.add("#" + issues.get(i).getStoryNumber() + ": " + issues.get(i).getStoryTitle());
         }
-        
-        System.out.println("└─ ✅ Detection completed");
+        return sample;
     }
-    
+
     /**
      * Logs audit statistics and summary.
      */
     public void logAuditSummary(AuditResult auditResult) {
-        LocalDateTime endTime = LocalDateTime.now();
-        long durationMinutes = java.time.Duration.between(sessionStartTime, endTime).toMinutes();
-        
-        System.out.println("\n📊 AUDIT SUMMARY");
-        System.out.println("├─ Session ID: " + auditSessionId);
-        System.out.println("├─ Duration: " + durationMinutes + " minutes");
-        System.out.println("├─ Total API Requests: " + requestCounter);
-        System.out.println("├─ Total Errors: " + errorCounter);
-        System.out.println("├─ Processed Stories: " + auditResult.getTotalProcessedStories());
-        System.out.println("├─ Missing Frontend Issues: " + auditResult.getMissingFrontendIssues().size());
-        System.out.println("├─ Missing Backend Issues: " + auditResult.getMissingBackendIssues().size());
-        System.out.println("├─ Total Missing Issues: " + auditResult.getTotalMissingIssues());
-        
-        AuditStatistics stats = auditResult.getStatistics();
-        if (stats != null) {
-            System.out.println("├─ Frontend Issues Found: " + stats.getFrontendIssuesFound());
-            System.out.println("├─ Backend Issues Found: " + stats.getBackendIssuesFound());
+        if (!isEnabled(Level.INFO)) {
+            return;
         }
-        
-        System.out.println("└─ Audit Timestamp: " + auditResult.getAuditTimestamp().format(TIMESTAMP_FORMAT));
+        long durationMinutes = java.time.Duration.between(sessionStartTime, LocalDateTime.now()).toMinutes();
+        AuditStatistics stats = auditResult.getStatistics();
+        publish(Level.INFO, EventType.AUDIT_SUMMARY,
+                auditSessionId,
+                durationMinutes,
+                requestCounter.get(),
+                errorCounter.get(),
+                auditResult.getTotalProcessedStories(),
+                auditResult.getMissingFrontendIssues().size(),
+                auditResult.getMissingBackendIssues().size(),
+                auditResult.getTotalMissingIssues(),
+                stats != null ? stats.getFrontendIssuesFound() : null,
+                stats != null ? stats.getBackendIssuesFound() : null,
+                auditResult.getAuditTimestamp());
     }
-    
+
     /**
      * Logs issue creation attempts and results.
      */
     public void logIssueCreation(MissingIssue missingIssue, boolean success, String errorMessage) {
-        System.out.println("\n🔨 ISSUE CREATION");
-        System.out.println("├─ Story: #" + missingIssue.getStoryNumber());
-        System.out.println("├─ Title: " + missingIssue.getExpectedTitle());
-        System.out.println("├─ Repository: " + missingIssue.getTargetRepository());
-        System.out.println("├─ Type: " + missingIssue.getRepositoryType());
-        
-        if (success) {
-            System.out.println("└─ ✅ Issue created successfully");
-        } else {
-            System.out.println("├─ ❌ Issue creation failed");
-            System.out.println("└─ Error: " + errorMessage);
+        Level level = success ? Level.INFO : Level.WARN;
+        if (!isEnabled(level)) {
+            return;
         }
+        publish(level, EventType.ISSUE_CREATION,
+                missingIssue.getStoryNumber(),
+                missingIssue.getExpectedTitle(),
+                missingIssue.getTargetRepository(),
+                missingIssue.getRepositoryType(),
+                success,
+                errorMessage);
     }
-    
+
     /**
      * Logs the end of the audit session.
      */
     public void logSessionEnd() {
+        if (!isEnabled(Level.INFO)) {
+            return;
+        }
         LocalDateTime endTime = LocalDateTime.now();
         long durationMinutes = java.time.Duration.between(sessionStartTime, endTime).toMinutes();
-        
-        System.out.println("\n🏁 ===== MISSING ISSUES AUDIT SESSION COMPLETED =====");
-        System.out.println("📅 Session ID: " + auditSessionId);
-        System.out.println("⏰ End Time: " + endTime.format(TIMESTAMP_FORMAT));
-        System.out.println("⏱️ Total Duration: " + durationMinutes + " minutes");
-        System.out.println("📊 Total API Requests: " + requestCounter);
-        System.out.println("❌ Total Errors: " + errorCounter);
-        System.out.println("====================================================");
-    }
-    
+        publish(Level.INFO, EventType.SESSION_END,
+                auditSessionId, endTime, durationMinutes, requestCounter.get(), errorCounter.get());
+    }
+
+    /**
+     * Waits until every event logged so far has been written.
+     */
+    public void flush() {
+        if (queue != null) {
+            long target = queue.getClaimedCount();
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FLUSH_TIMEOUT_MS);
+            while (queue.getDrainedCount() < target && running && System.nanoTime() < deadline) {
+                LockSupport.unpark(writerThread);
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+            }
+        }
+        synchronized (writeLock) {
+            flushSinks();
+        }
+    }
+
+    /**
+     * Flushes pending events, stops the background writer and closes the
+     * structured log file.
+     */
+    @Override
+    public void close() {
+        flush();
+        if (shutdownHook != null) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // Already shutting down; the hook is running or has run
+            }
+        }
+        if (writerThread != null) {
+            running = false;
+            LockSupport.unpark(writerThread);
+            try {
+                writerThread.join(FLUSH_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (writeLock) {
+            if (ndjsonWriter != null) {
+                try {
+                    ndjsonWriter.close();
+                } catch (IOException e) {
+                    System.err.println("⚠️ Could not close structured log: " + e.getMessage());
+                }
+            }
+        }
+    }
+
     /**
      * Gets the current session ID for external reference.
      */
     public String getSessionId() {
         return auditSessionId;
     }
-    
+
     /**
      * Gets the current request counter.
      */
     public int getRequestCounter() {
-        return requestCounter;
+        return requestCounter.get();
     }
-    
+
     /**
      * Gets the current error counter.
      */
     public int getErrorCounter() {
-        return errorCounter;
+        return errorCounter.get();
     }
-    
+
     /**
      * Gets the session start time.
      */
     public LocalDateTime getSessionStartTime() {
         return sessionStartTime;
     }
-}
\ No newline at end of file
+
+    // Event delivery
+
+    private boolean sampled() {
+        return debugSampleRate == 1 || sampleCounter.getAndIncrement() % debugSampleRate == 0;
+    }
+
+    private void publish(Level level, EventType type, Object... values) {
+        Event event = new Event(level, type, System.currentTimeMillis(), Thread.currentThread().getName(), values);
+        if (queue == null) {
+            synchronized (writeLock) {
+                event.sequence = eventSequence.incrementAndGet();
+                write(event);
+                flushSinks();
+            }
+            return;
+        }
+
+        queue.put(event);
+    }
+
+    private void drainLoop() {
+        while (running || queue.getPendingCount() > 0) {
+            int batch;
+            synchronized (writeLock) {
+                // Sequence numbers follow the order events are written in
+                batch = queue.drainTo(event -> {
+                    event.sequence = eventSequence.incrementAndGet();
+                    write(event);
+                });
+                if (batch > 0) {
+                    flushSinks();
+                }
+            }
+            if (batch == 0 && running) {
+                queue.awaitElement(TimeUnit.MILLISECONDS.toNanos(50));
+            }
+        }
+    }
+
+    private void write(Event event) {
+        // A bad event is reported and skipped; it must never stop the writer thread
+        try {
+            if (event.level.ordinal() >= consoleLevel.ordinal()) {
+                renderConsole(event, System.out);
+            }
+            if (ndjsonWriter != null) {
+                writeNdjson(event);
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("⚠️ Could not write " + event.type.eventName + " log event: " + e);
+        }
+    }
+
+    private void flushSinks() {
+        System.out.flush();
+        if (ndjsonWriter != null) {
+            try {
+                ndjsonWriter.flush();
+            } catch (IOException e) {
+                System.err.println("⚠️ Could not flush structured log: " + e.getMessage());
+            }
+        }
+    }
+
+    private void writeNdjson(Event event) throws IOException {
+        JsonGenerator json = JSON_FACTORY.createGenerator(ndjsonWriter);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        json.writeStartObject();
+        json.writeStringField("ts", Instant.ofEpochMilli(event.timeMillis).toString());
+        json.writeStringField("level", event.level.name());
+        json.writeStringField("event", event.type.eventName);
+        json.writeStringField("session", auditSessionId);
+        json.writeNumberField("seq", event.sequence);
+        json.writeStringField("thread", event.threadName);
+        String[] names = event.type.fieldNames;
+        for (int i = 0; i < names.length && i < event.values.length; i++) {
+            json.writeFieldName(names[i]);
+            writeJsonValue(json, event.values[i]);
+        }
+        json.writeEndObject();
+        json.close();
+        ndjsonWriter.write('\n');
+    }
+
+    private static void writeJsonValue(JsonGenerator json, Object value) throws IOException {
+        if (value == null) {
+            json.writeNull();
+        } else if (value instanceof Integer || value instanceof Long) {
+            json.writeNumber(((Number) value).longValue());
+        } else if (value instanceof Number) {
+            json.writeNumber(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            json.writeBoolean((Boolean) value);
+        } else if (value instanceof List) {
+            json.writeStartArray();
+            for (Object item : (List<?>) value) {
+                writeJsonValue(json, item);
+            }
+            json.writeEndArray();
+        } else {
+            json.writeString(value.toString());
+        }
+    }
+
+    /**
+     * Renders an event as the human-readable console block.
+     */
+    private void renderConsole(Event event, PrintStream out) {
+        Object[] v = event.values;
+        String timestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(event.timeMillis), ZoneId.systemDefault())
+                .format(TIMESTAMP_FORMAT);
+        StringBuilder block = new StringBuilder(256);
+        switch (event.type) {
+            case SESSION_START:
+                block.append("🚀 ===== MISSING ISSUES AUDIT SESSION STARTED =====\n");
+                block.append("📅 Session ID: ").append(v[0]).append('\n');
+                block.append("⏰ Start Time: ").append(((LocalDateTime) v[1]).format(TIMESTAMP_FORMAT)).append('\n');
+                block.append("🔍 Audit Engine: Enhanced Missing Issues Detection\n");
+                block.append("================================================\n");
+                break;
+            case CONFIGURATION_VALIDATION:
+                block.append("\n🔧 CONFIGURATION VALIDATION\n");
+                block.append("├─ Audit Mode: ").append(v[0]).append('\n');
+                block.append("├─ Output Directory: ").append(v[1]).append('\n');
+                block.append("├─ Use Cache: ").append(v[2]).append('\n');
+                block.append("├─ Create Missing Issues: ").append(v[3]).append('\n');
+                block.append("├─ Rate Limit Delay: ").append(v[4]).append("ms\n");
+                block.append("├─ Batch Size: ").append(v[5]).append('\n');
+                block.append("├─ Max Concurrent Creations: ").append(v[6]).append('\n');
+                if (v[7] != null) {
+                    block.append("├─ Date Range: ").append(v[7]).append('\n');
+                }
+                if (v[8] != null) {
+                    block.append("├─ Story Range: ").append(v[8]).append('\n');
+                }
+                block.append("└─ ✅ Configuration validated successfully\n");
+                break;
+            case AUDIT_START:
+                block.append("\n📊 AUDIT PROCESS INITIALIZATION\n");
+                block.append("├─ Processed Issues Count: ").append(v[0]).append('\n');
+                block.append("├─ Story Metadata Count: ").append(v[1]).append('\n');
+                block.append("├─ Issue Range: #").append(v[2]).append(" to #").append(v[3]).append('\n');
+                block.append("└─ 🔍 Starting repository scanning...\n");
+                break;
+            case API_REQUEST:
+                block.append("\n📤 API REQUEST #").append(v[0]).append('\n');
+                block.append("├─ Method: ").append(v[1]).append('\n');
+                block.append("├─ Repository: ").append(v[2]).append('\n');
+                block.append("├─ URL: ").append(v[3]).append('\n');
+                block.append("└─ Timestamp: ").append(timestamp).append('\n');
+                break;
+            case API_RESPONSE:
+                int statusCode = (Integer) v[1];
+                block.append("📥 API RESPONSE #").append(v[0]).append('\n');
+                block.append("├─ Status Code: ").append(statusCode).append('\n');
+                block.append("├─ Response Time: ").append(v[2]).append("ms\n");
+                block.append("├─ Result Count: ").append(v[3]).append('\n');
+                if (statusCode == 200) {
+                    block.append("└─ ✅ Request successful\n");
+                } else if (statusCode == 403) {
+                    block.append("└─ ⚠️ Rate limit encountered\n");
+                } else if (statusCode >= 400) {
+                    block.append("└─ ❌ Request failed\n");
+                } else {
+                    block.append("└─ ℹ️ Unexpected status code\n");
+                }
+                break;
+            case RATE_LIMIT:
+                int remaining = (Integer) v[0];
+                block.append("\n⏱️ RATE LIMIT STATUS\n");
+                block.append("├─ Remaining: ").append(remaining).append('/').append(v[1]).append('\n');
+                block.append("├─ Used: ").append(v[2]).append('\n');
+                block.append("├─ Reset Time: ").append(((LocalDateTime) v[3]).format(TIMESTAMP_FORMAT)).append('\n');
+                block.append("└─ Resource: ").append(v[4]).append('\n');
+                if (remaining < 10) {
+                    block.append("🚨 WARNING: Rate limit critically low!\n");
+                } else if (remaining < 100) {
+                    block.append("⚠️ CAUTION: Rate limit getting low\n");
+                }
+                break;
+            case ERROR:
+                block.append("\n❌ ERROR #").append(v[0]).append('\n');
+                block.append("├─ Operation: ").append(v[1]).append('\n');
+                block.append("├─ Error Type: ").append(v[2]).append('\n');
+                block.append("├─ Error Message: ").append(v[3]).append('\n');
+                block.append("├─ Context: ").append(v[4]).append('\n');
+                block.append("├─ Timestamp: ").append(timestamp).append('\n');
+                block.append("└─ Session: ").append(v[5]).append('\n');
+                if (v[6] != null) {
+                    block.append("   Caused by: ").append(v[6]).append(": ").append(v[7]).append('\n');
+                }
+                break;
+            case PROGRESS:
+                block.append("\n📈 PROGRESS UPDATE\n");
+                block.append("├─ Phase: ").append(v[0]).append('\n');
+                block.append("├─ Completed: ").append(v[1]).append('/').append(v[2]).append('\n');
+                block.append("├─ Progress: ").append(String.format("%.1f%%", (Double) v[3])).append('\n');
+                block.append("└─ Timestamp: ").append(timestamp).append('\n');
+                break;
+            case MISSING_ISSUE_DETECTION:
+                block.append("\n🔍 MISSING ISSUE DETECTION RESULTS\n");
+                block.append("├─ Frontend Missing: ").append(v[0]).append(" issues\n");
+                block.append("├─ Backend Missing: ").append(v[1]).append(" issues\n");
+                block.append("├─ Total Missing: ").append(v[2]).append(" issues\n");
+                appendSample(block, "Frontend", (Integer) v[0], (List<?>) v[3]);
+                appendSample(block, "Backend", (Integer) v[1], (List<?>) v[4]);
+                block.append("└─ ✅ Detection completed\n");
+                break;
+            case AUDIT_SUMMARY:
+                block.append("\n📊 AUDIT SUMMARY\n");
+                block.append("├─ Session ID: ").append(v[0]).append('\n');
+                block.append("├─ Duration: ").append(v[1]).append(" minutes\n");
+                block.append("├─ Total API Requests: ").append(v[2]).append('\n');
+                block.append("├─ Total Errors: ").append(v[3]).append('\n');
+                block.append("├─ Processed Stories: ").append(v[4]).append('\n');
+                block.append("├─ Missing Frontend Issues: ").append(v[5]).append('\n');
+                block.append("├─ Missing Backend Issues: ").append(v[6]).append('\n');
+                block.append("├─ Total Missing Issues: ").append(v[7]).append('\n');
+                if (v[8] != null) {
+                    block.append("├─ Frontend Issues Found: ").append(v[8]).append('\n');
+                    block.append("├─ Backend Issues Found: ").append(v[9]).append('\n');
+                }
+                block.append("└─ Audit Timestamp: ").append(((LocalDateTime) v[10]).format(TIMESTAMP_FORMAT))
+                        .append('\n');
+                break;
+            case ISSUE_CREATION:
+                block.append("\n🔨 ISSUE CREATION\n");
+                block.append("├─ Story: #").append(v[0]).append('\n');
+                block.append("├─ Title: ").append(v[1]).append('\n');
+                block.append("├─ Repository: ").append(v[2]).append('\n');
+                block.append("├─ Type: ").append(v[3]).append('\n');
+                if ((Boolean) v[4]) {
+                    block.append("└─ ✅ Issue created successfully\n");
+                } else {
+                    block.append("├─ ❌ Issue creation failed\n");
+                    block.append("└─ Error: ").append(v[5]).append('\n');
+                }
+                break;
+            case SESSION_END:
+                block.append("\n🏁 ===== MISSING ISSUES AUDIT SESSION COMPLETED =====\n");
+                block.append("📅 Session ID: ").append(v[0]).append('\n');
+                block.append("⏰ End Time: ").append(((LocalDateTime) v[1]).format(TIMESTAMP_FORMAT)).append('\n');
+                block.append("⏱️ Total Duration: ").append(v[2]).append(" minutes\n");
+                block.append("📊 Total API Requests: ").append(v[3]).append('\n');
+                block.append("❌ Total Errors: ").append(v[4]).append('\n');
+                block.append("====================================================\n");
+                break;
+            default:
+                break;
+        }
+        out.print(block);
+    }
+
+    private static void appendSample(StringBuilder block, String label, int count, List<?> sample) {
+        if (count == 0) {
+            return;
+        }
+        block.append("├─ ").append(label).append(" Missing Issues:\n");
+        for (Object entry : sample) {
+            block.append("│  • ").append(entry).append('\n');
+        }
+        if (count > sample.size()) {
+            block.append("│  ... and ").append(count - sample.size()).append(" more\n");
+        }
+    }
+
+    /**
+     * A logged event awaiting delivery.
+     */
+    private static final class Event {
+        final Level level;
+        final EventType type;
+        final long timeMillis;
+        final String threadName;
+        final Object[] values;
+        long sequence;
+
+        Event(Level level, EventType type, long timeMillis, String threadName, Object[] values) {
+            this.level = level;
+            this.type = type;
+            this.timeMillis = timeMillis;
+            this.threadName = threadName;
+            this.values = values;
+        }
+    }
+
+    public static class Builder {
+        private Level consoleLevel = Level.INFO;
+        private Level ndjsonLevel = Level.DEBUG;
+        private Path ndjsonFile;
+        private boolean async = false;
+        private int ringBufferSize = 8192;
+        private int debugSampleRate = 1;
+
+        /**
+         * Sets the lowest level printed to the console (default INFO).
+         */
+        public Builder consoleLevel(Level consoleLevel) {
+            this.consoleLevel = consoleLevel;
+            return this;
+        }
+
+        /**
+         * Writes events as NDJSON to a file, appending to it if it exists.
+         */
+        public Builder ndjsonFile(Path ndjsonFile) {
+            this.ndjsonFile = ndjsonFile;
+            return this;
+        }
+
+        /**
+         * Sets the lowest level written to the NDJSON file (default DEBUG).
+         */
+        public Builder ndjsonLevel(Level ndjsonLevel) {
+            this.ndjsonLevel = ndjsonLevel;
+            return this;
+        }
+
+        /**
+         * Writes events on a background thread instead of the calling thread.
+         */
+        public Builder async(boolean async) {
+            this.async = async;
+            return this;
+        }
+
+        /**
+         * Sets how many events can wait for the background writer before
+         * callers are held back. Rounded up to a power of two.
+         */
+        public Builder ringBufferSize(int ringBufferSize) {
+            this.ringBufferSize = ringBufferSize;
+            return this;
+        }
+
+        /**
+         * Keeps one in every N DEBUG events (default 1, keep all).
+         */
+        public Builder debugSampleRate(int debugSampleRate) {
+            this.debugSampleRate = debugSampleRate;
+            return this;
+        }
+
+        public AuditLogger build() {
+            return new AuditLogger(this);
+        }
+    }
+}
@@ -167,6 +167,26 @@ public class CacheManager {
         return Optional.empty();
     }
 
+    /**
+     * Gets when today's cache entry for a repository was written, even if it
+     * has since expired. Planning uses this to decide whether a delta refresh
+     * is cheaper than a full scan.
+     * 
+     * @param repository     Repository name
+     * @param repositoryType "frontend" or "backend"
+     * @return Optional containing the entry timestamp, empty if there is no entry
+     */
+    public Optional<LocalDateTime> getCacheTimestamp(String repository, String repositoryType) {
+        String prefix = "frontend".equals(repositoryType) ? FRONTEND_CACHE_PREFIX : BACKEND_CACHE_PREFIX;
+        return loadCacheEntry(generateCacheKey(prefix, repository),
+                new TypeReference<CacheEntry<Object>>() {
+                }).map(CacheEntry::getTimestamp);
+    }
+
+    public int getCacheExpirationHours() {
+        return cacheExpirationHours;
+    }
+
     /**
      * Invalidates all cached data by deleting cache files.
      */
@@ -2,16 +2,24 @@ package com.durion.audit;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -23,6 +31,7 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
  * - CSV reports for missing frontend and backend issues
  * - JSON summary reports with audit statistics and metadata
  * - Markdown summary reports for human readability
+ * - Optional NDJSON export of missing issues for downstream tools
  * - Timestamp-based file naming for reports
  * - Automatic directory structure creation
  * 
@@ -31,67 +40,141 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 public class DefaultReportManager implements ReportManager {
 
     private static final String CSV_HEADER = "Story Number,Story Title,Story URL,Expected Title,Target Repository,Domain";
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final int REPORT_BUFFER_SIZE = 1 << 16;
 
     private final ObjectMapper objectMapper;
     private final FileOutputManager fileOutputManager;
     private final String baseOutputDirectory;
+    private final boolean ndjsonOutput;
+    private final AtomicInteger writerThreadCounter = new AtomicInteger(0);
 
     public DefaultReportManager(String baseOutputDirectory) {
+        this(baseOutputDirectory, false);
+    }
+
+    /**
+     * Creates a report manager.
+     * 
+     * @param baseOutputDirectory Directory reports are written under
+     * @param ndjsonOutput        Whether to also write missing issues as
+     *                            newline-delimited JSON for downstream tools
+     */
+    public DefaultReportManager(String baseOutputDirectory, boolean ndjsonOutput) {
         this.baseOutputDirectory = baseOutputDirectory;
+        this.ndjsonOutput = ndjsonOutput;
         this.fileOutputManager = new FileOutputManager(baseOutputDirectory);
         this.objectMapper = new ObjectMapper();
         this.objectMapper.registerModule(new JavaTimeModule());
         this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     }
 
+    /**
+     * Generates all reports concurrently, one writer thread per report. Each
+     * report streams straight from the audit result through its own buffered
+     * writer, so no intermediate copies of the missing issues are built.
+     */
     @Override
     public List<String> generateReports(AuditResult auditResult) throws IOException {
-        List<String> generatedFiles = new ArrayList<>();
-
         // Validate disk space before generating reports
         long estimatedSize = estimateReportSize(auditResult);
         fileOutputManager.validateDiskSpace(estimatedSize);
 
         // Create output directory structure
-        fileOutputManager.createOutputDirectoryStructure(auditResult.getAuditTimestamp());
+        LocalDateTime timestamp = auditResult.getAuditTimestamp();
+        fileOutputManager.createOutputDirectoryStructure(timestamp);
 
-        // Generate CSV reports for missing issues
+        List<String> generatedFiles = new ArrayList<>();
+        List<Callable<Void>> reportWriters = new ArrayList<>();
+
+        // CSV reports for missing issues
         if (!auditResult.getMissingFrontendIssues().isEmpty()) {
-            String frontendFilename = fileOutputManager.generateTimestampedFilename(
-                    "missing-frontend", "csv", auditResult.getAuditTimestamp());
-            Path frontendCsvPath = fileOutputManager.createReportFilePath(frontendFilename,
-                    auditResult.getAuditTimestamp());
-            generateMissingFrontendCsv(auditResult.getMissingFrontendIssues(), frontendCsvPath.toString());
+            Path frontendCsvPath = reportPath("missing-frontend", "csv", timestamp);
             generatedFiles.add(frontendCsvPath.toString());
+            reportWriters.add(() -> {
+                generateMissingFrontendCsv(auditResult.getMissingFrontendIssues(), frontendCsvPath.toString());
+                return null;
+            });
         }
 
         if (!auditResult.getMissingBackendIssues().isEmpty()) {
-            String backendFilename = fileOutputManager.generateTimestampedFilename(
-                    "missing-backend", "csv", auditResult.getAuditTimestamp());
-            Path backendCsvPath = fileOutputManager.createReportFilePath(backendFilename,
-                    auditResult.getAuditTimestamp());
-            generateMissingBackendCsv(auditResult.getMissingBackendIssues(), backendCsvPath.toString());
+            Path backendCsvPath = reportPath("missing-backend", "csv", timestamp);
             generatedFiles.add(backendCsvPath.toString());
+            reportWriters.add(() -> {
+                generateMissingBackendCsv(auditResult.getMissingBackendIssues(), backendCsvPath.toString());
+                return null;
+            });
         }
 
-        // Generate JSON summary report
-        String jsonFilename = fileOutputManager.generateTimestampedFilename(
-                "audit", "json", auditResult.getAuditTimestamp());
-        Path jsonSummaryPath = fileOutputManager.createReportFilePath(jsonFilename, auditResult.getAuditTimestamp());
-        generateJsonSummary(auditResult, jsonSummaryPath.toString());
+        // JSON summary report
+        Path jsonSummaryPath = reportPath("audit", "json", timestamp);
         generatedFiles.add(jsonSummaryPath.toString());
+        reportWriters.add(() -> {
+            generateJsonSummary(auditResult, jsonSummaryPath.toString());
+            return null;
+        });
 
-        // Generate Markdown summary report
-        String markdownFilename = fileOutputManager.generateTimestampedFilename(
-                "summary", "md", auditResult.getAuditTimestamp());
-        Path markdownSummaryPath = fileOutputManager.createReportFilePath(markdownFilename,
-                auditResult.getAuditTimestamp());
-        generateMarkdownSummary(auditResult, markdownSummaryPath.toString());
+        // Markdown summary report
+        Path markdownSummaryPath = reportPath("summary", "md", timestamp);
         generatedFiles.add(markdownSummaryPath.toString());
+        reportWriters.add(() -> {
+            generateMarkdownSummary(auditResult, markdownSummaryPath.toString());
+            return null;
+        });
+
+        // Optional NDJSON export of every missing issue
+        if (ndjsonOutput) {
+            Path ndjsonPath = reportPath("missing-issues", "ndjson", timestamp);
+            generatedFiles.add(ndjsonPath.toString());
+            reportWriters.add(() -> {
+                generateNdjson(auditResult, ndjsonPath.toString());
+                return null;
+            });
+        }
+
+        runConcurrently(reportWriters);
 
+        // Index the new reports so later lookups and retention skip directory scans
+        try {
+            fileOutputManager.recordReports(generatedFiles);
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not record reports in manifest: " + e.getMessage());
+        }
         return generatedFiles;
     }
 
+    private Path reportPath(String prefix, String extension, LocalDateTime timestamp) throws IOException {
+        String filename = fileOutputManager.generateTimestampedFilename(prefix, extension, timestamp);
+        return fileOutputManager.createReportFilePath(filename, timestamp);
+    }
+
+    /**
+     * Runs the report writers on a pool with one thread per report and waits
+     * for all of them, rethrowing the first failure.
+     */
+    private void runConcurrently(List<Callable<Void>> reportWriters) throws IOException {
+        ExecutorService pool = Executors.newFixedThreadPool(reportWriters.size(), runnable -> {
+            Thread thread = new Thread(runnable, "report-writer-" + writerThreadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (Future<Void> result : pool.invokeAll(reportWriters)) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating reports", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Report generation failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
     @Override
     public void generateMissingFrontendCsv(List<MissingIssue> missingIssues, String outputPath) throws IOException {
         generateMissingIssuesCsv(missingIssues, outputPath, "Frontend");
@@ -114,20 +197,23 @@ public class DefaultReportManager implements ReportManager {
         // Ensure file is writable and create directories if needed
         fileOutputManager.ensureFileWritable(path);
 
-        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+        try (Writer writer = openReportWriter(path)) {
             // Write CSV header
             writer.write(CSV_HEADER);
-            writer.newLine();
+            writer.write(LINE_SEPARATOR);
 
             // Write missing issues data
             for (MissingIssue issue : missingIssues) {
-                writer.write(formatCsvRow(
-                        String.valueOf(issue.getStoryNumber()),
-                        escapeCsvField(issue.getStoryTitle()),
-                        issue.getStoryUrl(),
-                        escapeCsvField(issue.getExpectedTitle()),
-                        issue.getTargetRepository()));
-                writer.newLine();
+                writer.write(Integer.toString(issue.getStoryNumber()));
+                writer.write(',');
+                writeCsvField(writer, issue.getStoryTitle());
+                writer.write(',');
+                writeCsvField(writer, issue.getStoryUrl());
+                writer.write(',');
+                writeCsvField(writer, issue.getExpectedTitle());
+                writer.write(',');
+                writeCsvField(writer, issue.getTargetRepository());
+                writer.write(LINE_SEPARATOR);
             }
         }
     }
@@ -139,45 +225,90 @@ public class DefaultReportManager implements ReportManager {
         // Ensure file is writable and create directories if needed
         fileOutputManager.ensureFileWritable(path);
 
-        // Create comprehensive JSON summary with all audit data and metadata
-        Map<String, Object> summary = new HashMap<>();
-
-        // Audit metadata
-        summary.put("auditTimestamp", auditResult.getAuditTimestamp());
-        summary.put("totalProcessedStories", auditResult.getTotalProcessedStories());
-        summary.put("totalMissingIssues", auditResult.getTotalMissingIssues());
-
-        // Configuration information
-        AuditConfiguration config = auditResult.getConfiguration();
-        Map<String, Object> configData = new HashMap<>();
-        configData.put("outputDirectory", config.getOutputDirectory());
-        configData.put("auditMode", config.getAuditMode().toString());
-        configData.put("rateLimitDelayMs", config.getRateLimitDelayMs());
-        configData.put("batchSize", config.getBatchSize());
-        config.getStartDate().ifPresent(date -> configData.put("startDate", date));
-        config.getEndDate().ifPresent(date -> configData.put("endDate", date));
-        config.getStoryRangeStart().ifPresent(start -> configData.put("storyRangeStart", start));
-        config.getStoryRangeEnd().ifPresent(end -> configData.put("storyRangeEnd", end));
-        summary.put("configuration", configData);
-
-        // Statistics
-        AuditStatistics stats = auditResult.getStatistics();
-        Map<String, Object> statisticsData = new HashMap<>();
-        statisticsData.put("totalFrontendIssues", stats.getTotalFrontendIssues());
-        statisticsData.put("totalBackendIssues", stats.getTotalBackendIssues());
-        statisticsData.put("missingFrontendCount", stats.getMissingFrontendCount());
-        statisticsData.put("missingBackendCount", stats.getMissingBackendCount());
-        statisticsData.put("frontendCompletionPercentage", stats.getFrontendCompletionPercentage());
-        statisticsData.put("backendCompletionPercentage", stats.getBackendCompletionPercentage());
-        statisticsData.put("overallCompletionPercentage", stats.getOverallCompletionPercentage());
-        summary.put("statistics", statisticsData);
-
-        // Missing issues details
-        summary.put("missingFrontendIssues", convertMissingIssuesToMap(auditResult.getMissingFrontendIssues()));
-        summary.put("missingBackendIssues", convertMissingIssuesToMap(auditResult.getMissingBackendIssues()));
-
-        // Write JSON file
-        objectMapper.writeValue(path.toFile(), summary);
+        // Stream the summary with all audit data and metadata
+        try (JsonGenerator json = objectMapper.createGenerator(openReportWriter(path))) {
+            json.writeStartObject();
+
+            // Audit metadata
+            json.writeObjectField("auditTimestamp", auditResult.getAuditTimestamp());
+            json.writeNumberField("totalProcessedStories", auditResult.getTotalProcessedStories());
+            json.writeNumberField("totalMissingIssues", auditResult.getTotalMissingIssues());
+
+            // Configuration information
+            AuditConfiguration config = auditResult.getConfiguration();
+            json.writeObjectFieldStart("configuration");
+            json.writeStringField("outputDirectory", config.getOutputDirectory());
+            json.writeStringField("auditMode", config.getAuditMode().toString());
+            json.writeNumberField("rateLimitDelayMs", config.getRateLimitDelayMs());
+            json.writeNumberField("batchSize", config.getBatchSize());
+            if (config.getStartDate().isPresent()) {
+                json.writeObjectField("startDate", config.getStartDate().get());
+            }
+            if (config.getEndDate().isPresent()) {
+                json.writeObjectField("endDate", config.getEndDate().get());
+            }
+            if (config.getStoryRangeStart().isPresent()) {
+                json.writeNumberField("storyRangeStart", config.getStoryRangeStart().get());
+            }
+            if (config.getStoryRangeEnd().isPresent()) {
+                json.writeNumberField("storyRangeEnd", config.getStoryRangeEnd().get());
+            }
+            json.writeEndObject();
+
+            // Statistics
+            AuditStatistics stats = auditResult.getStatistics();
+            json.writeObjectFieldStart("statistics");
+            json.writeNumberField("totalFrontendIssues", stats.getTotalFrontendIssues());
+            json.writeNumberField("totalBackendIssues", stats.getTotalBackendIssues());
+            json.writeNumberField("missingFrontendCount", stats.getMissingFrontendCount());
+            json.writeNumberField("missingBackendCount", stats.getMissingBackendCount());
+            json.writeNumberField("frontendCompletionPercentage", stats.getFrontendCompletionPercentage());
+            json.writeNumberField("backendCompletionPercentage", stats.getBackendCompletionPercentage());
+            json.writeNumberField("overallCompletionPercentage", stats.getOverallCompletionPercentage());
+            json.writeEndObject();
+
+            // Missing issues details
+            json.writeArrayFieldStart("missingFrontendIssues");
+            for (MissingIssue issue : auditResult.getMissingFrontendIssues()) {
+                writeMissingIssue(json, issue);
+            }
+            json.writeEndArray();
+
+            json.writeArrayFieldStart("missingBackendIssues");
+            for (MissingIssue issue : auditResult.getMissingBackendIssues()) {
+                writeMissingIssue(json, issue);
+            }
+            json.writeEndArray();
+
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * Generates a newline-delimited JSON report with one missing issue per
+     * line, frontend issues first.
+     * 
+     * @param auditResult The complete audit result
+     * @param outputPath  Path where the NDJSON file should be saved
+     * @throws IOException if NDJSON generation fails
+     */
+    public void generateNdjson(AuditResult auditResult, String outputPath) throws IOException {
+        Path path = Paths.get(outputPath);
+
+        // Ensure file is writable and create directories if needed
+        fileOutputManager.ensureFileWritable(path);
+
+        try (JsonGenerator json = objectMapper.createGenerator(openReportWriter(path))) {
+            json.setRootValueSeparator(null);
+            for (MissingIssue issue : auditResult.getMissingFrontendIssues()) {
+                writeMissingIssue(json, issue);
+                json.writeRaw('\n');
+            }
+            for (MissingIssue issue : auditResult.getMissingBackendIssues()) {
+                writeMissingIssue(json, issue);
+                json.writeRaw('\n');
+            }
+        }
     }
 
     @Override
@@ -187,7 +318,7 @@ public class DefaultReportManager implements ReportManager {
         // Ensure file is writable and create directories if needed
         fileOutputManager.ensureFileWritable(path);
 
-        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+        try (BufferedWriter writer = openReportWriter(path)) {
             AuditStatistics stats = auditResult.getStatistics();
 
             // Write markdown header
@@ -240,16 +371,7 @@ public class DefaultReportManager implements ReportManager {
                 writer.newLine();
 
                 for (MissingIssue issue : auditResult.getMissingFrontendIssues()) {
-                    writer.write(String.format("- **Story #%d**: [%s](%s)",
-                            issue.getStoryNumber(),
-                            issue.getStoryTitle(),
-                            issue.getStoryUrl()));
-                    writer.newLine();
-                    writer.write(String.format("  - **Expected Title**: %s", issue.getExpectedTitle()));
-                    writer.newLine();
-                    writer.write(String.format("  - **Repository**: %s", issue.getTargetRepository()));
-                    writer.newLine();
-                    writer.newLine();
+                    writeMarkdownIssue(writer, issue);
                 }
             }
 
@@ -260,16 +382,7 @@ public class DefaultReportManager implements ReportManager {
                 writer.newLine();
 
                 for (MissingIssue issue : auditResult.getMissingBackendIssues()) {
-                    writer.write(String.format("- **Story #%d**: [%s](%s)",
-                            issue.getStoryNumber(),
-                            issue.getStoryTitle(),
-                            issue.getStoryUrl()));
-                    writer.newLine();
-                    writer.write(String.format("  - **Expected Title**: %s", issue.getExpectedTitle()));
-                    writer.newLine();
-                    writer.write(String.format("  - **Repository**: %s", issue.getTargetRepository()));
-                    writer.newLine();
-                    writer.newLine();
+                    writeMarkdownIssue(writer, issue);
                 }
             }
 
@@ -306,6 +419,49 @@ public class DefaultReportManager implements ReportManager {
         }
     }
 
+    /**
+     * Writes one missing issue as a Markdown list entry.
+     */
+    private void writeMarkdownIssue(BufferedWriter writer, MissingIssue issue) throws IOException {
+        writer.write("- **Story #");
+        writer.write(Integer.toString(issue.getStoryNumber()));
+        writer.write("**: [");
+        writer.write(String.valueOf(issue.getStoryTitle()));
+        writer.write("](");
+        writer.write(String.valueOf(issue.getStoryUrl()));
+        writer.write(")");
+        writer.newLine();
+        writer.write("  - **Expected Title**: ");
+        writer.write(String.valueOf(issue.getExpectedTitle()));
+        writer.newLine();
+        writer.write("  - **Repository**: ");
+        writer.write(String.valueOf(issue.getTargetRepository()));
+        writer.newLine();
+        writer.newLine();
+    }
+
+    /**
+     * Writes one missing issue as a JSON object.
+     */
+    private void writeMissingIssue(JsonGenerator json, MissingIssue issue) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("storyNumber", issue.getStoryNumber());
+        json.writeStringField("storyTitle", issue.getStoryTitle());
+        json.writeStringField("storyUrl", issue.getStoryUrl());
+        json.writeStringField("repositoryType", issue.getRepositoryType());
+        json.writeStringField("targetRepository", issue.getTargetRepository());
+        json.writeStringField("expectedTitle", issue.getExpectedTitle());
+        json.writeEndObject();
+    }
+
+    /**
+     * Opens a UTF-8 writer with a buffer sized for large reports.
+     */
+    private BufferedWriter openReportWriter(Path path) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(path), StandardCharsets.UTF_8),
+                REPORT_BUFFER_SIZE);
+    }
+
     @Override
     public void updateReportsAfterIssueCreation(List<String> reportPaths, List<Object> createdIssues)
             throws IOException {
@@ -355,46 +511,21 @@ public class DefaultReportManager implements ReportManager {
     }
 
     /**
-     * Converts MissingIssue objects to Map for JSON serialization.
-     */
-    private List<Map<String, Object>> convertMissingIssuesToMap(List<MissingIssue> missingIssues) {
-        List<Map<String, Object>> issuesList = new ArrayList<>();
-
-        for (MissingIssue issue : missingIssues) {
-            Map<String, Object> issueMap = new HashMap<>();
-            issueMap.put("storyNumber", issue.getStoryNumber());
-            issueMap.put("storyTitle", issue.getStoryTitle());
-            issueMap.put("storyUrl", issue.getStoryUrl());
-            issueMap.put("repositoryType", issue.getRepositoryType());
-            issueMap.put("targetRepository", issue.getTargetRepository());
-            issueMap.put("expectedTitle", issue.getExpectedTitle());
-            issuesList.add(issueMap);
-        }
-
-        return issuesList;
-    }
-
-    /**
-     * Formats a CSV row with proper escaping.
+     * Writes a CSV field, wrapping it in quotes and escaping internal quotes
+     * when it contains a comma, quote, or newline.
      */
-    private String formatCsvRow(String... fields) {
-        return String.join(",", fields);
-    }
-
-    /**
-     * Escapes CSV field content by wrapping in quotes and escaping internal quotes.
-     */
-    private String escapeCsvField(String field) {
+    private void writeCsvField(Writer writer, String field) throws IOException {
         if (field == null) {
-            return "";
+            return;
         }
 
-        // If field contains comma, quote, or newline, wrap in quotes and escape
-        // internal quotes
-        if (field.contains(",") || field.contains("\"") || field.contains("\n") || field.contains("\r")) {
-            return "\"" + field.replace("\"", "\"\"") + "\"";
+        if (field.indexOf(',') >= 0 || field.indexOf('"') >= 0 || field.indexOf('\n') >= 0
+                || field.indexOf('\r') >= 0) {
+            writer.write('"');
+            writer.write(field.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(field);
         }
-
-        return field;
     }
-}
\ No newline at end of file
+}
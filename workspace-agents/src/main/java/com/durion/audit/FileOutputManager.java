@@ -1,6 +1,7 @@
 package com.durion.audit;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -8,7 +9,10 @@ import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Manages file output operations for the audit system.
@@ -17,6 +21,8 @@ import java.util.Set;
  * - Creating missing-issues directory structure automatically
  * - Timestamp-based file naming for reports
  * - Proper file permissions and error handling
+ * - A manifest of generated reports, so lookups never scan the directory
+ * - Background retention (compression, archival, age and size limits)
  * 
  * Requirements: 2.5 - Report output location consistency
  */
@@ -183,9 +189,71 @@ public class FileOutputManager {
         return Paths.get(baseOutputDirectory).resolve(AUDIT_CACHE_DIR);
     }
     
+    /**
+     * Gets the manifest of reports in the missing-issues directory, opening it
+     * on first use.
+     * 
+     * @return The report manifest
+     * @throws IOException if the manifest cannot be read or created
+     */
+    public ReportManifest getReportManifest() throws IOException {
+        return ReportManifest.open(getMissingIssuesDirectory());
+    }
+    
+    /**
+     * Records newly generated reports in the manifest.
+     * 
+     * @param reportPaths Paths to the generated reports
+     * @throws IOException if the manifest cannot be updated
+     */
+    public void recordReports(List<String> reportPaths) throws IOException {
+        List<Path> reports = new ArrayList<>();
+        for (String reportPath : reportPaths) {
+            reports.add(Paths.get(reportPath));
+        }
+        getReportManifest().recordAll(reports);
+    }
+    
+    /**
+     * Finds reports by name prefix using the manifest.
+     * 
+     * @param prefix Report name prefix (e.g., "audit-", "summary-")
+     * @return Matching reports, newest first, whether live or archived
+     * @throws IOException if the manifest cannot be read
+     */
+    public List<ReportManifest.Entry> findReports(String prefix) throws IOException {
+        return getReportManifest().find(prefix);
+    }
+    
+    /**
+     * Opens a report by name, decompressing it from its archive if needed.
+     * 
+     * @param reportName The report's file name
+     * @return Stream over the report's content
+     * @throws IOException if the report is unknown or cannot be read
+     */
+    public InputStream openReport(String reportName) throws IOException {
+        return getReportManifest().openReport(reportName);
+    }
+    
+    /**
+     * Creates a retention service for the missing-issues directory.
+     * The caller starts and closes it.
+     * 
+     * @param policy Age and size limits to enforce
+     * @return The retention service
+     * @throws IOException if the manifest cannot be read or created
+     */
+    public ReportRetentionService createRetentionService(ReportRetentionService.RetentionPolicy policy)
+            throws IOException {
+        return new ReportRetentionService(getReportManifest(), policy, logger);
+    }
+    
     /**
      * Cleans up old report files based on age.
-     * Removes files older than the specified number of days.
+     * Removes files older than the specified number of days, including files
+     * not yet in the manifest. Prefer {@link ReportRetentionService} for
+     * routine retention.
      * 
      * @param maxAgeInDays Maximum age of files to keep
      * @throws IOException if cleanup fails
@@ -198,26 +266,32 @@ public class FileOutputManager {
         }
         
         LocalDateTime cutoffTime = LocalDateTime.now().minusDays(maxAgeInDays);
+        ReportManifest manifest = getReportManifest();
         
-        Files.list(missingIssuesDir)
-            .filter(Files::isRegularFile)
-            .filter(path -> {
-                try {
-                    return Files.getLastModifiedTime(path).toInstant()
-                        .isBefore(cutoffTime.atZone(java.time.ZoneId.systemDefault()).toInstant());
-                } catch (IOException e) {
-                    logger.logError("File Cleanup", e, "Failed to check file modification time: " + path);
-                    return false;
-                }
-            })
-            .forEach(path -> {
-                try {
-                    Files.delete(path);
-                    logger.logProgress("Deleted old report file: " + path.getFileName(), 0, 1);
-                } catch (IOException e) {
-                    logger.logError("File Cleanup", e, "Failed to delete old report file: " + path);
-                }
-            });
+        try (Stream<Path> files = Files.list(missingIssuesDir)) {
+            files
+                .filter(Files::isRegularFile)
+                .filter(path -> !path.getFileName().toString().startsWith(ReportManifest.MANIFEST_FILE))
+                .filter(path -> {
+                    try {
+                        return Files.getLastModifiedTime(path).toInstant()
+                            .isBefore(cutoffTime.atZone(java.time.ZoneId.systemDefault()).toInstant());
+                    } catch (IOException e) {
+                        logger.logError("File Cleanup", e, "Failed to check file modification time: " + path);
+                        return false;
+                    }
+                })
+                .forEach(path -> {
+                    try {
+                        Files.delete(path);
+                        manifest.forget(path.getFileName().toString());
+                        logger.logProgress("Deleted old report file: " + path.getFileName(), 0, 1);
+                    } catch (IOException e) {
+                        logger.logError("File Cleanup", e, "Failed to delete old report file: " + path);
+                    }
+                });
+        }
+        manifest.save();
     }
     
     /**
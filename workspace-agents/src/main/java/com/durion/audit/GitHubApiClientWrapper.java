@@ -1,15 +1,25 @@
 package com.durion.audit;
 
 import com.durion.GitHubApiClientSSLBypass;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Map;
 
 /**
  * Wrapper class to provide a clean interface to GitHubApiClientSSLBypass for the audit package.
  * Converts between the SSL bypass client's types and the audit system's interfaces.
  */
-public class GitHubApiClientWrapper {
+public class GitHubApiClientWrapper implements GitHubBudgetProbe {
+    
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     
     private final GitHubApiClientSSLBypass sslBypassClient;
     
@@ -46,6 +56,35 @@ public class GitHubApiClientWrapper {
         sslBypassClient.checkRateLimitAndWait();
     }
     
+    /**
+     * Gets the status of every rate limit bucket from the /rate_limit endpoint,
+     * which does not itself count against the limits.
+     */
+    @Override
+    public Map<String, RateLimitInfo> getRateLimits() throws IOException, InterruptedException {
+        JsonNode resources = OBJECT_MAPPER.readTree(sslBypassClient.fetchRateLimitStatus()).path("resources");
+        
+        Map<String, RateLimitInfo> rateLimits = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = resources.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode bucket = field.getValue();
+            LocalDateTime resetTime = LocalDateTime.ofInstant(
+                Instant.ofEpochSecond(bucket.path("reset").asLong()), ZoneId.systemDefault());
+            rateLimits.put(field.getKey(), new RateLimitInfo(bucket.path("limit").asInt(),
+                bucket.path("remaining").asInt(), bucket.path("used").asInt(), resetTime, field.getKey()));
+        }
+        return rateLimits;
+    }
+    
+    /**
+     * Counts search results with a single one-item page.
+     */
+    @Override
+    public int countSearchResults(String searchQuery) throws IOException, InterruptedException {
+        return sslBypassClient.probeSearchTotalCount(searchQuery);
+    }
+    
     /**
      * Wrapper class for GitHubIssue objects from the SSL bypass client.
      */
@@ -0,0 +1,32 @@
+package com.durion.audit;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Read-only view of the GitHub API budget used for planning.
+ * Implementations only issue cheap read requests; nothing is created or
+ * modified.
+ */
+public interface GitHubBudgetProbe {
+
+    /**
+     * Gets the current rate limit status of every resource bucket.
+     *
+     * @return Rate limit information keyed by resource name (core, search, ...)
+     * @throws IOException if the status cannot be fetched
+     * @throws InterruptedException if the operation is interrupted
+     */
+    Map<String, RateLimitInfo> getRateLimits() throws IOException, InterruptedException;
+
+    /**
+     * Counts the results of a search query without paging through them.
+     * Each call costs one search request.
+     *
+     * @param searchQuery The issue search query
+     * @return The total result count, or -1 if the search failed
+     * @throws IOException if the search fails
+     * @throws InterruptedException if the operation is interrupted
+     */
+    int countSearchResults(String searchQuery) throws IOException, InterruptedException;
+}
@@ -2,6 +2,7 @@ package com.durion.audit;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Interface for creating GitHub issues in target repositories.
@@ -22,4 +23,19 @@ public interface GitHubIssueCreator {
      */
     GitHubIssue createIssue(String repository, String title, String body, List<String> labels) 
             throws IOException, InterruptedException;
-}
\ No newline at end of file
+    
+    /**
+     * Looks up an issue previously created with the given dedupe key embedded in
+     * its body. Used before retrying a creation whose outcome is unknown.
+     * 
+     * @param repository The target repository (e.g., "owner/repo")
+     * @param dedupeKey The dedupe key embedded in the issue body
+     * @return The existing issue, or empty if none was found
+     * @throws IOException if the lookup fails
+     * @throws InterruptedException if the operation is interrupted
+     */
+    default Optional<GitHubIssue> findIssueByDedupeKey(String repository, String dedupeKey)
+            throws IOException, InterruptedException {
+        return Optional.empty();
+    }
+}
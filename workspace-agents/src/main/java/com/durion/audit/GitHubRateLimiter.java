@@ -6,6 +6,8 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import com.durion.core.GitHubRequestMetrics;
+
 /**
  * Comprehensive rate limiting and retry logic for GitHub API requests.
  * 
@@ -29,6 +31,7 @@ public class GitHubRateLimiter {
     // Operation tracking
     private final AtomicInteger operationCount = new AtomicInteger(0);
     private volatile RateLimitInfo lastKnownRateLimit;
+    private final GitHubRequestMetrics requestMetrics = new GitHubRequestMetrics();
     
     /**
      * Applies rate limiting delays before making a request.
@@ -68,6 +71,7 @@ public class GitHubRateLimiter {
     public boolean processResponse(HttpResponse<String> response) throws InterruptedException {
         // Extract and update rate limit information from headers
         updateRateLimitFromHeaders(response);
+        requestMetrics.recordRateLimit(response);
         
         // Handle rate limit errors
         if (response.statusCode() == 403) {
@@ -213,6 +217,13 @@ public class GitHubRateLimiter {
         return lastKnownRateLimit;
     }
     
+    /**
+     * Gets the rate-limit headroom per resource for metrics export.
+     */
+    public GitHubRequestMetrics getRequestMetrics() {
+        return requestMetrics;
+    }
+    
     /**
      * Gets the current operation count.
      */
@@ -0,0 +1,299 @@
+package com.durion.audit;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local ledger of issue creation attempts, keyed by a deterministic dedupe key.
+ *
+ * Every creation derives its key from the story number and target repository.
+ * The key is recorded as PENDING before the POST and as CREATED once GitHub
+ * returns the new issue, and it is embedded in the issue body. A definitive
+ * rejection, such as a 422, is recorded as FAILED. A retry can therefore tell
+ * "never created" apart from "sent, outcome unknown" and only spends a lookup
+ * on the latter.
+ *
+ * The ledger file is append-only tab-separated text; the last line for a key
+ * wins when it is loaded. Without a file the ledger lives in memory only.
+ */
+public class IssueCreationLedger {
+
+    public static final String DEFAULT_LEDGER_FILE = "issue-creation-ledger.tsv";
+    private static final String KEY_PREFIX = "durion-";
+
+    /**
+     * Lifecycle of a ledger entry.
+     */
+    public enum State {
+        PENDING,
+        CREATED,
+        /** GitHub answered and did not create the issue; safe to create again */
+        FAILED
+    }
+
+    private final Path ledgerFile;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an in-memory ledger that is not persisted.
+     */
+    public IssueCreationLedger() {
+        this.ledgerFile = null;
+    }
+
+    /**
+     * Creates a ledger backed by the given file, loading any existing entries.
+     *
+     * @param ledgerFile Path of the append-only ledger file
+     * @throws IOException if the existing ledger cannot be read
+     */
+    public IssueCreationLedger(Path ledgerFile) throws IOException {
+        this.ledgerFile = ledgerFile;
+        load();
+    }
+
+    /**
+     * Derives the deterministic dedupe key for a story in a target repository.
+     * The key is a single hex token so it can be matched exactly in an issue
+     * body.
+     *
+     * @param storyNumber The story issue number
+     * @param repository  The target repository (owner/repo)
+     * @return Dedupe key such as {@code durion-3f2a9c1b7e4d5a60}
+     */
+    public static String dedupeKey(int storyNumber, String repository) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((repository + "#" + storyNumber).getBytes(StandardCharsets.UTF_8));
+            StringBuilder key = new StringBuilder(KEY_PREFIX);
+            for (int i = 0; i < 8; i++) {
+                key.append(String.format("%02x", hash[i]));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Gets the ledger entry for a dedupe key.
+     */
+    public Optional<Entry> get(String dedupeKey) {
+        return Optional.ofNullable(entries.get(dedupeKey));
+    }
+
+    /**
+     * Gets the issue recorded as created for a dedupe key, if any.
+     */
+    public Optional<GitHubIssue> getCreatedIssue(String dedupeKey) {
+        Entry entry = entries.get(dedupeKey);
+        if (entry == null || entry.getState() != State.CREATED) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.toGitHubIssue());
+    }
+
+    /**
+     * Checks whether a creation was sent for this key without a confirmed
+     * outcome.
+     */
+    public boolean isPending(String dedupeKey) {
+        Entry entry = entries.get(dedupeKey);
+        return entry != null && entry.getState() == State.PENDING;
+    }
+
+    /**
+     * Records that a creation request is about to be sent.
+     */
+    public void recordPending(String dedupeKey, int storyNumber, String repository) throws IOException {
+        record(new Entry(dedupeKey, State.PENDING, storyNumber, repository, 0, "", ""));
+    }
+
+    /**
+     * Records that an issue exists for the key.
+     */
+    public void recordCreated(String dedupeKey, int storyNumber, String repository, GitHubIssue issue)
+            throws IOException {
+        record(new Entry(dedupeKey, State.CREATED, storyNumber, repository,
+                issue.getNumber(), issue.getUrl(), issue.getTitle()));
+    }
+
+    /**
+     * Records that GitHub definitively rejected the creation, so no issue
+     * exists for the key and the next attempt needs no lookup.
+     *
+     * @param reason Short description of the rejection, kept in the title column
+     */
+    public void recordFailed(String dedupeKey, int storyNumber, String repository, String reason)
+            throws IOException {
+        record(new Entry(dedupeKey, State.FAILED, storyNumber, repository, 0, "", reason));
+    }
+
+    /**
+     * Gets the number of keys tracked by the ledger.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public Optional<Path> getLedgerFile() {
+        return Optional.ofNullable(ledgerFile);
+    }
+
+    private void record(Entry entry) throws IOException {
+        entries.put(entry.getDedupeKey(), entry);
+        if (ledgerFile == null) {
+            return;
+        }
+        synchronized (this) {
+            Path parent = ledgerFile.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(ledgerFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(entry.toLine());
+                writer.newLine();
+            }
+        }
+    }
+
+    private void load() throws IOException {
+        if (!Files.exists(ledgerFile)) {
+            return;
+        }
+        List<String> lines = Files.readAllLines(ledgerFile, StandardCharsets.UTF_8);
+        for (String line : lines) {
+            Entry entry = Entry.fromLine(line);
+            if (entry != null) {
+                entries.put(entry.getDedupeKey(), entry);
+            }
+        }
+    }
+
+    /**
+     * A single ledger record.
+     */
+    public static class Entry {
+        private final String dedupeKey;
+        private final State state;
+        private final int storyNumber;
+        private final String repository;
+        private final int issueNumber;
+        private final String issueUrl;
+        private final String issueTitle;
+
+        public Entry(String dedupeKey, State state, int storyNumber, String repository,
+                int issueNumber, String issueUrl, String issueTitle) {
+            this.dedupeKey = dedupeKey;
+            this.state = state;
+            this.storyNumber = storyNumber;
+            this.repository = repository;
+            this.issueNumber = issueNumber;
+            this.issueUrl = issueUrl;
+            this.issueTitle = issueTitle;
+        }
+
+        public String getDedupeKey() {
+            return dedupeKey;
+        }
+
+        public State getState() {
+            return state;
+        }
+
+        public int getStoryNumber() {
+            return storyNumber;
+        }
+
+        public String getRepository() {
+            return repository;
+        }
+
+        public int getIssueNumber() {
+            return issueNumber;
+        }
+
+        public String getIssueUrl() {
+            return issueUrl;
+        }
+
+        public String getIssueTitle() {
+            return issueTitle;
+        }
+
+        String toLine() {
+            return String.join("\t", dedupeKey, state.name(), String.valueOf(storyNumber), repository,
+                    String.valueOf(issueNumber), sanitize(issueUrl), sanitize(issueTitle),
+                    LocalDateTime.now().toString());
+        }
+
+        static Entry fromLine(String line) {
+            String[] fields = line.split("\t", -1);
+            if (fields.length < 7) {
+                return null;
+            }
+            try {
+                return new Entry(fields[0], State.valueOf(fields[1]), Integer.parseInt(fields[2]), fields[3],
+                        Integer.parseInt(fields[4]), fields[5], fields[6]);
+            } catch (IllegalArgumentException e) {
+                return null; // Skip malformed lines rather than failing the whole ledger
+            }
+        }
+
+        private static String sanitize(String value) {
+            return value == null ? "" : value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+        }
+
+        GitHubIssue toGitHubIssue() {
+            return new GitHubIssue() {
+                @Override
+                public int getNumber() {
+                    return issueNumber;
+                }
+
+                @Override
+                public String getTitle() {
+                    return issueTitle;
+                }
+
+                @Override
+                public String getBody() {
+                    return "";
+                }
+
+                @Override
+                public String getUrl() {
+                    return issueUrl;
+                }
+
+                @Override
+                public List<String> getLabels() {
+                    return List.of();
+                }
+
+                @Override
+                public String toString() {
+                    return String.format("Issue #%d: %s (%s)", issueNumber, issueTitle, issueUrl);
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Entry{key='%s', state=%s, story=%d, repo='%s', issue=%d}",
+                    dedupeKey, state, storyNumber, repository, issueNumber);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.durion.audit;
+
+import com.durion.GitHubApiClientSSLBypass;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded-concurrency scheduler for GitHub issue creation.
+ *
+ * GitHub's content-creation secondary limits (roughly 80 writes per minute)
+ * make unbounded parallelism counter-productive, while strictly serial
+ * creation with fixed sleeps leaves most of that budget unused. This scheduler:
+ * - runs up to {@code maxConcurrency} creations at once, so frontend and
+ * backend issues are created side by side
+ * - spaces request starts through one shared, adaptive interval: it grows
+ * multiplicatively on a rate limit and shrinks additively on success
+ * - pauses every worker until the server-provided Retry-After has elapsed
+ * - computes jittered exponential backoff for transient failures
+ */
+public class IssueCreationScheduler {
+
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+    public static final long DEFAULT_INITIAL_INTERVAL_MS = 1000;
+
+    // 800ms caps sustained throughput at 75 content-creating requests per
+    // minute, under GitHub's limit of 80
+    public static final long MIN_INTERVAL_MS = 800;
+    public static final long MAX_INTERVAL_MS = 30000;
+    private static final long INTERVAL_DECREASE_STEP_MS = 50;
+    private static final long BACKOFF_BASE_MS = 1000;
+    private static final long BACKOFF_CAP_MS = 60000;
+    private static final long RATE_LIMIT_FALLBACK_MS = 60000;
+
+    private final int maxConcurrency;
+    private final long minIntervalMs;
+
+    // Pacing state, guarded by pacingLock
+    private final Object pacingLock = new Object();
+    private long intervalMs;
+    private long nextSlotMillis;
+    private long pausedUntilMillis;
+
+    private final AtomicInteger rateLimitHits = new AtomicInteger(0);
+    private final AtomicInteger threadCounter = new AtomicInteger(0);
+
+    public IssueCreationScheduler() {
+        this(DEFAULT_MAX_CONCURRENCY, DEFAULT_INITIAL_INTERVAL_MS);
+    }
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param maxConcurrency    Maximum number of creations in flight at once
+     * @param initialIntervalMs Initial spacing between request starts; the
+     *                          scheduler adapts it between 800ms and 30s, so a
+     *                          shorter delay is raised to 800ms
+     */
+    public IssueCreationScheduler(int maxConcurrency, long initialIntervalMs) {
+        this(maxConcurrency, initialIntervalMs, MIN_INTERVAL_MS);
+    }
+
+    /**
+     * Creates a scheduler with a custom interval floor, for tests that must
+     * not wait on the content-creation limit.
+     */
+    IssueCreationScheduler(int maxConcurrency, long initialIntervalMs, long minIntervalMs) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be at least 1");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.minIntervalMs = Math.max(0, minIntervalMs);
+        this.intervalMs = Math.max(minIntervalMs, Math.min(initialIntervalMs, MAX_INTERVAL_MS));
+    }
+
+    /**
+     * Creates a scheduler using the concurrency cap and delay from the audit
+     * configuration.
+     */
+    public static IssueCreationScheduler fromConfiguration(AuditConfiguration configuration) {
+        return new IssueCreationScheduler(configuration.getMaxConcurrentCreations(),
+                configuration.getRateLimitDelayMs());
+    }
+
+    /**
+     * Blocks until the calling worker may start its next request. Slots are
+     * handed out in order, one interval apart, and never before an active
+     * rate-limit pause has expired.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void awaitSlot() throws InterruptedException {
+        long waitMs;
+        synchronized (pacingLock) {
+            long now = System.currentTimeMillis();
+            long slot = Math.max(now, Math.max(nextSlotMillis, pausedUntilMillis));
+            nextSlotMillis = slot + intervalMs;
+            waitMs = slot - now;
+        }
+        if (waitMs > 0) {
+            Thread.sleep(waitMs);
+        }
+    }
+
+    /**
+     * Records a successful creation, tightening the pacing interval.
+     */
+    public void recordSuccess() {
+        synchronized (pacingLock) {
+            intervalMs = Math.max(minIntervalMs, intervalMs - INTERVAL_DECREASE_STEP_MS);
+        }
+    }
+
+    /**
+     * Records a rate-limit rejection. Doubles the pacing interval and pauses all
+     * workers until Retry-After has elapsed (or a jittered fallback when GitHub
+     * did not send one).
+     *
+     * @param error   The rate-limit error
+     * @param attempt The attempt number that failed (1-based)
+     * @return How long all workers are paused, in milliseconds
+     */
+    public long recordRateLimit(IOException error, int attempt) {
+        rateLimitHits.incrementAndGet();
+
+        long retryAfterMs = retryAfterMillis(error);
+        long pauseMs = retryAfterMs >= 0
+                ? retryAfterMs
+                : RATE_LIMIT_FALLBACK_MS + ThreadLocalRandom.current().nextLong(BACKOFF_BASE_MS * attempt + 1);
+
+        synchronized (pacingLock) {
+            intervalMs = Math.min(MAX_INTERVAL_MS, Math.max(intervalMs * 2, minIntervalMs));
+            pausedUntilMillis = Math.max(pausedUntilMillis, System.currentTimeMillis() + pauseMs);
+        }
+        return pauseMs;
+    }
+
+    /**
+     * Calculates a jittered exponential backoff for transient failures: half of
+     * the exponential delay is fixed and the other half is random, so retries
+     * from concurrent workers spread out.
+     *
+     * @param attempt The attempt number that failed (1-based)
+     * @return Delay before the next attempt, in milliseconds
+     */
+    public long backoffDelayMs(int attempt) {
+        int exponent = Math.min(Math.max(attempt - 1, 0), 16);
+        long ceiling = Math.min(BACKOFF_CAP_MS, BACKOFF_BASE_MS << exponent);
+        long half = ceiling / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    /**
+     * Runs the given creation tasks with at most {@code maxConcurrency} in
+     * flight and waits for all of them to finish.
+     *
+     * @param tasks Tasks to run
+     * @return Futures in the same order as the tasks, all completed
+     * @throws InterruptedException if interrupted while waiting; outstanding
+     *                              tasks are cancelled
+     */
+    public <T> List<Future<T>> invokeAll(List<? extends Callable<T>> tasks) throws InterruptedException {
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(maxConcurrency, tasks.size()),
+                creationThreadFactory());
+        try {
+            return pool.invokeAll(tasks);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private ThreadFactory creationThreadFactory() {
+        return runnable -> {
+            Thread thread = new Thread(runnable, "issue-creator-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Extracts the server-requested Retry-After from a rate-limit error.
+     *
+     * @return Milliseconds to wait, or -1 when the error carries no hint
+     */
+    private long retryAfterMillis(IOException error) {
+        if (error instanceof GitHubApiClientSSLBypass.RateLimitExceededException) {
+            return ((GitHubApiClientSSLBypass.RateLimitExceededException) error).getRetryAfterMillis();
+        }
+        return -1;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public long getCurrentIntervalMs() {
+        synchronized (pacingLock) {
+            return intervalMs;
+        }
+    }
+
+    public int getRateLimitHits() {
+        return rateLimitHits.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("IssueCreationScheduler{maxConcurrency=%d, intervalMs=%d, rateLimitHits=%d}",
+                maxConcurrency, getCurrentIntervalMs(), getRateLimitHits());
+    }
+}
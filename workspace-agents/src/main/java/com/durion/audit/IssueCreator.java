@@ -4,7 +4,14 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Automated GitHub Issue Creator for Missing Issues Audit System
@@ -18,6 +25,8 @@ public class IssueCreator {
 
     private final GitHubIssueCreator githubIssueCreator;
     private final AuditLogger logger;
+    private final IssueCreationScheduler scheduler;
+    private final IssueCreationLedger ledger;
 
     // Repository configuration
     private static final String FRONTEND_REPO = "louisburroughs/durion-moqui-frontend";
@@ -66,11 +75,24 @@ public class IssueCreator {
 
             ---
             *Generated by Missing Issues Audit System - {timestamp}*
+            *Dedupe key: `{dedupeKey}`*
             """;
 
     public IssueCreator(GitHubIssueCreator githubIssueCreator, AuditLogger logger) {
+        this(githubIssueCreator, logger, new IssueCreationScheduler());
+    }
+
+    public IssueCreator(GitHubIssueCreator githubIssueCreator, AuditLogger logger,
+            IssueCreationScheduler scheduler) {
+        this(githubIssueCreator, logger, scheduler, new IssueCreationLedger());
+    }
+
+    public IssueCreator(GitHubIssueCreator githubIssueCreator, AuditLogger logger,
+            IssueCreationScheduler scheduler, IssueCreationLedger ledger) {
         this.githubIssueCreator = githubIssueCreator;
         this.logger = logger;
+        this.scheduler = scheduler;
+        this.ledger = ledger;
     }
 
     /**
@@ -86,12 +108,8 @@ public class IssueCreator {
 
         System.out.println("Creating frontend issue for story #" + missingIssue.getStoryNumber());
 
-        String title = formatIssueTitle(missingIssue, "FRONTEND");
-        String body = formatIssueBody(missingIssue, "frontend");
-        List<String> labels = generateLabels(missingIssue, "frontend");
-
         try {
-            GitHubIssue createdIssue = githubIssueCreator.createIssue(FRONTEND_REPO, title, body, labels);
+            GitHubIssue createdIssue = createIdempotently(missingIssue, FRONTEND_REPO, "FRONTEND", "frontend");
             System.out.println("Successfully created frontend issue: " + createdIssue.getUrl());
             logger.logIssueCreation(missingIssue, true, null);
             return createdIssue;
@@ -116,12 +134,8 @@ public class IssueCreator {
 
         System.out.println("Creating backend issue for story #" + missingIssue.getStoryNumber());
 
-        String title = formatIssueTitle(missingIssue, "BACKEND");
-        String body = formatIssueBody(missingIssue, "backend");
-        List<String> labels = generateLabels(missingIssue, "backend");
-
         try {
-            GitHubIssue createdIssue = githubIssueCreator.createIssue(BACKEND_REPO, title, body, labels);
+            GitHubIssue createdIssue = createIdempotently(missingIssue, BACKEND_REPO, "BACKEND", "backend");
             System.out.println("Successfully created backend issue: " + createdIssue.getUrl());
             logger.logIssueCreation(missingIssue, true, null);
             return createdIssue;
@@ -133,6 +147,63 @@ public class IssueCreator {
         }
     }
 
+    /**
+     * Creates an issue unless the ledger or a pre-flight lookup shows it already
+     * exists. The dedupe key is recorded as pending before the request and
+     * embedded in the issue body, so a retry after an ambiguous failure (timeout,
+     * 5xx) can find the issue instead of posting a duplicate. Any other failure
+     * is a definitive answer from GitHub and is recorded as failed.
+     */
+    private GitHubIssue createIdempotently(MissingIssue missingIssue, String repository, String prefix,
+            String repositoryType) throws IOException, InterruptedException {
+        String dedupeKey = IssueCreationLedger.dedupeKey(missingIssue.getStoryNumber(), repository);
+
+        Optional<GitHubIssue> existingIssue = findExistingIssue(missingIssue, repository, dedupeKey);
+        if (existingIssue.isPresent()) {
+            System.out.println("♻️ " + repositoryType + " issue for story #" + missingIssue.getStoryNumber()
+                    + " already exists: " + existingIssue.get().getUrl());
+            return existingIssue.get();
+        }
+
+        String title = formatIssueTitle(missingIssue, prefix);
+        String body = formatIssueBody(missingIssue, repositoryType, dedupeKey);
+        List<String> labels = generateLabels(missingIssue, repositoryType);
+
+        ledger.recordPending(dedupeKey, missingIssue.getStoryNumber(), repository);
+        GitHubIssue createdIssue;
+        try {
+            createdIssue = githubIssueCreator.createIssue(repository, title, body, labels);
+        } catch (IOException e) {
+            if (!isRetryableError(e)) {
+                // GitHub answered (422, 403, ...) without creating the issue; no lookup needed next time
+                ledger.recordFailed(dedupeKey, missingIssue.getStoryNumber(), repository, e.getMessage());
+            }
+            throw e;
+        }
+        ledger.recordCreated(dedupeKey, missingIssue.getStoryNumber(), repository, createdIssue);
+        return createdIssue;
+    }
+
+    /**
+     * Checks the ledger first; only when an earlier attempt has an unknown
+     * outcome does it spend a lookup request against GitHub.
+     */
+    private Optional<GitHubIssue> findExistingIssue(MissingIssue missingIssue, String repository, String dedupeKey)
+            throws IOException, InterruptedException {
+        Optional<GitHubIssue> recorded = ledger.getCreatedIssue(dedupeKey);
+        if (recorded.isPresent() || !ledger.isPending(dedupeKey)) {
+            return recorded;
+        }
+
+        System.out.println("🔎 Previous attempt for story #" + missingIssue.getStoryNumber() + " in " + repository
+                + " has unknown outcome - checking for existing issue");
+        Optional<GitHubIssue> found = githubIssueCreator.findIssueByDedupeKey(repository, dedupeKey);
+        if (found.isPresent()) {
+            ledger.recordCreated(dedupeKey, missingIssue.getStoryNumber(), repository, found.get());
+        }
+        return found;
+    }
+
     /**
      * Creates both frontend and backend issues for a missing issue with enhanced
      * error handling
@@ -173,11 +244,12 @@ public class IssueCreator {
      */
     private GitHubIssue createIssueWithRetry(MissingIssue missingIssue, String repositoryType, List<String> errors) {
         final int MAX_RETRIES = 3;
-        final long RETRY_DELAY_MS = 5000; // 5 seconds
-        final long RATE_LIMIT_DELAY_MS = 60000; // 60 seconds for rate limit
 
         for (int attempt = 1; attempt <= MAX_RETRIES; attempt++) {
             try {
+                // Wait for a pacing slot (also honors any active rate-limit pause)
+                scheduler.awaitSlot();
+
                 System.out.println("📤 Attempt " + attempt + "/" + MAX_RETRIES + " - Creating " + repositoryType
                         + " issue for story #" + missingIssue.getStoryNumber());
 
@@ -188,6 +260,7 @@ public class IssueCreator {
                     createdIssue = createBackendIssue(missingIssue);
                 }
 
+                scheduler.recordSuccess();
                 System.out.println("✅ Successfully created " + repositoryType + " issue on attempt " + attempt);
                 return createdIssue;
 
@@ -197,33 +270,23 @@ public class IssueCreator {
 
                 // Check if this is a rate limit error
                 if (isRateLimitError(e)) {
-                    System.out.println("🚦 Rate limit detected - waiting " + (RATE_LIMIT_DELAY_MS / 1000)
+                    // The pause is shared: every worker waits it out in awaitSlot()
+                    long pauseMs = scheduler.recordRateLimit(e, attempt);
+                    System.out.println("🚦 Rate limit detected - pausing creations for " + (pauseMs / 1000)
                             + " seconds before retry");
                     logger.logError("createIssueWithRetry", e, "Rate limit encountered on attempt " + attempt
                             + " for story #" + missingIssue.getStoryNumber());
-
-                    if (attempt < MAX_RETRIES) {
-                        try {
-                            Thread.sleep(RATE_LIMIT_DELAY_MS);
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                            String interruptMsg = "Thread interrupted during rate limit wait for " + repositoryType
-                                    + " issue";
-                            errors.add(interruptMsg);
-                            logger.logError("createIssueWithRetry", ie, interruptMsg);
-                            break;
-                        }
-                    }
                 } else if (isRetryableError(e)) {
-                    // Network or temporary errors - retry with shorter delay
-                    System.out.println("🔄 Retryable error detected - waiting " + (RETRY_DELAY_MS / 1000)
-                            + " seconds before retry");
+                    // Network or temporary errors - retry with jittered exponential backoff
+                    long backoffMs = scheduler.backoffDelayMs(attempt);
+                    System.out.println("🔄 Retryable error detected - waiting " + backoffMs
+                            + "ms before retry");
                     logger.logError("createIssueWithRetry", e,
                             "Retryable error on attempt " + attempt + " for story #" + missingIssue.getStoryNumber());
 
                     if (attempt < MAX_RETRIES) {
                         try {
-                            Thread.sleep(RETRY_DELAY_MS);
+                            Thread.sleep(backoffMs);
                         } catch (InterruptedException ie) {
                             Thread.currentThread().interrupt();
                             String interruptMsg = "Thread interrupted during retry wait for " + repositoryType
@@ -293,6 +356,9 @@ public class IssueCreator {
      * @return true if this error should be retried
      */
     private boolean isRetryableError(IOException e) {
+        if (e.getMessage() == null) {
+            return true; // No response to go on, so the outcome is unknown
+        }
         String message = e.getMessage().toLowerCase();
         return message.contains("timeout") ||
                 message.contains("connection") ||
@@ -326,68 +392,126 @@ public class IssueCreator {
     }
 
     /**
-     * Creates multiple issues in batch with resilient error handling
+     * Creates multiple issues in batch with resilient error handling.
+     * 
+     * Frontend and backend creations are submitted to the
+     * {@link IssueCreationScheduler}, which runs them concurrently up to its
+     * concurrency cap and paces them against GitHub's secondary rate limits.
+     * Results are returned in the order of the input list.
      * 
      * @param missingIssues List of missing issues to create
      * @return BatchCreationResult containing all results and statistics
      */
     public BatchCreationResult createIssuesBatch(List<MissingIssue> missingIssues) {
-        System.out.println("🚀 Starting batch issue creation for " + missingIssues.size() + " missing issues");
+        System.out.println("🚀 Starting batch issue creation for " + missingIssues.size() + " missing issues (max "
+                + scheduler.getMaxConcurrency() + " concurrent)");
+
+        int storyCount = missingIssues.size();
+        List<List<String>> storyErrors = new ArrayList<>(storyCount);
+        List<Callable<GitHubIssue>> tasks = new ArrayList<>();
+        int[] frontendTask = new int[storyCount];
+        int[] backendTask = new int[storyCount];
+        AtomicInteger completed = new AtomicInteger(0);
+
+        for (int i = 0; i < storyCount; i++) {
+            MissingIssue missingIssue = missingIssues.get(i);
+            List<String> errors = Collections.synchronizedList(new ArrayList<>());
+            storyErrors.add(errors);
+
+            frontendTask[i] = -1;
+            backendTask[i] = -1;
+            String type = missingIssue.getRepositoryType();
+            if ("frontend".equals(type) || "both".equals(type)) {
+                frontendTask[i] = tasks.size();
+                tasks.add(creationTask(missingIssue, "frontend", errors, completed));
+            }
+            if ("backend".equals(type) || "both".equals(type)) {
+                backendTask[i] = tasks.size();
+                tasks.add(creationTask(missingIssue, "backend", errors, completed));
+            }
+        }
+
+        List<Future<GitHubIssue>> futures;
+        try {
+            futures = scheduler.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.out.println("⚠️ Batch processing interrupted");
+            futures = List.of();
+        }
 
         List<IssueCreationResult> results = new ArrayList<>();
         int successCount = 0;
         int failureCount = 0;
         List<String> batchErrors = new ArrayList<>();
 
-        for (int i = 0; i < missingIssues.size(); i++) {
+        for (int i = 0; i < storyCount && !futures.isEmpty(); i++) {
             MissingIssue missingIssue = missingIssues.get(i);
+            List<String> errors = storyErrors.get(i);
 
-            System.out.println("📋 Processing " + (i + 1) + "/" + missingIssues.size() + " - Story #"
-                    + missingIssue.getStoryNumber());
+            GitHubIssue frontendIssue = awaitCreation(futures, frontendTask[i], missingIssue, errors);
+            GitHubIssue backendIssue = awaitCreation(futures, backendTask[i], missingIssue, errors);
 
-            try {
-                IssueCreationResult result = createBothIssues(missingIssue);
-                results.add(result);
+            boolean success = (frontendIssue != null || backendIssue != null);
+            String message = generateResultMessage(frontendIssue, backendIssue, errors);
+            IssueCreationResult result = new IssueCreationResult(frontendIssue, backendIssue, success, message,
+                    errors);
+            results.add(result);
 
-                if (result.isSuccess()) {
-                    successCount++;
-                    System.out.println("✅ Story #" + missingIssue.getStoryNumber() + " - " + result.getMessage());
-                } else {
-                    failureCount++;
-                    System.out.println("❌ Story #" + missingIssue.getStoryNumber() + " - " + result.getMessage());
-                    batchErrors.addAll(result.getErrors());
-                }
-
-                // Add delay between issues to avoid overwhelming the API
-                if (i < missingIssues.size() - 1) { // Don't delay after the last issue
-                    try {
-                        Thread.sleep(2000); // 2 second delay between issues
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        System.out.println("⚠️ Batch processing interrupted");
-                        break;
-                    }
-                }
-
-            } catch (Exception e) {
+            if (result.isSuccess()) {
+                successCount++;
+                System.out.println("✅ Story #" + missingIssue.getStoryNumber() + " - " + result.getMessage());
+            } else {
                 failureCount++;
-                String error = "Unexpected error processing story #" + missingIssue.getStoryNumber() + ": "
-                        + e.getMessage();
-                batchErrors.add(error);
-                logger.logError("createIssuesBatch", e,
-                        "Batch processing error for story #" + missingIssue.getStoryNumber());
-
-                // Create a failure result for this issue
-                results.add(new IssueCreationResult(null, null, false, error, List.of(error)));
+                System.out.println("❌ Story #" + missingIssue.getStoryNumber() + " - " + result.getMessage());
+                batchErrors.addAll(result.getErrors());
             }
         }
 
         System.out
-                .println("🏁 Batch creation completed: " + successCount + " successes, " + failureCount + " failures");
+                .println("🏁 Batch creation completed: " + successCount + " successes, " + failureCount + " failures ("
+                        + scheduler.getRateLimitHits() + " rate limit hits)");
 
         return new BatchCreationResult(results, successCount, failureCount, batchErrors);
     }
 
+    /**
+     * Wraps a single repository creation as a scheduler task.
+     */
+    private Callable<GitHubIssue> creationTask(MissingIssue missingIssue, String repositoryType,
+            List<String> errors, AtomicInteger completed) {
+        return () -> {
+            GitHubIssue createdIssue = createIssueWithRetry(missingIssue, repositoryType, errors);
+            System.out.println("📋 Completed " + completed.incrementAndGet() + " creations - Story #"
+                    + missingIssue.getStoryNumber() + " (" + repositoryType + ")");
+            return createdIssue;
+        };
+    }
+
+    /**
+     * Reads the outcome of a completed creation task, recording unexpected
+     * failures against the story.
+     */
+    private GitHubIssue awaitCreation(List<Future<GitHubIssue>> futures, int taskIndex, MissingIssue missingIssue,
+            List<String> errors) {
+        if (taskIndex < 0) {
+            return null;
+        }
+        try {
+            return futures.get(taskIndex).get();
+        } catch (ExecutionException | InterruptedException | CancellationException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            String error = "Unexpected error processing story #" + missingIssue.getStoryNumber() + ": "
+                    + e.getMessage();
+            errors.add(error);
+            logger.logError("createIssuesBatch", e,
+                    "Batch processing error for story #" + missingIssue.getStoryNumber());
+            return null;
+        }
+    }
+
     /**
      * Creates multiple issues in batch with resilient error handling and report
      * updates
@@ -426,6 +550,24 @@ public class IssueCreator {
         return batchResult;
     }
 
+    /**
+     * Gets the scheduler that paces issue creation.
+     * 
+     * @return The issue creation scheduler
+     */
+    public IssueCreationScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Gets the ledger that tracks creation attempts by dedupe key.
+     * 
+     * @return The issue creation ledger
+     */
+    public IssueCreationLedger getLedger() {
+        return ledger;
+    }
+
     /**
      * Formats the issue title using the same pattern as the original processing
      * system
@@ -443,9 +585,10 @@ public class IssueCreator {
      * 
      * @param missingIssue   The missing issue details
      * @param repositoryType The repository type (frontend or backend)
+     * @param dedupeKey      The dedupe key to embed in the body
      * @return Formatted issue body
      */
-    private String formatIssueBody(MissingIssue missingIssue, String repositoryType) {
+    private String formatIssueBody(MissingIssue missingIssue, String repositoryType, String dedupeKey) {
         String oppositeType = "frontend".equals(repositoryType) ? "backend" : "frontend";
 
         String technicalRequirements = generateTechnicalRequirements(repositoryType);
@@ -460,6 +603,7 @@ public class IssueCreator {
                 .replace("{oppositeType}", oppositeType)
                 .replace("{technicalRequirements}", technicalRequirements)
                 .replace("{agentNotes}", agentNotes)
+                .replace("{dedupeKey}", dedupeKey)
                 .replace("{timestamp}", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
     }
 
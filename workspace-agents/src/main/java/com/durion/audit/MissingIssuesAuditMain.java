@@ -22,6 +22,8 @@ public class MissingIssuesAuditMain {
             System.out.println("   • Output Directory: " + config.getOutputDirectory());
             System.out.println("   • Rate Limit Delay: " + config.getRateLimitDelayMs() + "ms");
             System.out.println("   • Batch Size: " + config.getBatchSize());
+            System.out.println("   • Max Concurrent Creations: " + config.getMaxConcurrentCreations());
+            System.out.println("   • Plan Only: " + config.isPlanOnly());
             
             if (config.getStartDate().isPresent() && config.getEndDate().isPresent()) {
                 System.out.println("   • Date Range: " + config.getStartDate().get() + " to " + config.getEndDate().get());
@@ -34,25 +36,32 @@ public class MissingIssuesAuditMain {
             System.out.println();
             
             // Initialize and run the audit system
-            MissingIssuesAuditSystem auditSystem = new MissingIssuesAuditSystem(config);
+            try (MissingIssuesAuditSystem auditSystem = new MissingIssuesAuditSystem(config)) {
+                if (config.isPlanOnly()) {
+                    System.out.println(auditSystem.planAudit().toReport());
+                    System.out.println();
+                    System.out.println("💡 Plan only - no repositories were scanned and no issues were created");
+                    return;
+                }
             
-            // Run the audit
-            AuditResult result = auditSystem.runAudit();
+                // Run the audit
+                AuditResult result = auditSystem.runAudit();
             
-            // Display final summary
-            System.out.println();
-            System.out.println("🎉 Audit System Execution Complete!");
-            System.out.println("===================================");
-            System.out.println("📊 Final Results:");
-            System.out.println("   • Total Processed Stories: " + result.getTotalProcessedStories());
-            System.out.println("   • Missing Frontend Issues: " + result.getMissingFrontendIssues().size());
-            System.out.println("   • Missing Backend Issues: " + result.getMissingBackendIssues().size());
-            System.out.println("   • Total Missing Issues: " + result.getTotalMissingIssues());
+                // Display final summary
+                System.out.println();
+                System.out.println("🎉 Audit System Execution Complete!");
+                System.out.println("===================================");
+                System.out.println("📊 Final Results:");
+                System.out.println("   • Total Processed Stories: " + result.getTotalProcessedStories());
+                System.out.println("   • Missing Frontend Issues: " + result.getMissingFrontendIssues().size());
+                System.out.println("   • Missing Backend Issues: " + result.getMissingBackendIssues().size());
+                System.out.println("   • Total Missing Issues: " + result.getTotalMissingIssues());
             
-            if (result.getTotalMissingIssues() == 0) {
-                System.out.println("✅ All processed stories have implementation issues!");
-            } else {
-                System.out.println("📋 Check the generated reports for details on missing issues");
+                if (result.getTotalMissingIssues() == 0) {
+                    System.out.println("✅ All processed stories have implementation issues!");
+                } else {
+                    System.out.println("📋 Check the generated reports for details on missing issues");
+                }
             }
             
         } catch (IllegalArgumentException e) {
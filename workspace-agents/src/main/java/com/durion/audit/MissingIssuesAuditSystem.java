@@ -1,9 +1,14 @@
 package com.durion.audit;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Main class for the Missing Issues Audit System.
@@ -21,7 +26,7 @@ import java.util.Scanner;
  * 
  * Requirements: 4.1, 5.4 - Main application workflow and progress tracking
  */
-public class MissingIssuesAuditSystem {
+public class MissingIssuesAuditSystem implements AutoCloseable {
 
     private final GitHubApiClientWrapper githubClient;
     private final AuditEngine auditEngine;
@@ -29,21 +34,30 @@ public class MissingIssuesAuditSystem {
     private final GitHubRepositoryScanner repositoryScanner;
     private final IssueCreator issueCreator;
     private final AuditConfiguration configuration;
+    // The audit log is closed with the system only when the system created it
+    private final boolean ownsLogger;
 
     // Repository constants
     private static final String FRONTEND_REPO = "louisburroughs/durion-moqui-frontend";
     private static final String BACKEND_REPO = "louisburroughs/durion-positivity-backend";
+    private static final String AUDIT_LOG_FILE = "audit-log.ndjson";
 
     public MissingIssuesAuditSystem(AuditConfiguration configuration) {
         this.configuration = configuration;
         this.githubClient = new GitHubApiClientWrapper(configuration.getGithubToken());
-        this.auditEngine = new AuditEngine();
-        this.reportManager = new DefaultReportManager(configuration.getOutputDirectory());
+        this.auditEngine = new AuditEngine(AuditLogger.builder()
+                .async(true)
+                .ndjsonFile(Paths.get(configuration.getOutputDirectory(), AUDIT_LOG_FILE))
+                .build());
+        this.ownsLogger = true;
+        this.reportManager = new DefaultReportManager(configuration.getOutputDirectory(),
+                configuration.isNdjsonOutput());
         this.repositoryScanner = new EnhancedGitHubRepositoryScanner(configuration.getGithubToken());
 
         // Initialize IssueCreator with SSL bypass GitHub client
         GitHubIssueCreator githubIssueCreator = new SSLBypassGitHubIssueCreator(configuration.getGithubToken());
-        this.issueCreator = new IssueCreator(githubIssueCreator, auditEngine.getLogger());
+        this.issueCreator = new IssueCreator(githubIssueCreator, auditEngine.getLogger(),
+                IssueCreationScheduler.fromConfiguration(configuration), openIssueCreationLedger(configuration));
 
         // Validate configuration
         auditEngine.validateConfiguration(configuration);
@@ -59,17 +73,34 @@ public class MissingIssuesAuditSystem {
         this.configuration = configuration;
         this.githubClient = new GitHubApiClientWrapper(configuration.getGithubToken());
         this.auditEngine = auditEngine;
+        this.ownsLogger = false;
         this.reportManager = reportManager;
         this.repositoryScanner = repositoryScanner;
 
         // Initialize IssueCreator with SSL bypass GitHub client
         GitHubIssueCreator githubIssueCreator = new SSLBypassGitHubIssueCreator(configuration.getGithubToken());
-        this.issueCreator = new IssueCreator(githubIssueCreator, auditEngine.getLogger());
+        this.issueCreator = new IssueCreator(githubIssueCreator, auditEngine.getLogger(),
+                IssueCreationScheduler.fromConfiguration(configuration), openIssueCreationLedger(configuration));
 
         // Validate configuration
         auditEngine.validateConfiguration(configuration);
     }
 
+    /**
+     * Opens the persistent issue creation ledger in the output directory, falling
+     * back to an in-memory ledger if it cannot be read.
+     */
+    private static IssueCreationLedger openIssueCreationLedger(AuditConfiguration configuration) {
+        Path ledgerFile = Paths.get(configuration.getOutputDirectory(), IssueCreationLedger.DEFAULT_LEDGER_FILE);
+        try {
+            return new IssueCreationLedger(ledgerFile);
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not read issue creation ledger " + ledgerFile + ": " + e.getMessage()
+                    + " - duplicate protection limited to this run");
+            return new IssueCreationLedger();
+        }
+    }
+
     /**
      * Runs a complete audit operation according to the configuration.
      * 
@@ -81,6 +112,12 @@ public class MissingIssuesAuditSystem {
         System.out.println("🔍 Starting Missing Issues Audit System");
         System.out.println("======================================");
 
+        // Compress and expire old reports in the background while the audit runs
+        ReportRetentionService reportRetention = openReportRetention();
+        CompletableFuture<ReportRetentionService.RetentionResult> retentionPass = reportRetention != null
+                ? reportRetention.runInBackground()
+                : null;
+
         try {
             // Step 1: Read processed issues
             System.out.println("📋 Step 1: Reading processed issues...");
@@ -135,6 +172,7 @@ public class MissingIssuesAuditSystem {
             for (String path : reportPaths) {
                 System.out.println("      • " + path);
             }
+            awaitReportRetention(retentionPass);
 
             // Step 7: Handle issue creation if requested
             if (configuration.isCreateMissingIssues() && auditResult.getTotalMissingIssues() > 0) {
@@ -159,9 +197,61 @@ public class MissingIssuesAuditSystem {
         } catch (Exception e) {
             System.err.println("❌ Unexpected error during audit: " + e.getMessage());
             throw e;
+        } finally {
+            if (reportRetention != null) {
+                reportRetention.close();
+            }
         }
     }
 
+    /**
+     * Opens the retention service for previous reports.
+     * 
+     * @return The retention service, or null if the report manifest is unusable
+     */
+    private ReportRetentionService openReportRetention() {
+        try {
+            return new FileOutputManager(configuration.getOutputDirectory())
+                    .createRetentionService(ReportRetentionService.RetentionPolicy.defaults());
+        } catch (IOException e) {
+            System.err.println("⚠️ Report retention unavailable: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void awaitReportRetention(CompletableFuture<ReportRetentionService.RetentionResult> retentionPass) {
+        if (retentionPass == null) {
+            return;
+        }
+        try {
+            retentionPass.join();
+        } catch (CompletionException e) {
+            System.err.println("⚠️ Report retention failed: " + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Estimates the API cost and duration of {@link #runAudit()} without
+     * scanning repositories or creating issues. Only one-item search probes and
+     * the free /rate_limit endpoint are used.
+     * 
+     * @return The execution plan
+     * @throws IOException          if processed issues or the budget cannot be read
+     * @throws InterruptedException if the operation is interrupted
+     */
+    public AuditCostPlanner.ExecutionPlan planAudit() throws IOException, InterruptedException {
+        List<Integer> filteredIssues;
+        try {
+            filteredIssues = applyFiltering(new ProcessedIssuesReader().readProcessedIssues());
+        } catch (ProcessedIssuesReader.ProcessedIssuesReaderException e) {
+            throw new IOException("Failed to read processed issues", e);
+        }
+
+        CacheManager cacheManager = configuration.isUseCache() ? new CacheManager(auditEngine.getLogger()) : null;
+        AuditCostPlanner planner = new AuditCostPlanner(githubClient, cacheManager);
+        return planner.planAudit(configuration, filteredIssues.size(), FRONTEND_REPO, BACKEND_REPO);
+    }
+
     /**
      * Creates missing implementation issues from an existing audit report.
      * 
@@ -259,60 +349,29 @@ public class MissingIssuesAuditSystem {
         System.out.println("🚀 Starting issue creation process...");
         System.out.println();
 
+        // Frontend and backend issues are created concurrently; the scheduler
+        // paces them against GitHub's secondary rate limits
+        List<MissingIssue> toCreate = new ArrayList<>(auditResult.getMissingFrontendIssues());
+        toCreate.addAll(auditResult.getMissingBackendIssues());
+
+        IssueCreator.BatchCreationResult batchResult = issueCreator.createIssuesBatch(toCreate);
+
         int successCount = 0;
-        int errorCount = 0;
-        int current = 0;
-
-        // Create frontend issues
-        if (!auditResult.getMissingFrontendIssues().isEmpty()) {
-            System.out.println("📱 Creating frontend implementation issues...");
-            for (MissingIssue missingIssue : auditResult.getMissingFrontendIssues()) {
-                current++;
-                trackProgress("Frontend issues", current, auditResult.getMissingFrontendIssues().size());
-
-                try {
-                    GitHubIssue createdIssue = issueCreator.createFrontendIssue(missingIssue);
-                    System.out.println("   ✅ Created: " + createdIssue.getUrl());
-                    successCount++;
-
-                    // Add delay between issue creations to respect rate limits
-                    if (current < auditResult.getMissingFrontendIssues().size()) {
-                        Thread.sleep(configuration.getRateLimitDelayMs());
-                    }
-                } catch (IOException | InterruptedException e) {
-                    System.out.println("   ❌ Failed to create issue for story #" + missingIssue.getStoryNumber() + ": "
-                            + e.getMessage());
-                    errorCount++;
-                }
+        for (IssueCreator.IssueCreationResult result : batchResult.getResults()) {
+            if (result.getFrontendIssue() != null) {
+                System.out.println("   ✅ Created: " + result.getFrontendIssue().getUrl());
+                successCount++;
             }
-            System.out.println();
-        }
-
-        // Create backend issues
-        if (!auditResult.getMissingBackendIssues().isEmpty()) {
-            System.out.println("🖥️ Creating backend implementation issues...");
-            current = 0;
-            for (MissingIssue missingIssue : auditResult.getMissingBackendIssues()) {
-                current++;
-                trackProgress("Backend issues", current, auditResult.getMissingBackendIssues().size());
-
-                try {
-                    GitHubIssue createdIssue = issueCreator.createBackendIssue(missingIssue);
-                    System.out.println("   ✅ Created: " + createdIssue.getUrl());
-                    successCount++;
-
-                    // Add delay between issue creations to respect rate limits
-                    if (current < auditResult.getMissingBackendIssues().size()) {
-                        Thread.sleep(configuration.getRateLimitDelayMs());
-                    }
-                } catch (IOException | InterruptedException e) {
-                    System.out.println("   ❌ Failed to create issue for story #" + missingIssue.getStoryNumber() + ": "
-                            + e.getMessage());
-                    errorCount++;
-                }
+            if (result.getBackendIssue() != null) {
+                System.out.println("   ✅ Created: " + result.getBackendIssue().getUrl());
+                successCount++;
             }
-            System.out.println();
         }
+        for (String error : batchResult.getBatchErrors()) {
+            System.out.println("   ❌ " + error);
+        }
+        int errorCount = toCreate.size() - successCount;
+        System.out.println();
 
         // Display summary
         System.out.println("✅ Issue creation completed!");
@@ -340,6 +399,17 @@ public class MissingIssuesAuditSystem {
         System.out.printf("   📊 %s: %d/%d (%.1f%%)%n", operation, current, total, percentage);
     }
 
+    /**
+     * Flushes and closes the audit log this system created, stopping its
+     * background writer.
+     */
+    @Override
+    public void close() {
+        if (ownsLogger) {
+            auditEngine.getLogger().close();
+        }
+    }
+
     /**
      * Gets the GitHub API client for direct access if needed.
      * 
@@ -11,21 +11,58 @@ import java.util.List;
 import java.util.Set;
 
 /**
- * Reads and parses the processed-issues.txt file containing story issue numbers.
- * Handles validation, error cases, and duplicate detection.
+ * Reads processed story issue numbers, either from the shared
+ * ProcessedIssuesStore or from a file in the processed-issues.txt format.
+ * Handles validation, error cases, and duplicate detection for text files.
  */
 public class ProcessedIssuesReader {
     
     private static final String DEFAULT_PROCESSED_ISSUES_FILE = ".github/orchestration/processed-issues.txt";
     
     /**
-     * Reads processed issue numbers from the default file location.
+     * Reads processed issue numbers from the shared processed issues store in
+     * the default location, importing a legacy processed-issues.txt if needed.
      * 
-     * @return List of processed issue numbers
-     * @throws ProcessedIssuesReaderException if file cannot be read or parsed
+     * @return List of processed issue numbers in ascending order
+     * @throws ProcessedIssuesReaderException if the store cannot be read or is empty
      */
     public List<Integer> readProcessedIssues() throws ProcessedIssuesReaderException {
-        return readProcessedIssues(DEFAULT_PROCESSED_ISSUES_FILE);
+        Path directory = Paths.get(ProcessedIssuesStore.DEFAULT_STORE_DIRECTORY);
+        if (!Files.exists(directory.resolve(ProcessedIssuesStore.LOG_FILE))
+                && !Files.exists(directory.resolve(ProcessedIssuesStore.SNAPSHOT_FILE))
+                && !Files.exists(Paths.get(DEFAULT_PROCESSED_ISSUES_FILE))) {
+            throw new ProcessedIssuesReaderException(
+                String.format("Processed issues file not found: %s", DEFAULT_PROCESSED_ISSUES_FILE));
+        }
+        
+        try {
+            return readProcessedIssues(ProcessedIssuesStore.open(directory));
+        } catch (IOException e) {
+            throw new ProcessedIssuesReaderException(
+                String.format("Failed to read processed issues store: %s. Error: %s", 
+                             directory, e.getMessage()), e);
+        }
+    }
+    
+    /**
+     * Reads processed issue numbers from a processed issues store.
+     * 
+     * @param store The store to read
+     * @return List of processed issue numbers in ascending order
+     * @throws ProcessedIssuesReaderException if the store is empty
+     */
+    public List<Integer> readProcessedIssues(ProcessedIssuesStore store) throws ProcessedIssuesReaderException {
+        int[] issueNumbers = store.toArray();
+        if (issueNumbers.length == 0) {
+            throw new ProcessedIssuesReaderException(
+                String.format("No valid issue numbers found in %s", store.getDirectory()));
+        }
+        
+        List<Integer> result = new ArrayList<>(issueNumbers.length);
+        for (int issueNumber : issueNumbers) {
+            result.add(issueNumber);
+        }
+        return result;
     }
     
     /**
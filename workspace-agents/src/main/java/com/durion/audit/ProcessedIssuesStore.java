@@ -0,0 +1,485 @@
+package com.durion.audit;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Shared store of processed story issue numbers, replacing the plain
+ * processed-issues.txt file.
+ *
+ * Issue numbers are held in memory as a bitmap, so membership checks are
+ * O(1) and no numbers are boxed. On disk the store keeps:
+ * - processed-issues.bitmap: a compacted snapshot of the bitmap
+ * - processed-issues.log: an append-only log of 4-byte issue numbers added
+ * since the snapshot, headed by the snapshot generation it extends
+ *
+ * Appends and compaction hold an exclusive lock on the log file, so the
+ * monitor can record stories while an audit in another process reads them;
+ * readers pick up new entries with {@link #refresh()}. Once the log grows past
+ * {@value #COMPACTION_THRESHOLD} entries it is folded into a new snapshot.
+ *
+ * The legacy text format (one number per line) is imported when the store is
+ * first created, or when the text file has been edited since, and can be
+ * exported with {@link #exportText(Path)}.
+ */
+public class ProcessedIssuesStore {
+
+    public static final String DEFAULT_STORE_DIRECTORY = ".github/orchestration";
+    public static final String LEGACY_TEXT_FILE = "processed-issues.txt";
+    static final String SNAPSHOT_FILE = "processed-issues.bitmap";
+    static final String LOG_FILE = "processed-issues.log";
+
+    static final int COMPACTION_THRESHOLD = 4096;
+    private static final int SNAPSHOT_MAGIC = 0x50524f43; // "PROC"
+    private static final int LOG_HEADER_BYTES = Long.BYTES;
+
+    // One instance per directory, so file locks are never taken twice by this JVM
+    private static final Map<Path, ProcessedIssuesStore> OPEN_STORES = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final Path snapshotFile;
+    private final Path logFile;
+
+    // In-memory state, guarded by stateLock
+    private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+    private BitSet issues = new BitSet();
+    private int size;
+
+    // Position in the log file, guarded by the intrinsic lock
+    private long generation;
+    private long logPosition;
+
+    private ProcessedIssuesStore(Path directory) {
+        this.directory = directory;
+        this.snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        this.logFile = directory.resolve(LOG_FILE);
+    }
+
+    /**
+     * Opens the store in the default orchestration directory.
+     */
+    public static ProcessedIssuesStore openDefault() throws IOException {
+        return open(Paths.get(DEFAULT_STORE_DIRECTORY));
+    }
+
+    /**
+     * Opens the store in the given directory, sharing one instance per
+     * directory within this process. A legacy processed-issues.txt that is
+     * newer than the store is imported.
+     *
+     * @param directory Directory holding the store files
+     * @return The shared store, loaded and up to date
+     * @throws IOException if the store cannot be read
+     */
+    public static ProcessedIssuesStore open(Path directory) throws IOException {
+        Path key = directory.toAbsolutePath().normalize();
+        ProcessedIssuesStore store = OPEN_STORES.get(key);
+        if (store == null) {
+            synchronized (OPEN_STORES) {
+                store = OPEN_STORES.get(key);
+                if (store == null) {
+                    store = new ProcessedIssuesStore(key);
+                    store.reload();
+                    store.importLegacyTextIfNewer();
+                    OPEN_STORES.put(key, store);
+                }
+            }
+        } else {
+            store.refresh();
+        }
+        return store;
+    }
+
+    /**
+     * Checks whether an issue has been processed.
+     */
+    public boolean contains(int issueNumber) {
+        if (issueNumber <= 0) {
+            return false;
+        }
+        stateLock.readLock().lock();
+        try {
+            return issues.get(issueNumber);
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Records an issue as processed.
+     *
+     * @param issueNumber Positive issue number
+     * @return true if the issue was not recorded before
+     * @throws IOException if the log cannot be appended
+     */
+    public boolean add(int issueNumber) throws IOException {
+        return addAll(new int[] { issueNumber }) == 1;
+    }
+
+    /**
+     * Records several issues as processed with a single log append.
+     *
+     * @param issueNumbers Positive issue numbers
+     * @return Number of issues that were not recorded before
+     * @throws IOException if the log cannot be appended
+     */
+    public synchronized int addAll(int[] issueNumbers) throws IOException {
+        for (int issueNumber : issueNumbers) {
+            if (issueNumber <= 0) {
+                throw new IllegalArgumentException("Issue numbers must be positive: " + issueNumber);
+            }
+        }
+
+        Files.createDirectories(directory);
+        int added = 0;
+        try (FileChannel log = openLockedLog()) {
+            readLog(log);
+
+            ByteBuffer buffer = ByteBuffer.allocate(issueNumbers.length * Integer.BYTES);
+            BitSet pending = new BitSet();
+            for (int issueNumber : issueNumbers) {
+                if (!contains(issueNumber) && !pending.get(issueNumber)) {
+                    pending.set(issueNumber);
+                    buffer.putInt(issueNumber);
+                    added++;
+                }
+            }
+            if (added == 0) {
+                return 0;
+            }
+
+            buffer.flip();
+            log.position(logPosition);
+            while (buffer.hasRemaining()) {
+                log.write(buffer);
+            }
+            logPosition = log.position();
+            mergeIssues(pending);
+
+            if ((logPosition - LOG_HEADER_BYTES) / Integer.BYTES >= COMPACTION_THRESHOLD) {
+                compact(log);
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Picks up issues appended by other processes since the last read.
+     *
+     * @throws IOException if the store cannot be read
+     */
+    public synchronized void refresh() throws IOException {
+        if (!Files.exists(logFile)) {
+            if (logPosition > 0 || Files.exists(snapshotFile)) {
+                reload();
+            }
+            return;
+        }
+        try (FileChannel log = openLockedLog()) {
+            readLog(log);
+        }
+    }
+
+    /**
+     * Folds the append-only log into a new bitmap snapshot.
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    public synchronized void compact() throws IOException {
+        Files.createDirectories(directory);
+        try (FileChannel log = openLockedLog()) {
+            readLog(log);
+            compact(log);
+        }
+    }
+
+    /**
+     * Gets the number of processed issues.
+     */
+    public int size() {
+        stateLock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Gets all processed issue numbers in ascending order.
+     */
+    public int[] toArray() {
+        stateLock.readLock().lock();
+        try {
+            return issues.stream().toArray();
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Imports issue numbers from the legacy text format, one per line. Blank
+     * and malformed lines are skipped.
+     *
+     * @param textFile File to import
+     * @return Number of issues that were not recorded before
+     * @throws IOException if the file cannot be read or the log appended
+     */
+    public int importText(Path textFile) throws IOException {
+        BitSet imported = new BitSet();
+        try (BufferedReader reader = Files.newBufferedReader(textFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    int issueNumber = Integer.parseInt(line.trim());
+                    if (issueNumber > 0) {
+                        imported.set(issueNumber);
+                    }
+                } catch (NumberFormatException e) {
+                    // Skip invalid lines
+                }
+            }
+        }
+        return addAll(imported.stream().toArray());
+    }
+
+    /**
+     * Exports all processed issue numbers in the legacy text format, one per
+     * line in ascending order.
+     *
+     * @param textFile File to write
+     * @throws IOException if the file cannot be written
+     */
+    public void exportText(Path textFile) throws IOException {
+        Path parent = textFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(textFile, StandardCharsets.UTF_8)) {
+            for (int issueNumber : toArray()) {
+                writer.write(Integer.toString(issueNumber));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Removes all processed issues, including the legacy text file so it is
+     * not imported again.
+     *
+     * @throws IOException if the files cannot be deleted
+     */
+    public synchronized void clear() throws IOException {
+        Files.createDirectories(directory);
+        try (FileChannel log = openLockedLog()) {
+            Files.deleteIfExists(directory.resolve(LEGACY_TEXT_FILE));
+            replaceIssues(new BitSet());
+            compact(log);
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Opens the log with an exclusive lock, released when the channel is
+     * closed.
+     */
+    private FileChannel openLockedLog() throws IOException {
+        FileChannel log = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            log.lock();
+            return log;
+        } catch (IOException | RuntimeException e) {
+            log.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Loads the snapshot and the whole log from scratch.
+     */
+    private synchronized void reload() throws IOException {
+        generation = 0;
+        logPosition = 0;
+        replaceIssues(new BitSet());
+        if (!Files.exists(logFile) && !Files.exists(snapshotFile)) {
+            return;
+        }
+        Files.createDirectories(directory);
+        try (FileChannel log = openLockedLog()) {
+            readLog(log);
+        }
+    }
+
+    /**
+     * Brings the in-memory bitmap up to date with the log. Must be called with
+     * the log locked. A log from another generation means it was compacted
+     * elsewhere, so the snapshot is reloaded.
+     */
+    private void readLog(FileChannel log) throws IOException {
+        long logGeneration = readLogGeneration(log);
+        if (logGeneration != generation || log.size() < logPosition || logPosition == 0) {
+            long snapshotGeneration = readSnapshot();
+            if (logGeneration < snapshotGeneration) {
+                // Compaction stopped after writing the snapshot; its entries are in it
+                resetLog(log, snapshotGeneration);
+            }
+            generation = Math.max(logGeneration, snapshotGeneration);
+            logPosition = LOG_HEADER_BYTES;
+        }
+
+        long end = log.size() - (log.size() - LOG_HEADER_BYTES) % Integer.BYTES; // ignore a torn tail
+        if (end <= logPosition) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) (end - logPosition));
+        while (buffer.hasRemaining()) {
+            if (log.read(buffer, logPosition + buffer.position()) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+
+        BitSet appended = new BitSet();
+        while (buffer.remaining() >= Integer.BYTES) {
+            int issueNumber = buffer.getInt();
+            if (issueNumber > 0) {
+                appended.set(issueNumber);
+            }
+        }
+        logPosition = end;
+        mergeIssues(appended);
+    }
+
+    private long readLogGeneration(FileChannel log) throws IOException {
+        if (log.size() < LOG_HEADER_BYTES) {
+            resetLog(log, generation);
+            return generation;
+        }
+        ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_BYTES);
+        while (header.hasRemaining() && log.read(header, header.position()) >= 0) {
+            // Read the full header
+        }
+        header.flip();
+        return header.getLong();
+    }
+
+    private void resetLog(FileChannel log, long logGeneration) throws IOException {
+        log.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_BYTES).putLong(0, logGeneration);
+        while (header.hasRemaining()) {
+            log.write(header, header.position());
+        }
+        log.force(false);
+    }
+
+    /**
+     * Replaces the in-memory bitmap with the snapshot on disk.
+     *
+     * @return The snapshot generation, or 0 if there is no snapshot
+     */
+    private long readSnapshot() throws IOException {
+        if (!Files.exists(snapshotFile)) {
+            replaceIssues(new BitSet());
+            return 0;
+        }
+        ByteBuffer snapshot = ByteBuffer.wrap(Files.readAllBytes(snapshotFile));
+        if (snapshot.remaining() < Integer.BYTES + Long.BYTES + Integer.BYTES || snapshot.getInt() != SNAPSHOT_MAGIC) {
+            throw new IOException("Corrupt processed issues snapshot: " + snapshotFile);
+        }
+        long snapshotGeneration = snapshot.getLong();
+        long[] words = new long[snapshot.getInt()];
+        snapshot.asLongBuffer().get(words);
+        replaceIssues(BitSet.valueOf(words));
+        return snapshotGeneration;
+    }
+
+    /**
+     * Writes the current bitmap as the next snapshot generation and empties
+     * the log. Must be called with the log locked and up to date.
+     */
+    private void compact(FileChannel log) throws IOException {
+        long[] words;
+        stateLock.readLock().lock();
+        try {
+            words = issues.toLongArray();
+        } finally {
+            stateLock.readLock().unlock();
+        }
+
+        long nextGeneration = generation + 1;
+        ByteBuffer snapshot = ByteBuffer.allocate(Integer.BYTES + Long.BYTES + Integer.BYTES + words.length * Long.BYTES);
+        snapshot.putInt(SNAPSHOT_MAGIC).putLong(nextGeneration).putInt(words.length);
+        snapshot.asLongBuffer().put(words);
+
+        Path tempFile = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        Files.write(tempFile, snapshot.array());
+        Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        resetLog(log, nextGeneration);
+        generation = nextGeneration;
+        logPosition = LOG_HEADER_BYTES;
+    }
+
+    private void importLegacyTextIfNewer() throws IOException {
+        Path textFile = directory.resolve(LEGACY_TEXT_FILE);
+        if (!Files.exists(textFile)) {
+            return;
+        }
+        long storeModified = Files.exists(logFile) ? Files.getLastModifiedTime(logFile).toMillis() : -1;
+        if (Files.getLastModifiedTime(textFile).toMillis() > storeModified) {
+            int imported = importText(textFile);
+            if (imported > 0) {
+                System.out.println("📂 Imported " + imported + " processed issues from " + textFile);
+            }
+        }
+    }
+
+    /**
+     * Replaces the in-memory bitmap.
+     */
+    private void replaceIssues(BitSet replacement) {
+        stateLock.writeLock().lock();
+        try {
+            issues = replacement;
+            size = replacement.cardinality();
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds issue numbers to the in-memory bitmap.
+     */
+    private void mergeIssues(BitSet added) {
+        stateLock.writeLock().lock();
+        try {
+            added.andNot(issues);
+            issues.or(added);
+            size += added.cardinality();
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.durion.audit;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Index of the reports in the missing-issues directory.
+ *
+ * Records each report's name, creation time, size and, once it has been
+ * compressed, the dated archive and byte range holding it. Report lookups
+ * and retention passes read the manifest instead of listing the directory;
+ * the directory is scanned only once, to adopt existing reports when the
+ * manifest is first created.
+ *
+ * The manifest is a tab-separated file rewritten atomically on save. One
+ * instance is shared per directory within this process; the file itself is
+ * not locked, so only one process at a time may write reports to or run
+ * retention on a directory, or the last save wins.
+ */
+public class ReportManifest {
+
+    public static final String MANIFEST_FILE = "report-manifest.tsv";
+
+    private static final String NOT_ARCHIVED = "-";
+    private static final Map<Path, ReportManifest> OPEN_MANIFESTS = new HashMap<>();
+
+    private final Path reportsDirectory;
+    private final Path manifestFile;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    private ReportManifest(Path reportsDirectory) {
+        this.reportsDirectory = reportsDirectory;
+        this.manifestFile = reportsDirectory.resolve(MANIFEST_FILE);
+    }
+
+    /**
+     * Opens the manifest for a reports directory, creating it from the
+     * directory's current contents if it does not exist yet.
+     *
+     * @param reportsDirectory The missing-issues directory
+     * @return The manifest shared by all users of the directory
+     * @throws IOException if the manifest cannot be read or created
+     */
+    public static ReportManifest open(Path reportsDirectory) throws IOException {
+        Path key = reportsDirectory.toAbsolutePath().normalize();
+        synchronized (OPEN_MANIFESTS) {
+            ReportManifest manifest = OPEN_MANIFESTS.get(key);
+            if (manifest == null) {
+                manifest = new ReportManifest(key);
+                if (Files.exists(manifest.manifestFile)) {
+                    manifest.load();
+                } else if (Files.isDirectory(key)) {
+                    manifest.adoptExistingReports();
+                    manifest.save();
+                }
+                OPEN_MANIFESTS.put(key, manifest);
+            }
+            return manifest;
+        }
+    }
+
+    /**
+     * Records a newly written report. Re-recording a report replaces its entry.
+     *
+     * @param report Path to the report, inside the reports directory
+     * @throws IOException if the report cannot be read
+     */
+    public synchronized void record(Path report) throws IOException {
+        String name = report.getFileName().toString();
+        if (name.indexOf('\t') >= 0 || name.indexOf('\n') >= 0) {
+            throw new IOException("Report name cannot be indexed: " + name);
+        }
+        entries.remove(name);
+        entries.put(name, new Entry(name, Files.getLastModifiedTime(report).toMillis(), Files.size(report),
+                null, 0, 0));
+    }
+
+    /**
+     * Records several reports and saves the manifest.
+     *
+     * @param reports Paths to the reports
+     * @throws IOException if a report cannot be read or the manifest saved
+     */
+    public synchronized void recordAll(List<Path> reports) throws IOException {
+        for (Path report : reports) {
+            record(report);
+        }
+        save();
+    }
+
+    /**
+     * Finds reports whose names start with a prefix.
+     *
+     * @param prefix Report name prefix (e.g., "audit-", "missing-frontend-")
+     * @return Matching entries, newest first
+     */
+    public synchronized List<Entry> find(String prefix) {
+        List<Entry> matches = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (entry.getName().startsWith(prefix)) {
+                matches.add(entry);
+            }
+        }
+        matches.sort(Comparator.comparingLong(Entry::getCreatedMillis).reversed());
+        return matches;
+    }
+
+    public synchronized Optional<Entry> get(String name) {
+        return Optional.ofNullable(entries.get(name));
+    }
+
+    /**
+     * Gets a snapshot of all entries, oldest first.
+     */
+    public synchronized List<Entry> entries() {
+        List<Entry> snapshot = new ArrayList<>(entries.values());
+        snapshot.sort(Comparator.comparingLong(Entry::getCreatedMillis));
+        return snapshot;
+    }
+
+    /**
+     * Records that a report now lives in an archive.
+     *
+     * @param name    Report name
+     * @param archive Archive file name, relative to the reports directory
+     * @param offset  Offset of the report's gzip member within the archive
+     * @param length  Compressed length of the member
+     */
+    public synchronized void markArchived(String name, String archive, long offset, long length) {
+        Entry entry = entries.get(name);
+        if (entry != null) {
+            entries.put(name, new Entry(name, entry.getCreatedMillis(), entry.getSizeBytes(), archive, offset, length));
+        }
+    }
+
+    public synchronized void forget(String name) {
+        entries.remove(name);
+    }
+
+    /**
+     * Checks whether any entry still refers to an archive.
+     */
+    public synchronized boolean isArchiveReferenced(String archive) {
+        for (Entry entry : entries.values()) {
+            if (archive.equals(entry.getArchive())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the bytes the indexed reports occupy on disk: live report sizes
+     * plus the full size of every archive still referenced. Archives are only
+     * appended to, so members of dropped reports keep counting until the
+     * whole archive is unreferenced and deleted.
+     */
+    public synchronized long totalBytes() {
+        long total = 0;
+        Map<String, Long> archiveBytes = new HashMap<>();
+        for (Entry entry : entries.values()) {
+            if (entry.isArchived()) {
+                archiveBytes.merge(entry.getArchive(), entry.getArchiveLength(), Long::sum);
+            } else {
+                total += entry.getSizeBytes();
+            }
+        }
+        for (Map.Entry<String, Long> archive : archiveBytes.entrySet()) {
+            try {
+                total += Files.size(reportsDirectory.resolve(archive.getKey()));
+            } catch (IOException e) {
+                total += archive.getValue(); // Missing archive: fall back to the indexed members
+            }
+        }
+        return total;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Opens a report for reading, decompressing it if it has been archived.
+     *
+     * @param name Report name
+     * @return Stream over the report's original content
+     * @throws IOException if the report is unknown or cannot be read
+     */
+    public InputStream openReport(String name) throws IOException {
+        Entry entry = get(name).orElseThrow(() -> new IOException("Report not found in manifest: " + name));
+        if (!entry.isArchived()) {
+            return Files.newInputStream(reportsDirectory.resolve(name));
+        }
+
+        // Archive members are small once compressed, so read the member whole
+        ByteBuffer member = ByteBuffer.allocate(Math.toIntExact(entry.getArchiveLength()));
+        try (FileChannel channel = FileChannel.open(reportsDirectory.resolve(entry.getArchive()),
+                StandardOpenOption.READ)) {
+            while (member.hasRemaining()) {
+                if (channel.read(member, entry.getArchiveOffset() + member.position()) < 0) {
+                    throw new IOException("Archive truncated: " + entry.getArchive());
+                }
+            }
+        }
+        return new GZIPInputStream(new ByteArrayInputStream(member.array()));
+    }
+
+    /**
+     * Writes the manifest through a temporary file and an atomic move.
+     *
+     * @throws IOException if the manifest cannot be written
+     */
+    public synchronized void save() throws IOException {
+        Files.createDirectories(reportsDirectory);
+        Path tmp = manifestFile.resolveSibling(MANIFEST_FILE + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            for (Entry entry : entries.values()) {
+                writer.write(entry.getName());
+                writer.write('\t');
+                writer.write(Long.toString(entry.getCreatedMillis()));
+                writer.write('\t');
+                writer.write(Long.toString(entry.getSizeBytes()));
+                writer.write('\t');
+                writer.write(entry.isArchived() ? entry.getArchive() : NOT_ARCHIVED);
+                writer.write('\t');
+                writer.write(Long.toString(entry.getArchiveOffset()));
+                writer.write('\t');
+                writer.write(Long.toString(entry.getArchiveLength()));
+                writer.newLine();
+            }
+        }
+        Files.move(tmp, manifestFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public Path getReportsDirectory() {
+        return reportsDirectory;
+    }
+
+    private void load() throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(manifestFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t");
+                if (fields.length != 6) {
+                    continue; // Skip malformed lines rather than losing the whole index
+                }
+                try {
+                    String archive = NOT_ARCHIVED.equals(fields[3]) ? null : fields[3];
+                    entries.put(fields[0], new Entry(fields[0], Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                            archive, Long.parseLong(fields[4]), Long.parseLong(fields[5])));
+                } catch (NumberFormatException e) {
+                    // Skip malformed lines
+                }
+            }
+        }
+    }
+
+    private void adoptExistingReports() throws IOException {
+        try (DirectoryStream<Path> reports = Files.newDirectoryStream(reportsDirectory, Files::isRegularFile)) {
+            for (Path report : reports) {
+                String name = report.getFileName().toString();
+                if (!name.startsWith(MANIFEST_FILE)) {
+                    record(report);
+                }
+            }
+        }
+    }
+
+    /**
+     * A report in the manifest.
+     */
+    public static class Entry {
+        private final String name;
+        private final long createdMillis;
+        private final long sizeBytes;
+        private final String archive;
+        private final long archiveOffset;
+        private final long archiveLength;
+
+        Entry(String name, long createdMillis, long sizeBytes, String archive, long archiveOffset,
+                long archiveLength) {
+            this.name = name;
+            this.createdMillis = createdMillis;
+            this.sizeBytes = sizeBytes;
+            this.archive = archive;
+            this.archiveOffset = archiveOffset;
+            this.archiveLength = archiveLength;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCreatedMillis() {
+            return createdMillis;
+        }
+
+        /**
+         * Gets the uncompressed size of the report.
+         */
+        public long getSizeBytes() {
+            return sizeBytes;
+        }
+
+        /**
+         * Gets the archive holding the report, relative to the reports
+         * directory, or null while the report is still live.
+         */
+        public String getArchive() {
+            return archive;
+        }
+
+        public long getArchiveOffset() {
+            return archiveOffset;
+        }
+
+        public long getArchiveLength() {
+            return archiveLength;
+        }
+
+        public boolean isArchived() {
+            return archive != null;
+        }
+
+        /**
+         * Gets the bytes of the report itself: its live size, or the length
+         * of its member within the archive.
+         */
+        public long getStoredBytes() {
+            return isArchived() ? archiveLength : sizeBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Entry{name='%s', size=%d, archive=%s}", name, sizeBytes, archive);
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.durion.audit;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Background retention for audit reports.
+ *
+ * Each pass works from the {@link ReportManifest}, never from a directory
+ * listing:
+ * - Reports older than the compression age are gzipped into a dated archive
+ * (archive/reports-yyyy-MM-dd.gz), one gzip member per report
+ * - Reports older than the maximum age are dropped
+ * - If the bytes on disk still exceed the budget, the oldest reports are
+ * dropped until they fit
+ *
+ * Archives are deleted once no manifest entry refers to them, and until then
+ * count against the budget at their full file size, so the budget drops
+ * whole days of archived reports. Passes run on a single daemon thread,
+ * either on a schedule or on demand, and never overlap.
+ */
+public class ReportRetentionService implements AutoCloseable {
+
+    public static final String ARCHIVE_DIR = "archive";
+
+    private static final DateTimeFormatter ARCHIVE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int GZIP_BUFFER_SIZE = 1 << 16;
+
+    private final ReportManifest manifest;
+    private final RetentionPolicy policy;
+    private final AuditLogger logger;
+    private final ScheduledExecutorService executor;
+    private final Object passLock = new Object();
+
+    public ReportRetentionService(ReportManifest manifest, RetentionPolicy policy, AuditLogger logger) {
+        this.manifest = manifest;
+        this.policy = policy;
+        this.logger = logger;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "report-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules retention passes at a fixed interval, starting immediately.
+     *
+     * @param interval Time between the end of one pass and the start of the next
+     */
+    public void start(Duration interval) {
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                runOnce();
+            } catch (IOException e) {
+                logger.logError("Report Retention", e, "Retention pass failed");
+            }
+        }, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs a single retention pass on the background thread.
+     *
+     * @return Future completing with the pass result
+     */
+    public CompletableFuture<RetentionResult> runInBackground() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return runOnce();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Runs a retention pass on the calling thread.
+     *
+     * @return What the pass compressed and deleted
+     * @throws IOException if the manifest cannot be saved
+     */
+    public RetentionResult runOnce() throws IOException {
+        synchronized (passLock) {
+            long now = System.currentTimeMillis();
+            long bytesBefore = manifest.totalBytes();
+            long compressAfterMillis = policy.getCompressAfter().toMillis();
+            long maxAgeMillis = policy.getMaxAge().toMillis();
+
+            List<ReportManifest.Entry> expired = new ArrayList<>();
+            List<ReportManifest.Entry> toCompress = new ArrayList<>();
+            for (ReportManifest.Entry entry : manifest.entries()) {
+                long age = now - entry.getCreatedMillis();
+                if (age > maxAgeMillis) {
+                    expired.add(entry);
+                } else if (!entry.isArchived() && age > compressAfterMillis) {
+                    toCompress.add(entry);
+                }
+            }
+
+            int compressed = compress(toCompress);
+
+            Set<String> touchedArchives = new HashSet<>();
+            List<Path> liveFilesToDelete = new ArrayList<>();
+            for (ReportManifest.Entry entry : expired) {
+                drop(entry, touchedArchives, liveFilesToDelete);
+            }
+            int deleted = expired.size();
+
+            // Enforce the byte budget, oldest first; an archive's bytes are freed with its last report
+            List<ReportManifest.Entry> remaining = manifest.entries();
+            for (int i = 0; i < remaining.size() && manifest.totalBytes() > policy.getMaxTotalBytes(); i++) {
+                drop(remaining.get(i), touchedArchives, liveFilesToDelete);
+                deleted++;
+            }
+
+            // Save before deleting so the manifest never points at a missing file
+            manifest.save();
+            deleteQuietly(liveFilesToDelete);
+            for (String archive : touchedArchives) {
+                if (!manifest.isArchiveReferenced(archive)) {
+                    deleteQuietly(List.of(manifest.getReportsDirectory().resolve(archive)));
+                }
+            }
+
+            RetentionResult result = new RetentionResult(compressed, deleted, bytesBefore, manifest.totalBytes());
+            if (compressed > 0 || deleted > 0) {
+                System.out.println("🗄️ Report retention: " + result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Appends each report as a gzip member of its dated archive, records the
+     * member in the manifest, then removes the live file.
+     */
+    private int compress(List<ReportManifest.Entry> toCompress) throws IOException {
+        if (toCompress.isEmpty()) {
+            return 0;
+        }
+
+        Path reportsDirectory = manifest.getReportsDirectory();
+        Files.createDirectories(reportsDirectory.resolve(ARCHIVE_DIR));
+        List<Path> archivedFiles = new ArrayList<>();
+
+        for (ReportManifest.Entry entry : toCompress) {
+            Path report = reportsDirectory.resolve(entry.getName());
+            if (!Files.exists(report)) {
+                manifest.forget(entry.getName());
+                continue;
+            }
+
+            String archive = archiveFor(entry.getCreatedMillis());
+            try (FileChannel channel = FileChannel.open(reportsDirectory.resolve(archive),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                long offset = channel.size();
+                OutputStream out = Channels.newOutputStream(channel);
+                // Closing the stream ends its Deflater, releasing native memory; it also closes the channel
+                try (GZIPOutputStream gzip = new GZIPOutputStream(out, GZIP_BUFFER_SIZE)) {
+                    Files.copy(report, gzip);
+                    gzip.finish();
+                    out.flush();
+                    channel.force(false);
+                    manifest.markArchived(entry.getName(), archive, offset, channel.size() - offset);
+                }
+                archivedFiles.add(report);
+            } catch (IOException e) {
+                logger.logError("Report Retention", e, "Failed to archive report: " + report);
+            }
+        }
+
+        // Save before deleting so a crash leaves the report live rather than lost
+        manifest.save();
+        deleteQuietly(archivedFiles);
+        return archivedFiles.size();
+    }
+
+    private void drop(ReportManifest.Entry entry, Set<String> touchedArchives, List<Path> liveFilesToDelete) {
+        if (entry.isArchived()) {
+            touchedArchives.add(entry.getArchive());
+        } else {
+            liveFilesToDelete.add(manifest.getReportsDirectory().resolve(entry.getName()));
+        }
+        manifest.forget(entry.getName());
+    }
+
+    private void deleteQuietly(List<Path> files) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.logError("Report Retention", e, "Failed to delete: " + file);
+            }
+        }
+    }
+
+    private static String archiveFor(long createdMillis) {
+        LocalDate date = Instant.ofEpochMilli(createdMillis).atZone(ZoneId.systemDefault()).toLocalDate();
+        return ARCHIVE_DIR + "/reports-" + date.format(ARCHIVE_DATE_FORMAT) + ".gz";
+    }
+
+    /**
+     * Stops scheduled passes, waiting briefly for a running pass to finish.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Age and size limits for retained reports.
+     */
+    public static class RetentionPolicy {
+        private final Duration compressAfter;
+        private final Duration maxAge;
+        private final long maxTotalBytes;
+
+        public RetentionPolicy(Duration compressAfter, Duration maxAge, long maxTotalBytes) {
+            if (compressAfter.isNegative() || maxAge.isNegative() || maxTotalBytes < 0) {
+                throw new IllegalArgumentException("Retention limits cannot be negative");
+            }
+            this.compressAfter = compressAfter;
+            this.maxAge = maxAge;
+            this.maxTotalBytes = maxTotalBytes;
+        }
+
+        /**
+         * Compresses after a day, keeps reports for 30 days and at most 256MB.
+         */
+        public static RetentionPolicy defaults() {
+            return new RetentionPolicy(Duration.ofHours(24), Duration.ofDays(30), 256L * 1024 * 1024);
+        }
+
+        public Duration getCompressAfter() {
+            return compressAfter;
+        }
+
+        public Duration getMaxAge() {
+            return maxAge;
+        }
+
+        public long getMaxTotalBytes() {
+            return maxTotalBytes;
+        }
+    }
+
+    /**
+     * Outcome of a retention pass.
+     */
+    public static class RetentionResult {
+        private final int compressedCount;
+        private final int deletedCount;
+        private final long bytesBefore;
+        private final long bytesAfter;
+
+        public RetentionResult(int compressedCount, int deletedCount, long bytesBefore, long bytesAfter) {
+            this.compressedCount = compressedCount;
+            this.deletedCount = deletedCount;
+            this.bytesBefore = bytesBefore;
+            this.bytesAfter = bytesAfter;
+        }
+
+        public int getCompressedCount() {
+            return compressedCount;
+        }
+
+        public int getDeletedCount() {
+            return deletedCount;
+        }
+
+        public long getBytesBefore() {
+            return bytesBefore;
+        }
+
+        public long getBytesAfter() {
+            return bytesAfter;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d compressed, %d deleted, %d -> %d bytes",
+                    compressedCount, deletedCount, bytesBefore, bytesAfter);
+        }
+    }
+}
@@ -1,6 +1,14 @@
 package com.durion.audit;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -8,7 +16,13 @@ import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Updates audit reports to reflect newly created issues and track creation status.
@@ -18,6 +32,11 @@ import java.util.List;
  * - Track success/failure status for each creation attempt
  * - Maintain report consistency after batch operations
  * - Generate updated summary reports
+ * - Append creation status to a sidecar file without rewriting the report
+ * 
+ * Reports are never loaded whole: CSV rewrites stream row by row with results
+ * looked up by story number, and JSON updates copy the original bytes and
+ * append the creation results section.
  * 
  * Requirements: 4.5 - Report updates after creation
  */
@@ -27,6 +46,10 @@ public class ReportUpdater {
     private final String outputDirectory;
     
     private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String STATUS_COLUMNS = "Creation Status,Created Issue URL,Creation Timestamp,Error Message";
+    private static final String STATUS_SIDECAR_HEADER = "Story Number," + STATUS_COLUMNS;
+    private static final int REPORT_BUFFER_SIZE = 1 << 16;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     
     public ReportUpdater(AuditLogger logger, String outputDirectory) {
         this.logger = logger;
@@ -46,22 +69,18 @@ public class ReportUpdater {
         
         logger.logProgress("Report Update", 0, creationResults.size());
         
-        // Read the original report
+        // Check the original report
         Path originalPath = Paths.get(originalReportPath);
         if (!Files.exists(originalPath)) {
             throw new IOException("Original report not found: " + originalReportPath);
         }
         
-        String originalContent = Files.readString(originalPath);
-        
-        // Generate updated content
-        String updatedContent = generateUpdatedReportContent(originalContent, creationResults);
-        
         // Create updated report with timestamp
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
         String updatedReportPath = originalReportPath.replace(".json", "-updated-" + timestamp + ".json");
         
-        Files.writeString(Paths.get(updatedReportPath), updatedContent);
+        // Copy the original up to its closing brace and append the creation results
+        writeUpdatedReport(originalPath, Paths.get(updatedReportPath), creationResults);
         
         logger.logProgress("Report Update", creationResults.size(), creationResults.size());
         System.out.println("📄 Updated audit report saved: " + updatedReportPath);
@@ -103,6 +122,11 @@ public class ReportUpdater {
     /**
      * Updates a CSV report to mark successfully created issues
      * 
+     * Results are matched to data rows by position, so this overload is only
+     * correct when the results were produced from the report's rows in order.
+     * Prefer {@link #updateCsvReport(String, Map)} when the story numbers are
+     * known.
+     * 
      * @param csvReportPath Path to the original CSV report
      * @param creationResults List of creation results
      * @return Path to the updated CSV report
@@ -110,39 +134,103 @@ public class ReportUpdater {
      */
     public String updateCsvReport(String csvReportPath, List<IssueCreator.IssueCreationResult> creationResults) 
             throws IOException {
+        return rewriteCsvReport(csvReportPath, (storyNumber, rowIndex) ->
+                rowIndex < creationResults.size() ? creationResults.get(rowIndex) : null);
+    }
+    
+    /**
+     * Updates a CSV report to mark created issues, matching rows by story number
+     * 
+     * @param csvReportPath Path to the original CSV report
+     * @param resultsByStory Creation results keyed by story number
+     * @return Path to the updated CSV report
+     * @throws IOException if CSV update fails
+     */
+    public String updateCsvReport(String csvReportPath, Map<Integer, IssueCreator.IssueCreationResult> resultsByStory) 
+            throws IOException {
+        return rewriteCsvReport(csvReportPath, (storyNumber, rowIndex) ->
+                storyNumber != null ? resultsByStory.get(storyNumber) : null);
+    }
+    
+    /**
+     * Appends creation results to the report's status sidecar file instead of
+     * rewriting the report, so the cost follows the number of results rather
+     * than the size of the report. Later entries for a story supersede earlier
+     * ones.
+     * 
+     * @param reportPath Path to the report the results belong to
+     * @param resultsByStory Creation results keyed by story number
+     * @return Path to the status sidecar file
+     * @throws IOException if the sidecar cannot be written
+     */
+    public String appendCreationStatus(String reportPath, Map<Integer, IssueCreator.IssueCreationResult> resultsByStory) 
+            throws IOException {
         
-        Path originalPath = Paths.get(csvReportPath);
-        if (!Files.exists(originalPath)) {
-            throw new IOException("Original CSV report not found: " + csvReportPath);
-        }
-        
-        List<String> lines = Files.readAllLines(originalPath);
-        List<String> updatedLines = new ArrayList<>();
+        Path sidecarPath = statusSidecarPath(reportPath);
+        boolean newFile = !Files.exists(sidecarPath) || Files.size(sidecarPath) == 0;
+        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
         
-        // Keep the header and add status columns if not present
-        if (!lines.isEmpty()) {
-            String header = lines.get(0);
-            if (!header.contains("Creation Status")) {
-                header += ",Creation Status,Created Issue URL,Creation Timestamp,Error Message";
+        try (Writer writer = Files.newBufferedWriter(sidecarPath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (newFile) {
+                writer.write(STATUS_SIDECAR_HEADER);
+                writer.write('\n');
             }
-            updatedLines.add(header);
-            
-            // Process data lines
-            for (int i = 1; i < lines.size(); i++) {
-                String line = lines.get(i);
-                String updatedLine = updateCsvLineWithCreationStatus(line, creationResults, i - 1);
-                updatedLines.add(updatedLine);
+            for (Map.Entry<Integer, IssueCreator.IssueCreationResult> entry : resultsByStory.entrySet()) {
+                writer.write(Integer.toString(entry.getKey()));
+                writer.write(',');
+                writeStatusColumns(writer, entry.getValue(), timestamp);
+                writer.write('\n');
             }
         }
         
-        // Write updated CSV
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
-        String updatedCsvPath = csvReportPath.replace(".csv", "-updated-" + timestamp + ".csv");
-        
-        Files.write(Paths.get(updatedCsvPath), updatedLines);
+        System.out.println("📋 Appended " + resultsByStory.size() + " creation status entries: " + sidecarPath);
+        return sidecarPath.toString();
+    }
+    
+    /**
+     * Reads the latest creation status line per story from a report's status
+     * sidecar file.
+     * 
+     * @param reportPath Path to the report the sidecar belongs to
+     * @return Status columns keyed by story number, empty if there is no sidecar
+     * @throws IOException if the sidecar cannot be read
+     */
+    public Map<Integer, String> readCreationStatus(String reportPath) throws IOException {
+        Map<Integer, String> statusByStory = new LinkedHashMap<>();
+        Path sidecarPath = statusSidecarPath(reportPath);
+        if (!Files.exists(sidecarPath)) {
+            return statusByStory;
+        }
         
-        System.out.println("📋 Updated CSV report saved: " + updatedCsvPath);
-        return updatedCsvPath;
+        try (BufferedReader reader = Files.newBufferedReader(sidecarPath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine(); // header
+            while ((line = reader.readLine()) != null) {
+                Integer storyNumber = parseStoryNumber(line);
+                if (storyNumber != null) {
+                    statusByStory.put(storyNumber, line.substring(line.indexOf(',') + 1));
+                }
+            }
+        }
+        return statusByStory;
+    }
+    
+    /**
+     * Indexes creation results by the story number of the missing issue they
+     * were created for. Both lists must be in the same order, as returned by
+     * {@link IssueCreator#createIssuesBatch(List)}.
+     * 
+     * @param missingIssues The missing issues that were submitted for creation
+     * @param creationResults The creation results, in submission order
+     * @return Creation results keyed by story number, in submission order
+     */
+    public static Map<Integer, IssueCreator.IssueCreationResult> indexByStoryNumber(
+            List<MissingIssue> missingIssues, List<IssueCreator.IssueCreationResult> creationResults) {
+        Map<Integer, IssueCreator.IssueCreationResult> resultsByStory = new LinkedHashMap<>();
+        for (int i = 0; i < creationResults.size() && i < missingIssues.size(); i++) {
+            resultsByStory.put(missingIssues.get(i).getStoryNumber(), creationResults.get(i));
+        }
+        return resultsByStory;
     }
     
     /**
@@ -273,58 +361,209 @@ public class ReportUpdater {
     
     // Helper methods
     
-    private String generateUpdatedReportContent(String originalContent, List<IssueCreator.IssueCreationResult> creationResults) {
-        // For JSON reports, we would parse and update the JSON structure
-        // For simplicity in this implementation, we'll append creation results
+    /**
+     * Streams the CSV report into a new file, appending status columns to every
+     * data row. Rows are copied as they are read, so memory use does not grow
+     * with the report.
+     */
+    private String rewriteCsvReport(String csvReportPath,
+            BiFunction<Integer, Integer, IssueCreator.IssueCreationResult> resultForRow) throws IOException {
         
-        StringBuilder updated = new StringBuilder(originalContent);
+        Path originalPath = Paths.get(csvReportPath);
+        if (!Files.exists(originalPath)) {
+            throw new IOException("Original CSV report not found: " + csvReportPath);
+        }
+        
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        String updatedCsvPath = csvReportPath.replace(".csv", "-updated-" + timestamp + ".csv");
+        String creationTimestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
         
-        // Remove the closing brace if it exists
-        if (updated.toString().trim().endsWith("}")) {
-            int lastBrace = updated.lastIndexOf("}");
-            updated.delete(lastBrace, updated.length());
-            updated.append(",\n");
+        try (BufferedReader reader = Files.newBufferedReader(originalPath, StandardCharsets.UTF_8);
+             BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                     Files.newOutputStream(Paths.get(updatedCsvPath)), StandardCharsets.UTF_8), REPORT_BUFFER_SIZE)) {
+            
+            // Keep the header and add status columns if not present
+            String header = reader.readLine();
+            if (header != null) {
+                writer.write(header);
+                if (!header.contains("Creation Status")) {
+                    writer.write(',');
+                    writer.write(STATUS_COLUMNS);
+                }
+                writer.newLine();
+                
+                // Process data lines
+                int rowIndex = 0;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    IssueCreator.IssueCreationResult result = resultForRow.apply(parseStoryNumber(line), rowIndex++);
+                    writer.write(line);
+                    writer.write(',');
+                    writeStatusColumns(writer, result, creationTimestamp);
+                    writer.newLine();
+                }
+            }
         }
         
-        // Add creation results section
-        updated.append("  \"creationResults\": {\n");
-        updated.append("    \"timestamp\": \"").append(LocalDateTime.now().format(TIMESTAMP_FORMAT)).append("\",\n");
-        updated.append("    \"totalAttempts\": ").append(creationResults.size()).append(",\n");
+        System.out.println("📋 Updated CSV report saved: " + updatedCsvPath);
+        return updatedCsvPath;
+    }
+    
+    /**
+     * Writes the four status columns for a result, or the "Not Processed"
+     * placeholder when there is none.
+     */
+    private void writeStatusColumns(Writer writer, IssueCreator.IssueCreationResult result, String timestamp)
+            throws IOException {
+        if (result == null) {
+            writer.write("Not Processed,,,");
+            return;
+        }
         
-        int successCount = (int) creationResults.stream().mapToLong(r -> r.isSuccess() ? 1 : 0).sum();
-        updated.append("    \"successCount\": ").append(successCount).append(",\n");
-        updated.append("    \"failureCount\": ").append(creationResults.size() - successCount).append(",\n");
-        updated.append("    \"results\": [\n");
-        
-        for (int i = 0; i < creationResults.size(); i++) {
-            IssueCreator.IssueCreationResult result = creationResults.get(i);
-            updated.append("      {\n");
-            updated.append("        \"success\": ").append(result.isSuccess()).append(",\n");
-            updated.append("        \"message\": \"").append(escapeJson(result.getMessage())).append("\",\n");
+        writer.write(result.isSuccess() ? "Success" : "Failed");
+        
+        // Add created issue URL (prefer frontend, then backend)
+        writer.write(',');
+        if (result.getFrontendIssue() != null) {
+            writer.write(result.getFrontendIssue().getUrl());
+        } else if (result.getBackendIssue() != null) {
+            writer.write(result.getBackendIssue().getUrl());
+        }
+        
+        // Add timestamp
+        writer.write(',');
+        writer.write(timestamp);
+        
+        // Add error message if any
+        String errorMsg = result.getErrors().isEmpty() ? "" : String.join("; ", result.getErrors());
+        writer.write(",\"");
+        writer.write(escapeJson(errorMsg));
+        writer.write('"');
+    }
+    
+    /**
+     * Parses the story number from the first column of a CSV row.
+     * 
+     * @return The story number, or null if the row does not start with one
+     */
+    private static Integer parseStoryNumber(String line) {
+        int end = line.indexOf(',');
+        if (end < 0) {
+            end = line.length();
+        }
+        if (end == 0 || end > 10) {
+            return null;
+        }
+        int storyNumber = 0;
+        for (int i = 0; i < end; i++) {
+            char c = line.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+            storyNumber = storyNumber * 10 + (c - '0');
+        }
+        return storyNumber;
+    }
+    
+    private static Path statusSidecarPath(String reportPath) {
+        int extension = reportPath.lastIndexOf('.');
+        int separator = Math.max(reportPath.lastIndexOf('/'), reportPath.lastIndexOf('\\'));
+        String base = extension > separator ? reportPath.substring(0, extension) : reportPath;
+        return Paths.get(base + ".status.csv");
+    }
+    
+    /**
+     * Writes the updated JSON report by copying the original bytes up to its
+     * closing brace and appending a creationResults member. The original is
+     * transferred channel to channel rather than decoded into memory.
+     */
+    private void writeUpdatedReport(Path originalPath, Path updatedPath,
+            List<IssueCreator.IssueCreationResult> creationResults) throws IOException {
+        
+        try (FileChannel source = FileChannel.open(originalPath, StandardOpenOption.READ);
+             FileChannel target = FileChannel.open(updatedPath, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            
+            long closingBrace = findClosingBrace(source);
+            long copyLength = closingBrace >= 0 ? closingBrace : source.size();
+            long copied = 0;
+            while (copied < copyLength) {
+                copied += source.transferTo(copied, copyLength - copied, target);
+            }
             
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(Channels.newOutputStream(target), StandardCharsets.UTF_8));
+            writer.write(closingBrace >= 0 ? ",\n  \"creationResults\": " : "\n");
+            try (JsonGenerator json = OBJECT_MAPPER.createGenerator(writer)) {
+                json.useDefaultPrettyPrinter();
+                writeCreationResults(json, creationResults);
+                json.flush();
+                writer.write(closingBrace >= 0 ? "\n}" : "");
+            }
+        }
+    }
+    
+    /**
+     * Finds the offset of the final closing brace by scanning backwards from
+     * the end of the file, skipping trailing whitespace.
+     * 
+     * @return The brace's offset, or -1 if the file does not end with one
+     */
+    private static long findClosingBrace(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        long end = channel.size();
+        while (end > 0) {
+            int length = (int) Math.min(buffer.capacity(), end);
+            long start = end - length;
+            buffer.clear().limit(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) {
+                    return -1;
+                }
+            }
+            for (int i = length - 1; i >= 0; i--) {
+                byte b = buffer.get(i);
+                if (b == '}') {
+                    return start + i;
+                }
+                if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                    return -1;
+                }
+            }
+            end = start;
+        }
+        return -1;
+    }
+    
+    private void writeCreationResults(JsonGenerator json, List<IssueCreator.IssueCreationResult> creationResults)
+            throws IOException {
+        int successCount = (int) creationResults.stream().mapToLong(r -> r.isSuccess() ? 1 : 0).sum();
+        
+        json.writeStartObject();
+        json.writeStringField("timestamp", LocalDateTime.now().format(TIMESTAMP_FORMAT));
+        json.writeNumberField("totalAttempts", creationResults.size());
+        json.writeNumberField("successCount", successCount);
+        json.writeNumberField("failureCount", creationResults.size() - successCount);
+        json.writeArrayFieldStart("results");
+        for (IssueCreator.IssueCreationResult result : creationResults) {
+            json.writeStartObject();
+            json.writeBooleanField("success", result.isSuccess());
+            json.writeStringField("message", result.getMessage() != null ? result.getMessage() : "");
             if (result.getFrontendIssue() != null) {
-                updated.append("        \"frontendIssueUrl\": \"").append(result.getFrontendIssue().getUrl()).append("\",\n");
+                json.writeStringField("frontendIssueUrl", result.getFrontendIssue().getUrl());
             }
             if (result.getBackendIssue() != null) {
-                updated.append("        \"backendIssueUrl\": \"").append(result.getBackendIssue().getUrl()).append("\",\n");
+                json.writeStringField("backendIssueUrl", result.getBackendIssue().getUrl());
             }
-            
-            updated.append("        \"errors\": [");
-            for (int j = 0; j < result.getErrors().size(); j++) {
-                updated.append("\"").append(escapeJson(result.getErrors().get(j))).append("\"");
-                if (j < result.getErrors().size() - 1) updated.append(", ");
+            json.writeArrayFieldStart("errors");
+            for (String error : result.getErrors()) {
+                json.writeString(error);
             }
-            updated.append("]\n");
-            updated.append("      }");
-            if (i < creationResults.size() - 1) updated.append(",");
-            updated.append("\n");
+            json.writeEndArray();
+            json.writeEndObject();
         }
-        
-        updated.append("    ]\n");
-        updated.append("  }\n");
-        updated.append("}");
-        
-        return updated.toString();
+        json.writeEndArray();
+        json.writeEndObject();
     }
     
     private List<CreationDetail> generateCreationDetails(List<IssueCreator.IssueCreationResult> results, 
@@ -349,35 +588,6 @@ public class ReportUpdater {
         return details;
     }
     
-    private String updateCsvLineWithCreationStatus(String line, List<IssueCreator.IssueCreationResult> creationResults, int index) {
-        if (index >= creationResults.size()) {
-            return line + ",Not Processed,,,";
-        }
-        
-        IssueCreator.IssueCreationResult result = creationResults.get(index);
-        StringBuilder updated = new StringBuilder(line);
-        
-        updated.append(",").append(result.isSuccess() ? "Success" : "Failed");
-        
-        // Add created issue URL (prefer frontend, then backend)
-        String issueUrl = "";
-        if (result.getFrontendIssue() != null) {
-            issueUrl = result.getFrontendIssue().getUrl();
-        } else if (result.getBackendIssue() != null) {
-            issueUrl = result.getBackendIssue().getUrl();
-        }
-        updated.append(",").append(issueUrl);
-        
-        // Add timestamp
-        updated.append(",").append(LocalDateTime.now().format(TIMESTAMP_FORMAT));
-        
-        // Add error message if any
-        String errorMsg = result.getErrors().isEmpty() ? "" : String.join("; ", result.getErrors());
-        updated.append(",\"").append(escapeJson(errorMsg)).append("\"");
-        
-        return updated.toString();
-    }
-    
     private String formatCreationStatusReportAsJson(CreationStatusReport report) {
         StringBuilder json = new StringBuilder();
         json.append("{\n");
@@ -3,6 +3,7 @@ package com.durion.audit;
 import com.durion.GitHubApiClientSSLBypass;
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Implementation of GitHubIssueCreator that uses GitHubApiClientSSLBypass.
@@ -10,6 +11,9 @@ import java.util.List;
  */
 public class SSLBypassGitHubIssueCreator implements GitHubIssueCreator {
     
+    /** Newest issues examined when reconciling a creation with an unknown outcome */
+    private static final int RECONCILE_WINDOW = 200;
+    
     private final GitHubApiClientSSLBypass sslBypassClient;
     
     public SSLBypassGitHubIssueCreator(String githubToken) {
@@ -26,6 +30,15 @@ public class SSLBypassGitHubIssueCreator implements GitHubIssueCreator {
         return new GitHubIssueAdapter(rawIssue);
     }
     
+    @Override
+    public Optional<GitHubIssue> findIssueByDedupeKey(String repository, String dedupeKey)
+            throws IOException, InterruptedException {
+        
+        // The key is a 64-bit hash token, so any issue carrying it is the one we created
+        return sslBypassClient.findRecentIssueByBodyText(repository, dedupeKey, RECONCILE_WINDOW)
+                .map(GitHubIssueAdapter::new);
+    }
+    
     /**
      * Adapter class to convert GitHubApiClientSSLBypass.GitHubIssue to audit.GitHubIssue interface
      */
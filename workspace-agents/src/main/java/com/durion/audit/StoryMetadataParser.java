@@ -1,14 +1,21 @@
 package com.durion.audit;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
 
 /**
  * Parses coordination files (frontend-coordination.md and
@@ -28,60 +35,118 @@ public class StoryMetadataParser {
     private static final Pattern STORY_PATTERN = Pattern.compile(
             "^-\\s+✅\\s+\\*\\*Story\\s+#(\\d+)\\*\\*:\\s+\\[STORY\\]\\s+(.+)$", Pattern.MULTILINE);
 
+    // Parsed files shared by all parsers in this process, keyed by absolute path
+    private static final Map<Path, ParsedFile> PARSE_CACHE = new ConcurrentHashMap<>();
+
+    private final String frontendCoordinationFile;
+    private final String backendCoordinationFile;
+
+    public StoryMetadataParser() {
+        this(DEFAULT_FRONTEND_COORDINATION_FILE, DEFAULT_BACKEND_COORDINATION_FILE);
+    }
+
     /**
-     * Parses story metadata from the default coordination files.
+     * Creates a parser for coordination files at custom locations.
+     * 
+     * @param frontendCoordinationFile Path to frontend-coordination.md
+     * @param backendCoordinationFile  Path to backend-coordination.md
+     */
+    public StoryMetadataParser(String frontendCoordinationFile, String backendCoordinationFile) {
+        this.frontendCoordinationFile = frontendCoordinationFile;
+        this.backendCoordinationFile = backendCoordinationFile;
+    }
+
+    /**
+     * Parses story metadata from the coordination files. Both files are parsed
+     * concurrently, and a file whose size, modification time and content hash
+     * are unchanged since it was last parsed is not parsed again.
      * 
      * @return Map of story number to StoryMetadata
      * @throws StoryMetadataParserException if files cannot be read or parsed
      */
     public Map<Integer, StoryMetadata> parseCoordinationFiles() throws StoryMetadataParserException {
-        Map<Integer, StoryMetadata> storyMap = new HashMap<>();
-
-        // Parse frontend coordination file
-        Map<Integer, StoryMetadata> frontendStories = parseCoordinationFile(DEFAULT_FRONTEND_COORDINATION_FILE, true);
-        storyMap.putAll(frontendStories);
+        CompletableFuture<Map<Integer, String>> backendParse = CompletableFuture.supplyAsync(() -> {
+            try {
+                return parseCoordinationFile(backendCoordinationFile);
+            } catch (StoryMetadataParserException e) {
+                throw new CompletionException(e);
+            }
+        });
 
-        // Parse backend coordination file to supplement with backend readiness info
-        Map<Integer, StoryMetadata> backendStories = parseCoordinationFile(DEFAULT_BACKEND_COORDINATION_FILE, false);
+        Map<Integer, String> frontendTitles;
+        Map<Integer, String> backendTitles;
+        try {
+            frontendTitles = parseCoordinationFile(frontendCoordinationFile);
+            backendTitles = backendParse.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof StoryMetadataParserException) {
+                throw (StoryMetadataParserException) e.getCause();
+            }
+            throw e;
+        } finally {
+            backendParse.cancel(false);
+        }
 
-        // Merge backend readiness information into existing stories
-        for (Map.Entry<Integer, StoryMetadata> entry : backendStories.entrySet()) {
+        // Frontend stories keep their frontend title; backend readiness is known
+        // up front, so each StoryMetadata is built exactly once
+        Map<Integer, StoryMetadata> storyMap = new HashMap<>(
+                (int) ((frontendTitles.size() + backendTitles.size()) / 0.75f) + 1);
+        for (Map.Entry<Integer, String> entry : frontendTitles.entrySet()) {
+            Integer storyNumber = entry.getKey();
+            storyMap.put(storyNumber, createMetadata(storyNumber, entry.getValue(), true,
+                    backendTitles.containsKey(storyNumber)));
+        }
+        for (Map.Entry<Integer, String> entry : backendTitles.entrySet()) {
             Integer storyNumber = entry.getKey();
-            if (storyMap.containsKey(storyNumber)) {
-                // Story already exists from frontend file, update with backend readiness
-                StoryMetadata existing = storyMap.get(storyNumber);
-                StoryMetadata updated = new StoryMetadata(
-                        existing.getStoryNumber(),
-                        existing.getTitle(),
-                        existing.getUrl(),
-                        existing.isReadyForFrontend(),
-                        true // Backend ready
-                );
-                storyMap.put(storyNumber, updated);
-            } else {
+            if (!frontendTitles.containsKey(storyNumber)) {
                 // Story only in backend file, add it
-                storyMap.put(storyNumber, entry.getValue());
+                storyMap.put(storyNumber, createMetadata(storyNumber, entry.getValue(), false, true));
             }
         }
 
         return storyMap;
     }
 
+    private StoryMetadata createMetadata(int storyNumber, String title, boolean readyForFrontend,
+            boolean readyForBackend) {
+        // Construct GitHub issue URL
+        String url = String.format("https://github.com/louisburroughs/durion/issues/%d", storyNumber);
+        return new StoryMetadata(storyNumber, title, url, readyForFrontend, readyForBackend);
+    }
+
     /**
-     * Parses story metadata from a specific coordination file.
+     * Parses story titles from a specific coordination file, reusing the cached
+     * result when the file has not changed. Size and modification time are
+     * checked first; the content hash catches files rewritten with identical
+     * content.
      * 
-     * @param filePath       Path to the coordination file
-     * @param isFrontendFile Whether this is the frontend coordination file
-     * @return Map of story number to StoryMetadata
+     * @param filePath Path to the coordination file
+     * @return Unmodifiable map of story number to title
      * @throws StoryMetadataParserException if file cannot be read or parsed
      */
-    private Map<Integer, StoryMetadata> parseCoordinationFile(String filePath, boolean isFrontendFile)
-            throws StoryMetadataParserException {
-        Path path = Paths.get(filePath);
+    private Map<Integer, String> parseCoordinationFile(String filePath) throws StoryMetadataParserException {
+        Path path = Paths.get(filePath).toAbsolutePath().normalize();
 
         try {
-            String content = Files.readString(path);
-            return parseStoryMetadata(content, filePath, isFrontendFile);
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            long size = attributes.size();
+            long modifiedMillis = attributes.lastModifiedTime().toMillis();
+
+            ParsedFile cached = PARSE_CACHE.get(path);
+            if (cached != null && cached.size == size && cached.modifiedMillis == modifiedMillis) {
+                return cached.titles;
+            }
+
+            byte[] content = Files.readAllBytes(path);
+            long contentHash = contentHash(content);
+            if (cached != null && cached.contentHash == contentHash && cached.size == content.length) {
+                PARSE_CACHE.put(path, new ParsedFile(size, modifiedMillis, contentHash, cached.titles));
+                return cached.titles;
+            }
+
+            Map<Integer, String> titles = parseStoryTitles(new String(content, StandardCharsets.UTF_8), filePath);
+            PARSE_CACHE.put(path, new ParsedFile(size, modifiedMillis, contentHash, titles));
+            return titles;
         } catch (NoSuchFileException e) {
             throw new StoryMetadataParserException(
                     String.format("Coordination file not found: %s", filePath), e);
@@ -93,44 +158,59 @@ public class StoryMetadataParser {
         }
     }
 
+    private static long contentHash(byte[] content) {
+        CRC32C crc = new CRC32C();
+        crc.update(content);
+        return crc.getValue();
+    }
+
     /**
-     * Parses story metadata from the file content.
+     * Parses story titles from the file content.
      * 
-     * @param content        Content of the coordination file
-     * @param filePath       File path for error reporting
-     * @param isFrontendFile Whether this is the frontend coordination file
-     * @return Map of story number to StoryMetadata
+     * @param content  Content of the coordination file
+     * @param filePath File path for error reporting
+     * @return Unmodifiable map of story number to title
      */
-    private Map<Integer, StoryMetadata> parseStoryMetadata(String content, String filePath, boolean isFrontendFile) {
-        Map<Integer, StoryMetadata> storyMap = new HashMap<>();
+    private Map<Integer, String> parseStoryTitles(String content, String filePath) {
+        Map<Integer, String> titles = new HashMap<>();
 
         Matcher matcher = STORY_PATTERN.matcher(content);
 
         while (matcher.find()) {
             try {
                 int storyNumber = Integer.parseInt(matcher.group(1));
-                String title = matcher.group(2).trim();
-
-                // Construct GitHub issue URL
-                String url = String.format("https://github.com/louisburroughs/durion/issues/%d", storyNumber);
-
-                // Create metadata with readiness flags
-                StoryMetadata metadata = new StoryMetadata(
-                        storyNumber,
-                        title,
-                        url,
-                        isFrontendFile, // readyForFrontend
-                        !isFrontendFile // readyForBackend (set true if this is backend file)
-                );
-
-                storyMap.put(storyNumber, metadata);
+                titles.put(storyNumber, matcher.group(2).trim());
             } catch (NumberFormatException e) {
                 // Skip invalid story numbers
                 System.err.println("Warning: Invalid story number in " + filePath + ": " + matcher.group(1));
             }
         }
 
-        return storyMap;
+        return Collections.unmodifiableMap(titles);
+    }
+
+    /**
+     * Clears the parse cache shared by all parsers.
+     */
+    public static void clearCache() {
+        PARSE_CACHE.clear();
+    }
+
+    /**
+     * Cached parse result and the file fingerprint it was parsed from.
+     */
+    private static class ParsedFile {
+        private final long size;
+        private final long modifiedMillis;
+        private final long contentHash;
+        private final Map<Integer, String> titles;
+
+        ParsedFile(long size, long modifiedMillis, long contentHash, Map<Integer, String> titles) {
+            this.size = size;
+            this.modifiedMillis = modifiedMillis;
+            this.contentHash = contentHash;
+            this.titles = titles;
+        }
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.durion.audit;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
@@ -7,8 +8,6 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Parses the story-sequence.md file to extract story metadata including titles,
@@ -20,15 +19,11 @@ public class StorySequenceParser {
 
     private static final String DEFAULT_STORY_SEQUENCE_FILE = ".github/orchestration/story-sequence.md";
 
-    // Regex patterns for parsing story entries
-    private static final Pattern STORY_HEADER_PATTERN = Pattern.compile(
-            "^### Story #(\\d+): (.+)$", Pattern.MULTILINE);
-    private static final Pattern URL_PATTERN = Pattern.compile(
-            "^\\*\\*URL\\*\\*: (.+)$", Pattern.MULTILINE);
-    private static final Pattern DOMAIN_PATTERN = Pattern.compile(
-            "^\\*\\*Domain\\*\\*: (.+)$", Pattern.MULTILINE);
-    private static final Pattern STATUS_PATTERN = Pattern.compile(
-            "^\\*\\*Status\\*\\*: (.+)$", Pattern.MULTILINE);
+    // Line prefixes for story entries, e.g. "### Story #42: Title" and
+    // "**URL**: https://..."
+    private static final String STORY_HEADER_PREFIX = "### Story #";
+    private static final String HEADER_SEPARATOR = ": ";
+    private static final String URL_PREFIX = "**URL**: ";
 
     /**
      * Parses story metadata from the default story-sequence.md file location.
@@ -50,9 +45,8 @@ public class StorySequenceParser {
     public Map<Integer, StoryMetadata> parseStorySequence(String filePath) throws StorySequenceParserException {
         Path path = Paths.get(filePath);
 
-        try {
-            String content = Files.readString(path);
-            return parseStoryMetadata(content, filePath);
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            return parseStoryMetadata(reader, filePath);
         } catch (NoSuchFileException e) {
             throw new StorySequenceParserException(
                     String.format("Story sequence file not found: %s", filePath), e);
@@ -65,71 +59,56 @@ public class StorySequenceParser {
     }
 
     /**
-     * Parses story metadata from the file content.
+     * Parses story metadata in a single forward pass over the file's lines.
+     * A story runs from its header to the next header; the first URL line in
+     * that range is used. Only the current story is held while reading.
      * 
-     * @param content  Content of the story-sequence.md file
+     * @param reader   Reader positioned at the start of the story-sequence.md file
      * @param filePath File path for error reporting
      * @return Map of story number to StoryMetadata
+     * @throws IOException                  if the file cannot be read
      * @throws StorySequenceParserException if parsing fails
      */
-    private Map<Integer, StoryMetadata> parseStoryMetadata(String content, String filePath)
-            throws StorySequenceParserException {
+    private Map<Integer, StoryMetadata> parseStoryMetadata(BufferedReader reader, String filePath)
+            throws IOException, StorySequenceParserException {
 
         Map<Integer, StoryMetadata> storyMap = new HashMap<>();
 
-        // Find all story headers
-        Matcher headerMatcher = STORY_HEADER_PATTERN.matcher(content);
+        // The story currently being read
+        int storyNumber = -1;
+        String title = null;
+        String url = null;
 
-        while (headerMatcher.find()) {
-            try {
-                int storyNumber = Integer.parseInt(headerMatcher.group(1));
-                String title = headerMatcher.group(2).trim();
-
-                // Find the section for this story (from current match to next story or end)
-                int sectionStart = headerMatcher.start();
-                int sectionEnd = content.length();
-
-                // Look for the next story header to determine section end
-                Matcher nextHeaderMatcher = STORY_HEADER_PATTERN.matcher(content);
-                nextHeaderMatcher.region(headerMatcher.end(), content.length());
-                if (nextHeaderMatcher.find()) {
-                    sectionEnd = nextHeaderMatcher.start();
-                }
-
-                String storySection = content.substring(sectionStart, sectionEnd);
-
-                // Extract URL, domain, and status from the story section
-                String url = extractField(storySection, URL_PATTERN, "URL");
-                String domain = extractField(storySection, DOMAIN_PATTERN, "Domain");
-                String status = extractField(storySection, STATUS_PATTERN, "Status");
-
-                // Validate required fields
-                if (url == null || url.trim().isEmpty()) {
-                    System.err.printf("Warning: Story #%d in %s is missing URL, skipping%n",
-                            storyNumber, filePath);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.startsWith(STORY_HEADER_PREFIX)) {
+                int separator = storyHeaderSeparator(line);
+                if (separator < 0) {
                     continue;
                 }
+                if (storyNumber >= 0) {
+                    addStory(storyMap, storyNumber, title, url, filePath);
+                }
 
-                // Create StoryMetadata object (note: StorySequenceParser is deprecated, use
-                // StoryMetadataParser)
-                // For compatibility, we'll mark as ready for both frontend and backend
-                StoryMetadata metadata = new StoryMetadata(storyNumber, title, url.trim(), true, true);
-
-                // Check for duplicates
-                if (storyMap.containsKey(storyNumber)) {
+                String number = line.substring(STORY_HEADER_PREFIX.length(), separator);
+                try {
+                    storyNumber = Integer.parseInt(number);
+                } catch (NumberFormatException e) {
                     throw new StorySequenceParserException(
-                            String.format("Duplicate story number #%d found in %s", storyNumber, filePath));
+                            String.format("Invalid story number format in %s: %s", filePath, number));
                 }
-
-                storyMap.put(storyNumber, metadata);
-
-            } catch (NumberFormatException e) {
-                throw new StorySequenceParserException(
-                        String.format("Invalid story number format in %s: %s",
-                                filePath, headerMatcher.group(1)));
+                title = line.substring(separator + HEADER_SEPARATOR.length()).trim();
+                url = null;
+            } else if (storyNumber >= 0 && url == null && line.startsWith(URL_PREFIX)
+                    && line.length() > URL_PREFIX.length()) {
+                url = line.substring(URL_PREFIX.length());
             }
         }
 
+        if (storyNumber >= 0) {
+            addStory(storyMap, storyNumber, title, url, filePath);
+        }
+
         if (storyMap.isEmpty()) {
             throw new StorySequenceParserException(
                     String.format("No valid story entries found in %s", filePath));
@@ -139,19 +118,44 @@ public class StorySequenceParser {
     }
 
     /**
-     * Extracts a field value using the provided regex pattern.
+     * Finds the ": " after the story number in a header line.
      * 
-     * @param content   Content to search in
-     * @param pattern   Regex pattern to match
-     * @param fieldName Field name for error reporting
-     * @return Extracted field value or null if not found
+     * @return Index of the separator, or -1 if the line is not a story header
+     */
+    private int storyHeaderSeparator(String line) {
+        int index = STORY_HEADER_PREFIX.length();
+        while (index < line.length() && line.charAt(index) >= '0' && line.charAt(index) <= '9') {
+            index++;
+        }
+        boolean hasNumber = index > STORY_HEADER_PREFIX.length();
+        boolean hasTitle = line.length() > index + HEADER_SEPARATOR.length();
+        return hasNumber && hasTitle && line.startsWith(HEADER_SEPARATOR, index) ? index : -1;
+    }
+
+    /**
+     * Adds a completed story to the map, skipping stories without a URL.
      */
-    private String extractField(String content, Pattern pattern, String fieldName) {
-        Matcher matcher = pattern.matcher(content);
-        if (matcher.find()) {
-            return matcher.group(1);
+    private void addStory(Map<Integer, StoryMetadata> storyMap, int storyNumber, String title, String url,
+            String filePath) throws StorySequenceParserException {
+        // Validate required fields
+        if (url == null || url.trim().isEmpty()) {
+            System.err.printf("Warning: Story #%d in %s is missing URL, skipping%n",
+                    storyNumber, filePath);
+            return;
         }
-        return null;
+
+        // Create StoryMetadata object (note: StorySequenceParser is deprecated, use
+        // StoryMetadataParser)
+        // For compatibility, we'll mark as ready for both frontend and backend
+        StoryMetadata metadata = new StoryMetadata(storyNumber, title, url.trim(), true, true);
+
+        // Check for duplicates
+        if (storyMap.containsKey(storyNumber)) {
+            throw new StorySequenceParserException(
+                    String.format("Duplicate story number #%d found in %s", storyNumber, filePath));
+        }
+
+        storyMap.put(storyNumber, metadata);
     }
 
     /**
@@ -0,0 +1,189 @@
+package com.durion.core;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission control for operations routed through the registry
+ *
+ * At most {@link AgentConfiguration#getMaxConcurrentUsers()} operations run
+ * at once across all agents. Operations beyond that wait in a bounded queue
+ * per agent, and are rejected at once when the agent's queue is full or
+ * after waiting longer than the maximum queue wait, so overload turns into
+ * fast rejections instead of ever-growing latency:
+ * - {@link Policy#SHED} queues without blocking the caller
+ * - {@link Policy#BLOCK} holds the calling thread until admitted, pushing
+ *   back on callers that produce load from their own threads
+ *
+ * Every admission must be paired with one {@link #release()}.
+ */
+public class AdmissionController {
+
+    /**
+     * What happens to an operation that arrives when all slots are taken
+     */
+    public enum Policy {
+        /** Queue asynchronously; reject when the agent's queue is full */
+        SHED,
+        /** Block the caller until admitted; reject when the agent's queue is full */
+        BLOCK
+    }
+
+    private final int maxConcurrent;
+    private final int maxQueuedPerAgent;
+    private final Policy policy;
+    private final Duration maxQueueWait;
+    private final Semaphore permits;
+    private final Queue<CompletableFuture<Boolean>> waiting = new ConcurrentLinkedQueue<>();
+    private final Map<String, AtomicInteger> queuedByAgent = new ConcurrentHashMap<>();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public AdmissionController(int maxConcurrent, int maxQueuedPerAgent, Policy policy, Duration maxQueueWait) {
+        if (maxConcurrent < 1 || maxQueuedPerAgent < 0 || maxQueueWait.isNegative()) {
+            throw new IllegalArgumentException("Admission limits must be positive");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueuedPerAgent = maxQueuedPerAgent;
+        this.policy = policy;
+        this.maxQueueWait = maxQueueWait;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Creates a controller from the admission settings of a configuration.
+     */
+    public static AdmissionController fromConfiguration(AgentConfiguration config) {
+        return new AdmissionController(config.getMaxConcurrentUsers(), config.getAdmissionQueuePerAgent(),
+            Policy.valueOf(config.getAdmissionPolicy()), Duration.ofMillis(config.getAdmissionMaxWaitMillis()));
+    }
+
+    /**
+     * Asks for a slot to run an operation on an agent.
+     *
+     * @param agentId Agent the operation is routed to; queues are bounded per agent
+     * @return Future completing with true once admitted, or with false if the
+     *         operation was rejected
+     */
+    public CompletableFuture<Boolean> admit(String agentId) {
+        if (tryAcquireInTurn()) {
+            return admitted();
+        }
+        AtomicInteger queued = queuedByAgent.computeIfAbsent(agentId, id -> new AtomicInteger());
+        if (queued.incrementAndGet() > maxQueuedPerAgent) {
+            queued.decrementAndGet();
+            return rejected();
+        }
+        return policy == Policy.BLOCK ? block(queued) : enqueue(queued);
+    }
+
+    /**
+     * Takes a free slot only if no earlier operation is waiting for one, so
+     * newcomers cannot starve queued operations.
+     */
+    private boolean tryAcquireInTurn() {
+        if (policy == Policy.SHED) {
+            return waiting.isEmpty() && permits.tryAcquire();
+        }
+        try {
+            // Unlike tryAcquire(), a timed tryAcquire honours the fair semaphore's queue
+            return permits.tryAcquire(0, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private CompletableFuture<Boolean> block(AtomicInteger queued) {
+        try {
+            if (permits.tryAcquire(maxQueueWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                return admitted();
+            }
+            return rejected();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return rejected();
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    private CompletableFuture<Boolean> enqueue(AtomicInteger queued) {
+        CompletableFuture<Boolean> admission = new CompletableFuture<>();
+        // A waiter that times out gives up its place; it never takes a permit
+        admission
+            .completeOnTimeout(false, maxQueueWait.toNanos(), TimeUnit.NANOSECONDS)
+            .whenComplete((admittedNow, error) -> {
+                queued.decrementAndGet();
+                if (Boolean.TRUE.equals(admittedNow)) {
+                    admitted.increment();
+                } else {
+                    rejected.increment();
+                }
+            });
+        waiting.add(admission);
+        // A permit may have been released between tryAcquire and add
+        handOff();
+        return admission;
+    }
+
+    /**
+     * Frees the slot of a finished operation, admitting the next waiter.
+     */
+    public void release() {
+        permits.release();
+        handOff();
+    }
+
+    private void handOff() {
+        while (!waiting.isEmpty() && permits.tryAcquire()) {
+            CompletableFuture<Boolean> next;
+            do {
+                next = waiting.poll();
+            } while (next != null && next.isDone());
+            if (next == null || !next.complete(true)) {
+                permits.release();
+                if (next == null) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private CompletableFuture<Boolean> admitted() {
+        admitted.increment();
+        return CompletableFuture.completedFuture(true);
+    }
+
+    private CompletableFuture<Boolean> rejected() {
+        rejected.increment();
+        return CompletableFuture.completedFuture(false);
+    }
+
+    public int getMaxConcurrent() { return maxConcurrent; }
+    public int getMaxQueuedPerAgent() { return maxQueuedPerAgent; }
+    public Policy getPolicy() { return policy; }
+    public Duration getMaxQueueWait() { return maxQueueWait; }
+
+    /** Gets the number of admitted operations that have not been released. */
+    public int getInFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /** Gets the number of operations waiting for admission to an agent. */
+    public int getQueued(String agentId) {
+        AtomicInteger queued = queuedByAgent.get(agentId);
+        return queued == null ? 0 : queued.get();
+    }
+
+    public long getAdmittedCount() { return admitted.sum(); }
+    public long getRejectedCount() { return rejected.sum(); }
+}
@@ -12,17 +12,52 @@ public class AgentCapabilities {
     private final Map<String, String> operationDescriptions;
     private final Set<String> requiredDependencies;
     private final int maxConcurrentOperations;
+    private final Set<String> cacheableOperations;
+    private final Set<String> mutatingOperations;
     
     public AgentCapabilities(String agentType, 
                            Set<String> supportedOperations,
                            Map<String, String> operationDescriptions,
                            Set<String> requiredDependencies,
                            int maxConcurrentOperations) {
+        this(agentType, supportedOperations, operationDescriptions, requiredDependencies,
+             maxConcurrentOperations, Set.of());
+    }
+    
+    /**
+     * Creates capabilities that declare cacheable operations: operations
+     * whose result depends only on their parameters and the agent's state,
+     * so the registry may reuse a recent result for identical calls.
+     */
+    public AgentCapabilities(String agentType, 
+                           Set<String> supportedOperations,
+                           Map<String, String> operationDescriptions,
+                           Set<String> requiredDependencies,
+                           int maxConcurrentOperations,
+                           Set<String> cacheableOperations) {
+        this(agentType, supportedOperations, operationDescriptions, requiredDependencies,
+             maxConcurrentOperations, cacheableOperations, Set.of());
+    }
+    
+    /**
+     * Creates capabilities that also declare mutating operations: operations
+     * that change the state other operations read. A successful mutating
+     * operation drops the agent's cached results.
+     */
+    public AgentCapabilities(String agentType, 
+                           Set<String> supportedOperations,
+                           Map<String, String> operationDescriptions,
+                           Set<String> requiredDependencies,
+                           int maxConcurrentOperations,
+                           Set<String> cacheableOperations,
+                           Set<String> mutatingOperations) {
         this.agentType = agentType;
         this.supportedOperations = supportedOperations;
         this.operationDescriptions = operationDescriptions;
         this.requiredDependencies = requiredDependencies;
         this.maxConcurrentOperations = maxConcurrentOperations;
+        this.cacheableOperations = cacheableOperations;
+        this.mutatingOperations = mutatingOperations;
     }
     
     public String getAgentType() { return agentType; }
@@ -30,8 +65,18 @@ public class AgentCapabilities {
     public Map<String, String> getOperationDescriptions() { return operationDescriptions; }
     public Set<String> getRequiredDependencies() { return requiredDependencies; }
     public int getMaxConcurrentOperations() { return maxConcurrentOperations; }
+    public Set<String> getCacheableOperations() { return cacheableOperations; }
+    public Set<String> getMutatingOperations() { return mutatingOperations; }
     
     public boolean supportsOperation(String operation) {
         return supportedOperations.contains(operation);
     }
+    
+    public boolean isCacheable(String operation) {
+        return cacheableOperations.contains(operation);
+    }
+    
+    public boolean isMutating(String operation) {
+        return mutatingOperations.contains(operation);
+    }
 }
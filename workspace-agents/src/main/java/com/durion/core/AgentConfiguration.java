@@ -37,4 +37,61 @@ public class AgentConfiguration {
     public int getResponseTimeoutSeconds() {
         return getSetting("responseTimeoutSeconds", 5);
     }
+    
+    /**
+     * Operations allowed to wait for admission per agent once
+     * maxConcurrentUsers operations are running
+     */
+    public int getAdmissionQueuePerAgent() {
+        return getSetting("admissionQueuePerAgent", getMaxConcurrentUsers());
+    }
+    
+    /**
+     * Admission policy name: SHED or BLOCK (see {@link AdmissionController.Policy})
+     */
+    public String getAdmissionPolicy() {
+        return getSetting("admissionPolicy", AdmissionController.Policy.SHED.name());
+    }
+    
+    /**
+     * Longest time an operation waits for admission before it is rejected
+     */
+    public int getAdmissionMaxWaitMillis() {
+        return getSetting("admissionMaxWaitMillis", getResponseTimeoutSeconds() * 1000);
+    }
+    
+    /**
+     * How long story events are collected into one batch before orchestration reruns
+     */
+    public int getEventBatchWindowMillis() {
+        return getSetting("eventBatchWindowMillis", 30_000);
+    }
+    
+    /**
+     * How often agent health is re-evaluated from the agents' metrics
+     */
+    public int getHealthRefreshMillis() {
+        return getSetting("healthRefreshMillis", 5000);
+    }
+    
+    /**
+     * Port serving Prometheus metrics; negative, the default, disables the endpoint
+     */
+    public int getMetricsPort() {
+        return getSetting("metricsPort", -1);
+    }
+    
+    /**
+     * Host the metrics endpoint binds to; empty binds the loopback interface only
+     */
+    public String getMetricsHost() {
+        return getSetting("metricsHost", "");
+    }
+    
+    /**
+     * File that trace spans are written to as Zipkin JSON; empty, the default, disables tracing
+     */
+    public String getTraceFile() {
+        return getSetting("traceFile", "");
+    }
 }
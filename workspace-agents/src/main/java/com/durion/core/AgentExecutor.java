@@ -0,0 +1,326 @@
+package com.durion.core;
+
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Dedicated executor and bulkhead for a single workspace agent
+ *
+ * Each agent runs its operations here instead of on the shared common pool,
+ * so blocking GitHub I/O in one agent cannot starve the CPU-bound agents and
+ * one slow agent cannot degrade the others:
+ * - I/O agents run each operation on its own virtual thread
+ * - CPU agents run on a small daemon pool sized to the available processors
+ * - At most {@link AgentCapabilities#getMaxConcurrentOperations()} operations
+ *   run at once; further operations wait in a bounded queue and are rejected
+ *   once it is full
+ *
+ * An operation whose future times out or is cancelled is interrupted, or
+ * skipped if it has not started yet; timeouts are recorded separately from
+ * other failures. Every admitted and rejected operation is recorded in the
+ * executor's {@link AgentMetricsRecorder}. Idle executors hold no threads.
+ * Operations run under the trace span that was current when they were
+ * submitted.
+ */
+public class AgentExecutor implements AutoCloseable {
+
+    /** Queue slots per permitted concurrent operation */
+    public static final int QUEUE_DEPTH_FACTOR = 4;
+    /** Minimum queue depth, so small bulkheads can still absorb bursts */
+    public static final int MIN_QUEUE_DEPTH = 16;
+
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 30;
+
+    /**
+     * How an agent spends its time, which decides the kind of threads it gets
+     */
+    public enum Workload {
+        /** Mostly computation; runs on platform threads */
+        CPU,
+        /** Mostly blocking calls (GitHub API, files); runs on virtual threads */
+        IO
+    }
+
+    private final String agentId;
+    private final int maxConcurrentOperations;
+    private final int maxQueueDepth;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger peakQueueDepth = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AgentMetricsRecorder metrics = new AgentMetricsRecorder();
+    private volatile boolean closed = false;
+
+    public AgentExecutor(String agentId, int maxConcurrentOperations, int maxQueueDepth, Workload workload) {
+        if (maxConcurrentOperations < 1 || maxQueueDepth < 0) {
+            throw new IllegalArgumentException("Bulkhead limits must be positive for agent " + agentId);
+        }
+        this.agentId = agentId;
+        this.maxConcurrentOperations = maxConcurrentOperations;
+        this.maxQueueDepth = maxQueueDepth;
+        this.permits = new Semaphore(maxConcurrentOperations);
+        this.executor = workload == Workload.IO
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(agentId + "-", 1).factory())
+            : newPlatformPool(agentId, Math.min(maxConcurrentOperations, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Creates an executor sized from the agent's declared capabilities. Not
+     * for use while the agent is being constructed; agents pass their id and
+     * limit to {@link #forAgent(String, int, Workload)} instead.
+     *
+     * @param agent    The agent; its capabilities must not depend on initialization
+     * @param workload Whether the agent is CPU- or I/O-bound
+     */
+    public static AgentExecutor forAgent(WorkspaceAgent agent, Workload workload) {
+        return forAgent(agent.getAgentId(), agent.getCapabilities().getMaxConcurrentOperations(), workload);
+    }
+
+    /**
+     * Creates an executor for an agent's declared concurrency limit, with a
+     * queue proportional to it.
+     *
+     * @param agentId                 The agent's id, used for thread names
+     * @param maxConcurrentOperations The limit the agent declares in its capabilities
+     * @param workload                Whether the agent is CPU- or I/O-bound
+     */
+    public static AgentExecutor forAgent(String agentId, int maxConcurrentOperations, Workload workload) {
+        int maxConcurrent = Math.max(1, maxConcurrentOperations);
+        int queueDepth = Math.max(MIN_QUEUE_DEPTH, maxConcurrent * QUEUE_DEPTH_FACTOR);
+        return new AgentExecutor(agentId, maxConcurrent, queueDepth, workload);
+    }
+
+    /**
+     * Runs an agent operation inside the bulkhead. A rejected operation
+     * completes with a failed result rather than exceptionally, matching how
+     * agents report their own failures.
+     *
+     * @param operation The operation body
+     * @return Future completing with the operation's result
+     */
+    public CompletableFuture<AgentResult> execute(Supplier<AgentResult> operation) {
+        CompletableFuture<AgentResult> future = new CompletableFuture<>();
+        if (!admit(operation, future, result -> result != null && result.isSuccess())) {
+            future.complete(AgentResult.rejected(rejectionMessage()));
+        }
+        return future;
+    }
+
+    /**
+     * Runs a task inside the bulkhead.
+     *
+     * @param task The task body
+     * @return Future completing with the task's value, or exceptionally with
+     *         {@link RejectedExecutionException} if the bulkhead is full
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (!admit(task, future, value -> true)) {
+            future.completeExceptionally(new RejectedExecutionException(rejectionMessage()));
+        }
+        return future;
+    }
+
+    private <T> boolean admit(Supplier<T> task, CompletableFuture<T> future, Predicate<T> succeeded) {
+        if (closed) {
+            reject();
+            return false;
+        }
+        boolean acquired = permits.tryAcquire();
+        if (!acquired) {
+            int depth = queued.incrementAndGet();
+            if (depth > maxQueueDepth) {
+                queued.decrementAndGet();
+                reject();
+                return false;
+            }
+            peakQueueDepth.accumulateAndGet(depth, Math::max);
+        }
+
+        // Latency is measured from admission, so time spent queued counts
+        long admittedNanos = metrics.recordStart();
+        Span span = Tracer.currentSpan();
+        Cancellation cancellation = new Cancellation();
+        future.whenComplete((value, error) -> {
+            if (error != null) {
+                cancellation.cancel();
+            }
+        });
+        Runnable run = () -> {
+            T value = null;
+            Throwable failure = null;
+            if (cancellation.begin()) {
+                Span.Scope scope = span.makeCurrent();
+                try {
+                    value = task.get();
+                } catch (Throwable t) {
+                    failure = t;
+                } finally {
+                    scope.close();
+                    cancellation.end();
+                }
+            }
+            // Record and release before completing, so callers see up-to-date metrics
+            if (isTimedOut(future)) {
+                metrics.recordTimeout(admittedNanos);
+            } else if (failure != null) {
+                metrics.recordError(admittedNanos);
+            } else {
+                metrics.recordCompletion(admittedNanos, !future.isDone() && succeeded.test(value));
+            }
+            completed.incrementAndGet();
+            permits.release();
+            if (failure == null) {
+                future.complete(value);
+            } else {
+                future.completeExceptionally(failure);
+            }
+            drainWaiting();
+        };
+
+        if (acquired) {
+            dispatch(run);
+        } else {
+            waiting.add(run);
+            // A permit may have been released between tryAcquire and add
+            drainWaiting();
+        }
+        return true;
+    }
+
+    private static boolean isTimedOut(CompletableFuture<?> future) {
+        if (!future.isCompletedExceptionally()) {
+            return false;
+        }
+        try {
+            future.join();
+            return false;
+        } catch (CancellationException e) {
+            return false;
+        } catch (CompletionException e) {
+            return e.getCause() instanceof TimeoutException;
+        }
+    }
+
+    private void reject() {
+        rejected.incrementAndGet();
+        metrics.recordRejection();
+    }
+
+    private void drainWaiting() {
+        while (!waiting.isEmpty() && permits.tryAcquire()) {
+            Runnable next = waiting.poll();
+            if (next == null) {
+                permits.release();
+                return;
+            }
+            queued.decrementAndGet();
+            dispatch(next);
+        }
+    }
+
+    private void dispatch(Runnable run) {
+        try {
+            executor.execute(run);
+        } catch (RejectedExecutionException e) {
+            // Closed while dispatching; run inline so the caller's future still completes
+            run.run();
+        }
+    }
+
+    private String rejectionMessage() {
+        return closed
+            ? "Agent " + agentId + " is shut down"
+            : String.format("Agent %s is at capacity (%d running, %d queued)",
+                agentId, getInFlight(), getQueueDepth());
+    }
+
+    public String getAgentId() { return agentId; }
+    public int getMaxConcurrentOperations() { return maxConcurrentOperations; }
+    public int getMaxQueueDepth() { return maxQueueDepth; }
+
+    /** Gets the number of operations currently running. */
+    public int getInFlight() {
+        return maxConcurrentOperations - permits.availablePermits();
+    }
+
+    /** Gets the number of operations waiting for a permit. */
+    public int getQueueDepth() {
+        return Math.max(0, queued.get());
+    }
+
+    public int getPeakQueueDepth() { return peakQueueDepth.get(); }
+    public AgentMetricsRecorder getMetricsRecorder() { return metrics; }
+
+    /**
+     * Gets live metrics for the agent's operations.
+     */
+    public AgentMetrics getMetrics() {
+        return metrics.snapshot();
+    }
+
+    public long getCompletedCount() { return completed.get(); }
+    public long getRejectedCount() { return rejected.get(); }
+
+    /**
+     * Stops accepting operations. Running and queued operations still finish.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        executor.shutdown();
+    }
+
+    /**
+     * Links an operation's future to the thread running it. Completing the
+     * future exceptionally, as {@link CompletableFuture#orTimeout} and
+     * {@link CompletableFuture#cancel} do, skips the operation if it is still
+     * queued and interrupts it if it is running, so blocking calls such as
+     * HTTP requests are abandoned instead of holding the thread.
+     */
+    private static final class Cancellation {
+        private Thread runner;
+        private boolean cancelled;
+
+        /** Claims the current thread for the operation; false if already cancelled */
+        synchronized boolean begin() {
+            if (cancelled) {
+                return false;
+            }
+            runner = Thread.currentThread();
+            return true;
+        }
+
+        /** Releases the thread, clearing any interrupt meant for this operation */
+        synchronized void end() {
+            runner = null;
+            Thread.interrupted();
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (runner != null) {
+                runner.interrupt();
+            }
+        }
+    }
+
+    private static ExecutorService newPlatformPool(String agentId, int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads,
+            IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, agentId + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
@@ -0,0 +1,184 @@
+package com.durion.core;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Service-level health of workspace agents, kept as a cached snapshot
+ *
+ * An agent's health is the worse of what it reports itself and what its
+ * recent traffic says, compared against its own targets over the metrics
+ * sliding window:
+ * - Availability: infrastructure errors, meaning timeouts and exceptions,
+ *   burn the error budget left by {@link WorkspaceAgent#getAvailabilityTarget()};
+ *   burning it faster than allowed is DEGRADED, more than
+ *   {@value #UNHEALTHY_BURN_RATE} times faster is UNHEALTHY. Failed results
+ *   and rejections are the agent answering, so they do not count, and fewer
+ *   than {@value #MIN_WINDOW_ERRORS} errors never mark an agent down
+ * - Latency: a p95 above {@link WorkspaceAgent#getResponseTimeTarget()} is
+ *   DEGRADED, above twice the target UNHEALTHY
+ *
+ * Windows with fewer than {@value #MIN_WINDOW_REQUESTS} requests are too
+ * small to judge, so only the agent's own report counts.
+ *
+ * Reading health never calls the agents. A read of a snapshot older than the
+ * refresh interval re-evaluates all agents on a background thread and
+ * returns the current snapshot meanwhile.
+ */
+public class AgentHealthMonitor {
+
+    /** Error-budget burn rate beyond which an agent is unhealthy */
+    public static final double UNHEALTHY_BURN_RATE = 10.0;
+    /** Fewest windowed requests whose error rate and latency are trusted */
+    public static final long MIN_WINDOW_REQUESTS = 20;
+    /** Fewest windowed errors that can lower an agent's availability health */
+    public static final long MIN_WINDOW_ERRORS = 5;
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(5);
+
+    private static final ExecutorService REFRESH_EXECUTOR =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("agent-health-", 1).factory());
+
+    private final Supplier<Collection<WorkspaceAgent>> agents;
+    private final long refreshIntervalNanos;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile Map<String, AgentHealth> snapshot = Map.of();
+    private volatile long refreshedAtNanos = System.nanoTime();
+
+    /**
+     * Creates a monitor.
+     *
+     * @param agents          Supplies the agents to evaluate on each refresh
+     * @param refreshInterval How old a snapshot may get before it is refreshed
+     */
+    public AgentHealthMonitor(Supplier<Collection<WorkspaceAgent>> agents, Duration refreshInterval) {
+        this.agents = agents;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+    }
+
+    /**
+     * Gets an agent's health from the snapshot, UNKNOWN if it has not been
+     * evaluated yet.
+     */
+    public AgentHealth getHealth(String agentId) {
+        refreshIfStale();
+        return snapshot.getOrDefault(agentId, AgentHealth.UNKNOWN);
+    }
+
+    /**
+     * Gets the health of every evaluated agent.
+     */
+    public Map<String, AgentHealth> getSnapshot() {
+        refreshIfStale();
+        return snapshot;
+    }
+
+    /**
+     * Re-evaluates every agent now, on the calling thread.
+     */
+    public synchronized void refresh() {
+        Map<String, AgentHealth> next = new HashMap<>();
+        for (WorkspaceAgent agent : agents.get()) {
+            next.put(agent.getAgentId(), evaluate(agent));
+        }
+        snapshot = Map.copyOf(next);
+        refreshedAtNanos = System.nanoTime();
+    }
+
+    /**
+     * Re-evaluates one agent now, such as one that was just registered or
+     * initialized.
+     */
+    public synchronized void refresh(WorkspaceAgent agent) {
+        Map<String, AgentHealth> next = new HashMap<>(snapshot);
+        next.put(agent.getAgentId(), evaluate(agent));
+        snapshot = Map.copyOf(next);
+    }
+
+    /**
+     * Drops an agent from the snapshot.
+     */
+    public synchronized void remove(String agentId) {
+        Map<String, AgentHealth> next = new HashMap<>(snapshot);
+        next.remove(agentId);
+        snapshot = Map.copyOf(next);
+    }
+
+    private void refreshIfStale() {
+        if (System.nanoTime() - refreshedAtNanos < refreshIntervalNanos || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        REFRESH_EXECUTOR.execute(() -> {
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                System.err.println("⚠️ Agent health refresh failed: " + e.getMessage());
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    /**
+     * Evaluates an agent against its own response time and availability
+     * targets.
+     */
+    public static AgentHealth evaluate(WorkspaceAgent agent) {
+        AgentHealth reported;
+        AgentMetrics metrics;
+        try {
+            reported = agent.getHealth();
+            metrics = agent.getMetrics();
+        } catch (RuntimeException e) {
+            return AgentHealth.UNHEALTHY;
+        }
+        return worse(reported != null ? reported : AgentHealth.UNKNOWN,
+            evaluate(metrics, agent.getResponseTimeTarget(), agent.getAvailabilityTarget()));
+    }
+
+    /**
+     * Classifies windowed metrics against service-level targets.
+     *
+     * @param metrics            Metrics with a sliding window
+     * @param responseTimeTarget Target for 95% of requests
+     * @param availabilityTarget Target share of successful requests
+     * @return HEALTHY when both targets are met or the window is too small to judge
+     */
+    public static AgentHealth evaluate(AgentMetrics metrics, Duration responseTimeTarget, double availabilityTarget) {
+        if (metrics == null || metrics.getWindowRequests() < MIN_WINDOW_REQUESTS) {
+            return AgentHealth.HEALTHY;
+        }
+
+        AgentHealth availability = AgentHealth.HEALTHY;
+        if (metrics.getWindowErrors() >= MIN_WINDOW_ERRORS) {
+            double errorBudget = Math.max(1e-9, 1.0 - availabilityTarget);
+            double burnRate = ((double) metrics.getWindowErrors() / metrics.getWindowRequests()) / errorBudget;
+            availability = burnRate > UNHEALTHY_BURN_RATE ? AgentHealth.UNHEALTHY
+                : burnRate > 1.0 ? AgentHealth.DEGRADED : AgentHealth.HEALTHY;
+        }
+
+        Duration p95 = metrics.getP95ResponseTime();
+        AgentHealth latency = p95.compareTo(responseTimeTarget.multipliedBy(2)) > 0 ? AgentHealth.UNHEALTHY
+            : p95.compareTo(responseTimeTarget) > 0 ? AgentHealth.DEGRADED : AgentHealth.HEALTHY;
+
+        return worse(availability, latency);
+    }
+
+    private static AgentHealth worse(AgentHealth a, AgentHealth b) {
+        return severity(a) >= severity(b) ? a : b;
+    }
+
+    private static int severity(AgentHealth health) {
+        switch (health) {
+            case HEALTHY: return 0;
+            case UNKNOWN: return 1;
+            case DEGRADED: return 2;
+            default: return 3;
+        }
+    }
+}
@@ -10,8 +10,14 @@ public class AgentMetrics {
     private final long totalRequests;
     private final long successfulRequests;
     private final long failedRequests;
+    private final long timedOutRequests;
+    private final long windowRequests;
+    private final long windowErrors;
     private final Duration averageResponseTime;
     private final Duration maxResponseTime;
+    private final Duration p50ResponseTime;
+    private final Duration p95ResponseTime;
+    private final Duration p99ResponseTime;
     private final double currentAvailability;
     private final int activeConnections;
     private final Instant lastUpdated;
@@ -19,11 +25,71 @@ public class AgentMetrics {
     public AgentMetrics(long totalRequests, long successfulRequests, long failedRequests,
                        Duration averageResponseTime, Duration maxResponseTime,
                        double currentAvailability, int activeConnections) {
+        this(totalRequests, successfulRequests, failedRequests, averageResponseTime, maxResponseTime,
+             averageResponseTime, averageResponseTime, averageResponseTime, currentAvailability, activeConnections);
+    }
+    
+    /**
+     * Creates metrics with latency percentiles, as recorded by
+     * {@link AgentMetricsRecorder}. Without percentiles, they default to the
+     * average response time.
+     */
+    public AgentMetrics(long totalRequests, long successfulRequests, long failedRequests,
+                       Duration averageResponseTime, Duration maxResponseTime,
+                       Duration p50ResponseTime, Duration p95ResponseTime, Duration p99ResponseTime,
+                       double currentAvailability, int activeConnections) {
+        this(totalRequests, successfulRequests, failedRequests, 0, averageResponseTime, maxResponseTime,
+             p50ResponseTime, p95ResponseTime, p99ResponseTime, currentAvailability, activeConnections);
+    }
+    
+    /**
+     * Creates metrics that also count deadline misses. Timed-out requests are
+     * a subset of the failed requests.
+     */
+    public AgentMetrics(long totalRequests, long successfulRequests, long failedRequests, long timedOutRequests,
+                       Duration averageResponseTime, Duration maxResponseTime,
+                       Duration p50ResponseTime, Duration p95ResponseTime, Duration p99ResponseTime,
+                       double currentAvailability, int activeConnections) {
+        this(totalRequests, successfulRequests, failedRequests, timedOutRequests, totalRequests,
+             averageResponseTime, maxResponseTime, p50ResponseTime, p95ResponseTime, p99ResponseTime,
+             currentAvailability, activeConnections);
+    }
+    
+    /**
+     * Creates metrics whose latencies and availability cover a sliding window
+     * of windowRequests requests. Without a window, the lifetime request
+     * count is used. Without a count of infrastructure errors, every failure
+     * in the window counts as one.
+     */
+    public AgentMetrics(long totalRequests, long successfulRequests, long failedRequests, long timedOutRequests,
+                       long windowRequests, Duration averageResponseTime, Duration maxResponseTime,
+                       Duration p50ResponseTime, Duration p95ResponseTime, Duration p99ResponseTime,
+                       double currentAvailability, int activeConnections) {
+        this(totalRequests, successfulRequests, failedRequests, timedOutRequests, windowRequests,
+             Math.round((1.0 - currentAvailability) * windowRequests), averageResponseTime, maxResponseTime,
+             p50ResponseTime, p95ResponseTime, p99ResponseTime, currentAvailability, activeConnections);
+    }
+    
+    /**
+     * Creates metrics that also count the window's infrastructure errors,
+     * timeouts and exceptions, as recorded by {@link AgentMetricsRecorder}.
+     * Failed results the agent returned are failures but not errors.
+     */
+    public AgentMetrics(long totalRequests, long successfulRequests, long failedRequests, long timedOutRequests,
+                       long windowRequests, long windowErrors, Duration averageResponseTime, Duration maxResponseTime,
+                       Duration p50ResponseTime, Duration p95ResponseTime, Duration p99ResponseTime,
+                       double currentAvailability, int activeConnections) {
         this.totalRequests = totalRequests;
         this.successfulRequests = successfulRequests;
         this.failedRequests = failedRequests;
+        this.timedOutRequests = timedOutRequests;
+        this.windowRequests = windowRequests;
+        this.windowErrors = windowErrors;
         this.averageResponseTime = averageResponseTime;
         this.maxResponseTime = maxResponseTime;
+        this.p50ResponseTime = p50ResponseTime;
+        this.p95ResponseTime = p95ResponseTime;
+        this.p99ResponseTime = p99ResponseTime;
         this.currentAvailability = currentAvailability;
         this.activeConnections = activeConnections;
         this.lastUpdated = Instant.now();
@@ -32,8 +98,14 @@ public class AgentMetrics {
     public long getTotalRequests() { return totalRequests; }
     public long getSuccessfulRequests() { return successfulRequests; }
     public long getFailedRequests() { return failedRequests; }
+    public long getTimedOutRequests() { return timedOutRequests; }
+    public long getWindowRequests() { return windowRequests; }
+    public long getWindowErrors() { return windowErrors; }
     public Duration getAverageResponseTime() { return averageResponseTime; }
     public Duration getMaxResponseTime() { return maxResponseTime; }
+    public Duration getP50ResponseTime() { return p50ResponseTime; }
+    public Duration getP95ResponseTime() { return p95ResponseTime; }
+    public Duration getP99ResponseTime() { return p99ResponseTime; }
     public double getCurrentAvailability() { return currentAvailability; }
     public int getActiveConnections() { return activeConnections; }
     public Instant getLastUpdated() { return lastUpdated; }
@@ -42,8 +114,12 @@ public class AgentMetrics {
         return totalRequests > 0 ? (double) successfulRequests / totalRequests : 0.0;
     }
     
+    /**
+     * Checks the agent targets: 95% of requests within 5 seconds and 99.9%
+     * availability
+     */
     public boolean meetsPerformanceTargets() {
-        return averageResponseTime.compareTo(Duration.ofSeconds(5)) <= 0 && 
+        return p95ResponseTime.compareTo(Duration.ofSeconds(5)) <= 0 && 
                currentAvailability >= 0.999;
     }
 }
@@ -0,0 +1,276 @@
+package com.durion.core;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Live performance metrics for a workspace agent
+ *
+ * Every operation that passes through an {@link AgentExecutor} is recorded
+ * here, so {@link WorkspaceAgent#getMetrics()} reports real traffic instead of
+ * fixed values. Recording is lock-free:
+ * - Lifetime request counts use {@link LongAdder}; timeouts are counted
+ *   separately from other failures
+ * - Infrastructure errors, meaning timeouts and exceptions, are counted
+ *   over the sliding window apart from failed results the agent returned
+ * - Latencies go into a log-linear histogram (about 3% precision) over a
+ *   sliding window made of fixed time slots; the oldest slot is recycled as
+ *   time moves on, so percentiles reflect only recent traffic
+ * - An in-flight gauge tracks running operations
+ *
+ * A slot being recycled while another thread records into it can lose that
+ * single sample; the window is an approximation by design.
+ */
+public class AgentMetricsRecorder {
+
+    /** Default sliding window: six 10-second slots */
+    public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(1);
+    public static final int DEFAULT_SLOTS = 6;
+
+    // Log-linear buckets: 32 linear sub-buckets per power of two of microseconds
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 36; // 2^36 us, about 19 hours
+    private static final int BUCKET_COUNT = SUB_BUCKETS + (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    private static final long MAX_TRACKED_MICROS = (1L << (MAX_MAGNITUDE + 1)) - 1;
+
+    private final LongAdder totalRequests = new LongAdder();
+    private final LongAdder successfulRequests = new LongAdder();
+    private final LongAdder failedRequests = new LongAdder();
+    private final LongAdder timedOutRequests = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Slot[] slots;
+    private final long slotMillis;
+    private final LongSupplier clockMillis;
+
+    public AgentMetricsRecorder() {
+        this(DEFAULT_WINDOW, DEFAULT_SLOTS);
+    }
+
+    /**
+     * Creates a recorder with a custom sliding window.
+     *
+     * @param window Time covered by percentiles, maximum and availability
+     * @param slots  Number of slots the window is split into
+     */
+    public AgentMetricsRecorder(Duration window, int slots) {
+        this(window, slots, System::currentTimeMillis);
+    }
+
+    AgentMetricsRecorder(Duration window, int slots, LongSupplier clockMillis) {
+        if (slots < 1 || window.toMillis() < slots) {
+            throw new IllegalArgumentException("Metrics window must cover at least one millisecond per slot");
+        }
+        this.slots = new Slot[slots];
+        for (int i = 0; i < slots; i++) {
+            this.slots[i] = new Slot();
+        }
+        this.slotMillis = window.toMillis() / slots;
+        this.clockMillis = clockMillis;
+    }
+
+    /**
+     * Marks an operation as started.
+     *
+     * @return Start time to pass to {@link #recordCompletion(long, boolean)}
+     */
+    public long recordStart() {
+        inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Records a finished operation started with {@link #recordStart()}.
+     *
+     * @param startNanos Value returned by recordStart
+     * @param success    Whether the operation succeeded
+     */
+    public void recordCompletion(long startNanos, boolean success) {
+        inFlight.decrementAndGet();
+        record(System.nanoTime() - startNanos, success);
+    }
+
+    /**
+     * Records an operation started with {@link #recordStart()} that was
+     * cancelled after missing its deadline. It counts as a failure and as a
+     * timeout.
+     *
+     * @param startNanos Value returned by recordStart
+     */
+    public void recordTimeout(long startNanos) {
+        timedOutRequests.increment();
+        recordError(startNanos);
+    }
+    
+    /**
+     * Records an operation started with {@link #recordStart()} that ended in
+     * an infrastructure error, such as an exception. It counts as a failure
+     * and as an error.
+     *
+     * @param startNanos Value returned by recordStart
+     */
+    public void recordError(long startNanos) {
+        currentSlot().errors.increment();
+        recordCompletion(startNanos, false);
+    }
+
+    /**
+     * Records an operation that never started, such as one rejected by a
+     * bulkhead. It counts as a failure but adds no latency sample.
+     */
+    public void recordRejection() {
+        totalRequests.increment();
+        failedRequests.increment();
+        currentSlot().failures.increment();
+    }
+
+    /**
+     * Records a finished operation.
+     *
+     * @param latencyNanos Time from admission to completion
+     * @param success      Whether the operation succeeded
+     */
+    public void record(long latencyNanos, boolean success) {
+        totalRequests.increment();
+        (success ? successfulRequests : failedRequests).increment();
+
+        long micros = Math.min(MAX_TRACKED_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        Slot slot = currentSlot();
+        slot.buckets.incrementAndGet(bucketIndex(micros));
+        slot.count.increment();
+        slot.sumMicros.add(micros);
+        slot.maxMicros.accumulateAndGet(micros, Math::max);
+        (success ? slot.successes : slot.failures).increment();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Builds an {@link AgentMetrics} view: lifetime request counts, plus
+     * average, percentiles, maximum and availability over the sliding window.
+     */
+    public AgentMetrics snapshot() {
+        long now = clockMillis.getAsLong() / slotMillis;
+        long[] merged = new long[BUCKET_COUNT];
+        long count = 0;
+        long sumMicros = 0;
+        long maxMicros = 0;
+        long successes = 0;
+        long failures = 0;
+        long errors = 0;
+
+        for (Slot slot : slots) {
+            long epoch = slot.epoch;
+            if (epoch > now || epoch <= now - slots.length) {
+                continue;
+            }
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                merged[i] += slot.buckets.get(i);
+            }
+            count += slot.count.sum();
+            sumMicros += slot.sumMicros.sum();
+            maxMicros = Math.max(maxMicros, slot.maxMicros.get());
+            successes += slot.successes.sum();
+            failures += slot.failures.sum();
+            errors += slot.errors.sum();
+        }
+
+        long outcomes = successes + failures;
+        double availability = outcomes == 0 ? 1.0 : (double) successes / outcomes;
+        Duration average = count == 0 ? Duration.ZERO : micros(sumMicros / count);
+        return new AgentMetrics(totalRequests.sum(), successfulRequests.sum(), failedRequests.sum(),
+            timedOutRequests.sum(), outcomes, errors,
+            average, micros(maxMicros),
+            percentile(merged, count, 0.50), percentile(merged, count, 0.95), percentile(merged, count, 0.99),
+            availability, inFlight.get());
+    }
+
+    private Slot currentSlot() {
+        long epoch = clockMillis.getAsLong() / slotMillis;
+        Slot slot = slots[(int) (epoch % slots.length)];
+        if (slot.epoch != epoch) {
+            synchronized (slot) {
+                if (slot.epoch != epoch) {
+                    slot.reset(epoch);
+                }
+            }
+        }
+        return slot;
+    }
+
+    private static Duration percentile(long[] buckets, long count, double quantile) {
+        if (count == 0) {
+            return Duration.ZERO;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return micros(bucketValue(i));
+            }
+        }
+        return micros(bucketValue(buckets.length - 1));
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (micros >>> shift) - SUB_BUCKETS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the midpoint of a bucket's range, in microseconds.
+     */
+    static long bucketValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        long lower = (long) (SUB_BUCKETS + subBucket) << shift;
+        return lower + ((1L << shift) >> 1);
+    }
+
+    private static Duration micros(long micros) {
+        return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(micros));
+    }
+
+    /**
+     * One time slot of the sliding window
+     */
+    private static final class Slot {
+        volatile long epoch = Long.MIN_VALUE;
+        final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+        final LongAdder count = new LongAdder();
+        final LongAdder sumMicros = new LongAdder();
+        final AtomicLong maxMicros = new AtomicLong();
+        final LongAdder successes = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder errors = new LongAdder();
+
+        void reset(long newEpoch) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets.set(i, 0);
+            }
+            count.reset();
+            sumMicros.reset();
+            maxMicros.set(0);
+            successes.reset();
+            failures.reset();
+            errors.reset();
+            epoch = newEpoch;
+        }
+    }
+}
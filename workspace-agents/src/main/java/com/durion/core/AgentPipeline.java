@@ -0,0 +1,370 @@
+package com.durion.core;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Declarative multi-agent workflow run through a {@link WorkspaceAgentRegistry}
+ *
+ * A pipeline is a directed acyclic graph of stages. Each stage is one agent
+ * operation; its parameters are built from the pipeline parameters and the
+ * results of the stages it depends on. A stage starts as soon as all of its
+ * dependencies have succeeded, so independent stages run in parallel and the
+ * whole pipeline takes about as long as its critical path.
+ *
+ * A stage is skipped when its condition is false or when a dependency did not
+ * succeed. Every stage's start offset and duration are kept in the
+ * {@link PipelineResult}, and each run is traced as a "pipeline" span with a
+ * "stage" span per stage, skipped stages included.
+ */
+public class AgentPipeline {
+
+    private final String name;
+    private final List<Stage> stages;
+
+    private AgentPipeline(String name, List<Stage> stages) {
+        this.name = name;
+        this.stages = stages;
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public String getName() { return name; }
+
+    /**
+     * Gets the stage names in an order where every stage follows its dependencies.
+     */
+    public List<String> getStageNames() {
+        return stages.stream().map(stage -> stage.name).toList();
+    }
+
+    /**
+     * Runs the pipeline.
+     *
+     * @param registry   Registry that routes each stage's operation to an agent
+     * @param parameters Pipeline parameters, visible to every stage
+     * @return Future completing once every stage has finished or been skipped
+     */
+    public CompletableFuture<PipelineResult> execute(WorkspaceAgentRegistry registry, Map<String, Object> parameters) {
+        long pipelineStart = System.nanoTime();
+        Span span = Tracer.startSpan("pipeline " + name).setAttribute("pipeline.name", name);
+        Map<String, Object> pipelineParameters = Map.copyOf(parameters);
+        Map<String, CompletableFuture<StageResult>> futures = new LinkedHashMap<>();
+
+        for (Stage stage : stages) {
+            List<CompletableFuture<StageResult>> dependencies = stage.dependsOn.stream().map(futures::get).toList();
+            CompletableFuture<StageResult> future = CompletableFuture
+                .allOf(dependencies.toArray(new CompletableFuture<?>[0]))
+                .thenCompose(ignored -> runStage(registry, stage, pipelineParameters, dependencies, pipelineStart, span));
+            futures.put(stage.name, future);
+        }
+
+        return span.endWhenComplete(CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+            .thenApply(ignored -> {
+                Map<String, StageResult> results = new LinkedHashMap<>();
+                futures.forEach((stageName, future) -> results.put(stageName, future.join()));
+                return new PipelineResult(name, results, Duration.ofNanos(System.nanoTime() - pipelineStart));
+            }));
+    }
+
+    private static CompletableFuture<StageResult> runStage(WorkspaceAgentRegistry registry, Stage stage,
+            Map<String, Object> parameters, List<CompletableFuture<StageResult>> dependencies, long pipelineStart,
+            Span pipelineSpan) {
+        Span span = Tracer.startSpan("stage " + stage.name, Span.Kind.INTERNAL, pipelineSpan)
+            .setAttribute("pipeline.stage", stage.name)
+            .setAttribute("agent.operation", stage.operation);
+        CompletableFuture<StageResult> result;
+        Span.Scope scope = span.makeCurrent();
+        try {
+            result = runStage(registry, stage, parameters, dependencies, pipelineStart);
+        } catch (RuntimeException e) {
+            span.setError(e).end();
+            throw e;
+        } finally {
+            scope.close();
+        }
+        return span.endWhenComplete(result.whenComplete((stageResult, error) -> {
+            if (stageResult != null) {
+                span.setAttribute("pipeline.stage_status", stageResult.getStatus());
+                if (stageResult.getStatus() == StageStatus.FAILED && stageResult.getResult() != null) {
+                    span.setError(stageResult.getResult().getMessage());
+                }
+            }
+        }));
+    }
+
+    private static CompletableFuture<StageResult> runStage(WorkspaceAgentRegistry registry, Stage stage,
+            Map<String, Object> parameters, List<CompletableFuture<StageResult>> dependencies, long pipelineStart) {
+        long start = System.nanoTime();
+        Map<String, StageResult> upstream = new HashMap<>();
+        for (CompletableFuture<StageResult> dependency : dependencies) {
+            StageResult result = dependency.join();
+            if (result.getStatus() != StageStatus.SUCCEEDED) {
+                return CompletableFuture.completedFuture(StageResult.skipped(stage,
+                    "Dependency " + result.getStageName() + " " + result.getStatus().name().toLowerCase(),
+                    start - pipelineStart));
+            }
+            upstream.put(result.getStageName(), result);
+        }
+
+        StageInputs inputs = new StageInputs(parameters, upstream);
+        Map<String, Object> stageParameters;
+        try {
+            if (!stage.condition.test(inputs)) {
+                return CompletableFuture.completedFuture(
+                    StageResult.skipped(stage, "Condition not met", start - pipelineStart));
+            }
+            stageParameters = stage.parameters.apply(inputs);
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(new StageResult(stage, StageStatus.FAILED,
+                AgentResult.failure("Could not prepare stage " + stage.name + ": " + e.getMessage(), 0),
+                start - pipelineStart, 0));
+        }
+
+        return registry.executeOperation(stage.operation, stageParameters)
+            .handle((result, error) -> {
+                AgentResult outcome = error != null
+                    ? AgentResult.failure("Stage " + stage.name + " failed: " + error.getMessage(), 0)
+                    : result;
+                StageStatus status = outcome != null && outcome.isSuccess() ? StageStatus.SUCCEEDED : StageStatus.FAILED;
+                return new StageResult(stage, status, outcome, start - pipelineStart, System.nanoTime() - start);
+            });
+    }
+
+    /**
+     * One agent operation in a pipeline
+     */
+    private static final class Stage {
+        final String name;
+        final String operation;
+        final List<String> dependsOn;
+        final Predicate<StageInputs> condition;
+        final Function<StageInputs, Map<String, Object>> parameters;
+
+        Stage(String name, String operation, List<String> dependsOn, Predicate<StageInputs> condition,
+              Function<StageInputs, Map<String, Object>> parameters) {
+            this.name = name;
+            this.operation = operation;
+            this.dependsOn = dependsOn;
+            this.condition = condition;
+            this.parameters = parameters;
+        }
+    }
+
+    /**
+     * Builds a pipeline, checking that dependencies exist and form no cycle
+     */
+    public static class Builder {
+        private final String name;
+        private final Map<String, Stage> stages = new LinkedHashMap<>();
+
+        private Builder(String name) {
+            this.name = Objects.requireNonNull(name, "name");
+        }
+
+        /**
+         * Adds a stage that always runs once its dependencies succeed.
+         *
+         * @param name       Unique stage name
+         * @param operation  Agent operation the stage runs
+         * @param dependsOn  Stages whose results this stage needs
+         * @param parameters Builds the operation parameters from the stage inputs
+         */
+        public Builder stage(String name, String operation, List<String> dependsOn,
+                             Function<StageInputs, Map<String, Object>> parameters) {
+            return stage(name, operation, dependsOn, inputs -> true, parameters);
+        }
+
+        /**
+         * Adds a stage that runs once its dependencies succeed, unless its
+         * condition is false, in which case it is skipped.
+         */
+        public Builder stage(String name, String operation, List<String> dependsOn, Predicate<StageInputs> condition,
+                             Function<StageInputs, Map<String, Object>> parameters) {
+            if (stages.containsKey(name)) {
+                throw new IllegalArgumentException("Duplicate stage " + name + " in pipeline " + this.name);
+            }
+            stages.put(name, new Stage(name, operation, List.copyOf(dependsOn), condition, parameters));
+            return this;
+        }
+
+        public AgentPipeline build() {
+            return new AgentPipeline(name, topologicalOrder());
+        }
+
+        private List<Stage> topologicalOrder() {
+            Map<String, Integer> pending = new HashMap<>();
+            Map<String, List<String>> dependents = new HashMap<>();
+            for (Stage stage : stages.values()) {
+                for (String dependency : stage.dependsOn) {
+                    if (!stages.containsKey(dependency)) {
+                        throw new IllegalArgumentException(
+                            "Stage " + stage.name + " depends on unknown stage " + dependency + " in pipeline " + name);
+                    }
+                    dependents.computeIfAbsent(dependency, k -> new ArrayList<>()).add(stage.name);
+                }
+                pending.put(stage.name, stage.dependsOn.size());
+            }
+
+            Deque<String> ready = new ArrayDeque<>();
+            stages.keySet().stream().filter(stageName -> pending.get(stageName) == 0).forEach(ready::add);
+            List<Stage> ordered = new ArrayList<>(stages.size());
+            while (!ready.isEmpty()) {
+                String next = ready.poll();
+                ordered.add(stages.get(next));
+                for (String dependent : dependents.getOrDefault(next, List.of())) {
+                    if (pending.merge(dependent, -1, Integer::sum) == 0) {
+                        ready.add(dependent);
+                    }
+                }
+            }
+            if (ordered.size() != stages.size()) {
+                throw new IllegalArgumentException("Pipeline " + name + " has a dependency cycle");
+            }
+            return List.copyOf(ordered);
+        }
+    }
+
+    /**
+     * What a stage can see: the pipeline parameters and its dependencies' results
+     */
+    public static class StageInputs {
+        private final Map<String, Object> parameters;
+        private final Map<String, StageResult> upstream;
+
+        StageInputs(Map<String, Object> parameters, Map<String, StageResult> upstream) {
+            this.parameters = parameters;
+            this.upstream = upstream;
+        }
+
+        public Map<String, Object> getParameters() { return parameters; }
+
+        public Object getParameter(String key) {
+            return parameters.get(key);
+        }
+
+        /**
+         * Gets the result of a stage this stage depends on.
+         */
+        public AgentResult getResult(String stageName) {
+            StageResult result = upstream.get(stageName);
+            if (result == null) {
+                throw new IllegalArgumentException("Stage " + stageName + " is not a dependency");
+            }
+            return result.getResult();
+        }
+
+        /**
+         * Gets the data of a dependency's result.
+         */
+        public <T> T getData(String stageName, Class<T> type) {
+            return type.cast(getResult(stageName).getData());
+        }
+    }
+
+    public enum StageStatus {
+        SUCCEEDED,
+        FAILED,
+        SKIPPED
+    }
+
+    /**
+     * Outcome and timing of one stage
+     */
+    public static class StageResult {
+        private final String stageName;
+        private final String operation;
+        private final StageStatus status;
+        private final AgentResult result;
+        private final List<String> dependsOn;
+        private final Duration startOffset;
+        private final Duration duration;
+
+        StageResult(Stage stage, StageStatus status, AgentResult result, long startOffsetNanos, long durationNanos) {
+            this.stageName = stage.name;
+            this.operation = stage.operation;
+            this.status = status;
+            this.result = result;
+            this.dependsOn = stage.dependsOn;
+            this.startOffset = Duration.ofNanos(startOffsetNanos);
+            this.duration = Duration.ofNanos(durationNanos);
+        }
+
+        static StageResult skipped(Stage stage, String reason, long startOffsetNanos) {
+            return new StageResult(stage, StageStatus.SKIPPED, AgentResult.failure(reason, 0), startOffsetNanos, 0);
+        }
+
+        public String getStageName() { return stageName; }
+        public String getOperation() { return operation; }
+        public StageStatus getStatus() { return status; }
+        public AgentResult getResult() { return result; }
+        public List<String> getDependsOn() { return dependsOn; }
+        /** Time from pipeline start until the stage's dependencies were done */
+        public Duration getStartOffset() { return startOffset; }
+        public Duration getDuration() { return duration; }
+        public Duration getEndOffset() { return startOffset.plus(duration); }
+    }
+
+    /**
+     * Outcome of a pipeline run
+     */
+    public static class PipelineResult {
+        private final String pipelineName;
+        private final Map<String, StageResult> stages;
+        private final Duration totalDuration;
+
+        PipelineResult(String pipelineName, Map<String, StageResult> stages, Duration totalDuration) {
+            this.pipelineName = pipelineName;
+            this.stages = Collections.unmodifiableMap(stages);
+            this.totalDuration = totalDuration;
+        }
+
+        public String getPipelineName() { return pipelineName; }
+        public Map<String, StageResult> getStages() { return stages; }
+        public Duration getTotalDuration() { return totalDuration; }
+
+        public StageResult getStage(String stageName) {
+            return stages.get(stageName);
+        }
+
+        /**
+         * True if no stage failed; skipped stages do not count as failures
+         */
+        public boolean isSuccess() {
+            return stages.values().stream().noneMatch(stage -> stage.getStatus() == StageStatus.FAILED);
+        }
+
+        /**
+         * Gets the chain of stages that determined the pipeline's duration:
+         * starting from the stage that finished last, each step goes to the
+         * dependency that finished last.
+         */
+        public List<String> getCriticalPath() {
+            StageResult current = stages.values().stream()
+                .max((a, b) -> a.getEndOffset().compareTo(b.getEndOffset()))
+                .orElse(null);
+            Deque<String> path = new ArrayDeque<>();
+            while (current != null) {
+                path.addFirst(current.getStageName());
+                current = current.getDependsOn().stream()
+                    .map(stages::get)
+                    .max((a, b) -> a.getEndOffset().compareTo(b.getEndOffset()))
+                    .orElse(null);
+            }
+            return List.copyOf(path);
+        }
+    }
+}
@@ -7,6 +7,13 @@ import java.util.Map;
  * Result of an agent operation execution
  */
 public class AgentResult {
+    /** Metadata key naming why an operation failed */
+    public static final String FAILURE_TYPE = "failureType";
+    /** Failure type of an operation that missed its deadline */
+    public static final String TIMEOUT = "TIMEOUT";
+    /** Failure type of an operation turned away by admission control */
+    public static final String REJECTED = "REJECTED";
+    
     private final boolean success;
     private final Object data;
     private final String message;
@@ -36,10 +43,32 @@ public class AgentResult {
         return new AgentResult(false, null, message, executionTimeMs, Map.of());
     }
     
+    /**
+     * Failure of an operation that was cancelled because it missed its deadline
+     */
+    public static AgentResult timeout(String message, long executionTimeMs) {
+        return new AgentResult(false, null, message, executionTimeMs, Map.of(FAILURE_TYPE, TIMEOUT));
+    }
+    
+    /**
+     * Failure of an operation that was never run because the agent was overloaded
+     */
+    public static AgentResult rejected(String message) {
+        return new AgentResult(false, null, message, 0, Map.of(FAILURE_TYPE, REJECTED));
+    }
+    
     public boolean isSuccess() { return success; }
     public Object getData() { return data; }
     public String getMessage() { return message; }
     public Instant getTimestamp() { return timestamp; }
     public long getExecutionTimeMs() { return executionTimeMs; }
     public Map<String, Object> getMetadata() { return metadata; }
+    
+    public boolean isTimeout() {
+        return metadata != null && TIMEOUT.equals(metadata.get(FAILURE_TYPE));
+    }
+    
+    public boolean isRejected() {
+        return metadata != null && REJECTED.equals(metadata.get(FAILURE_TYPE));
+    }
 }
@@ -0,0 +1,123 @@
+package com.durion.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, lock-free queue from many producer threads to one consumer thread
+ *
+ * Each producer claims the next sequence number and writes its element into
+ * that slot of a ring; the consumer takes elements in sequence order. A full
+ * ring makes producers wait for space, so no element is ever dropped. The
+ * consumer parks while the queue is empty and producers wake it.
+ *
+ * @param <E> Element type
+ */
+public final class BoundedMpscQueue<E> {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int SPINS_BEFORE_YIELD = 100;
+
+    private final AtomicReferenceArray<E> ring;
+    private final int ringMask;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long drained;
+    private volatile boolean consumerParked;
+    private volatile Thread consumer;
+
+    /**
+     * @param capacity Ring size, rounded up to a power of two of at least 16
+     */
+    public BoundedMpscQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(MIN_CAPACITY, capacity) - 1) << 1;
+        this.ring = new AtomicReferenceArray<>(size);
+        this.ringMask = size - 1;
+    }
+
+    /**
+     * Sets the thread that drains the queue, which producers wake.
+     */
+    public void setConsumer(Thread consumer) {
+        this.consumer = consumer;
+    }
+
+    /**
+     * Adds an element, waiting for space while the ring is full.
+     *
+     * @return The element's sequence number, counting from 0
+     */
+    public long put(E element) {
+        long sequence = claimed.getAndIncrement();
+        // The slot is free once the consumer has taken the element a full lap ago
+        int spins = 0;
+        while (sequence - drained >= ring.length()) {
+            if (++spins < SPINS_BEFORE_YIELD) {
+                Thread.onSpinWait();
+            } else {
+                wakeConsumer();
+                Thread.yield();
+            }
+        }
+        ring.set((int) (sequence & ringMask), element);
+        if (consumerParked) {
+            wakeConsumer();
+        }
+        return sequence;
+    }
+
+    /**
+     * Hands every element available in sequence order to the sink. Only the
+     * consumer thread may call this.
+     *
+     * @return Number of elements taken
+     */
+    public int drainTo(Consumer<? super E> sink) {
+        long next = drained;
+        int taken = 0;
+        E element;
+        while ((element = ring.get((int) (next & ringMask))) != null) {
+            sink.accept(element);
+            ring.set((int) (next & ringMask), null);
+            next++;
+            taken++;
+        }
+        if (taken > 0) {
+            drained = next;
+        }
+        return taken;
+    }
+
+    /**
+     * Parks the consumer thread for up to the given time unless the next
+     * element is already available. Only the consumer thread may call this.
+     */
+    public void awaitElement(long maxNanos) {
+        consumerParked = true;
+        if (ring.get((int) (drained & ringMask)) == null) {
+            LockSupport.parkNanos(maxNanos);
+        }
+        consumerParked = false;
+    }
+
+    /** Gets the number of elements put or being put so far. */
+    public long getClaimedCount() { return claimed.get(); }
+
+    /** Gets the number of elements the consumer has taken so far. */
+    public long getDrainedCount() { return drained; }
+
+    /** Gets the number of elements not yet taken by the consumer. */
+    public long getPendingCount() {
+        return Math.max(0, claimed.get() - drained);
+    }
+
+    public int getCapacity() { return ring.length(); }
+
+    private void wakeConsumer() {
+        Thread thread = consumer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+}
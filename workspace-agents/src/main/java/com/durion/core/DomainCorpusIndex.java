@@ -0,0 +1,524 @@
+package com.durion.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * In-memory index over the domains/ story corpus
+ *
+ * Indexes the story metadata (domains/<domain>/.ui/*.wf.meta.json), the story
+ * bodies next to it and the markdown business-rule documents by issue number,
+ * domain, label and term, so agents can answer lookups from memory instead of
+ * re-reading files or guessing with keyword heuristics.
+ *
+ * Each domain directory is walked and parsed on its own loader thread. A
+ * refresh re-reads only files whose size or modification time changed, then
+ * publishes a new immutable snapshot; queries never block on a refresh.
+ */
+public class DomainCorpusIndex implements AutoCloseable {
+
+    public static final String META_SUFFIX = ".wf.meta.json";
+
+    private static final Pattern TERM_PATTERN = Pattern.compile("[a-z0-9]+");
+    private static final Pattern ISSUE_SUFFIX = Pattern.compile("-(\\d+)\\.wf\\.(?:md|meta\\.json)$");
+    private static final int MIN_TERM_LENGTH = 3;
+    // How far the inferred domain must outscore the next best one
+    private static final double MIN_DOMAIN_MARGIN = 1.5;
+    private static final Set<String> STOP_WORDS = Set.of(
+        "the", "and", "for", "with", "that", "this", "from", "are", "must", "should", "not", "any",
+        "all", "can", "when", "will", "per", "via", "into", "its", "has", "have", "but", "only", "each",
+        "story", "frontend", "backend");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Path domainsDirectory;
+    private final Object refreshLock = new Object();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private ScheduledExecutorService refresher;
+
+    public DomainCorpusIndex(Path domainsDirectory) {
+        this.domainsDirectory = domainsDirectory.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Brings the index up to date with the files on disk. Unchanged files keep
+     * their parsed form; only new and modified files are read.
+     *
+     * @return What the refresh added, updated and removed
+     * @throws IOException if the corpus cannot be walked
+     */
+    public RefreshResult refresh() throws IOException {
+        synchronized (refreshLock) {
+            long start = System.nanoTime();
+            Snapshot previous = snapshot;
+
+            List<Path> domainDirs = new ArrayList<>();
+            if (Files.isDirectory(domainsDirectory)) {
+                try (DirectoryStream<Path> dirs = Files.newDirectoryStream(domainsDirectory, Files::isDirectory)) {
+                    dirs.forEach(domainDirs::add);
+                }
+            }
+
+            AtomicInteger added = new AtomicInteger();
+            AtomicInteger updated = new AtomicInteger();
+            Map<Path, Document> documents = new ConcurrentHashMap<>();
+            List<Callable<Void>> loaders = new ArrayList<>();
+            for (Path domainDir : domainDirs) {
+                loaders.add(() -> {
+                    loadDomain(domainDir, previous, documents, added, updated);
+                    return null;
+                });
+            }
+            runConcurrently(loaders);
+
+            int removed = 0;
+            for (Path path : previous.documents.keySet()) {
+                if (!documents.containsKey(path)) {
+                    removed++;
+                }
+            }
+
+            Snapshot next = new Snapshot(documents);
+            snapshot = next;
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            return new RefreshResult(added.get(), updated.get(), removed, documents.size(), elapsed);
+        }
+    }
+
+    /**
+     * Refreshes the index on a daemon thread at a fixed interval, starting
+     * one interval from now; call {@link #refresh()} first for an initial
+     * load. Failed refreshes keep the last good snapshot.
+     *
+     * @param interval Time between the end of one refresh and the start of the next
+     */
+    public synchronized void startAutoRefresh(Duration interval) {
+        if (refresher != null) {
+            return;
+        }
+        refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "corpus-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (IOException | RuntimeException e) {
+                System.out.println("⚠️ Domain corpus refresh failed: " + e.getMessage());
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops automatic refreshes.
+     */
+    @Override
+    public synchronized void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+            refresher = null;
+        }
+    }
+
+    /**
+     * Gets the story metadata document for an issue.
+     */
+    public Optional<Document> getStory(int issueNumber) {
+        for (Document document : snapshot.byIssue.getOrDefault(issueNumber, List.of())) {
+            if (document.getKind() == DocumentKind.STORY_META) {
+                return Optional.of(document);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets every document for an issue: its metadata and its story body.
+     */
+    public List<Document> findByIssue(int issueNumber) {
+        return snapshot.byIssue.getOrDefault(issueNumber, List.of());
+    }
+
+    public List<Document> findByDomain(String domain) {
+        return snapshot.byDomain.getOrDefault(domain.toLowerCase(Locale.ROOT), List.of());
+    }
+
+    /**
+     * Finds documents carrying a label (e.g., "domain:crm", "status:needs-review").
+     */
+    public List<Document> findByLabel(String label) {
+        return snapshot.byLabel.getOrDefault(label, List.of());
+    }
+
+    /**
+     * Finds documents containing every term of a query.
+     *
+     * @param query Free text; split into terms the same way documents are
+     * @return Matching documents, or an empty list if the query has no terms
+     */
+    public List<Document> search(String query) {
+        Snapshot current = snapshot;
+        List<Document> matches = null;
+        for (String term : tokenize(query)) {
+            List<Document> postings = current.byTerm.getOrDefault(term, List.of());
+            if (matches == null) {
+                matches = new ArrayList<>(postings);
+            } else {
+                matches.retainAll(new HashSet<>(postings));
+            }
+            if (matches.isEmpty()) {
+                break;
+            }
+        }
+        return matches == null ? List.of() : matches;
+    }
+
+    /**
+     * Infers the domain a piece of text belongs to from the corpus vocabulary.
+     *
+     * Each query term votes for the domains whose documents use it, weighted
+     * by how rare the term is across the corpus. Votes are damped by the
+     * square root of the domain's size so large domains do not win on volume.
+     * The best domain must outscore the runner-up by a clear margin; text
+     * whose terms are spread across domains is left unclassified.
+     *
+     * @param text Story title and body
+     * @return Best-scoring domain, or empty if no domain clearly wins
+     */
+    public Optional<String> inferDomain(String text) {
+        Snapshot current = snapshot;
+        int totalDocuments = current.documents.size();
+        if (totalDocuments == 0 || text == null) {
+            return Optional.empty();
+        }
+
+        Map<String, Double> scores = new HashMap<>();
+        for (String term : tokenize(text)) {
+            List<Document> postings = current.byTerm.get(term);
+            if (postings == null) {
+                continue;
+            }
+            double idf = Math.log((double) totalDocuments / postings.size());
+            Map<String, Integer> perDomain = new HashMap<>();
+            for (Document document : postings) {
+                perDomain.merge(document.getDomain(), 1, Integer::sum);
+            }
+            for (Map.Entry<String, Integer> entry : perDomain.entrySet()) {
+                int domainSize = current.byDomain.get(entry.getKey()).size();
+                scores.merge(entry.getKey(), idf * entry.getValue() / Math.sqrt(domainSize), Double::sum);
+            }
+        }
+
+        String best = null;
+        double bestScore = 0;
+        double runnerUpScore = 0;
+        for (Map.Entry<String, Double> entry : scores.entrySet()) {
+            double score = entry.getValue();
+            if (score > bestScore) {
+                runnerUpScore = bestScore;
+                best = entry.getKey();
+                bestScore = score;
+            } else if (score > runnerUpScore) {
+                runnerUpScore = score;
+            }
+        }
+        if (best == null || bestScore < runnerUpScore * MIN_DOMAIN_MARGIN) {
+            return Optional.empty();
+        }
+        return Optional.of(best);
+    }
+
+    public Set<String> getDomains() {
+        return Collections.unmodifiableSet(snapshot.byDomain.keySet());
+    }
+
+    public int size() {
+        return snapshot.documents.size();
+    }
+
+    public Path getDomainsDirectory() {
+        return domainsDirectory;
+    }
+
+    /**
+     * Splits text into lower-case index terms, dropping short and stop words.
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        Matcher matcher = TERM_PATTERN.matcher(text.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            String term = matcher.group();
+            if (term.length() >= MIN_TERM_LENGTH && !STOP_WORDS.contains(term)) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private void loadDomain(Path domainDir, Snapshot previous, Map<Path, Document> documents,
+                            AtomicInteger added, AtomicInteger updated) throws IOException {
+        String directoryDomain = domainDir.getFileName().toString().toLowerCase(Locale.ROOT);
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(domainDir)) {
+            walk.filter(path -> isIndexed(path.getFileName().toString())).forEach(files::add);
+        }
+
+        for (Path file : files) {
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            } catch (IOException e) {
+                continue; // Deleted between the walk and now
+            }
+            if (!attributes.isRegularFile()) {
+                continue;
+            }
+
+            long size = attributes.size();
+            long modifiedMillis = attributes.lastModifiedTime().toMillis();
+            Document known = previous.documents.get(file);
+            if (known != null && known.sizeBytes == size && known.modifiedMillis == modifiedMillis) {
+                documents.put(file, known);
+                continue;
+            }
+
+            try {
+                documents.put(file, parse(file, directoryDomain, size, modifiedMillis));
+                (known == null ? added : updated).incrementAndGet();
+            } catch (IOException e) {
+                System.out.println("⚠️ Skipping unreadable corpus file " + file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static boolean isIndexed(String fileName) {
+        return fileName.endsWith(META_SUFFIX) || fileName.endsWith(".md");
+    }
+
+    private Document parse(Path file, String directoryDomain, long size, long modifiedMillis) throws IOException {
+        String fileName = file.getFileName().toString();
+        Integer issueNumber = issueNumberFromName(fileName);
+
+        if (fileName.endsWith(META_SUFFIX)) {
+            JsonNode meta = OBJECT_MAPPER.readTree(file.toFile());
+            if (meta.hasNonNull("issue_number")) {
+                issueNumber = meta.get("issue_number").asInt();
+            }
+            String domain = meta.hasNonNull("domain") ? meta.get("domain").asText() : directoryDomain;
+            String title = meta.path("issue_title").asText("");
+            List<String> labels = new ArrayList<>();
+            for (JsonNode label : meta.path("labels")) {
+                labels.add(label.asText());
+            }
+            Set<String> terms = tokenize(title + " " + meta.path("shortname").asText(""));
+            return new Document(file, DocumentKind.STORY_META, domain.toLowerCase(Locale.ROOT), issueNumber,
+                title, meta.path("original_issue_url").asText(null), labels, terms, size, modifiedMillis);
+        }
+
+        String content = Files.readString(file, StandardCharsets.UTF_8);
+        DocumentKind kind = fileName.endsWith(".wf.md") ? DocumentKind.STORY : DocumentKind.BUSINESS_RULE;
+        return new Document(file, kind, directoryDomain, kind == DocumentKind.STORY ? issueNumber : null,
+            firstHeading(content, fileName), null, List.of(), tokenize(content), size, modifiedMillis);
+    }
+
+    private static Integer issueNumberFromName(String fileName) {
+        Matcher matcher = ISSUE_SUFFIX.matcher(fileName);
+        return matcher.find() ? Integer.valueOf(matcher.group(1)) : null;
+    }
+
+    private static String firstHeading(String content, String fallback) {
+        for (String line : content.split("\n", 50)) {
+            if (line.startsWith("# ")) {
+                return line.substring(2).trim();
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * Runs the loaders on a pool of daemon threads, one loader per domain.
+     */
+    private static void runConcurrently(List<Callable<Void>> loaders) throws IOException {
+        if (loaders.isEmpty()) {
+            return;
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(loaders.size(), Runtime.getRuntime().availableProcessors()), runnable -> {
+                Thread thread = new Thread(runnable, "corpus-loader-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        try {
+            for (Future<Void> future : executor.invokeAll(loaders)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading domain corpus", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            throw new IOException("Failed to load domain corpus", cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Kinds of documents in the corpus
+     */
+    public enum DocumentKind {
+        /** Story metadata (*.wf.meta.json) */
+        STORY_META,
+        /** Story body (*.wf.md) */
+        STORY,
+        /** Business-rule and guidance markdown */
+        BUSINESS_RULE
+    }
+
+    /**
+     * An indexed corpus file
+     */
+    public static class Document {
+        private final Path path;
+        private final DocumentKind kind;
+        private final String domain;
+        private final Integer issueNumber;
+        private final String title;
+        private final String issueUrl;
+        private final List<String> labels;
+        private final Set<String> terms;
+        private final long sizeBytes;
+        private final long modifiedMillis;
+
+        Document(Path path, DocumentKind kind, String domain, Integer issueNumber, String title, String issueUrl,
+                 List<String> labels, Set<String> terms, long sizeBytes, long modifiedMillis) {
+            this.path = path;
+            this.kind = kind;
+            this.domain = domain;
+            this.issueNumber = issueNumber;
+            this.title = title;
+            this.issueUrl = issueUrl;
+            this.labels = List.copyOf(labels);
+            this.terms = Collections.unmodifiableSet(terms);
+            this.sizeBytes = sizeBytes;
+            this.modifiedMillis = modifiedMillis;
+        }
+
+        public Path getPath() { return path; }
+        public DocumentKind getKind() { return kind; }
+        public String getDomain() { return domain; }
+        /** Gets the issue number, or null for business-rule documents. */
+        public Integer getIssueNumber() { return issueNumber; }
+        public String getTitle() { return title; }
+        /** Gets the original issue URL, or null if the document has none. */
+        public String getIssueUrl() { return issueUrl; }
+        public List<String> getLabels() { return labels; }
+        public Set<String> getTerms() { return terms; }
+
+        @Override
+        public String toString() {
+            return String.format("Document{kind=%s, domain='%s', issue=%s, title='%s'}",
+                kind, domain, issueNumber, title);
+        }
+    }
+
+    /**
+     * Outcome of a refresh
+     */
+    public static class RefreshResult {
+        private final int added;
+        private final int updated;
+        private final int removed;
+        private final int totalDocuments;
+        private final Duration elapsed;
+
+        public RefreshResult(int added, int updated, int removed, int totalDocuments, Duration elapsed) {
+            this.added = added;
+            this.updated = updated;
+            this.removed = removed;
+            this.totalDocuments = totalDocuments;
+            this.elapsed = elapsed;
+        }
+
+        public int getAdded() { return added; }
+        public int getUpdated() { return updated; }
+        public int getRemoved() { return removed; }
+        public int getTotalDocuments() { return totalDocuments; }
+        public Duration getElapsed() { return elapsed; }
+
+        public boolean hasChanges() {
+            return added > 0 || updated > 0 || removed > 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d added, %d updated, %d removed, %d documents in %d ms",
+                added, updated, removed, totalDocuments, elapsed.toMillis());
+        }
+    }
+
+    /**
+     * Immutable view of the index; replaced wholesale on each refresh
+     */
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(Map.of());
+
+        final Map<Path, Document> documents;
+        final Map<Integer, List<Document>> byIssue = new HashMap<>();
+        final Map<String, List<Document>> byDomain = new HashMap<>();
+        final Map<String, List<Document>> byLabel = new HashMap<>();
+        final Map<String, List<Document>> byTerm = new HashMap<>();
+
+        Snapshot(Map<Path, Document> documents) {
+            this.documents = Map.copyOf(documents);
+            List<Document> ordered = new ArrayList<>(this.documents.values());
+            ordered.sort(Comparator.comparing(Document::getPath));
+            for (Document document : ordered) {
+                if (document.getIssueNumber() != null) {
+                    byIssue.computeIfAbsent(document.getIssueNumber(), k -> new ArrayList<>()).add(document);
+                }
+                byDomain.computeIfAbsent(document.getDomain(), k -> new ArrayList<>()).add(document);
+                for (String label : document.getLabels()) {
+                    byLabel.computeIfAbsent(label, k -> new ArrayList<>()).add(document);
+                }
+                for (String term : document.getTerms()) {
+                    byTerm.computeIfAbsent(term, k -> new ArrayList<>()).add(document);
+                }
+            }
+            freeze(byIssue);
+            freeze(byDomain);
+            freeze(byLabel);
+            freeze(byTerm);
+        }
+
+        private static <K> void freeze(Map<K, List<Document>> index) {
+            index.replaceAll((key, postings) -> Collections.unmodifiableList(postings));
+        }
+    }
+}
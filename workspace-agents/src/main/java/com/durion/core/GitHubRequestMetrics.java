@@ -0,0 +1,84 @@
+package com.durion.core;
+
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency, status codes and rate-limit headroom of GitHub API calls
+ *
+ * Clients record each request under a short endpoint name and pass every
+ * response through {@link #recordRateLimit}, which keeps the latest
+ * {@code x-ratelimit-*} headers per rate-limit resource (core, search,
+ * graphql, ...).
+ */
+public class GitHubRequestMetrics implements MetricsExporter.Collector {
+
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+    private final Map<String, RateLimit> rateLimits = new ConcurrentHashMap<>();
+
+    /**
+     * Records a finished request.
+     *
+     * @param endpoint   Short name of the API call, such as "list_issues"
+     * @param status     HTTP status code, or 0 if no response arrived
+     * @param startNanos {@link System#nanoTime()} when the request was sent
+     */
+    public void recordRequest(String endpoint, int status, long startNanos) {
+        latencies.computeIfAbsent(endpoint, k -> new LatencyHistogram()).recordSince(startNanos);
+        requests.computeIfAbsent(endpoint + "\u0000" + status, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Keeps the rate-limit headers of a response, if it has them.
+     */
+    public void recordRateLimit(HttpResponse<?> response) {
+        String remaining = response.headers().firstValue("x-ratelimit-remaining").orElse(null);
+        if (remaining == null) {
+            return;
+        }
+        try {
+            String resource = response.headers().firstValue("x-ratelimit-resource").orElse("core");
+            long limit = Long.parseLong(response.headers().firstValue("x-ratelimit-limit").orElse("-1"));
+            long reset = Long.parseLong(response.headers().firstValue("x-ratelimit-reset").orElse("0"));
+            rateLimits.put(resource, new RateLimit(Long.parseLong(remaining), limit, reset));
+        } catch (NumberFormatException e) {
+            // Malformed headers leave the last known values in place
+        }
+    }
+
+    /**
+     * Gets the remaining requests last reported for a rate-limit resource, or
+     * -1 if none has been seen.
+     */
+    public long getRateLimitRemaining(String resource) {
+        RateLimit rateLimit = rateLimits.get(resource);
+        return rateLimit != null ? rateLimit.remaining : -1;
+    }
+
+    @Override
+    public void collect(MetricsExporter.Writer writer) {
+        latencies.forEach((endpoint, histogram) -> writer.histogram("durion_github_request_duration_seconds",
+            "GitHub API request latency", Map.of("endpoint", endpoint), histogram));
+        requests.forEach((key, count) -> {
+            String[] parts = key.split("\u0000", 2);
+            writer.counter("durion_github_requests_total", "GitHub API requests by endpoint and HTTP status",
+                Map.of("endpoint", parts[0], "status", parts[1]), count.sum());
+        });
+        rateLimits.forEach((resource, rateLimit) -> {
+            Map<String, String> labels = Map.of("resource", resource);
+            writer.gauge("durion_github_rate_limit_remaining", "Requests left in the current rate-limit window",
+                labels, rateLimit.remaining);
+            if (rateLimit.limit >= 0) {
+                writer.gauge("durion_github_rate_limit_limit", "Requests allowed per rate-limit window",
+                    labels, rateLimit.limit);
+            }
+            writer.gauge("durion_github_rate_limit_reset_timestamp_seconds",
+                "When the current rate-limit window resets", labels, rateLimit.resetEpochSeconds);
+        });
+    }
+
+    private record RateLimit(long remaining, long limit, long resetEpochSeconds) {}
+}
@@ -0,0 +1,95 @@
+package com.durion.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cumulative latency histogram with fixed bucket boundaries, in the shape
+ * Prometheus expects
+ *
+ * Unlike the sliding window in {@link AgentMetricsRecorder}, counts only ever
+ * grow, so a scraper can compute rates and quantiles over any range itself.
+ * Recording is lock-free.
+ */
+public class LatencyHistogram {
+
+    /** Upper bounds in seconds, from 5ms up to the slowest GitHub calls */
+    public static final double[] DEFAULT_BOUNDS_SECONDS =
+        {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60};
+
+    private final double[] boundsSeconds;
+    private final long[] boundsNanos;
+    private final LongAdder[] buckets;
+    private final LongAdder sumNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        this(DEFAULT_BOUNDS_SECONDS);
+    }
+
+    /**
+     * Creates a histogram.
+     *
+     * @param boundsSeconds Ascending bucket upper bounds; an overflow bucket is added
+     */
+    public LatencyHistogram(double[] boundsSeconds) {
+        this.boundsSeconds = boundsSeconds.clone();
+        this.boundsNanos = new long[boundsSeconds.length];
+        for (int i = 0; i < boundsSeconds.length; i++) {
+            if (i > 0 && boundsSeconds[i] <= boundsSeconds[i - 1]) {
+                throw new IllegalArgumentException("Histogram bounds must be ascending");
+            }
+            boundsNanos[i] = (long) (boundsSeconds[i] * TimeUnit.SECONDS.toNanos(1));
+        }
+        this.buckets = new LongAdder[boundsSeconds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long latencyNanos) {
+        long nanos = Math.max(0, latencyNanos);
+        int bucket = 0;
+        while (bucket < boundsNanos.length && nanos > boundsNanos[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * Records the time elapsed since a {@link System#nanoTime()} reading.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public double[] getBoundsSeconds() {
+        return boundsSeconds.clone();
+    }
+
+    /**
+     * Gets, for each bound and then for the overflow bucket, the number of
+     * samples at or below it.
+     */
+    public long[] getCumulativeCounts() {
+        long[] cumulative = new long[buckets.length];
+        long running = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            running += buckets[i].sum();
+            cumulative[i] = running;
+        }
+        return cumulative;
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public double getSumSeconds() {
+        return sumNanos.sum() / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,237 @@
+package com.durion.core;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Serves metrics in the Prometheus text exposition format
+ *
+ * Components publish their metrics by registering a {@link Collector}; every
+ * scrape of {@code /metrics} asks each collector to write its current values,
+ * so nothing is buffered between scrapes. The endpoint runs on the JDK's
+ * built-in HTTP server with a single daemon thread.
+ */
+public class MetricsExporter implements AutoCloseable {
+
+    public static final String PATH = "/metrics";
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final List<Collector> collectors = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+
+    /**
+     * Adds a source of metrics to every scrape.
+     */
+    public MetricsExporter register(Collector collector) {
+        collectors.add(collector);
+        return this;
+    }
+
+    /**
+     * Starts serving {@value #PATH} on the loopback interface only.
+     *
+     * @param port Port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public MetricsExporter start(int port) throws IOException {
+        return start(null, port);
+    }
+
+    /**
+     * Starts serving {@value #PATH} on the given host.
+     *
+     * @param host Host name or address to bind; null or empty binds loopback only
+     * @param port Port to listen on, or 0 for any free port
+     * @throws IOException if the host cannot be resolved or the port cannot be bound
+     */
+    public synchronized MetricsExporter start(String host, int port) throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("Metrics exporter is already running on port " + getPort());
+        }
+        InetAddress address = host == null || host.isBlank()
+            ? InetAddress.getLoopbackAddress()
+            : InetAddress.getByName(host.trim());
+        server = HttpServer.create(new InetSocketAddress(address, port), 0);
+        server.createContext(PATH, this::handle);
+        serverExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+        return this;
+    }
+
+    /**
+     * Gets the port being served, or -1 if not started.
+     */
+    public synchronized int getPort() {
+        return server != null ? server.getAddress().getPort() : -1;
+    }
+
+    /**
+     * Renders the current metrics of all collectors.
+     */
+    public String scrape() {
+        Writer writer = new Writer();
+        for (Collector collector : collectors) {
+            try {
+                collector.collect(writer);
+            } catch (RuntimeException e) {
+                System.err.println("⚠️ Metrics collector failed: " + e.getMessage());
+            }
+        }
+        return writer.render();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+            serverExecutor.shutdownNow();
+            server = null;
+        }
+    }
+
+    /**
+     * Writes a component's current metrics on each scrape
+     */
+    @FunctionalInterface
+    public interface Collector {
+        void collect(Writer writer);
+    }
+
+    /**
+     * Collects samples grouped into metric families, so each family's HELP
+     * and TYPE lines appear once however many collectors contribute to it
+     */
+    public static class Writer {
+        private final Map<String, Family> families = new LinkedHashMap<>();
+
+        public Writer counter(String name, String help, Map<String, String> labels, double value) {
+            family(name, "counter", help).samples.add(sample(name, labels, value));
+            return this;
+        }
+
+        public Writer gauge(String name, String help, Map<String, String> labels, double value) {
+            family(name, "gauge", help).samples.add(sample(name, labels, value));
+            return this;
+        }
+
+        public Writer histogram(String name, String help, Map<String, String> labels, LatencyHistogram histogram) {
+            Family family = family(name, "histogram", help);
+            double[] bounds = histogram.getBoundsSeconds();
+            long[] cumulative = histogram.getCumulativeCounts();
+            for (int i = 0; i < cumulative.length; i++) {
+                Map<String, String> bucketLabels = new LinkedHashMap<>(labels);
+                bucketLabels.put("le", i < bounds.length ? formatValue(bounds[i]) : "+Inf");
+                family.samples.add(sample(name + "_bucket", bucketLabels, cumulative[i]));
+            }
+            family.samples.add(sample(name + "_sum", labels, histogram.getSumSeconds()));
+            family.samples.add(sample(name + "_count", labels, cumulative[cumulative.length - 1]));
+            return this;
+        }
+
+        private Family family(String name, String type, String help) {
+            Family family = families.computeIfAbsent(name, k -> new Family(type, help));
+            if (!family.type.equals(type)) {
+                throw new IllegalArgumentException("Metric " + name + " is already a " + family.type);
+            }
+            return family;
+        }
+
+        private static String sample(String name, Map<String, String> labels, double value) {
+            StringBuilder line = new StringBuilder(name);
+            if (!labels.isEmpty()) {
+                // Sorted for stable output, with a histogram's "le" last
+                Map<String, String> ordered = new TreeMap<>(labels);
+                String le = ordered.remove("le");
+                if (le != null) {
+                    ordered = new LinkedHashMap<>(ordered);
+                    ordered.put("le", le);
+                }
+                line.append('{');
+                boolean first = true;
+                for (Map.Entry<String, String> label : ordered.entrySet()) {
+                    if (!first) {
+                        line.append(',');
+                    }
+                    line.append(label.getKey()).append("=\"").append(escape(label.getValue())).append('"');
+                    first = false;
+                }
+                line.append('}');
+            }
+            return line.append(' ').append(formatValue(value)).toString();
+        }
+
+        private static String escape(String value) {
+            return String.valueOf(value).replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        }
+
+        private static String formatValue(double value) {
+            if (Double.isNaN(value)) {
+                return "NaN";
+            }
+            if (Double.isInfinite(value)) {
+                return value > 0 ? "+Inf" : "-Inf";
+            }
+            if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+                return Long.toString((long) value);
+            }
+            return Double.toString(value);
+        }
+
+        String render() {
+            StringBuilder out = new StringBuilder();
+            families.forEach((name, family) -> {
+                out.append("# HELP ").append(name).append(' ')
+                    .append(family.help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+                out.append("# TYPE ").append(name).append(' ').append(family.type).append('\n');
+                family.samples.forEach(sample -> out.append(sample).append('\n'));
+            });
+            return out.toString();
+        }
+
+        private static final class Family {
+            final String type;
+            final String help;
+            final List<String> samples = new ArrayList<>();
+
+            Family(String type, String help) {
+                this.type = type;
+                this.help = help;
+            }
+        }
+    }
+}
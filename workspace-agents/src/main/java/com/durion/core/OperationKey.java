@@ -0,0 +1,48 @@
+package com.durion.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Identity of an agent operation call: the operation name and its parameters
+ * 
+ * Two calls with the same operation and equal parameters have equal keys.
+ * Parameters are copied when the key is created, so later changes to the
+ * caller's map do not affect it.
+ */
+public final class OperationKey {
+    private final String operation;
+    private final Map<String, Object> parameters;
+    private final int hash;
+    
+    public OperationKey(String operation, Map<String, Object> parameters) {
+        this.operation = Objects.requireNonNull(operation, "operation");
+        this.parameters = parameters == null || parameters.isEmpty()
+            ? Map.of()
+            : Collections.unmodifiableMap(new HashMap<>(parameters));
+        this.hash = Objects.hash(this.operation, this.parameters);
+    }
+    
+    public String getOperation() { return operation; }
+    public Map<String, Object> getParameters() { return parameters; }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OperationKey)) return false;
+        OperationKey other = (OperationKey) o;
+        return hash == other.hash && operation.equals(other.operation) && parameters.equals(other.parameters);
+    }
+    
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+    
+    @Override
+    public String toString() {
+        return operation + parameters;
+    }
+}
@@ -0,0 +1,178 @@
+package com.durion.core;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, time-limited cache of successful agent operation results
+ * 
+ * Entries are keyed by the agent that computed them and an
+ * {@link OperationKey}, so a hit requires the same agent, the same operation
+ * and equal parameters; agents serving the same operation keep separate
+ * results. Entries expire after a fixed time to live,
+ * and the least recently used entry is evicted once the cache is full.
+ * Failed results are never cached.
+ */
+public class OperationResultCache {
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+    
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier clockNanos;
+    private final LinkedHashMap<Key, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long generation = 0;
+    
+    public OperationResultCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_TTL);
+    }
+    
+    public OperationResultCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, System::nanoTime);
+    }
+    
+    OperationResultCache(int maxEntries, Duration ttl, LongSupplier clockNanos) {
+        if (maxEntries < 1 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache needs at least one entry and a positive time to live");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.clockNanos = clockNanos;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > OperationResultCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+    
+    /**
+     * Get a cached result that has not expired
+     */
+    public synchronized Optional<AgentResult> get(String agentId, OperationKey operation) {
+        Key key = new Key(agentId, operation);
+        Entry entry = entries.get(key);
+        if (entry != null && clockNanos.getAsLong() - entry.storedNanos < ttlNanos) {
+            hits.increment();
+            return Optional.of(entry.result);
+        }
+        if (entry != null) {
+            entries.remove(key);
+            evictions.increment();
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+    
+    /**
+     * Cache a result; failed results are ignored
+     */
+    public synchronized void put(String agentId, OperationKey operation, AgentResult result) {
+        if (result != null && result.isSuccess()) {
+            entries.put(new Key(agentId, operation), new Entry(result, clockNanos.getAsLong()));
+        }
+    }
+    
+    /**
+     * Cache a result computed from state read at a given generation. If any
+     * invalidation happened since, the result may be stale and is dropped.
+     * @param generation Value of {@link #getGeneration()} before computing
+     */
+    public synchronized void put(String agentId, OperationKey operation, AgentResult result, long generation) {
+        if (generation == this.generation) {
+            put(agentId, operation, result);
+        }
+    }
+    
+    /**
+     * Get a counter that advances on every invalidation
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+    
+    /**
+     * Drop every agent's cached results of an operation
+     * @return Number of results dropped
+     */
+    public synchronized int invalidate(String operation) {
+        return invalidate(null, operation);
+    }
+    
+    /**
+     * Drop one agent's cached results of an operation
+     * @param agentId Agent whose results are dropped; null for every agent
+     * @return Number of results dropped
+     */
+    public synchronized int invalidate(String agentId, String operation) {
+        generation++;
+        int removed = 0;
+        for (Iterator<Key> it = entries.keySet().iterator(); it.hasNext();) {
+            Key key = it.next();
+            if (key.operation.getOperation().equals(operation) && (agentId == null || key.agentId.equals(agentId))) {
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+    
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+    
+    public synchronized int size() {
+        return entries.size();
+    }
+    
+    public long getHitCount() { return hits.sum(); }
+    public long getMissCount() { return misses.sum(); }
+    public long getEvictionCount() { return evictions.sum(); }
+    
+    private static final class Key {
+        final String agentId;
+        final OperationKey operation;
+        
+        Key(String agentId, OperationKey operation) {
+            this.agentId = Objects.requireNonNull(agentId, "agentId");
+            this.operation = operation;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return agentId.equals(other.agentId) && operation.equals(other.operation);
+        }
+        
+        @Override
+        public int hashCode() {
+            return 31 * agentId.hashCode() + operation.hashCode();
+        }
+    }
+    
+    private static final class Entry {
+        final AgentResult result;
+        final long storedNanos;
+        
+        Entry(AgentResult result, long storedNanos) {
+            this.result = result;
+            this.storedNanos = storedNanos;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.durion.core;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent calls into a single execution
+ * 
+ * While a call for a key is in flight, further calls for the same key get
+ * the same future instead of starting the work again. The key is released
+ * as soon as the work completes, so later calls run fresh; nothing is
+ * cached. After a state change the work depends on, {@link #release} keeps
+ * later calls from joining an execution that started before it.
+ *
+ * @param <K> Call identity, typically {@link OperationKey}
+ * @param <V> Result type
+ */
+public class SingleFlight<K, V> {
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    
+    /**
+     * Runs the work for a key, or joins the execution already in flight.
+     * 
+     * @param key  Call identity
+     * @param work Starts the work; called at most once per in-flight key
+     * @return Future completing with the shared result; cancelling it does
+     *         not affect the other callers
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> work) {
+        CompletableFuture<V> existing = inFlight.get(key);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.copy();
+        }
+        
+        CompletableFuture<V> shared = new CompletableFuture<>();
+        existing = inFlight.putIfAbsent(key, shared);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.copy();
+        }
+        
+        executions.increment();
+        CompletableFuture<V> started;
+        try {
+            started = work.get();
+            if (started == null) {
+                throw new IllegalStateException("Work for " + key + " returned no future");
+            }
+        } catch (RuntimeException e) {
+            inFlight.remove(key, shared);
+            shared.completeExceptionally(e);
+            return shared.copy();
+        }
+        started.whenComplete((value, error) -> {
+            // Release the key before completing, so callers woken by the result start fresh work
+            inFlight.remove(key, shared);
+            if (error != null) {
+                shared.completeExceptionally(error);
+            } else {
+                shared.complete(value);
+            }
+        });
+        return shared.copy();
+    }
+    
+    /**
+     * Detaches the in-flight executions whose keys match, so later calls for
+     * those keys start fresh work. Callers that already joined still get the
+     * detached execution's result.
+     */
+    public void release(Predicate<? super K> keys) {
+        inFlight.keySet().removeIf(keys);
+    }
+    
+    /** Gets the number of calls that started work. */
+    public long getExecutionCount() { return executions.sum(); }
+    
+    /** Gets the number of calls that joined an execution already in flight. */
+    public long getCoalescedCount() { return coalesced.sum(); }
+    
+    /** Gets the number of keys currently in flight. */
+    public int getInFlightCount() { return inFlight.size(); }
+}
@@ -0,0 +1,166 @@
+package com.durion.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One timed unit of work in a trace, such as an agent operation or a GitHub
+ * request
+ *
+ * Spans are started through {@link Tracer}, which links each new span to the
+ * current one. A span is exported once, when it ends, to the exporter of its
+ * trace; attributes and errors set after that are ignored. Outside a trace
+ * every span is the shared {@link #NOOP} span, so instrumented code costs
+ * almost nothing.
+ */
+public final class Span implements AutoCloseable {
+
+    /**
+     * Role of the span in a call, as Zipkin understands it
+     */
+    public enum Kind {
+        /** Work inside this process */
+        INTERNAL,
+        /** A request to a remote service, such as the GitHub API */
+        CLIENT
+    }
+
+    /** Span used outside a trace; records nothing */
+    public static final Span NOOP = new Span();
+
+    private static final Scope NOOP_SCOPE = () -> { };
+
+    private final String traceId;
+    private final String spanId;
+    private final String parentId;
+    private final String name;
+    private final Kind kind;
+    private final Instant startTime;
+    private final long startNanos;
+    private final Map<String, String> attributes = new ConcurrentHashMap<>();
+    private final AtomicBoolean ended = new AtomicBoolean();
+    private final SpanExporter exporter;
+    private volatile long durationNanos = -1;
+    private volatile String error;
+
+    private Span() {
+        this.traceId = "";
+        this.spanId = "";
+        this.parentId = null;
+        this.name = "";
+        this.kind = Kind.INTERNAL;
+        this.startTime = Instant.EPOCH;
+        this.startNanos = 0;
+        this.exporter = null;
+        this.ended.set(true);
+    }
+
+    Span(String traceId, String spanId, String parentId, String name, Kind kind, SpanExporter exporter) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentId = parentId;
+        this.name = name;
+        this.kind = kind;
+        this.startTime = Instant.now();
+        this.startNanos = System.nanoTime();
+        this.exporter = exporter;
+    }
+
+    public String getTraceId() { return traceId; }
+    public String getSpanId() { return spanId; }
+    public String getParentId() { return parentId; }
+    public String getName() { return name; }
+    public Kind getKind() { return kind; }
+    public Instant getStartTime() { return startTime; }
+    public Map<String, String> getAttributes() { return Map.copyOf(attributes); }
+    public String getError() { return error; }
+    public boolean isRecording() { return this != NOOP; }
+
+    SpanExporter getExporter() { return exporter; }
+
+    /**
+     * Gets how long the span ran, or zero if it has not ended.
+     */
+    public Duration getDuration() {
+        return Duration.ofNanos(Math.max(0, durationNanos));
+    }
+
+    /**
+     * Sets an attribute, such as an issue number or repository. Null values
+     * are ignored.
+     */
+    public Span setAttribute(String key, Object value) {
+        if (value != null && !ended.get()) {
+            attributes.put(key, String.valueOf(value));
+        }
+        return this;
+    }
+
+    /**
+     * Marks the span as failed.
+     */
+    public Span setError(String message) {
+        if (!ended.get()) {
+            error = message != null ? message : "error";
+        }
+        return this;
+    }
+
+    public Span setError(Throwable throwable) {
+        return setError(throwable.getClass().getSimpleName() + ": " + throwable.getMessage());
+    }
+
+    /**
+     * Makes this the current span of the calling thread until the returned
+     * scope is closed, so spans started meanwhile become its children.
+     */
+    public Scope makeCurrent() {
+        return this == NOOP && Tracer.currentSpan() == NOOP ? NOOP_SCOPE : Tracer.enter(this);
+    }
+
+    /**
+     * Ends the span when a future completes, marking it failed if the future
+     * fails.
+     *
+     * @return Future completing like the given one, once the span has ended
+     */
+    public <T> CompletableFuture<T> endWhenComplete(CompletableFuture<T> future) {
+        if (this == NOOP) {
+            return future;
+        }
+        return future.whenComplete((value, failure) -> {
+            if (failure != null) {
+                setError(failure);
+            }
+            end();
+        });
+    }
+
+    /**
+     * Ends and exports the span. Only the first call has an effect.
+     */
+    public void end() {
+        if (ended.compareAndSet(false, true)) {
+            durationNanos = System.nanoTime() - startNanos;
+            exporter.export(this);
+        }
+    }
+
+    @Override
+    public void close() {
+        end();
+    }
+
+    /**
+     * Restores the previous current span when closed
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,12 @@
+package com.durion.core;
+
+/**
+ * Receives spans as they end
+ *
+ * Implementations are called on the thread that ended the span, so they
+ * should hand the span off rather than do slow I/O inline.
+ */
+@FunctionalInterface
+public interface SpanExporter {
+    void export(Span span);
+}
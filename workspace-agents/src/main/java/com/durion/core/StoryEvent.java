@@ -0,0 +1,35 @@
+package com.durion.core;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A change to a [STORY] issue, published on a {@link StoryEventBus}
+ */
+public class StoryEvent {
+    public static final String STORY_CREATED = "story_created";
+    public static final String STORY_CLOSED = "story_closed";
+    public static final String DEPENDENCIES_CHANGED = "dependencies_changed";
+    public static final String LABELS_CHANGED = "labels_changed";
+    public static final String NOTES_FOR_AGENTS_CHANGED = "notes_for_agents_changed";
+    public static final String LINKED_STORY_CHANGED = "linked_story_changed";
+
+    private final String type;
+    private final String storyId;
+    private final Instant timestamp;
+
+    public StoryEvent(String type, String storyId) {
+        this.type = Objects.requireNonNull(type, "type");
+        this.storyId = storyId;
+        this.timestamp = Instant.now();
+    }
+
+    public String getType() { return type; }
+    public String getStoryId() { return storyId; }
+    public Instant getTimestamp() { return timestamp; }
+
+    @Override
+    public String toString() {
+        return type + ":" + storyId;
+    }
+}
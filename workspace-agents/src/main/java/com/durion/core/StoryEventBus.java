@@ -0,0 +1,204 @@
+package com.durion.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * In-process publish/subscribe bus for story events with batched delivery
+ *
+ * Publishers hand events to a single dispatcher thread through a
+ * {@link BoundedMpscQueue}, which the dispatcher drains in publication order.
+ * A full queue makes publishers wait for space, so no event is ever dropped.
+ *
+ * The first event after a quiet period opens a batch window. Everything
+ * published until the window closes is delivered as one batch, so a burst of
+ * changes triggers one reaction instead of one per event. Each subscriber
+ * receives the events of the batch whose types it subscribed to, in
+ * publication order, on the dispatcher thread; subscribers must not block on
+ * publishing to the same bus.
+ */
+public class StoryEventBus implements AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final Duration DEFAULT_BATCH_WINDOW = Duration.ofSeconds(30);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long CLOSE_TIMEOUT_MS = 5000;
+
+    private final BoundedMpscQueue<StoryEvent> queue;
+    private final long batchWindowNanos;
+    private volatile long deliveredThrough;
+    // Events before this sequence number are to be delivered without waiting for the window
+    private final AtomicLong flushThrough = new AtomicLong();
+    private volatile boolean running = true;
+    private final Thread dispatcher;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public StoryEventBus() {
+        this(DEFAULT_CAPACITY, DEFAULT_BATCH_WINDOW);
+    }
+
+    /**
+     * Creates a bus and starts its dispatcher thread.
+     *
+     * @param capacity    Queue size, rounded up to a power of two
+     * @param batchWindow How long a batch collects events after its first one
+     */
+    public StoryEventBus(int capacity, Duration batchWindow) {
+        this.queue = new BoundedMpscQueue<>(capacity);
+        this.batchWindowNanos = Math.max(0, batchWindow.toNanos());
+        this.dispatcher = new Thread(this::dispatchLoop, "story-event-bus");
+        this.dispatcher.setDaemon(true);
+        this.queue.setConsumer(dispatcher);
+        this.dispatcher.start();
+    }
+
+    /**
+     * Subscribes to events of the given types.
+     *
+     * @param eventTypes Event types to receive, see {@link StoryEvent}
+     * @param subscriber Receives each batch's matching events, never an empty list
+     * @return Handle that unsubscribes when closed
+     */
+    public Subscription subscribe(Set<String> eventTypes, Consumer<List<StoryEvent>> subscriber) {
+        Subscription subscription = new Subscription(Set.copyOf(eventTypes), subscriber);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Publishes an event, waiting for space if the queue is full.
+     */
+    public void publish(StoryEvent event) {
+        if (!running) {
+            throw new IllegalStateException("Story event bus is closed");
+        }
+        queue.put(event);
+        published.increment();
+    }
+
+    /**
+     * Closes the current batch window early and waits until every event
+     * published so far has been delivered.
+     *
+     * @return false, after reporting it, if the events were not delivered
+     *         within the timeout
+     */
+    public boolean flush() {
+        long target = queue.getClaimedCount();
+        // Only the batches holding these events close early; later batches keep their window
+        flushThrough.accumulateAndGet(target, Math::max);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CLOSE_TIMEOUT_MS);
+        while (deliveredThrough < target) {
+            if (!dispatcher.isAlive() || System.nanoTime() >= deadline) {
+                System.err.println("⚠️ Story event bus flush gave up with "
+                    + (target - deliveredThrough) + " event(s) undelivered");
+                return false;
+            }
+            LockSupport.unpark(dispatcher);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return true;
+    }
+
+    /**
+     * Delivers pending events and stops the dispatcher.
+     */
+    @Override
+    public void close() {
+        flush();
+        running = false;
+        LockSupport.unpark(dispatcher);
+        try {
+            dispatcher.join(CLOSE_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatchLoop() {
+        List<StoryEvent> batch = new ArrayList<>();
+        while (running || queue.getPendingCount() > 0) {
+            long batchStart = queue.getDrainedCount();
+            queue.drainTo(batch::add);
+            if (batch.isEmpty()) {
+                deliveredThrough = batchStart;
+                if (running) {
+                    queue.awaitElement(IDLE_PARK_NANOS);
+                }
+                continue;
+            }
+
+            // Keep collecting until the window closes, draining as we go so publishers never wait long
+            long windowEnd = System.nanoTime() + batchWindowNanos;
+            long remaining;
+            while (running && flushThrough.get() <= batchStart
+                    && (remaining = windowEnd - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(Math.min(remaining, IDLE_PARK_NANOS));
+                queue.drainTo(batch::add);
+            }
+            queue.drainTo(batch::add);
+            deliver(batch);
+            deliveredThrough = queue.getDrainedCount();
+            batch = new ArrayList<>();
+        }
+    }
+
+    private void deliver(List<StoryEvent> batch) {
+        batches.increment();
+        for (Subscription subscription : subscriptions) {
+            List<StoryEvent> matching = batch.stream()
+                .filter(event -> subscription.eventTypes.contains(event.getType()))
+                .toList();
+            if (matching.isEmpty()) {
+                continue;
+            }
+            try {
+                subscription.subscriber.accept(matching);
+                delivered.add(matching.size());
+            } catch (RuntimeException e) {
+                System.err.println("⚠️ Story event subscriber failed: " + e.getMessage());
+            }
+        }
+    }
+
+    public long getPublishedCount() { return published.sum(); }
+    public long getDeliveredCount() { return delivered.sum(); }
+    public long getBatchCount() { return batches.sum(); }
+
+    /** Gets the number of published events not yet taken by the dispatcher. */
+    public long getPendingCount() {
+        return queue.getPendingCount();
+    }
+
+    /**
+     * A subscriber registration
+     */
+    public class Subscription implements AutoCloseable {
+        private final Set<String> eventTypes;
+        private final Consumer<List<StoryEvent>> subscriber;
+
+        private Subscription(Set<String> eventTypes, Consumer<List<StoryEvent>> subscriber) {
+            this.eventTypes = eventTypes;
+            this.subscriber = subscriber;
+        }
+
+        public Set<String> getEventTypes() { return eventTypes; }
+
+        @Override
+        public void close() {
+            subscriptions.remove(this);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.durion.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Hosts a synchronous {@link com.durion.interfaces.WorkspaceAgent} as an
+ * asynchronous {@link WorkspaceAgent}
+ *
+ * The wrapped agent's blocking {@code execute(String, Object...)} runs on the
+ * adapter's own {@link AgentExecutor}, so it gets the same bulkhead, metrics,
+ * deadlines and cancellation as the native agents, and can be registered in a
+ * {@link WorkspaceAgentRegistry} under its declared capabilities.
+ *
+ * Parameter maps are translated to the positional arguments the synchronous
+ * agent expects by looking up each configured parameter name in order;
+ * missing parameters are passed as null. An exception thrown by the wrapped
+ * agent becomes a failed result, matching how agents report their own
+ * failures.
+ */
+public class SynchronousAgentAdapter implements WorkspaceAgent {
+
+    private final com.durion.interfaces.WorkspaceAgent delegate;
+    private final List<String> parameterOrder;
+    private final AgentExecutor executor;
+    private AgentConfiguration config;
+    private volatile boolean ready = false;
+
+    /**
+     * Adapts an agent whose operations take no positional arguments. Its
+     * operations run on virtual threads, since a synchronous agent may block.
+     */
+    public SynchronousAgentAdapter(com.durion.interfaces.WorkspaceAgent delegate) {
+        this(delegate, List.of(), AgentExecutor.Workload.IO);
+    }
+
+    /**
+     * Creates an adapter.
+     *
+     * @param delegate       The synchronous agent
+     * @param parameterOrder Parameter names, in the positional order the agent expects
+     * @param workload       Whether the agent is CPU- or I/O-bound
+     */
+    public SynchronousAgentAdapter(com.durion.interfaces.WorkspaceAgent delegate, List<String> parameterOrder,
+                                   AgentExecutor.Workload workload) {
+        this.delegate = delegate;
+        this.parameterOrder = List.copyOf(parameterOrder);
+        this.executor = AgentExecutor.forAgent(delegate.getAgentId(),
+            delegate.getCapabilities().getMaxConcurrentOperations(), workload);
+    }
+
+    public com.durion.interfaces.WorkspaceAgent getDelegate() { return delegate; }
+
+    @Override
+    public String getAgentId() {
+        return delegate.getAgentId();
+    }
+
+    @Override
+    public AgentCapabilities getCapabilities() {
+        return delegate.getCapabilities();
+    }
+
+    @Override
+    public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
+        Object[] arguments = toArguments(parameters);
+        return executor.execute(() -> {
+            long start = System.currentTimeMillis();
+            try {
+                AgentResult result = delegate.execute(operation, arguments);
+                return result != null ? result
+                    : AgentResult.failure("Agent " + getAgentId() + " returned no result for " + operation,
+                        System.currentTimeMillis() - start);
+            } catch (RuntimeException e) {
+                return AgentResult.failure("Operation " + operation + " failed: " + e.getMessage(),
+                    System.currentTimeMillis() - start);
+            }
+        });
+    }
+
+    private Object[] toArguments(Map<String, Object> parameters) {
+        Object[] arguments = new Object[parameterOrder.size()];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = parameters != null ? parameters.get(parameterOrder.get(i)) : null;
+        }
+        return arguments;
+    }
+
+    @Override
+    public AgentHealth getHealth() {
+        return delegate.getHealth();
+    }
+
+    /**
+     * Gets the metrics recorded by the adapter's executor, which cover every
+     * operation routed through it, including rejected and timed-out ones.
+     */
+    @Override
+    public AgentMetrics getMetrics() {
+        return executor.getMetrics();
+    }
+
+    @Override
+    public void initialize(AgentConfiguration config) {
+        this.config = config;
+        delegate.initialize();
+        this.ready = true;
+    }
+
+    @Override
+    public void shutdown() {
+        this.ready = false;
+        executor.close();
+        delegate.shutdown();
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Gets the response time target, taken from the configured response
+     * timeout once initialized
+     */
+    @Override
+    public Duration getResponseTimeTarget() {
+        return config != null ? Duration.ofSeconds(config.getResponseTimeoutSeconds())
+            : WorkspaceAgent.super.getResponseTimeTarget();
+    }
+}
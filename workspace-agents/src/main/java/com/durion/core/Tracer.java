@@ -0,0 +1,130 @@
+package com.durion.core;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Lightweight in-process tracing across agents, the registry and GitHub calls
+ *
+ * A trace starts with {@link #startTrace}, which names the exporter its
+ * spans go to, so each monitor traces into its own exporter. The current span
+ * is kept per thread; a span started with {@link #startSpan(String)} becomes
+ * a child of the current span and is exported like it. Outside a trace every
+ * span is {@link Span#NOOP}. Work handed to another thread keeps its place in
+ * the trace by capturing the current span with {@link #wrap} or by making a
+ * captured span current there; {@link AgentExecutor} and
+ * {@link AgentPipeline} do this for agent operations.
+ */
+public final class Tracer {
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+
+    private Tracer() {
+    }
+
+    /**
+     * Starts the root span of a new trace.
+     *
+     * @param exporter Receives the trace's spans as they end; null disables
+     *                 tracing and returns {@link Span#NOOP}
+     */
+    public static Span startTrace(String name, SpanExporter exporter) {
+        if (exporter == null) {
+            return Span.NOOP;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new Span(hex(random.nextLong()) + hex(random.nextLong()), hex(random.nextLong()), null, name,
+            Span.Kind.INTERNAL, exporter);
+    }
+
+    /**
+     * Starts an internal span under the current span.
+     */
+    public static Span startSpan(String name) {
+        return startSpan(name, Span.Kind.INTERNAL, currentSpan());
+    }
+
+    /**
+     * Starts a span of the given kind under the current span.
+     */
+    public static Span startSpan(String name, Span.Kind kind) {
+        return startSpan(name, kind, currentSpan());
+    }
+
+    /**
+     * Starts a span under an explicit parent, such as one captured on
+     * another thread.
+     *
+     * @param parent Parent span; {@link Span#NOOP} records nothing
+     */
+    public static Span startSpan(String name, Span.Kind kind, Span parent) {
+        if (parent == null || !parent.isRecording()) {
+            return Span.NOOP;
+        }
+        return new Span(parent.getTraceId(), hex(ThreadLocalRandom.current().nextLong()), parent.getSpanId(), name,
+            kind, parent.getExporter());
+    }
+
+    /**
+     * Gets the calling thread's current span, {@link Span#NOOP} if none.
+     */
+    public static Span currentSpan() {
+        Span span = CURRENT.get();
+        return span != null ? span : Span.NOOP;
+    }
+
+    /**
+     * Captures the current span so the supplier runs under it on whichever
+     * thread calls it.
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> supplier) {
+        Span captured = currentSpan();
+        if (captured == Span.NOOP) {
+            return supplier;
+        }
+        return () -> {
+            Span.Scope scope = captured.makeCurrent();
+            try {
+                return supplier.get();
+            } finally {
+                scope.close();
+            }
+        };
+    }
+
+    /**
+     * Captures the current span so the task runs under it on whichever
+     * thread runs it.
+     */
+    public static Runnable wrap(Runnable task) {
+        Span captured = currentSpan();
+        if (captured == Span.NOOP) {
+            return task;
+        }
+        return () -> {
+            Span.Scope scope = captured.makeCurrent();
+            try {
+                task.run();
+            } finally {
+                scope.close();
+            }
+        };
+    }
+
+    static Span.Scope enter(Span span) {
+        Span previous = CURRENT.get();
+        CURRENT.set(span == Span.NOOP ? null : span);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    private static String hex(long value) {
+        String digits = Long.toHexString(value);
+        return "0".repeat(16 - digits.length()) + digits;
+    }
+}
@@ -2,7 +2,12 @@ package com.durion.core;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 /**
  * Base interface for all workspace agents with performance targets:
@@ -30,6 +35,62 @@ public interface WorkspaceAgent {
      */
     CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters);
     
+    /**
+     * Execute an operation that must finish within the agent's response time
+     * target. On the deadline the agent's own future is completed with a
+     * {@link TimeoutException}, which stops the work if it runs on an
+     * {@link AgentExecutor}, and the returned future completes with
+     * {@link AgentResult#timeout}. Cancelling the returned future cancels the
+     * agent's work too. The operation is traced as a span named after it,
+     * under the caller's current span.
+     * @param operation The operation to execute
+     * @param parameters Operation parameters
+     * @return Future containing the operation result
+     */
+    default CompletableFuture<AgentResult> executeWithDeadline(String operation, Map<String, Object> parameters) {
+        Duration deadline = getResponseTimeTarget();
+        Span span = Tracer.startSpan(operation)
+            .setAttribute("agent.id", getAgentId())
+            .setAttribute("agent.operation", operation);
+        CompletableFuture<AgentResult> work;
+        Span.Scope scope = span.makeCurrent();
+        try {
+            work = execute(operation, parameters);
+        } catch (RuntimeException e) {
+            span.setError(e).end();
+            throw e;
+        } finally {
+            scope.close();
+        }
+        CompletableFuture<AgentResult> result = work
+            .orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS)
+            .exceptionally(error -> {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+                if (cause instanceof TimeoutException) {
+                    return AgentResult.timeout(String.format("Operation %s on agent %s timed out after %d ms",
+                        operation, getAgentId(), deadline.toMillis()), deadline.toMillis());
+                }
+                throw error instanceof CompletionException completion ? completion : new CompletionException(cause);
+            })
+            .whenComplete((value, error) -> {
+                // End the span before callers see the result
+                if (error != null) {
+                    span.setError(error);
+                } else if (value != null && !value.isSuccess()) {
+                    span.setError(value.getMessage());
+                }
+                span.end();
+            });
+        result.whenComplete((value, error) -> {
+            if (error instanceof CancellationException) {
+                work.cancel(true);
+                span.setError(error).end();
+            }
+        });
+        return result;
+    }
+    
     /**
      * Get current health status of the agent
      */
@@ -55,6 +116,15 @@ public interface WorkspaceAgent {
      */
     boolean isReady();
     
+    /**
+     * Register a listener to be told when cached results of a cacheable
+     * operation are stale because the agent's state changed outside an
+     * operation. Agents without such state changes need not override this.
+     * @param listener Receives the name of the stale operation
+     */
+    default void addCacheInvalidationListener(Consumer<String> listener) {
+    }
+    
     /**
      * Get the maximum response time target (5 seconds)
      */
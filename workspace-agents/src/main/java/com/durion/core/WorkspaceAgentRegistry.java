@@ -1,39 +1,326 @@
 package com.durion.core;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 /**
  * Registry for managing workspace agents with capability tracking
  * Supports 13 cross-layer agents with performance monitoring
+ * 
+ * Operations are routed through a precomputed operation-to-agents index,
+ * maintained on register and unregister. Among the healthiest candidates,
+ * two are sampled at random and the one with the lower expected cost
+ * (outstanding requests times EWMA latency) wins, which spreads concurrent
+ * load instead of piling it onto one agent. Health comes from an
+ * {@link AgentHealthMonitor} snapshot that is refreshed in the background
+ * from each agent's error rate and latency, so routing never calls into the
+ * agents to pick one. Each operation must finish within
+ * the chosen agent's response time target; one that misses it is cancelled
+ * and completes with a timeout result.
+ * 
+ * An {@link AdmissionController} caps the operations running at once at the
+ * configured maxConcurrentUsers. Excess operations wait in a bounded queue
+ * per agent and are rejected quickly when it is full, rather than queueing
+ * without bound inside the agents.
+ * 
+ * Results of operations that agents declare cacheable are kept in an
+ * {@link OperationResultCache}, per agent. A successful operation that an
+ * agent declares mutating drops that agent's cached results; agents can
+ * also report state changes through
+ * {@link WorkspaceAgent#addCacheInvalidationListener}.
+ * 
+ * {@link #startAgents} initializes the registered agents concurrently, each
+ * one after the registered agents named in its required dependencies, and
+ * reports every agent's time to ready. Agents registered with
+ * {@link #registerLazyAgent} are only initialized when first used.
+ * 
+ * Each routed operation is traced as a "route" span covering admission and
+ * the agent's own operation span, tagged with the chosen agent and outcome.
+ * 
+ * As a {@link MetricsExporter.Collector}, the registry publishes per-agent
+ * operation latency histograms and outcomes, outstanding operations, health,
+ * admission and result cache counters.
  */
-public class WorkspaceAgentRegistry {
+public class WorkspaceAgentRegistry implements MetricsExporter.Collector {
+    /** Weight of the newest latency sample in the moving average */
+    private static final double EWMA_ALPHA = 0.2;
+    
+    /** Runs agent initialization, which often blocks on I/O */
+    private static final Executor STARTUP_EXECUTOR =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("agent-startup-", 1).factory());
+    
     private final Map<String, WorkspaceAgent> agents = new ConcurrentHashMap<>();
     private final Map<String, AgentCapabilities> capabilities = new ConcurrentHashMap<>();
     private final Map<String, AgentMetrics> metrics = new ConcurrentHashMap<>();
+    private final Map<String, RouteStats> routeStats = new ConcurrentHashMap<>();
+    private final SingleFlight<OperationKey, AgentResult> singleFlight = new SingleFlight<>();
+    private final OperationResultCache resultCache = new OperationResultCache();
+    private final AdmissionController admission;
+    private final AgentHealthMonitor healthMonitor;
+    private final Set<String> lazyAgents = ConcurrentHashMap.newKeySet();
+    private final Map<String, CompletableFuture<Duration>> startups = new ConcurrentHashMap<>();
+    private volatile AgentConfiguration startupConfig;
+    private volatile Map<String, List<WorkspaceAgent>> operationIndex = Map.of();
+    private volatile Set<String> cacheableOperations = Set.of();
+    
+    /**
+     * Create a registry with the default admission limits
+     */
+    public WorkspaceAgentRegistry() {
+        this(defaultConfiguration());
+    }
+    
+    /**
+     * Create a registry whose admission limits come from a configuration
+     */
+    public WorkspaceAgentRegistry(AgentConfiguration config) {
+        this(AdmissionController.fromConfiguration(config), Duration.ofMillis(config.getHealthRefreshMillis()));
+        this.startupConfig = config;
+    }
+    
+    public WorkspaceAgentRegistry(AdmissionController admission) {
+        this(admission, AgentHealthMonitor.DEFAULT_REFRESH_INTERVAL);
+    }
+    
+    /**
+     * Create a registry with the given admission control and health refresh
+     * interval
+     */
+    public WorkspaceAgentRegistry(AdmissionController admission, Duration healthRefreshInterval) {
+        this.admission = admission;
+        Collection<WorkspaceAgent> registered = Collections.unmodifiableCollection(agents.values());
+        this.healthMonitor = new AgentHealthMonitor(() -> registered, healthRefreshInterval);
+        this.startupConfig = defaultConfiguration();
+    }
+    
+    private static AgentConfiguration defaultConfiguration() {
+        return new AgentConfiguration("workspace-agent-registry", new Properties(), Map.of());
+    }
     
     /**
      * Register a workspace agent
      */
-    public void registerAgent(WorkspaceAgent agent) {
+    public synchronized void registerAgent(WorkspaceAgent agent) {
         String agentId = agent.getAgentId();
         agents.put(agentId, agent);
         capabilities.put(agentId, agent.getCapabilities());
+        routeStats.put(agentId, new RouteStats());
         updateMetrics(agentId, agent.getMetrics());
+        rebuildOperationIndex();
+        agent.addCacheInvalidationListener(operation -> invalidate(agentId, operation));
+        healthMonitor.refresh(agent);
+    }
+    
+    /**
+     * Register an optional agent that is initialized on its first use rather
+     * than by {@link #startAgents}, unless an agent being started depends on it
+     */
+    public synchronized void registerLazyAgent(WorkspaceAgent agent) {
+        lazyAgents.add(agent.getAgentId());
+        registerAgent(agent);
     }
     
     /**
      * Unregister a workspace agent
      */
-    public void unregisterAgent(String agentId) {
+    public synchronized void unregisterAgent(String agentId) {
         WorkspaceAgent agent = agents.remove(agentId);
+        AgentCapabilities removed = capabilities.remove(agentId);
+        if (removed != null) {
+            removed.getCacheableOperations().forEach(operation -> resultCache.invalidate(agentId, operation));
+        }
+        metrics.remove(agentId);
+        routeStats.remove(agentId);
+        lazyAgents.remove(agentId);
+        startups.remove(agentId);
+        healthMonitor.remove(agentId);
+        rebuildOperationIndex();
         if (agent != null) {
             agent.shutdown();
         }
-        capabilities.remove(agentId);
-        metrics.remove(agentId);
+    }
+    
+    /**
+     * Rebuild the operation index; callers hold the registry lock
+     */
+    private void rebuildOperationIndex() {
+        Map<String, List<WorkspaceAgent>> index = new HashMap<>();
+        Set<String> cacheable = new HashSet<>();
+        capabilities.forEach((agentId, agentCapabilities) -> {
+            WorkspaceAgent agent = agents.get(agentId);
+            cacheable.addAll(agentCapabilities.getCacheableOperations());
+            for (String operation : agentCapabilities.getSupportedOperations()) {
+                index.computeIfAbsent(operation, k -> new ArrayList<>()).add(agent);
+            }
+        });
+        index.replaceAll((operation, candidates) -> List.copyOf(candidates));
+        operationIndex = Map.copyOf(index);
+        cacheableOperations = Set.copyOf(cacheable);
+    }
+    
+    /**
+     * Initialize every registered agent that is neither ready nor lazy
+     * 
+     * Independent agents initialize concurrently on virtual threads; an agent
+     * whose required dependencies name other registered agents (by ID or
+     * agent type) starts once those are ready. The configuration is also used
+     * for lazy agents initialized later.
+     * 
+     * @param config Configuration passed to each agent's initialize
+     * @return Future completing with each started agent's time to ready,
+     *         measured from this call, or exceptionally if any agent failed
+     * @throws IllegalStateException if the dependencies form a cycle
+     */
+    public synchronized CompletableFuture<Map<String, Duration>> startAgents(AgentConfiguration config) {
+        this.startupConfig = config;
+        long start = System.nanoTime();
+        Map<String, CompletableFuture<Duration>> started = new LinkedHashMap<>();
+        for (String agentId : startupOrder()) {
+            WorkspaceAgent agent = agents.get(agentId);
+            if (lazyAgents.contains(agentId) || startups.containsKey(agentId) || agent.isReady()) {
+                continue;
+            }
+            started.put(agentId, startAfterDependencies(agent, start));
+        }
+        
+        return CompletableFuture.allOf(started.values().toArray(new CompletableFuture<?>[0]))
+            .thenApply(ignored -> {
+                Map<String, Duration> timeToReady = new LinkedHashMap<>();
+                started.forEach((agentId, startup) -> timeToReady.put(agentId, startup.join()));
+                return timeToReady;
+            });
+    }
+    
+    /**
+     * Make sure an agent is initialized, starting it now if it is a lazy agent
+     * that has not been used yet
+     * 
+     * @return Future completing with the agent's time to ready, or with zero
+     *         for an agent that was initialized outside the registry
+     */
+    public CompletableFuture<Duration> ensureStarted(String agentId) {
+        // Agents already started or starting are answered without the registry lock
+        CompletableFuture<Duration> startup = startups.get(agentId);
+        return startup != null ? startup : startIfNeeded(agentId);
+    }
+    
+    /**
+     * Cold path of {@link #ensureStarted}: looks again under the registry lock
+     * and starts the agent if nothing else has
+     */
+    private synchronized CompletableFuture<Duration> startIfNeeded(String agentId) {
+        CompletableFuture<Duration> startup = startups.get(agentId);
+        if (startup != null) {
+            return startup;
+        }
+        WorkspaceAgent agent = agents.get(agentId);
+        if (agent == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Unknown agent: " + agentId));
+        }
+        if (!lazyAgents.contains(agentId) || agent.isReady()) {
+            return CompletableFuture.completedFuture(Duration.ZERO);
+        }
+        startupOrder(); // Refuse to start into a dependency cycle
+        return startAfterDependencies(agent, System.nanoTime());
+    }
+    
+    /**
+     * Get an agent's time to ready, if the registry has started it
+     */
+    public Optional<Duration> getTimeToReady(String agentId) {
+        CompletableFuture<Duration> startup = startups.get(agentId);
+        return startup != null && startup.isDone() && !startup.isCompletedExceptionally()
+            ? Optional.of(startup.join()) : Optional.empty();
+    }
+    
+    /**
+     * Start an agent once its dependencies are ready; callers hold the
+     * registry lock. A failed start is forgotten so a later call can retry.
+     */
+    private CompletableFuture<Duration> startAfterDependencies(WorkspaceAgent agent, long start) {
+        String agentId = agent.getAgentId();
+        List<CompletableFuture<Duration>> dependencies = dependenciesOf(agentId).stream()
+            .map(this::ensureStarted)
+            .toList();
+        AgentConfiguration config = startupConfig;
+        CompletableFuture<Duration> startup = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture<?>[0]))
+            .thenApplyAsync(ignored -> {
+                agent.initialize(config);
+                healthMonitor.refresh(agent);
+                Duration timeToReady = Duration.ofNanos(System.nanoTime() - start);
+                System.out.println("⏱️ " + agentId + " ready in " + timeToReady.toMillis() + "ms");
+                return timeToReady;
+            }, STARTUP_EXECUTOR);
+        startups.put(agentId, startup);
+        startup.whenComplete((timeToReady, error) -> {
+            if (error != null) {
+                startups.remove(agentId, startup);
+                System.err.println("❌ " + agentId + " failed to start: " + rootMessage(error));
+            }
+        });
+        return startup;
+    }
+    
+    /**
+     * Get the registered agents an agent requires, matched by agent ID or type
+     */
+    private List<String> dependenciesOf(String agentId) {
+        AgentCapabilities agentCapabilities = capabilities.get(agentId);
+        if (agentCapabilities == null || agentCapabilities.getRequiredDependencies() == null) {
+            return List.of();
+        }
+        List<String> dependencies = new ArrayList<>();
+        capabilities.forEach((otherId, other) -> {
+            if (!otherId.equals(agentId)
+                    && (agentCapabilities.getRequiredDependencies().contains(otherId)
+                        || agentCapabilities.getRequiredDependencies().contains(other.getAgentType()))) {
+                dependencies.add(otherId);
+            }
+        });
+        return dependencies;
+    }
+    
+    /**
+     * Order the registered agents so each follows the agents it requires
+     */
+    private List<String> startupOrder() {
+        Map<String, Integer> pending = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        for (String agentId : agents.keySet()) {
+            List<String> dependencies = dependenciesOf(agentId);
+            pending.put(agentId, dependencies.size());
+            dependencies.forEach(dependency -> dependents.computeIfAbsent(dependency, k -> new ArrayList<>()).add(agentId));
+        }
+        
+        Deque<String> ready = new ArrayDeque<>();
+        pending.forEach((agentId, count) -> {
+            if (count == 0) {
+                ready.add(agentId);
+            }
+        });
+        List<String> ordered = new ArrayList<>(pending.size());
+        while (!ready.isEmpty()) {
+            String next = ready.poll();
+            ordered.add(next);
+            for (String dependent : dependents.getOrDefault(next, List.of())) {
+                if (pending.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        if (ordered.size() != pending.size()) {
+            throw new IllegalStateException("Registered agents have a dependency cycle");
+        }
+        return ordered;
     }
     
     /**
@@ -47,11 +334,7 @@ public class WorkspaceAgentRegistry {
      * Find agents that support a specific operation
      */
     public List<WorkspaceAgent> findAgentsForOperation(String operation) {
-        return capabilities.entrySet().stream()
-            .filter(entry -> entry.getValue().supportsOperation(operation))
-            .map(entry -> agents.get(entry.getKey()))
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
+        return new ArrayList<>(operationIndex.getOrDefault(operation, List.of()));
     }
     
     /**
@@ -76,28 +359,46 @@ public class WorkspaceAgentRegistry {
     }
     
     /**
-     * Get agent metrics
+     * Get agent metrics, read live from the agent when it is registered
      */
     public Optional<AgentMetrics> getMetrics(String agentId) {
+        WorkspaceAgent agent = agents.get(agentId);
+        if (agent != null) {
+            updateMetrics(agentId, agent.getMetrics());
+        }
         return Optional.ofNullable(metrics.get(agentId));
     }
     
     /**
-     * Get health status of all agents
+     * Get health status of all agents from the latest health snapshot
      */
     public Map<String, AgentHealth> getHealthStatus() {
-        return agents.entrySet().stream()
+        Map<String, AgentHealth> snapshot = healthMonitor.getSnapshot();
+        return agents.keySet().stream()
             .collect(Collectors.toMap(
-                Map.Entry::getKey,
-                entry -> entry.getValue().getHealth()
+                agentId -> agentId,
+                agentId -> snapshot.getOrDefault(agentId, AgentHealth.UNKNOWN)
             ));
     }
     
+    /**
+     * Get the health of one agent from the latest health snapshot
+     */
+    public AgentHealth getHealth(String agentId) {
+        return healthMonitor.getHealth(agentId);
+    }
+    
+    public AgentHealthMonitor getHealthMonitor() {
+        return healthMonitor;
+    }
+    
     /**
      * Check if registry meets performance targets
      */
     public boolean meetsPerformanceTargets() {
-        return metrics.values().stream()
+        return metrics.keySet().stream()
+            .map(this::getMetrics)
+            .flatMap(Optional::stream)
             .allMatch(AgentMetrics::meetsPerformanceTargets);
     }
     
@@ -109,25 +410,341 @@ public class WorkspaceAgentRegistry {
     }
     
     /**
-     * Execute operation on best available agent
+     * Execute operation on the least loaded healthy agent within its response
+     * time target, answering cacheable operations from the result cache when
+     * possible
      */
     public CompletableFuture<AgentResult> executeOperation(String operation, Map<String, Object> parameters) {
-        List<WorkspaceAgent> availableAgents = findAgentsForOperation(operation);
+        if (!cacheableOperations.contains(operation)) {
+            return routeOperation(operation, parameters);
+        }
         
-        if (availableAgents.isEmpty()) {
+        // Identical calls share one cache lookup and, on a miss, one computation;
+        // calls that join it count as neither hits nor misses
+        return singleFlight.execute(new OperationKey(operation, parameters),
+            () -> routeOperation(operation, parameters));
+    }
+    
+    private CompletableFuture<AgentResult> routeOperation(String operation, Map<String, Object> parameters) {
+        List<WorkspaceAgent> candidates = operationIndex.getOrDefault(operation, List.of());
+        
+        if (candidates.isEmpty()) {
             return CompletableFuture.completedFuture(
                 AgentResult.failure("No agents available for operation: " + operation, 0)
             );
         }
         
-        // Select agent with best performance metrics
-        WorkspaceAgent bestAgent = availableAgents.stream()
-            .min(Comparator.comparing(agent -> 
-                getMetrics(agent.getAgentId())
-                    .map(m -> m.getAverageResponseTime().toMillis())
-                    .orElse(Long.MAX_VALUE)))
-            .orElse(availableAgents.get(0));
+        WorkspaceAgent agent = selectAgent(candidates);
+        AgentCapabilities agentCapabilities = capabilities.get(agent.getAgentId());
+        if (agentCapabilities == null || !agentCapabilities.isCacheable(operation)) {
+            return executeOn(agent, operation, parameters);
+        }
+        OperationKey key = new OperationKey(operation, parameters);
+        Optional<AgentResult> cached = resultCache.get(agent.getAgentId(), key);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+        // An invalidation while the result is computed keeps it out of the cache
+        long generation = resultCache.getGeneration();
+        return executeOn(agent, operation, parameters).thenApply(result -> {
+            resultCache.put(agent.getAgentId(), key, result, generation);
+            return result;
+        });
+    }
+    
+    private CompletableFuture<AgentResult> executeOn(WorkspaceAgent agent, String operation,
+                                                     Map<String, Object> parameters) {
+        RouteStats stats = routeStats.get(agent.getAgentId());
+        if (stats == null) {
+            return agent.executeWithDeadline(operation, parameters); // Unregistered while routing
+        }
+        // Queued operations count as outstanding, so routing steers new work away from them
+        stats.inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        Span span = Tracer.startSpan("route " + operation)
+            .setAttribute("agent.operation", operation)
+            .setAttribute("agent.id", agent.getAgentId());
+        return admission.admit(agent.getAgentId()).thenCompose(admitted -> {
+            if (!admitted) {
+                stats.inFlight.decrementAndGet();
+                stats.countOutcome(operation, "rejected");
+                span.setAttribute("agent.outcome", "rejected").setError("Rejected by admission control").end();
+                return CompletableFuture.completedFuture(AgentResult.rejected(String.format(
+                    "Agent %s is overloaded (%d operations running, %d queued); rejected operation: %s",
+                    agent.getAgentId(), admission.getInFlight(), admission.getQueued(agent.getAgentId()), operation)));
+            }
+            CompletableFuture<AgentResult> future;
+            Span.Scope scope = span.makeCurrent();
+            try {
+                future = lazyAgents.contains(agent.getAgentId())
+                    ? executeWhenStarted(agent, operation, parameters)
+                    : agent.executeWithDeadline(operation, parameters);
+            } catch (RuntimeException e) {
+                stats.complete(System.nanoTime() - start);
+                admission.release();
+                span.setError(e).end();
+                throw e;
+            } finally {
+                scope.close();
+            }
+            return future.whenComplete((result, error) -> {
+                long latencyNanos = System.nanoTime() - start;
+                String outcome = outcomeOf(result, error);
+                stats.complete(latencyNanos);
+                stats.record(operation, outcome, latencyNanos);
+                span.setAttribute("agent.outcome", outcome);
+                if (error != null) {
+                    span.setError(error);
+                }
+                span.end();
+                admission.release();
+                if (result != null && result.isSuccess()) {
+                    invalidateAfter(agent, operation);
+                }
+            });
+        });
+    }
+    
+    /**
+     * Execute on a lazy agent once it is initialized; the deadline starts
+     * after initialization
+     */
+    private CompletableFuture<AgentResult> executeWhenStarted(WorkspaceAgent agent, String operation,
+                                                             Map<String, Object> parameters) {
+        Span span = Tracer.currentSpan();
+        return ensureStarted(agent.getAgentId()).handle((timeToReady, error) -> error)
+            .thenCompose(error -> {
+                if (error != null) {
+                    return CompletableFuture.completedFuture(AgentResult.failure(
+                        "Agent " + agent.getAgentId() + " failed to initialize: " + rootMessage(error), 0));
+                }
+                Span.Scope scope = span.makeCurrent();
+                try {
+                    return agent.executeWithDeadline(operation, parameters);
+                } finally {
+                    scope.close();
+                }
+            });
+    }
+    
+    private static String rootMessage(Throwable error) {
+        Throwable cause = error;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+    
+    private static String outcomeOf(AgentResult result, Throwable error) {
+        if (error != null || result == null) {
+            return "error";
+        }
+        if (result.isSuccess()) {
+            return "success";
+        }
+        return result.isTimeout() ? "timeout" : result.isRejected() ? "rejected" : "failure";
+    }
+    
+    /**
+     * After a state change on an agent, drop its cached results and keep later
+     * calls from joining its operations that were already in flight
+     */
+    private void invalidateAfter(WorkspaceAgent agent, String operation) {
+        AgentCapabilities agentCapabilities = capabilities.get(agent.getAgentId());
+        if (agentCapabilities != null && agentCapabilities.isMutating(operation)) {
+            agentCapabilities.getCacheableOperations()
+                .forEach(cached -> resultCache.invalidate(agent.getAgentId(), cached));
+            Set<String> operations = agentCapabilities.getSupportedOperations();
+            singleFlight.release(key -> operations.contains(key.getOperation()));
+        }
+    }
+    
+    private void invalidate(String agentId, String operation) {
+        resultCache.invalidate(agentId, operation);
+        singleFlight.release(key -> key.getOperation().equals(operation));
+    }
+    
+    /**
+     * Drop cached results of an operation, e.g. after changing the state it reads
+     */
+    public void invalidateCachedResults(String operation) {
+        invalidate(null, operation);
+    }
+    
+    /**
+     * Drop all cached results
+     */
+    public void invalidateCachedResults() {
+        resultCache.invalidateAll();
+        singleFlight.release(key -> true);
+    }
+    
+    public OperationResultCache getResultCache() {
+        return resultCache;
+    }
+    
+    public AdmissionController getAdmissionController() {
+        return admission;
+    }
+    
+    /**
+     * Execute operation, sharing the result with identical concurrent calls
+     * 
+     * Calls with the same operation and equal parameters that arrive while
+     * one is in flight join it instead of running the work again. Use this
+     * for operations whose result does not depend on which caller asked,
+     * such as regenerating coordination documents. A successful state change
+     * on the agent detaches the calls in flight, so later calls run fresh
+     * instead of getting a result computed from the old state.
+     */
+    public CompletableFuture<AgentResult> executeCoalesced(String operation, Map<String, Object> parameters) {
+        if (cacheableOperations.contains(operation)) {
+            return executeOperation(operation, parameters); // Cache misses are already coalesced
+        }
+        return singleFlight.execute(new OperationKey(operation, parameters),
+            () -> routeOperation(operation, parameters));
+    }
+    
+    /**
+     * Get the number of calls that joined an identical call already in flight
+     */
+    public long getCoalescedCount() {
+        return singleFlight.getCoalescedCount();
+    }
+    
+    /**
+     * Pick an agent with power-of-two-choices among the healthiest tier:
+     * HEALTHY agents first, then DEGRADED or UNKNOWN ones. When every
+     * candidate is UNHEALTHY, the one with the lowest routing cost is tried
+     * rather than refusing the operation.
+     */
+    private WorkspaceAgent selectAgent(List<WorkspaceAgent> candidates) {
+        List<WorkspaceAgent> healthy = new ArrayList<>(candidates.size());
+        List<WorkspaceAgent> fallback = new ArrayList<>(candidates.size());
+        WorkspaceAgent leastBad = null;
+        for (WorkspaceAgent candidate : candidates) {
+            // A lazy agent not yet used may report itself unhealthy until it is initialized
+            AgentHealth health = lazyAgents.contains(candidate.getAgentId()) && !candidate.isReady()
+                ? AgentHealth.UNKNOWN : healthMonitor.getHealth(candidate.getAgentId());
+            if (health == AgentHealth.HEALTHY) {
+                healthy.add(candidate);
+            } else if (health != AgentHealth.UNHEALTHY) {
+                fallback.add(candidate);
+            } else if (leastBad == null || routingCost(candidate) < routingCost(leastBad)) {
+                leastBad = candidate;
+            }
+        }
+        List<WorkspaceAgent> tier = healthy.isEmpty() ? fallback : healthy;
+        if (tier.isEmpty()) {
+            return leastBad;
+        }
+        if (tier.size() == 1) {
+            return tier.get(0);
+        }
+        
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(tier.size());
+        int second = random.nextInt(tier.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        WorkspaceAgent a = tier.get(first);
+        WorkspaceAgent b = tier.get(second);
+        return routingCost(a) <= routingCost(b) ? a : b;
+    }
+    
+    private double routingCost(WorkspaceAgent agent) {
+        RouteStats stats = routeStats.get(agent.getAgentId());
+        return stats == null ? Double.MAX_VALUE : stats.cost();
+    }
+    
+    /**
+     * Get the number of operations routed to an agent that have not completed
+     */
+    public int getOutstandingRequests(String agentId) {
+        RouteStats stats = routeStats.get(agentId);
+        return stats == null ? 0 : stats.inFlight.get();
+    }
+    
+    /**
+     * Publish agent, admission and result cache metrics
+     */
+    @Override
+    public void collect(MetricsExporter.Writer writer) {
+        Map<String, AgentHealth> health = healthMonitor.getSnapshot();
+        routeStats.forEach((agentId, stats) -> {
+            Map<String, String> agentLabel = Map.of("agent", agentId);
+            stats.latencies.forEach((operation, histogram) -> writer.histogram(
+                "durion_agent_operation_duration_seconds", "Agent operation latency, including admission wait",
+                Map.of("agent", agentId, "operation", operation), histogram));
+            stats.outcomes.forEach((key, count) -> {
+                String[] parts = key.split("\u0000", 2);
+                writer.counter("durion_agent_operations_total", "Agent operations by outcome",
+                    Map.of("agent", agentId, "operation", parts[0], "outcome", parts[1]), count.sum());
+            });
+            writer.gauge("durion_agent_in_flight", "Operations routed to the agent and not yet completed",
+                agentLabel, stats.inFlight.get());
+            AgentHealth current = health.getOrDefault(agentId, AgentHealth.UNKNOWN);
+            for (AgentHealth state : AgentHealth.values()) {
+                writer.gauge("durion_agent_health", "1 for the agent's current health state",
+                    Map.of("agent", agentId, "state", state.name()), state == current ? 1 : 0);
+            }
+        });
         
-        return bestAgent.execute(operation, parameters);
+        writer.gauge("durion_admission_in_flight", "Operations holding an admission slot", Map.of(),
+            admission.getInFlight());
+        writer.gauge("durion_admission_max_concurrent", "Admission slots", Map.of(), admission.getMaxConcurrent());
+        writer.counter("durion_admission_admitted_total", "Operations admitted", Map.of(), admission.getAdmittedCount());
+        writer.counter("durion_admission_rejected_total", "Operations shed by admission control", Map.of(),
+            admission.getRejectedCount());
+        
+        long hits = resultCache.getHitCount();
+        long misses = resultCache.getMissCount();
+        writer.counter("durion_result_cache_hits_total", "Operation result cache hits", Map.of(), hits);
+        writer.counter("durion_result_cache_misses_total", "Operation result cache misses", Map.of(), misses);
+        writer.counter("durion_result_cache_evictions_total", "Operation result cache evictions", Map.of(),
+            resultCache.getEvictionCount());
+        writer.gauge("durion_result_cache_hit_ratio", "Share of cacheable lookups answered from the cache",
+            Map.of(), hits + misses == 0 ? 0 : (double) hits / (hits + misses));
+        writer.gauge("durion_result_cache_entries", "Operation results currently cached", Map.of(),
+            resultCache.size());
+        writer.counter("durion_coalesced_calls_total", "Calls that joined an identical call in flight", Map.of(),
+            getCoalescedCount());
+    }
+    
+    /**
+     * Per-agent routing load: outstanding requests and EWMA latency, plus
+     * per-operation latency histograms and outcome counts for metrics export
+     */
+    private static final class RouteStats {
+        /** Latency assumed before the first sample, and added to every estimate */
+        private static final double BASELINE_NANOS = 1_000_000;
+        
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicLong ewmaNanosBits = new AtomicLong(Double.doubleToLongBits(0));
+        final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+        final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        
+        void record(String operation, String outcome, long latencyNanos) {
+            latencies.computeIfAbsent(operation, k -> new LatencyHistogram()).record(latencyNanos);
+            countOutcome(operation, outcome);
+        }
+        
+        void countOutcome(String operation, String outcome) {
+            outcomes.computeIfAbsent(operation + "\u0000" + outcome, k -> new LongAdder()).increment();
+        }
+        
+        void complete(long latencyNanos) {
+            inFlight.decrementAndGet();
+            ewmaNanosBits.getAndUpdate(bits -> {
+                double current = Double.longBitsToDouble(bits);
+                double next = current == 0 ? latencyNanos : current + EWMA_ALPHA * (latencyNanos - current);
+                return Double.doubleToLongBits(next);
+            });
+        }
+        
+        double cost() {
+            return (inFlight.get() + 1) * (Double.longBitsToDouble(ewmaNanosBits.get()) + BASELINE_NANOS);
+        }
     }
 }
@@ -0,0 +1,208 @@
+package com.durion.core;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Writes ended spans to a local file as Zipkin v2 JSON, one span per line
+ *
+ * Each line is a complete Zipkin span, so the file can be read line by line
+ * or wrapped in brackets and posted to a Zipkin server's /api/v2/spans.
+ * Spans are queued and written in batches by a single daemon thread; when
+ * the queue is full new spans are dropped and counted rather than slowing
+ * the traced code. Once the file grows past its size limit it is moved
+ * aside to a ".1" file and a new one is started.
+ */
+public class ZipkinFileSpanExporter implements SpanExporter, AutoCloseable {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    public static final long DEFAULT_MAX_FILE_BYTES = 64L * 1024 * 1024;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int MAX_BATCH = 512;
+
+    private final Path file;
+    private final String serviceName;
+    private final long maxFileBytes;
+    private final BlockingQueue<Span> queue;
+    private final LongAdder exported = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writerThread;
+    private final Object flushLock = new Object();
+    private volatile boolean running = true;
+    private long pending;
+
+    /**
+     * Creates an exporter with the default queue capacity and file size limit.
+     *
+     * @param file        File to append spans to; parent directories are created
+     * @param serviceName Zipkin service name of this process
+     */
+    public ZipkinFileSpanExporter(Path file, String serviceName) throws IOException {
+        this(file, serviceName, DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_FILE_BYTES);
+    }
+
+    public ZipkinFileSpanExporter(Path file, String serviceName, int queueCapacity, long maxFileBytes)
+            throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.file = file;
+        this.serviceName = serviceName;
+        this.maxFileBytes = maxFileBytes;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.writerThread = new Thread(this::drainLoop, "span-file-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void export(Span span) {
+        if (!running) {
+            dropped.increment();
+            return;
+        }
+        synchronized (flushLock) {
+            if (!queue.offer(span)) {
+                dropped.increment();
+                return;
+            }
+            pending++;
+        }
+    }
+
+    public Path getFile() { return file; }
+    public long getExportedCount() { return exported.sum(); }
+    public long getDroppedCount() { return dropped.sum(); }
+
+    /**
+     * Waits until every span queued so far has been written.
+     *
+     * @return false if the spans were not written within the timeout
+     */
+    public boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (flushLock) {
+            while (pending > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !writerThread.isAlive()) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(flushLock, remaining);
+            }
+        }
+        return true;
+    }
+
+    private void drainLoop() {
+        List<Span> batch = new ArrayList<>(MAX_BATCH);
+        while (running || !queue.isEmpty()) {
+            try {
+                Span first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                running = false;
+            } finally {
+                if (!batch.isEmpty()) {
+                    synchronized (flushLock) {
+                        pending -= batch.size();
+                        flushLock.notifyAll();
+                    }
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    private void write(List<Span> batch) {
+        StringBuilder lines = new StringBuilder();
+        for (Span span : batch) {
+            try {
+                lines.append(toJson(span)).append('\n');
+            } catch (IOException e) {
+                dropped.increment();
+            }
+        }
+        try {
+            if (maxFileBytes > 0 && Files.exists(file) && Files.size(file) >= maxFileBytes) {
+                Files.move(file, file.resolveSibling(file.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.writeString(file, lines, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            exported.add(batch.size());
+        } catch (IOException e) {
+            dropped.add(batch.size());
+            System.err.println("⚠️ Could not write spans to " + file + ": " + e.getMessage());
+        }
+    }
+
+    private String toJson(Span span) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeStringField("traceId", span.getTraceId());
+            json.writeStringField("id", span.getSpanId());
+            if (span.getParentId() != null) {
+                json.writeStringField("parentId", span.getParentId());
+            }
+            json.writeStringField("name", span.getName());
+            if (span.getKind() == Span.Kind.CLIENT) {
+                json.writeStringField("kind", "CLIENT");
+            }
+            json.writeNumberField("timestamp", ChronoUnit.MICROS.between(Instant.EPOCH, span.getStartTime()));
+            json.writeNumberField("duration", Math.max(1, TimeUnit.NANOSECONDS.toMicros(span.getDuration().toNanos())));
+            json.writeObjectFieldStart("localEndpoint");
+            json.writeStringField("serviceName", serviceName);
+            json.writeEndObject();
+            Map<String, String> attributes = span.getAttributes();
+            if (!attributes.isEmpty() || span.getError() != null) {
+                json.writeObjectFieldStart("tags");
+                for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+                    json.writeStringField(attribute.getKey(), attribute.getValue());
+                }
+                if (span.getError() != null) {
+                    json.writeStringField("error", span.getError());
+                }
+                json.writeEndObject();
+            }
+            json.writeEndObject();
+        }
+        return out.toString();
+    }
+
+    /**
+     * Stops accepting spans and writes the ones already queued.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.durion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import com.durion.core.DomainCorpusIndex;
+
+/**
+ * Tests for story domain detection in the story monitors.
+ *
+ * Verifies that corpus domains are reported in the monitors' label
+ * vocabulary and that stories the corpus cannot place use the keywords.
+ */
+public class StoryDomainsTest {
+
+    @Test
+    void mapsCorpusDomainsToLabelVocabulary() throws Exception {
+        Path domains = Files.createTempDirectory("story-domains");
+        writeStory(domains, "crm", 170, "Contacts: Capture Multiple Contact Points");
+        writeStory(domains, "workexec", 220, "Estimates: Approve Repair Estimate");
+        writeStory(domains, "positivity", 300, "Integration: Sync Positivity Feed");
+        DomainCorpusIndex index = new DomainCorpusIndex(domains);
+        index.refresh();
+
+        assertEquals("customer", StoryDomains.extractDomain(index, "Add contact points", ""));
+        assertEquals("order", StoryDomains.extractDomain(index, "Approve an estimate", ""));
+        // An unmapped corpus domain falls back to the keywords
+        assertEquals("reporting", StoryDomains.extractDomain(index, "Positivity feed report", ""));
+        assertEquals("general", StoryDomains.extractDomain(index, "Something unrelated", ""));
+    }
+
+    private static void writeStory(Path domains, String domain, int issue, String title) throws Exception {
+        Path ui = Files.createDirectories(domains.resolve(domain).resolve(".ui"));
+        String name = "frontend-story-" + domain + "-" + issue;
+        Files.writeString(ui.resolve(name + ".wf.meta.json"), "{\n"
+                + "  \"issue_number\": " + issue + ",\n"
+                + "  \"issue_title\": \"" + title + "\",\n"
+                + "  \"domain\": \"" + domain + "\"\n"
+                + "}");
+        Files.writeString(ui.resolve(name + ".wf.md"), "# " + title);
+    }
+}
@@ -32,12 +32,14 @@ import com.durion.agents.PerformanceCoordinationAgent;
 import com.durion.agents.RequirementsDecompositionAgent;
 import com.durion.agents.StoryOrchestrationAgent;
 import com.durion.agents.UnifiedSecurityAgent;
+import com.durion.agents.WorkflowCoordinationAgent;
 import com.durion.agents.WorkspaceArchitectureAgent;
 import com.durion.agents.WorkspaceSREAgent;
 import com.durion.core.AgentCapabilities;
 import com.durion.core.AgentConfiguration;
 import com.durion.core.AgentHealth;
 import com.durion.core.AgentResult;
+import com.durion.core.SynchronousAgentAdapter;
 
 /**
  * Comprehensive integration test for all 13 workspace agents
@@ -81,9 +83,8 @@ public class WorkspaceAgentIntegrationTest {
         agents.put("disaster-recovery", new DisasterRecoveryAgent());
         agents.put("data-governance", new DataGovernanceAgent());
         agents.put("documentation-coordination", new DocumentationCoordinationAgent());
-        // Note: WorkflowCoordinationAgent implements interfaces.WorkspaceAgent, not
-        // core.WorkspaceAgent
-        // agents.put("workflow-coordination", new WorkflowCoordinationAgent());
+        // WorkflowCoordinationAgent implements the synchronous interfaces.WorkspaceAgent
+        agents.put("workflow-coordination", new SynchronousAgentAdapter(new WorkflowCoordinationAgent()));
         agents.put("story-orchestration", new StoryOrchestrationAgent());
 
         // Initialize all agents
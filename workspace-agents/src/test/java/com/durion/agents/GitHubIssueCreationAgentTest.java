@@ -0,0 +1,41 @@
+package com.durion.agents;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+import com.durion.core.AgentConfiguration;
+import com.durion.core.WorkspaceAgent;
+import com.durion.core.WorkspaceAgentRegistry;
+
+/**
+ * Tests for wiring the issue creation pipeline into a registry.
+ *
+ * Verifies that an agent given a registry runs its pipeline there, without
+ * registering itself a second time, and removes its decomposition agent
+ * again on shutdown.
+ */
+public class GitHubIssueCreationAgentTest {
+
+    @Test
+    void runsThePipelineOnTheInjectedRegistry() {
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry();
+        GitHubIssueCreationAgent agent = new GitHubIssueCreationAgent(registry);
+        registry.registerAgent(agent);
+
+        agent.initialize(new AgentConfiguration("test-config", new Properties(), Map.of()));
+
+        List<WorkspaceAgent> decomposition = registry.findAgentsForOperation("decompose-requirements");
+        assertEquals(1, decomposition.size());
+        assertEquals(List.of(agent), registry.findAgentsForOperation("CREATE_FRONTEND_ISSUES"));
+
+        registry.unregisterAgent(agent.getAgentId());
+        assertTrue(registry.findAgentsForOperation("decompose-requirements").isEmpty());
+        assertEquals(0, registry.getAgentCount());
+    }
+}
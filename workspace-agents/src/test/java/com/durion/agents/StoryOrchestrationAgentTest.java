@@ -1,11 +1,17 @@
 package com.durion.agents;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import com.durion.agents.StoryOrchestrationAgent;
 import com.durion.core.AgentConfiguration;
 import com.durion.core.AgentResult;
+import com.durion.core.StoryEvent;
 
 public class StoryOrchestrationAgentTest {
 
@@ -61,4 +68,59 @@ public class StoryOrchestrationAgentTest {
         assertNotNull(agentResult.getData());
         assertTrue(agentResult.getData().toString().contains("classified as"));
     }
+
+    @Test
+    void testStoryEventBurstRunsOrchestrationOnce() throws Exception {
+        StoryOrchestrationAgent batching = new StoryOrchestrationAgent();
+        batching.initialize(new AgentConfiguration("test-config", new Properties(),
+                Map.of("eventBatchWindowMillis", 200)));
+        batching.execute("SETUP_TRIGGERS", Map.of()).get();
+
+        for (int i = 1; i <= 3; i++) {
+            AgentResult queued = batching.execute("HANDLE_STORY_EVENT",
+                    Map.of("eventType", "story_created", "storyId", "STORY-00" + i)).get();
+            assertTrue(queued.getData().toString().contains("queued"));
+        }
+        assertNull(batching.getLastOrchestrationSummary());
+
+        batching.shutdown();
+        assertNotNull(batching.getLastOrchestrationSummary());
+        assertTrue(batching.getLastOrchestrationSummary().contains("3 story event(s)"),
+                batching.getLastOrchestrationSummary());
+    }
+
+    @Test
+    void testFailedOrchestrationRunDoesNotStopLaterBatches() throws Exception {
+        FailingOnceAgent failing = new FailingOnceAgent();
+        failing.initialize(new AgentConfiguration("test-config", new Properties(),
+                Map.of("eventBatchWindowMillis", 50)));
+        failing.execute("SETUP_TRIGGERS", Map.of()).get();
+
+        failing.handleStoryEvent("story_created", "STORY-001");
+        assertTrue(failing.failed.await(5, TimeUnit.SECONDS), "First batch never ran");
+        failing.handleStoryEvent("story_created", "STORY-002");
+
+        failing.shutdown();
+        assertEquals(2, failing.runs.get());
+        assertNotNull(failing.getLastOrchestrationSummary());
+        assertTrue(failing.getLastOrchestrationSummary().contains("STORY-002"),
+                failing.getLastOrchestrationSummary());
+    }
+
+    /**
+     * Agent whose first orchestration run throws
+     */
+    private static class FailingOnceAgent extends StoryOrchestrationAgent {
+        final AtomicInteger runs = new AtomicInteger();
+        final CountDownLatch failed = new CountDownLatch(1);
+
+        @Override
+        String runIncrementalOrchestration(List<StoryEvent> events) {
+            if (runs.incrementAndGet() == 1) {
+                failed.countDown();
+                throw new IllegalStateException("Orchestration failed");
+            }
+            return super.runIncrementalOrchestration(events);
+        }
+    }
 }
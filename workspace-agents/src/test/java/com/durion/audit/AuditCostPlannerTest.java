@@ -0,0 +1,156 @@
+package com.durion.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the audit and backfill cost planner.
+ *
+ * Verifies that request counts follow the scanner's pagination, that waits are
+ * derived from the remaining budget and reset time, and that planning never
+ * spends anything beyond one-item search probes.
+ */
+public class AuditCostPlannerTest {
+
+    private static final String FRONTEND_REPO = "louisburroughs/durion-moqui-frontend";
+    private static final String BACKEND_REPO = "louisburroughs/durion-positivity-backend";
+    private static final String STORY_REPO = "louisburroughs/durion";
+
+    @Test
+    void auditPlanCountsScanPagesAndCreations() throws Exception {
+        StubBudgetProbe probe = new StubBudgetProbe(5000, 30);
+        probe.storyCounts.put(FRONTEND_REPO, 250);
+        probe.storyCounts.put(BACKEND_REPO, 40);
+
+        AuditConfiguration configuration = AuditConfiguration.builder()
+                .githubToken("ghp_test")
+                .createMissingIssues(true)
+                .rateLimitDelayMs(1000)
+                .build();
+
+        AuditCostPlanner.ExecutionPlan plan = new AuditCostPlanner(probe)
+                .planAudit(configuration, 100, FRONTEND_REPO, BACKEND_REPO);
+
+        // Access test and scan each page through the results: 3 + 3 frontend, 1 + 1 backend
+        assertEquals(8, plan.getBuckets().get(AuditCostPlanner.SEARCH_RESOURCE).getPlannedRequests());
+        // Two connection tests plus 60 backend creations
+        assertEquals(62, plan.getBuckets().get(AuditCostPlanner.CORE_RESOURCE).getPlannedRequests());
+        assertEquals(60, plan.getPlannedWrites());
+        assertEquals(2, plan.getProbeRequests(), "Planning should only spend one probe per repository");
+        assertEquals(0, plan.getExpectedWaitMillis(), "Plan fits the current budget");
+        assertTrue(plan.getEstimatedDurationMillis() > 0);
+    }
+
+    @Test
+    void overflowingBucketWaitsForResetAndExtraWindows() {
+        LocalDateTime now = LocalDateTime.now();
+        RateLimitInfo core = new RateLimitInfo(5000, 100, 4900, now.plusMinutes(10), "core");
+
+        assertEquals(0, AuditCostPlanner.BucketEstimate.calculateWaitMillis(100, core, 3600000, now));
+        assertEquals(600000, AuditCostPlanner.BucketEstimate.calculateWaitMillis(101, core, 3600000, now));
+        assertEquals(600000 + 3600000,
+                AuditCostPlanner.BucketEstimate.calculateWaitMillis(5101, core, 3600000, now));
+    }
+
+    @Test
+    void backfillPlanRecommendsStartAtSearchReset() throws Exception {
+        StubBudgetProbe probe = new StubBudgetProbe(5000, 1);
+        probe.storyCounts.put(STORY_REPO, 120);
+
+        AuditCostPlanner.ExecutionPlan plan = new AuditCostPlanner(probe).planBackfill(80, STORY_REPO);
+
+        assertEquals(81, plan.getBuckets().get(AuditCostPlanner.CORE_RESOURCE).getPlannedRequests());
+        assertEquals(2, plan.getBuckets().get(AuditCostPlanner.SEARCH_RESOURCE).getPlannedRequests());
+        assertTrue(plan.getExpectedWaitMillis() > 0, "The probe used the last search request");
+        assertEquals(probe.searchReset, plan.getRecommendedStart());
+        assertTrue(plan.toReport().contains("Comment backfill"));
+    }
+
+    @Test
+    void expiredCacheReportsDeltaWithoutLoweringTheAuditEstimate() throws Exception {
+        StubBudgetProbe probe = new StubBudgetProbe(5000, 30);
+        probe.storyCounts.put(FRONTEND_REPO, 250);
+        probe.storyCounts.put(BACKEND_REPO, 40);
+        LocalDateTime cachedAt = LocalDateTime.now().minusHours(30).withSecond(15).withNano(0);
+
+        AuditConfiguration configuration = AuditConfiguration.builder().githubToken("ghp_test").build();
+        AuditCostPlanner.ExecutionPlan plan = new AuditCostPlanner(probe, new FixedTimestampCache(cachedAt))
+                .planAudit(configuration, 100, FRONTEND_REPO, BACKEND_REPO);
+
+        assertEquals(AuditCostPlanner.ScanStrategy.DELTA_REFRESH, plan.getScans().get(0).getStrategy());
+        // The scanner does not use the cache, so the estimate is still two full passes per repository
+        assertEquals(8, plan.getBuckets().get(AuditCostPlanner.SEARCH_RESOURCE).getPlannedRequests());
+
+        String expected = cachedAt.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC)
+                .toLocalDateTime() + "Z";
+        assertTrue(probe.queries.stream().anyMatch(query -> query.endsWith(" updated:>=" + expected)),
+                "Delta query should use the cache time in UTC: " + probe.queries);
+    }
+
+    /**
+     * Cache whose entries all date from a fixed time and expire after a day.
+     */
+    private static class FixedTimestampCache extends CacheManager {
+        private final LocalDateTime cachedAt;
+
+        FixedTimestampCache(LocalDateTime cachedAt) {
+            super(new AuditLogger(), 24);
+            this.cachedAt = cachedAt;
+        }
+
+        @Override
+        public Optional<LocalDateTime> getCacheTimestamp(String repository, String repositoryType) {
+            return Optional.of(cachedAt);
+        }
+    }
+
+    /**
+     * Probe stub answering story searches from a fixed table.
+     */
+    private static class StubBudgetProbe implements GitHubBudgetProbe {
+        private final Map<String, Integer> storyCounts = new HashMap<>();
+        private final List<String> queries = new ArrayList<>();
+        private final int coreRemaining;
+        private final int searchRemaining;
+        private final LocalDateTime searchReset = LocalDateTime.now().plusSeconds(45).withNano(0);
+
+        StubBudgetProbe(int coreRemaining, int searchRemaining) {
+            this.coreRemaining = coreRemaining;
+            this.searchRemaining = searchRemaining;
+        }
+
+        @Override
+        public Map<String, RateLimitInfo> getRateLimits() {
+            Map<String, RateLimitInfo> limits = new HashMap<>();
+            limits.put("core", new RateLimitInfo(5000, coreRemaining, 5000 - coreRemaining,
+                    LocalDateTime.now().plusMinutes(30), "core"));
+            limits.put("search", new RateLimitInfo(30, searchRemaining, 30 - searchRemaining, searchReset, "search"));
+            return limits;
+        }
+
+        @Override
+        public int countSearchResults(String searchQuery) {
+            queries.add(searchQuery);
+            if (searchQuery.contains(" updated:>=")) {
+                return 3;
+            }
+            for (Map.Entry<String, Integer> entry : storyCounts.entrySet()) {
+                if (searchQuery.startsWith("repo:" + entry.getKey() + " ")) {
+                    return entry.getValue();
+                }
+            }
+            return 0;
+        }
+    }
+}
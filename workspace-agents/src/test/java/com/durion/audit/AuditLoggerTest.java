@@ -0,0 +1,119 @@
+package com.durion.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests for structured and asynchronous audit logging.
+ *
+ * Verifies that counters stay exact under concurrent use, that every event
+ * reaches the NDJSON log in sequence order, that a failing event does not
+ * stop the writer, and that sampling and level filtering apply.
+ */
+public class AuditLoggerTest {
+
+    @Test
+    void asyncLoggerWritesEveryEventInOrder() throws Exception {
+        Path logFile = Files.createTempDirectory("audit-logger-async").resolve("audit-log.ndjson");
+        AuditLogger logger = AuditLogger.builder()
+                .async(true)
+                .ringBufferSize(64)
+                .consoleLevel(AuditLogger.Level.ERROR)
+                .ndjsonFile(logFile)
+                .build();
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int worker = 0; worker < 4; worker++) {
+            pool.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    logger.logApiRequest("GET", "https://api.github.com/search/issues?page=" + i, "test/repo");
+                }
+                return null;
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+        logger.logProgress("Scanning", 1, 2);
+        logger.close();
+
+        assertEquals(2000, logger.getRequestCounter());
+        List<String> lines = Files.readAllLines(logFile);
+        assertEquals(2002, lines.size(), "Session start, 2000 requests and one progress event");
+
+        ObjectMapper mapper = new ObjectMapper();
+        long previous = 0;
+        for (String line : lines) {
+            long sequence = mapper.readTree(line).get("seq").asLong();
+            assertEquals(previous + 1, sequence);
+            previous = sequence;
+        }
+        JsonNode progress = mapper.readTree(lines.get(lines.size() - 1));
+        assertEquals("progress", progress.get("event").asText());
+        assertEquals("INFO", progress.get("level").asText());
+        assertEquals(50.0, progress.get("percentage").asDouble());
+        assertEquals(logger.getSessionId(), progress.get("session").asText());
+    }
+
+    @Test
+    void writerSurvivesAnEventThatFailsToRender() throws Exception {
+        Path logFile = Files.createTempDirectory("audit-logger-failure").resolve("audit-log.ndjson");
+        AuditLogger logger = AuditLogger.builder()
+                .async(true)
+                .consoleLevel(AuditLogger.Level.INFO)
+                .ndjsonFile(logFile)
+                .build();
+
+        // No reset time: rendering the console block throws
+        logger.logRateLimit(new RateLimitInfo(5000, 4000, 1000, null, "core"));
+        logger.logProgress("Scanning", 1, 2);
+        long start = System.nanoTime();
+        logger.close();
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000,
+                "Close should not wait out the flush timeout");
+        List<String> lines = Files.readAllLines(logFile);
+        assertEquals("progress", new ObjectMapper().readTree(lines.get(lines.size() - 1)).get("event").asText());
+    }
+
+    @Test
+    void debugEventsAreSampledAndFilteredByLevel() throws Exception {
+        Path logFile = Files.createTempDirectory("audit-logger-sampling").resolve("audit-log.ndjson");
+        AuditLogger logger = AuditLogger.builder()
+                .consoleLevel(AuditLogger.Level.ERROR)
+                .ndjsonFile(logFile)
+                .debugSampleRate(10)
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            logger.logApiRequest("GET", "https://api.github.com/rate_limit", "test/repo");
+        }
+        logger.logError("Scan", new IllegalStateException("boom", new RuntimeException("root")), "page 3");
+        logger.close();
+
+        List<String> lines = Files.readAllLines(logFile);
+        assertEquals(10, lines.stream().filter(line -> line.contains("\"event\":\"api_request\"")).count());
+        JsonNode error = new ObjectMapper().readTree(lines.get(lines.size() - 1));
+        assertEquals("ERROR", error.get("level").asText());
+        assertEquals("IllegalStateException", error.get("errorType").asText());
+        assertEquals("RuntimeException", error.get("causeType").asText());
+
+        AuditLogger quiet = AuditLogger.builder().consoleLevel(AuditLogger.Level.WARN).build();
+        assertFalse(quiet.isEnabled(AuditLogger.Level.DEBUG));
+        quiet.logApiRequest("GET", "https://api.github.com/rate_limit", "test/repo");
+        assertEquals(1, quiet.getRequestCounter(), "Disabled events are still counted");
+        quiet.close();
+    }
+}
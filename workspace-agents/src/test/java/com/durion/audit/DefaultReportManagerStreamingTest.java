@@ -0,0 +1,99 @@
+package com.durion.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests for concurrent report generation in DefaultReportManager.
+ *
+ * Verifies that every report is written in full when generated concurrently,
+ * and that the optional NDJSON report holds one parseable issue per line.
+ */
+public class DefaultReportManagerStreamingTest {
+
+    @Test
+    void generatesAllReportsIncludingNdjson() throws Exception {
+        Path outputDir = Files.createTempDirectory("report-streaming-test");
+        AuditResult result = auditResult(outputDir, 1500, 700);
+
+        List<String> files = new DefaultReportManager(outputDir.toString(), true).generateReports(result);
+
+        assertEquals(5, files.size());
+        for (String file : files) {
+            assertTrue(Files.size(Paths.get(file)) > 0, "Report should not be empty: " + file);
+        }
+
+        String frontendCsv = find(files, "missing-frontend-");
+        List<String> csvLines = Files.readAllLines(Paths.get(frontendCsv));
+        assertEquals(1501, csvLines.size());
+        assertEquals("1,\"Story, 1\",https://github.com/louisburroughs/durion/issues/1,"
+                + "\"[FRONTEND] [STORY] Story, 1\",louisburroughs/durion-moqui-frontend", csvLines.get(1));
+
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode summary = mapper.readTree(Paths.get(find(files, "audit-")).toFile());
+        assertEquals(2200, summary.get("totalMissingIssues").asInt());
+        assertEquals(1500, summary.get("missingFrontendIssues").size());
+        assertEquals(700, summary.get("missingBackendIssues").size());
+
+        List<String> ndjsonLines = Files.readAllLines(Paths.get(find(files, "missing-issues-")));
+        assertEquals(2200, ndjsonLines.size());
+        JsonNode last = mapper.readTree(ndjsonLines.get(ndjsonLines.size() - 1));
+        assertEquals("backend", last.get("repositoryType").asText());
+        assertEquals(700, last.get("storyNumber").asInt());
+
+        String markdown = Files.readString(Paths.get(find(files, "summary-")));
+        assertTrue(markdown.contains("## Missing Backend Issues (700)"));
+        assertTrue(markdown.contains("- **Story #700**: [Story, 700](https://github.com/louisburroughs/durion/issues/700)"));
+    }
+
+    @Test
+    void ndjsonIsOffByDefault() throws Exception {
+        Path outputDir = Files.createTempDirectory("report-streaming-default-test");
+
+        List<String> files = new DefaultReportManager(outputDir.toString()).generateReports(auditResult(outputDir, 3, 0));
+
+        assertEquals(3, files.size());
+        assertTrue(files.stream().noneMatch(file -> file.endsWith(".ndjson")));
+    }
+
+    private static String find(List<String> files, String prefix) {
+        return files.stream()
+                .filter(file -> Paths.get(file).getFileName().toString().startsWith(prefix))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static AuditResult auditResult(Path outputDir, int frontendCount, int backendCount) {
+        LocalDateTime timestamp = LocalDateTime.now();
+        List<MissingIssue> frontend = issues(frontendCount, "frontend", "louisburroughs/durion-moqui-frontend");
+        List<MissingIssue> backend = issues(backendCount, "backend", "louisburroughs/durion-positivity-backend");
+        AuditConfiguration configuration = AuditConfiguration.builder()
+                .githubToken("ghp_test")
+                .outputDirectory(outputDir.toString())
+                .build();
+        AuditStatistics statistics = new AuditStatistics(frontendCount, 0, 0, frontendCount, backendCount, timestamp);
+        return new AuditResult(frontend, backend, frontendCount, timestamp, configuration, statistics);
+    }
+
+    private static List<MissingIssue> issues(int count, String repositoryType, String targetRepository) {
+        List<MissingIssue> issues = new ArrayList<>();
+        String prefix = repositoryType.equals("frontend") ? "[FRONTEND] " : "[BACKEND] ";
+        for (int i = 1; i <= count; i++) {
+            issues.add(new MissingIssue(i, "Story, " + i, "https://github.com/louisburroughs/durion/issues/" + i,
+                    repositoryType, targetRepository, prefix + "[STORY] Story, " + i));
+        }
+        return issues;
+    }
+}
@@ -0,0 +1,176 @@
+package com.durion.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for idempotent issue creation via the issue creation ledger.
+ *
+ * Verifies that dedupe keys are deterministic, that the ledger survives a
+ * restart, and that a retry after an ambiguous failure finds the issue instead
+ * of creating a duplicate.
+ */
+public class IssueCreationLedgerTest {
+
+    private static final String FRONTEND_REPO = "louisburroughs/durion-moqui-frontend";
+
+    @Test
+    void dedupeKeyIsDeterministicPerStoryAndRepository() {
+        String key = IssueCreationLedger.dedupeKey(273, FRONTEND_REPO);
+
+        assertEquals(key, IssueCreationLedger.dedupeKey(273, FRONTEND_REPO));
+        assertNotEquals(key, IssueCreationLedger.dedupeKey(274, FRONTEND_REPO));
+        assertNotEquals(key, IssueCreationLedger.dedupeKey(273, "louisburroughs/durion-positivity-backend"));
+        assertTrue(key.matches("durion-[0-9a-f]{16}"), "Key should be a single searchable token");
+    }
+
+    @Test
+    void ledgerReloadsLastStatePerKey() throws IOException {
+        Path ledgerFile = Files.createTempDirectory("issue-ledger-test").resolve("ledger.tsv");
+        String key = IssueCreationLedger.dedupeKey(42, FRONTEND_REPO);
+
+        IssueCreationLedger ledger = new IssueCreationLedger(ledgerFile);
+        ledger.recordPending(key, 42, FRONTEND_REPO);
+        ledger.recordCreated(key, 42, FRONTEND_REPO, new StubIssue(901, "[FRONTEND] Story 42", ""));
+
+        IssueCreationLedger reloaded = new IssueCreationLedger(ledgerFile);
+        assertFalse(reloaded.isPending(key));
+        assertEquals(901, reloaded.getCreatedIssue(key).orElseThrow().getNumber());
+    }
+
+    @Test
+    void retryAfterAmbiguousFailureDoesNotCreateDuplicate() throws Exception {
+        TimeoutAfterCreateIssueCreator githubCreator = new TimeoutAfterCreateIssueCreator();
+        IssueCreator issueCreator = new IssueCreator(githubCreator, new AuditLogger(),
+                new IssueCreationScheduler(1, 0, 0), new IssueCreationLedger());
+
+        MissingIssue missingIssue = new MissingIssue(42, "Story 42", "https://github.com/louisburroughs/durion/issues/42",
+                "frontend", FRONTEND_REPO, "[FRONTEND] Story 42");
+
+        IssueCreator.IssueCreationResult result = issueCreator.createBothIssues(missingIssue);
+
+        assertTrue(result.isSuccess(), "Retry should recover the issue created by the first attempt");
+        assertEquals(1, githubCreator.createCalls.get(), "Issue should be posted only once");
+        assertEquals(1, githubCreator.lookupCalls.get(), "Retry should perform one pre-flight lookup");
+        assertTrue(githubCreator.created.get(0).getBody()
+                .contains(IssueCreationLedger.dedupeKey(42, FRONTEND_REPO)), "Body should embed the dedupe key");
+
+        // A later run with the same ledger needs no API calls at all
+        issueCreator.createBothIssues(missingIssue);
+        assertEquals(1, githubCreator.createCalls.get());
+        assertEquals(1, githubCreator.lookupCalls.get());
+    }
+
+    @Test
+    void definitiveRejectionIsRecordedAsFailedAndNeedsNoLookup() throws Exception {
+        Path ledgerFile = Files.createTempDirectory("issue-ledger-test").resolve("ledger.tsv");
+        RejectFirstIssueCreator githubCreator = new RejectFirstIssueCreator();
+        MissingIssue missingIssue = new MissingIssue(43, "Story 43", "https://github.com/louisburroughs/durion/issues/43",
+                "frontend", FRONTEND_REPO, "[FRONTEND] Story 43");
+        String key = IssueCreationLedger.dedupeKey(43, FRONTEND_REPO);
+
+        IssueCreator firstRun = new IssueCreator(githubCreator, new AuditLogger(),
+                new IssueCreationScheduler(1, 0, 0), new IssueCreationLedger(ledgerFile));
+        assertFalse(firstRun.createBothIssues(missingIssue).isSuccess());
+
+        IssueCreationLedger reloaded = new IssueCreationLedger(ledgerFile);
+        assertEquals(IssueCreationLedger.State.FAILED, reloaded.get(key).orElseThrow().getState());
+        assertFalse(reloaded.isPending(key), "A rejected creation has a known outcome");
+
+        IssueCreator secondRun = new IssueCreator(githubCreator, new AuditLogger(),
+                new IssueCreationScheduler(1, 0, 0), reloaded);
+        assertTrue(secondRun.createBothIssues(missingIssue).isSuccess());
+        assertEquals(2, githubCreator.createCalls.get());
+        assertEquals(0, githubCreator.lookupCalls.get(), "No lookup after a definitive rejection");
+    }
+
+    /**
+     * Rejects the first creation with a validation error, then creates issues.
+     */
+    private static class RejectFirstIssueCreator implements GitHubIssueCreator {
+        private final AtomicInteger createCalls = new AtomicInteger(0);
+        private final AtomicInteger lookupCalls = new AtomicInteger(0);
+
+        @Override
+        public GitHubIssue createIssue(String repository, String title, String body, List<String> labels)
+                throws IOException {
+            if (createCalls.incrementAndGet() == 1) {
+                throw new IOException("Failed to create issue: 422 - Validation Failed");
+            }
+            return new StubIssue(2000, title, body);
+        }
+
+        @Override
+        public Optional<GitHubIssue> findIssueByDedupeKey(String repository, String dedupeKey) {
+            lookupCalls.incrementAndGet();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Creates the issue but reports a timeout, like a response lost in transit.
+     */
+    private static class TimeoutAfterCreateIssueCreator implements GitHubIssueCreator {
+        private final AtomicInteger createCalls = new AtomicInteger(0);
+        private final AtomicInteger lookupCalls = new AtomicInteger(0);
+        private final List<GitHubIssue> created = new ArrayList<>();
+
+        @Override
+        public GitHubIssue createIssue(String repository, String title, String body, List<String> labels)
+                throws IOException {
+            createCalls.incrementAndGet();
+            created.add(new StubIssue(1000 + created.size(), title, body));
+            throw new IOException("Read timeout waiting for api.github.com");
+        }
+
+        @Override
+        public Optional<GitHubIssue> findIssueByDedupeKey(String repository, String dedupeKey) {
+            lookupCalls.incrementAndGet();
+            return created.stream().filter(issue -> issue.getBody().contains(dedupeKey)).findFirst();
+        }
+    }
+
+    private static class StubIssue implements GitHubIssue {
+        private final int number;
+        private final String title;
+        private final String body;
+
+        StubIssue(int number, String title, String body) {
+            this.number = number;
+            this.title = title;
+            this.body = body;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        public String getUrl() {
+            return "https://github.com/" + FRONTEND_REPO + "/issues/" + number;
+        }
+
+        public List<String> getLabels() {
+            return List.of();
+        }
+    }
+}
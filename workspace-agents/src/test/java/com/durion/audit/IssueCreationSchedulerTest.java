@@ -0,0 +1,151 @@
+package com.durion.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.durion.GitHubApiClientSSLBypass;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the bounded-concurrency issue creation scheduler.
+ *
+ * Verifies that creation never exceeds the concurrency cap, that pacing adapts
+ * to rate limits and Retry-After hints, and that backoff stays within bounds.
+ */
+public class IssueCreationSchedulerTest {
+
+    /**
+     * Property: Jittered backoff grows exponentially but never exceeds the cap
+     */
+    @Property
+    void backoffStaysWithinExponentialBounds(@ForAll @IntRange(min = 1, max = 30) int attempt) {
+        IssueCreationScheduler scheduler = new IssueCreationScheduler(2, 0, 0);
+
+        long ceiling = Math.min(60000, 1000L << Math.min(attempt - 1, 16));
+        long delay = scheduler.backoffDelayMs(attempt);
+
+        assertTrue(delay >= ceiling / 2, "Backoff should keep at least half the exponential delay");
+        assertTrue(delay <= ceiling, "Backoff should never exceed the exponential ceiling");
+    }
+
+    @Test
+    void rateLimitHonorsRetryAfterAndWidensInterval() {
+        IssueCreationScheduler scheduler = new IssueCreationScheduler(2, 1000);
+
+        long pauseMs = scheduler.recordRateLimit(
+                new GitHubApiClientSSLBypass.RateLimitExceededException(403, 7000, "secondary rate limit"), 1);
+
+        assertEquals(7000, pauseMs, "Pause should follow the Retry-After header");
+        assertEquals(2000, scheduler.getCurrentIntervalMs(), "Interval should double after a rate limit");
+        assertEquals(1, scheduler.getRateLimitHits());
+
+        scheduler.recordSuccess();
+        assertEquals(1950, scheduler.getCurrentIntervalMs(), "Interval should shrink additively on success");
+    }
+
+    @Test
+    void shortConfiguredDelayCannotLowerTheCreationFloor() {
+        IssueCreationScheduler scheduler = new IssueCreationScheduler(2, 100);
+
+        assertEquals(800, scheduler.getCurrentIntervalMs(), "Delay below the floor should be raised to it");
+        scheduler.recordSuccess();
+        assertEquals(800, scheduler.getCurrentIntervalMs(), "Success should never shrink the interval below the floor");
+    }
+
+    @Test
+    void invokeAllNeverExceedsConcurrencyCap() throws Exception {
+        IssueCreationScheduler scheduler = new IssueCreationScheduler(3, 0, 0);
+        AtomicInteger inFlight = new AtomicInteger(0);
+        AtomicInteger maxInFlight = new AtomicInteger(0);
+
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            int value = i;
+            tasks.add(() -> {
+                int current = inFlight.incrementAndGet();
+                maxInFlight.accumulateAndGet(current, Math::max);
+                Thread.sleep(20);
+                inFlight.decrementAndGet();
+                return value;
+            });
+        }
+
+        List<Future<Integer>> futures = scheduler.invokeAll(tasks);
+
+        assertTrue(maxInFlight.get() <= 3, "At most 3 tasks should run concurrently");
+        for (int i = 0; i < futures.size(); i++) {
+            int value = futures.get(i).get();
+            assertEquals(i, value, "Results should keep task order");
+        }
+    }
+
+    @Test
+    void batchCreatesFrontendAndBackendConcurrently() {
+        CountingIssueCreator githubCreator = new CountingIssueCreator();
+        IssueCreator issueCreator = new IssueCreator(githubCreator, new AuditLogger(),
+                new IssueCreationScheduler(4, 0, 0));
+
+        List<MissingIssue> missingIssues = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            String type = i % 2 == 0 ? "backend" : "frontend";
+            missingIssues.add(new MissingIssue(i, "Story " + i, "https://github.com/louisburroughs/durion/issues/" + i,
+                    type, "louisburroughs/durion-" + type, "[" + type.toUpperCase() + "] Story " + i));
+        }
+
+        IssueCreator.BatchCreationResult result = issueCreator.createIssuesBatch(missingIssues);
+
+        assertEquals(6, result.getSuccessCount());
+        assertEquals(6, githubCreator.calls.get());
+        for (int i = 0; i < missingIssues.size(); i++) {
+            IssueCreator.IssueCreationResult storyResult = result.getResults().get(i);
+            GitHubIssue created = i % 2 == 0 ? storyResult.getFrontendIssue() : storyResult.getBackendIssue();
+            assertNotNull(created, "Results should stay aligned with the input order");
+            assertTrue(created.getTitle().endsWith("Story " + (i + 1)));
+        }
+    }
+
+    /**
+     * Issue creator stub that always succeeds and counts calls.
+     */
+    private static class CountingIssueCreator implements GitHubIssueCreator {
+        private final AtomicInteger calls = new AtomicInteger(0);
+
+        @Override
+        public GitHubIssue createIssue(String repository, String title, String body, List<String> labels)
+                throws IOException, InterruptedException {
+            int number = calls.incrementAndGet();
+            return new GitHubIssue() {
+                public int getNumber() {
+                    return number;
+                }
+
+                public String getTitle() {
+                    return title;
+                }
+
+                public String getBody() {
+                    return body;
+                }
+
+                public String getUrl() {
+                    return "https://github.com/" + repository + "/issues/" + number;
+                }
+
+                public List<String> getLabels() {
+                    return labels;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.durion.audit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the compact processed issues store.
+ *
+ * Verifies legacy text import and export, survival of the append-only log
+ * across compaction, and concurrent appends.
+ */
+public class ProcessedIssuesStoreTest {
+
+    @Test
+    void importsLegacyTextAndExportsItBack() throws Exception {
+        Path directory = Files.createTempDirectory("processed-store-import");
+        Files.writeString(directory.resolve(ProcessedIssuesStore.LEGACY_TEXT_FILE), "273\n\n12\nnot-a-number\n41\n12\n");
+
+        ProcessedIssuesStore store = ProcessedIssuesStore.open(directory);
+
+        assertEquals(3, store.size());
+        assertTrue(store.contains(273));
+        assertFalse(store.contains(274));
+        assertArrayEquals(new int[] { 12, 41, 273 }, store.toArray());
+
+        Path exported = directory.resolve("exported.txt");
+        store.exportText(exported);
+        assertEquals(List.of("12", "41", "273"), Files.readAllLines(exported));
+
+        List<Integer> read = new ProcessedIssuesReader().readProcessedIssues(store);
+        assertEquals(List.of(12, 41, 273), read);
+    }
+
+    @Test
+    void appendsSurviveCompaction() throws Exception {
+        Path directory = Files.createTempDirectory("processed-store-compaction");
+        ProcessedIssuesStore store = ProcessedIssuesStore.open(directory);
+
+        assertTrue(store.add(5));
+        assertFalse(store.add(5), "Adding an issue twice should be a no-op");
+        int[] batch = new int[ProcessedIssuesStore.COMPACTION_THRESHOLD];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = 100 + i;
+        }
+        assertEquals(batch.length, store.addAll(batch));
+        assertTrue(store.add(7));
+
+        // The threshold was crossed, so most entries now live in the snapshot
+        assertTrue(Files.size(directory.resolve(ProcessedIssuesStore.LOG_FILE)) < 64);
+        assertTrue(Files.exists(directory.resolve(ProcessedIssuesStore.SNAPSHOT_FILE)));
+
+        store.refresh();
+        assertEquals(batch.length + 2, store.size());
+        assertTrue(store.contains(5) && store.contains(7) && store.contains(100 + batch.length - 1));
+    }
+
+    @Test
+    void concurrentAppendsAreAllRecorded() throws Exception {
+        Path directory = Files.createTempDirectory("processed-store-concurrent");
+        ProcessedIssuesStore store = ProcessedIssuesStore.open(directory);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int worker = 0; worker < 4; worker++) {
+            int offset = worker * 1000;
+            pool.submit(() -> {
+                for (int i = 1; i <= 500; i++) {
+                    store.add(offset + i);
+                    store.contains(offset + i - 1);
+                }
+                return null;
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(2000, store.size());
+        store.clear();
+        assertTrue(store.isEmpty());
+        assertFalse(Files.exists(directory.resolve(ProcessedIssuesStore.LEGACY_TEXT_FILE)));
+    }
+}
@@ -0,0 +1,117 @@
+package com.durion.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for report retention and the report manifest.
+ *
+ * Verifies that old reports are compressed into dated archives and stay
+ * readable through the manifest, that the age limit and byte budget are
+ * enforced, and that lookups use the manifest.
+ */
+public class ReportRetentionServiceTest {
+
+    private static final long HOUR_MILLIS = 3600000L;
+
+    @Test
+    void compressesOldReportsIntoReadableArchives() throws Exception {
+        FileOutputManager output = new FileOutputManager(Files.createTempDirectory("retention-compress").toString());
+        Path reportsDir = output.createOutputDirectoryStructure(LocalDateTime.now());
+        String oldContent = "Story Number,Story Title\n1,Old Story\n".repeat(50);
+        writeReport(output, reportsDir, "audit-old.json", oldContent, 30);
+        writeReport(output, reportsDir, "audit-new.json", "{}", 1);
+
+        ReportRetentionService.RetentionResult result;
+        try (ReportRetentionService retention = output.createRetentionService(
+                new ReportRetentionService.RetentionPolicy(Duration.ofHours(24), Duration.ofDays(30), Long.MAX_VALUE))) {
+            result = retention.runInBackground().join();
+        }
+
+        assertEquals(1, result.getCompressedCount());
+        assertEquals(0, result.getDeletedCount());
+        assertTrue(result.getBytesAfter() < result.getBytesBefore());
+        assertFalse(Files.exists(reportsDir.resolve("audit-old.json")));
+        assertTrue(Files.exists(reportsDir.resolve("audit-new.json")));
+
+        List<ReportManifest.Entry> audits = output.findReports("audit-");
+        assertEquals("audit-new.json", audits.get(0).getName(), "Newest report first");
+        assertTrue(audits.get(1).getArchive().startsWith(ReportRetentionService.ARCHIVE_DIR + "/reports-"));
+        try (InputStream in = output.openReport("audit-old.json")) {
+            assertEquals(oldContent, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void enforcesAgeLimitAndByteBudget() throws Exception {
+        FileOutputManager output = new FileOutputManager(Files.createTempDirectory("retention-limits").toString());
+        Path reportsDir = output.createOutputDirectoryStructure(LocalDateTime.now());
+        writeReport(output, reportsDir, "summary-expired.md", "x".repeat(100), 24 * 40);
+        writeReport(output, reportsDir, "summary-1.md", "x".repeat(400), 3);
+        writeReport(output, reportsDir, "summary-2.md", "x".repeat(400), 2);
+        writeReport(output, reportsDir, "summary-3.md", "x".repeat(400), 1);
+
+        try (ReportRetentionService retention = output.createRetentionService(
+                new ReportRetentionService.RetentionPolicy(Duration.ofHours(24), Duration.ofDays(30), 1000))) {
+            ReportRetentionService.RetentionResult result = retention.runOnce();
+
+            assertEquals(2, result.getDeletedCount(), "Expired report plus the oldest one over budget");
+            assertTrue(result.getBytesAfter() <= 1000);
+        }
+
+        assertFalse(Files.exists(reportsDir.resolve("summary-expired.md")));
+        assertFalse(Files.exists(reportsDir.resolve("summary-1.md")));
+        assertEquals(List.of("summary-3.md", "summary-2.md"),
+                output.findReports("summary-").stream().map(ReportManifest.Entry::getName).toList());
+    }
+
+    @Test
+    void budgetCountsWholeArchivesUntilTheyAreDeleted() throws Exception {
+        FileOutputManager output = new FileOutputManager(Files.createTempDirectory("retention-archive").toString());
+        Path reportsDir = output.createOutputDirectoryStructure(LocalDateTime.now());
+        long threeDaysAgo = LocalDate.now().minusDays(3).atTime(10, 0).atZone(ZoneId.systemDefault())
+                .toInstant().toEpochMilli();
+        long ageHours = (System.currentTimeMillis() - threeDaysAgo) / HOUR_MILLIS;
+        writeReport(output, reportsDir, "summary-a.md", "a".repeat(2000), ageHours + 1);
+        writeReport(output, reportsDir, "summary-b.md", "b".repeat(2000), ageHours);
+
+        try (ReportRetentionService retention = output.createRetentionService(
+                new ReportRetentionService.RetentionPolicy(Duration.ofHours(24), Duration.ofDays(30), Long.MAX_VALUE))) {
+            assertEquals(2, retention.runOnce().getCompressedCount());
+        }
+        String archive = output.findReports("summary-").get(0).getArchive();
+        long archiveBytes = Files.size(reportsDir.resolve(archive));
+
+        try (ReportRetentionService retention = output.createRetentionService(
+                new ReportRetentionService.RetentionPolicy(Duration.ofHours(24), Duration.ofDays(30), archiveBytes - 1))) {
+            ReportRetentionService.RetentionResult result = retention.runOnce();
+
+            assertEquals(archiveBytes, result.getBytesBefore(), "Budget is measured on the archive file");
+            assertEquals(2, result.getDeletedCount(), "Dropping one member frees nothing on disk");
+            assertEquals(0, result.getBytesAfter());
+        }
+        assertFalse(Files.exists(reportsDir.resolve(archive)));
+    }
+
+    private static void writeReport(FileOutputManager output, Path reportsDir, String name, String content,
+            long ageHours) throws Exception {
+        Path report = reportsDir.resolve(name);
+        Files.writeString(report, content);
+        Files.setLastModifiedTime(report, FileTime.fromMillis(System.currentTimeMillis() - ageHours * HOUR_MILLIS));
+        output.recordReports(List.of(report.toString()));
+    }
+}
@@ -0,0 +1,139 @@
+package com.durion.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests for indexed and streaming report updates in ReportUpdater.
+ *
+ * Verifies that CSV rows are matched to creation results by story number,
+ * that status sidecar entries accumulate without touching the report, and
+ * that updated JSON reports stay valid.
+ */
+public class ReportUpdaterTest {
+
+    private static final String CSV_CONTENT = """
+            Story Number,Story Title,Story URL,Expected Title,Target Repository,Domain
+            7,First,https://github.com/test/repo/issues/7,[FRONTEND] First,test-repo
+            3,Second,https://github.com/test/repo/issues/3,[FRONTEND] Second,test-repo
+            9,Third,https://github.com/test/repo/issues/9,[FRONTEND] Third,test-repo
+            """;
+
+    @Test
+    void csvRowsAreMatchedByStoryNumber() throws Exception {
+        Path directory = Files.createTempDirectory("report-updater-csv");
+        Path csv = directory.resolve("missing-frontend.csv");
+        Files.writeString(csv, CSV_CONTENT);
+
+        Map<Integer, IssueCreator.IssueCreationResult> results = new LinkedHashMap<>();
+        results.put(9, success("https://github.com/test-repo/issues/109"));
+        results.put(7, failure("Rate limited"));
+
+        String updated = new ReportUpdater(new AuditLogger(), directory.toString())
+                .updateCsvReport(csv.toString(), results);
+
+        List<String> lines = Files.readAllLines(Paths.get(updated));
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(0).endsWith(",Creation Status,Created Issue URL,Creation Timestamp,Error Message"));
+        assertTrue(lines.get(1).startsWith("7,First,") && lines.get(1).contains(",Failed,,"));
+        assertTrue(lines.get(1).endsWith(",\"Rate limited\""));
+        assertTrue(lines.get(2).endsWith(",Not Processed,,,"));
+        assertTrue(lines.get(3).contains(",Success,https://github.com/test-repo/issues/109,"));
+    }
+
+    @Test
+    void sidecarAppendsWithoutRewritingTheReport() throws Exception {
+        Path directory = Files.createTempDirectory("report-updater-sidecar");
+        Path csv = directory.resolve("missing-frontend.csv");
+        Files.writeString(csv, CSV_CONTENT);
+        ReportUpdater updater = new ReportUpdater(new AuditLogger(), directory.toString());
+
+        String sidecar = updater.appendCreationStatus(csv.toString(), Map.of(3, failure("Timeout")));
+        updater.appendCreationStatus(csv.toString(), Map.of(3, success("https://github.com/test-repo/issues/103")));
+
+        assertEquals(directory.resolve("missing-frontend.status.csv").toString(), sidecar);
+        assertEquals(CSV_CONTENT, Files.readString(csv));
+        assertEquals(3, Files.readAllLines(Paths.get(sidecar)).size(), "Header is written once");
+
+        Map<Integer, String> status = updater.readCreationStatus(csv.toString());
+        assertEquals(1, status.size());
+        assertTrue(status.get(3).startsWith("Success,https://github.com/test-repo/issues/103,"));
+    }
+
+    @Test
+    void updatedJsonReportRemainsValid() throws Exception {
+        Path directory = Files.createTempDirectory("report-updater-json");
+        Path report = directory.resolve("audit.json");
+        Files.writeString(report, "{\"totalMissingIssues\":2,\"note\":\"a } brace\"}\n\n");
+
+        String updated = new ReportUpdater(new AuditLogger(), directory.toString())
+                .updateAuditReport(report.toString(), List.of(
+                        success("https://github.com/test-repo/issues/1"),
+                        failure("Quote \" and \\ backslash")));
+
+        JsonNode json = new ObjectMapper().readTree(Paths.get(updated).toFile());
+        assertEquals(2, json.get("totalMissingIssues").asInt());
+        assertEquals("a } brace", json.get("note").asText());
+        JsonNode creationResults = json.get("creationResults");
+        assertEquals(1, creationResults.get("successCount").asInt());
+        assertEquals("Quote \" and \\ backslash",
+                creationResults.get("results").get(1).get("errors").get(0).asText());
+    }
+
+    private static IssueCreator.IssueCreationResult success(String url) {
+        GitHubIssue issue = new CreatedIssue(url);
+        return new IssueCreator.IssueCreationResult(issue, null, true, "Created", List.of());
+    }
+
+    private static IssueCreator.IssueCreationResult failure(String error) {
+        return new IssueCreator.IssueCreationResult(null, null, false, "Failed", List.of(error));
+    }
+
+    /**
+     * Created issue stub exposing only its URL.
+     */
+    private static class CreatedIssue implements GitHubIssue {
+        private final String url;
+
+        CreatedIssue(String url) {
+            this.url = url;
+        }
+
+        @Override
+        public int getNumber() {
+            return Integer.parseInt(url.substring(url.lastIndexOf('/') + 1));
+        }
+
+        @Override
+        public String getTitle() {
+            return "Created";
+        }
+
+        @Override
+        public String getBody() {
+            return "";
+        }
+
+        @Override
+        public String getUrl() {
+            return url;
+        }
+
+        @Override
+        public List<String> getLabels() {
+            return List.of();
+        }
+    }
+}
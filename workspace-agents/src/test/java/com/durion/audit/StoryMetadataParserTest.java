@@ -0,0 +1,71 @@
+package com.durion.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for StoryMetadataParser.
+ *
+ * Verifies that frontend and backend coordination files are merged correctly
+ * and that cached parse results follow changes to the files.
+ */
+public class StoryMetadataParserTest {
+
+    @Test
+    void mergesReadinessFromBothCoordinationFiles() throws Exception {
+        Path directory = Files.createTempDirectory("coordination-test");
+        Path frontend = directory.resolve("frontend-coordination.md");
+        Path backend = directory.resolve("backend-coordination.md");
+        Files.writeString(frontend, "# Frontend\n"
+                + "- ✅ **Story #1**: [STORY] Checkout Flow\n"
+                + "- ✅ **Story #2**: [STORY] Price Overrides\n");
+        Files.writeString(backend, "# Backend\n"
+                + "- ✅ **Story #2**: [STORY] Price Overrides (API)\n"
+                + "- ✅ **Story #3**: [STORY] Audit Trail\n");
+
+        Map<Integer, StoryMetadata> stories = new StoryMetadataParser(frontend.toString(), backend.toString())
+                .parseCoordinationFiles();
+
+        assertEquals(3, stories.size());
+        assertTrue(stories.get(1).isReadyForFrontend());
+        assertFalse(stories.get(1).isReadyForBackend());
+        assertTrue(stories.get(2).isReadyForFrontend() && stories.get(2).isReadyForBackend());
+        assertEquals("Price Overrides", stories.get(2).getTitle(), "Frontend title should win");
+        assertFalse(stories.get(3).isReadyForFrontend());
+        assertEquals("https://github.com/louisburroughs/durion/issues/3", stories.get(3).getUrl());
+    }
+
+    @Test
+    void cachedResultsFollowFileChanges() throws Exception {
+        Path directory = Files.createTempDirectory("coordination-cache-test");
+        Path frontend = directory.resolve("frontend-coordination.md");
+        Path backend = directory.resolve("backend-coordination.md");
+        Files.writeString(frontend, "- ✅ **Story #10**: [STORY] First Title\n");
+        Files.writeString(backend, "");
+        StoryMetadataParser parser = new StoryMetadataParser(frontend.toString(), backend.toString());
+
+        assertEquals("First Title", parser.parseCoordinationFiles().get(10).getTitle());
+
+        // A rewrite is picked up once the modification time moves
+        FileTime modified = Files.getLastModifiedTime(frontend);
+        Files.writeString(frontend, "- ✅ **Story #10**: [STORY] Other Title\n");
+        Files.setLastModifiedTime(frontend, FileTime.fromMillis(modified.toMillis() + 2000));
+        assertEquals("Other Title", parser.parseCoordinationFiles().get(10).getTitle());
+
+        // Touching a file without changing its content keeps the cached result
+        Files.setLastModifiedTime(frontend, FileTime.fromMillis(modified.toMillis() + 4000));
+        assertEquals("Other Title", parser.parseCoordinationFiles().get(10).getTitle());
+
+        Files.writeString(frontend, "- ✅ **Story #11**: [STORY] Added Story\n- ✅ **Story #10**: [STORY] Other Title\n");
+        Files.setLastModifiedTime(frontend, FileTime.fromMillis(modified.toMillis() + 6000));
+        assertEquals(2, parser.parseCoordinationFiles().size());
+    }
+}
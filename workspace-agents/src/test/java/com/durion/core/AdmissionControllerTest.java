@@ -0,0 +1,150 @@
+package com.durion.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for admission control in front of the agents.
+ *
+ * Verifies that operations beyond the concurrency limit queue per agent,
+ * that full queues and expired waits are rejected, that the blocking policy
+ * holds callers until a slot frees up, and that the registry reports
+ * rejections as failed results.
+ */
+public class AdmissionControllerTest {
+
+    @Test
+    void shedPolicyQueuesPerAgentThenRejects() throws Exception {
+        AdmissionController admission = new AdmissionController(2, 1, AdmissionController.Policy.SHED,
+            Duration.ofSeconds(10));
+
+        assertTrue(admission.admit("a").get());
+        assertTrue(admission.admit("b").get());
+        CompletableFuture<Boolean> queuedA = admission.admit("a");
+        CompletableFuture<Boolean> queuedB = admission.admit("b");
+        assertFalse(admission.admit("a").get(), "Agent a's queue is full");
+        assertFalse(queuedA.isDone());
+        assertEquals(1, admission.getQueued("a"));
+
+        admission.release();
+        assertTrue(queuedA.get(1, TimeUnit.SECONDS), "Oldest waiter gets the freed slot");
+        assertFalse(queuedB.isDone());
+        admission.release();
+        assertTrue(queuedB.get(1, TimeUnit.SECONDS));
+
+        assertEquals(0, admission.getQueued("a"));
+        assertEquals(2, admission.getInFlight());
+        assertEquals(4, admission.getAdmittedCount());
+        assertEquals(1, admission.getRejectedCount());
+    }
+
+    @Test
+    void queuedOperationsGiveUpAfterMaximumWait() throws Exception {
+        AdmissionController admission = new AdmissionController(1, 4, AdmissionController.Policy.SHED,
+            Duration.ofMillis(50));
+        assertTrue(admission.admit("a").get());
+
+        assertFalse(admission.admit("a").get(5, TimeUnit.SECONDS));
+        assertEquals(0, admission.getQueued("a"));
+        admission.release();
+        assertEquals(0, admission.getInFlight(), "An expired waiter never takes a slot");
+    }
+
+    @Test
+    void blockPolicyHoldsCallerUntilSlotFrees() throws Exception {
+        AdmissionController admission = new AdmissionController(1, 1, AdmissionController.Policy.BLOCK,
+            Duration.ofSeconds(10));
+        assertTrue(admission.admit("a").get());
+
+        CompletableFuture<Boolean> blocked = CompletableFuture.supplyAsync(() -> admission.admit("a").join());
+        while (admission.getQueued("a") == 0) {
+            Thread.sleep(5);
+        }
+        assertFalse(admission.admit("a").get(), "Only one caller may wait per agent");
+        assertFalse(blocked.isDone());
+
+        admission.release();
+        assertTrue(blocked.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void registryRejectsBeyondMaxConcurrentUsers() throws Exception {
+        AgentConfiguration config = new AgentConfiguration("admission-test", new Properties(),
+            Map.of("maxConcurrentUsers", 2, "admissionQueuePerAgent", 1));
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry(config);
+        PendingAgent agent = new PendingAgent();
+        registry.registerAgent(agent);
+
+        List<CompletableFuture<AgentResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(registry.executeOperation("work", Map.of("i", i)));
+        }
+        assertEquals(2, agent.pending.size());
+        int rejected = 0;
+        for (CompletableFuture<AgentResult> future : futures) {
+            if (future.isDone() && future.get().isRejected()) {
+                rejected++;
+            }
+        }
+        assertEquals(2, rejected);
+
+        agent.finishAll();
+        agent.finishAll();
+        assertEquals(3, futures.stream().filter(future -> future.join().isSuccess()).count());
+    }
+
+    /**
+     * Agent whose operations stay outstanding until released
+     */
+    private static class PendingAgent implements WorkspaceAgent {
+        private final List<CompletableFuture<AgentResult>> pending = new ArrayList<>();
+
+        synchronized void finishAll() {
+            List<CompletableFuture<AgentResult>> finishing = new ArrayList<>(pending);
+            pending.clear();
+            finishing.forEach(future -> future.complete(AgentResult.success("done", 0)));
+        }
+
+        @Override
+        public String getAgentId() { return "pending"; }
+
+        @Override
+        public AgentCapabilities getCapabilities() {
+            return new AgentCapabilities("pending", Set.of("work"), Map.of("work", "Work"), Set.of(), 100);
+        }
+
+        @Override
+        public synchronized CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
+            CompletableFuture<AgentResult> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        }
+
+        @Override
+        public AgentHealth getHealth() { return AgentHealth.HEALTHY; }
+
+        @Override
+        public AgentMetrics getMetrics() { return new AgentMetricsRecorder().snapshot(); }
+
+        @Override
+        public void initialize(AgentConfiguration config) { }
+
+        @Override
+        public void shutdown() { }
+
+        @Override
+        public boolean isReady() { return true; }
+    }
+}
@@ -0,0 +1,200 @@
+package com.durion.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for per-agent executors and bulkheads.
+ *
+ * Verifies that the bulkhead caps concurrency, queues and then rejects excess
+ * operations, that a saturated agent does not hold up another agent, and
+ * that operations missing their deadline are interrupted and counted as
+ * timeouts.
+ */
+public class AgentExecutorTest {
+
+    @Test
+    void bulkheadCapsConcurrencyThenQueuesThenRejects() throws Exception {
+        AgentExecutor executor = new AgentExecutor("test-agent", 2, 3, AgentExecutor.Workload.IO);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peakRunning = new AtomicInteger();
+
+        List<CompletableFuture<AgentResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            futures.add(executor.execute(() -> {
+                peakRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return AgentResult.success("done", 0);
+            }));
+        }
+
+        AgentResult rejected = futures.get(5).get(1, TimeUnit.SECONDS);
+        assertFalse(rejected.isSuccess());
+        assertTrue(rejected.getMessage().contains("at capacity"), rejected.getMessage());
+        assertEquals(3, executor.getQueueDepth());
+        assertEquals(1, executor.getRejectedCount());
+
+        assertTrue(started.await(10, TimeUnit.SECONDS), "Both permitted tasks should start");
+        release.countDown();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(futures.get(i).get(10, TimeUnit.SECONDS).isSuccess());
+        }
+        assertEquals(2, peakRunning.get());
+        assertEquals(3, executor.getPeakQueueDepth());
+        assertEquals(0, executor.getQueueDepth());
+        assertEquals(5, executor.getCompletedCount());
+
+        executor.close();
+        ExecutionException closed = assertThrows(ExecutionException.class,
+                () -> executor.submit(() -> "late").get(1, TimeUnit.SECONDS));
+        assertTrue(closed.getCause() instanceof RejectedExecutionException);
+    }
+
+    @Test
+    void saturatedAgentDoesNotDelayOtherAgents() throws Exception {
+        AgentExecutor slow = new AgentExecutor("slow-agent", 1, 16, AgentExecutor.Workload.IO);
+        AgentExecutor fast = new AgentExecutor("fast-agent", 2, 16, AgentExecutor.Workload.CPU);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<CompletableFuture<String>> blocked = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            blocked.add(slow.submit(() -> {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "slow";
+            }));
+        }
+
+        assertEquals("fast", fast.submit(() -> "fast").get(1, TimeUnit.SECONDS));
+        assertEquals(1, slow.getInFlight());
+        assertEquals(9, slow.getQueueDepth());
+
+        release.countDown();
+        for (CompletableFuture<String> future : blocked) {
+            assertEquals("slow", future.get(10, TimeUnit.SECONDS));
+        }
+        slow.close();
+        fast.close();
+    }
+
+    @Test
+    void deadlineInterruptsRunningOperationAndSkipsQueuedOne() throws Exception {
+        AgentExecutor executor = new AgentExecutor("stuck-agent", 1, 4, AgentExecutor.Workload.CPU);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AtomicBoolean queuedRan = new AtomicBoolean();
+
+        CompletableFuture<AgentResult> stuck = executor.execute(() -> {
+            try {
+                Thread.sleep(10_000);
+                return AgentResult.success("finished", 0);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                return AgentResult.failure("interrupted", 0);
+            }
+        });
+        CompletableFuture<AgentResult> queued = executor.execute(() -> {
+            queuedRan.set(true);
+            return AgentResult.success("queued", 0);
+        });
+        queued.cancel(true);
+        stuck.orTimeout(100, TimeUnit.MILLISECONDS);
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "Blocking call is interrupted on timeout");
+        AgentResult next = executor.execute(() -> AgentResult.success(Thread.currentThread().isInterrupted(), 0))
+            .get(5, TimeUnit.SECONDS);
+        assertEquals(false, next.getData(), "Interrupt does not leak into the next operation");
+        assertFalse(queuedRan.get(), "Cancelled operation never starts");
+
+        AgentMetrics metrics = executor.getMetrics();
+        assertEquals(1, metrics.getTimedOutRequests());
+        assertEquals(2, metrics.getFailedRequests());
+        assertEquals(1, metrics.getSuccessfulRequests());
+        executor.close();
+    }
+
+    @Test
+    void executeWithDeadlineReturnsTimeoutResult() throws Exception {
+        SleepingAgent agent = new SleepingAgent();
+        AgentResult result = agent.executeWithDeadline("sleep", Map.of()).get(5, TimeUnit.SECONDS);
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.isTimeout());
+        assertTrue(result.getMessage().contains("timed out after 50 ms"));
+        assertTrue(agent.interrupted.await(5, TimeUnit.SECONDS));
+        agent.shutdown();
+    }
+
+    /**
+     * Agent whose only operation outlives its 50 ms response time target
+     */
+    private static class SleepingAgent implements WorkspaceAgent {
+        private final AgentExecutor executor = AgentExecutor.forAgent(this, AgentExecutor.Workload.IO);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        @Override
+        public String getAgentId() { return "sleeping"; }
+
+        @Override
+        public AgentCapabilities getCapabilities() {
+            return new AgentCapabilities("sleeping", Set.of("sleep"), Map.of("sleep", "Sleep"), Set.of(), 1);
+        }
+
+        @Override
+        public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
+            return executor.execute(() -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return AgentResult.success("awake", 0);
+            });
+        }
+
+        @Override
+        public Duration getResponseTimeTarget() { return Duration.ofMillis(50); }
+
+        @Override
+        public AgentHealth getHealth() { return AgentHealth.HEALTHY; }
+
+        @Override
+        public AgentMetrics getMetrics() { return executor.getMetrics(); }
+
+        @Override
+        public void initialize(AgentConfiguration config) { }
+
+        @Override
+        public void shutdown() { executor.close(); }
+
+        @Override
+        public boolean isReady() { return true; }
+    }
+}
@@ -0,0 +1,149 @@
+package com.durion.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for service-level agent health.
+ *
+ * Verifies that error-budget burn and p95 latency map to HEALTHY, DEGRADED
+ * and UNHEALTHY, that only infrastructure errors burn the budget, that small
+ * windows and isolated errors are not judged, and that the registry serves
+ * health and routes from the cached snapshot without calling agents.
+ */
+public class AgentHealthMonitorTest {
+
+    private static final Duration TARGET = Duration.ofSeconds(5);
+
+    @Test
+    void classifiesErrorBudgetBurn() {
+        AgentMetrics fiveErrorsInHundred = metrics(95, 0, 5, Duration.ofMillis(10));
+
+        assertEquals(AgentHealth.HEALTHY, AgentHealthMonitor.evaluate(fiveErrorsInHundred, TARGET, 0.90));
+        assertEquals(AgentHealth.DEGRADED, AgentHealthMonitor.evaluate(fiveErrorsInHundred, TARGET, 0.97));
+        assertEquals(AgentHealth.UNHEALTHY, AgentHealthMonitor.evaluate(fiveErrorsInHundred, TARGET, 0.999));
+        assertEquals(AgentHealth.HEALTHY, AgentHealthMonitor.evaluate(metrics(20, 0, 0, Duration.ofMillis(10)), TARGET, 0.999));
+    }
+
+    @Test
+    void ignoresFailedResultsAndIsolatedErrors() {
+        assertEquals(AgentHealth.HEALTHY,
+            AgentHealthMonitor.evaluate(metrics(10, 10, 0, Duration.ofMillis(10)), TARGET, 0.999),
+            "Failed results are the agent answering");
+        assertEquals(AgentHealth.HEALTHY,
+            AgentHealthMonitor.evaluate(metrics(16, 0, 4, Duration.ofMillis(10)), TARGET, 0.999),
+            "Too few errors to judge");
+        assertEquals(AgentHealth.UNHEALTHY,
+            AgentHealthMonitor.evaluate(metrics(15, 0, 5, Duration.ofMillis(10)), TARGET, 0.999));
+    }
+
+    @Test
+    void classifiesLatencyAgainstResponseTarget() {
+        assertEquals(AgentHealth.DEGRADED,
+            AgentHealthMonitor.evaluate(metrics(20, 0, 0, Duration.ofSeconds(7)), TARGET, 0.999));
+        assertEquals(AgentHealth.UNHEALTHY,
+            AgentHealthMonitor.evaluate(metrics(20, 0, 0, Duration.ofSeconds(12)), TARGET, 0.999));
+        assertEquals(AgentHealth.HEALTHY,
+            AgentHealthMonitor.evaluate(metrics(0, 0, 19, Duration.ofSeconds(12)), TARGET, 0.999),
+            "Too few requests to judge");
+    }
+
+    @Test
+    void registryRoutesFromCachedSnapshot() throws Exception {
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry(
+            AdmissionController.fromConfiguration(new AgentConfiguration("health-test", new Properties(), Map.of())),
+            Duration.ofHours(1));
+        MeteredAgent good = new MeteredAgent("good");
+        MeteredAgent failing = new MeteredAgent("failing");
+        registry.registerAgent(good);
+        registry.registerAgent(failing);
+        int healthCalls = good.healthCalls.get();
+
+        for (int i = 0; i < 20; i++) {
+            if (i % 2 == 0) {
+                failing.recorder.record(TimeUnit.MILLISECONDS.toNanos(5), true);
+            } else {
+                failing.recorder.recordError(failing.recorder.recordStart());
+            }
+        }
+        assertEquals(AgentHealth.HEALTHY, registry.getHealthStatus().get("failing"), "Snapshot not yet refreshed");
+        registry.getHealthMonitor().refresh();
+        assertEquals(AgentHealth.UNHEALTHY, registry.getHealth("failing"));
+
+        for (int i = 0; i < 10; i++) {
+            registry.executeOperation("work", Map.of()).get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(10, good.executed.get());
+        assertEquals(0, failing.executed.get());
+        assertEquals(healthCalls + 1, good.healthCalls.get(), "Only the explicit refresh asked the agent");
+    }
+
+    private static AgentMetrics metrics(int successes, int failures, int errors, Duration latency) {
+        AgentMetricsRecorder recorder = new AgentMetricsRecorder();
+        for (int i = 0; i < successes; i++) {
+            recorder.record(latency.toNanos(), true);
+        }
+        for (int i = 0; i < failures; i++) {
+            recorder.record(latency.toNanos(), false);
+        }
+        for (int i = 0; i < errors; i++) {
+            recorder.recordError(recorder.recordStart());
+        }
+        return recorder.snapshot();
+    }
+
+    /**
+     * Agent whose metrics the test records directly
+     */
+    private static class MeteredAgent implements WorkspaceAgent {
+        private final String agentId;
+        private final AgentMetricsRecorder recorder = new AgentMetricsRecorder();
+        private final AtomicInteger executed = new AtomicInteger();
+        private final AtomicInteger healthCalls = new AtomicInteger();
+
+        MeteredAgent(String agentId) {
+            this.agentId = agentId;
+        }
+
+        @Override
+        public String getAgentId() { return agentId; }
+
+        @Override
+        public AgentCapabilities getCapabilities() {
+            return new AgentCapabilities("metered", Set.of("work"), Map.of("work", "Work"), Set.of(), 100);
+        }
+
+        @Override
+        public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
+            executed.incrementAndGet();
+            return CompletableFuture.completedFuture(AgentResult.success(agentId, 0));
+        }
+
+        @Override
+        public AgentHealth getHealth() {
+            healthCalls.incrementAndGet();
+            return AgentHealth.HEALTHY;
+        }
+
+        @Override
+        public AgentMetrics getMetrics() { return recorder.snapshot(); }
+
+        @Override
+        public void initialize(AgentConfiguration config) { }
+
+        @Override
+        public void shutdown() { }
+
+        @Override
+        public boolean isReady() { return true; }
+    }
+}
@@ -0,0 +1,81 @@
+package com.durion.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for live agent metrics.
+ *
+ * Verifies percentile accuracy, that the sliding window forgets old samples
+ * while lifetime counts keep them, and that executors feed metrics for every
+ * operation.
+ */
+public class AgentMetricsRecorderTest {
+
+    @Test
+    void percentilesFollowRecordedLatencies() {
+        AtomicLong clock = new AtomicLong(1_000_000);
+        AgentMetricsRecorder recorder = new AgentMetricsRecorder(Duration.ofMinutes(1), 6, clock::get);
+        for (int millis = 1; millis <= 100; millis++) {
+            recorder.record(TimeUnit.MILLISECONDS.toNanos(millis), millis <= 99);
+        }
+
+        AgentMetrics metrics = recorder.snapshot();
+        assertEquals(100, metrics.getTotalRequests());
+        assertEquals(1, metrics.getFailedRequests());
+        assertWithin(50, metrics.getP50ResponseTime());
+        assertWithin(95, metrics.getP95ResponseTime());
+        assertWithin(99, metrics.getP99ResponseTime());
+        assertWithin(100, metrics.getMaxResponseTime());
+        assertWithin(50, metrics.getAverageResponseTime());
+        assertEquals(0.99, metrics.getCurrentAvailability(), 1e-9);
+        assertFalse(metrics.meetsPerformanceTargets(), "Availability below 99.9%");
+    }
+
+    @Test
+    void windowForgetsOldSamplesButKeepsLifetimeCounts() {
+        AtomicLong clock = new AtomicLong(1_000_000);
+        AgentMetricsRecorder recorder = new AgentMetricsRecorder(Duration.ofMinutes(1), 6, clock::get);
+        recorder.record(TimeUnit.SECONDS.toNanos(8), false);
+
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(30));
+        recorder.record(TimeUnit.MILLISECONDS.toNanos(20), true);
+        assertWithin(8000, recorder.snapshot().getMaxResponseTime());
+
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(45));
+        AgentMetrics metrics = recorder.snapshot();
+        assertEquals(2, metrics.getTotalRequests());
+        assertWithin(20, metrics.getMaxResponseTime());
+        assertEquals(1.0, metrics.getCurrentAvailability());
+        assertTrue(metrics.meetsPerformanceTargets());
+    }
+
+    @Test
+    void executorRecordsEveryOperation() throws Exception {
+        AgentExecutor executor = new AgentExecutor("metrics-agent", 2, 16, AgentExecutor.Workload.CPU);
+        executor.execute(() -> AgentResult.success("ok", 0)).get(5, TimeUnit.SECONDS);
+        executor.execute(() -> AgentResult.failure("no", 0)).get(5, TimeUnit.SECONDS);
+        executor.submit(() -> {
+            throw new IllegalStateException("boom");
+        }).handle((value, error) -> null).get(5, TimeUnit.SECONDS);
+
+        AgentMetrics metrics = executor.getMetrics();
+        assertEquals(3, metrics.getTotalRequests());
+        assertEquals(1, metrics.getSuccessfulRequests());
+        assertEquals(2, metrics.getFailedRequests());
+        assertEquals(0, metrics.getActiveConnections());
+        executor.close();
+    }
+
+    private static void assertWithin(long expectedMillis, Duration actual) {
+        double error = Math.abs(actual.toNanos() / 1e6 - expectedMillis) / expectedMillis;
+        assertTrue(error < 0.04, "Expected ~" + expectedMillis + "ms but was " + actual);
+    }
+}
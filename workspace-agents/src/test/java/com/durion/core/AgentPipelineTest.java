@@ -0,0 +1,140 @@
+package com.durion.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.durion.core.AgentPipeline.StageStatus;
+
+/**
+ * Tests for the multi-agent pipeline executor.
+ *
+ * Verifies that stage results flow along edges, that independent stages run
+ * in parallel so the pipeline takes critical-path time, that conditions and
+ * failed dependencies skip stages, and that invalid graphs are refused.
+ */
+public class AgentPipelineTest {
+
+    @Test
+    void independentStagesRunInParallelAndPassDataAlong() throws Exception {
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry();
+        registry.registerAgent(new SleepyAgent());
+
+        AgentPipeline pipeline = AgentPipeline.builder("fan-out")
+            .stage("source", "echo", List.of(), inputs -> Map.of("value", inputs.getParameter("seed"), "sleep", 50))
+            .stage("left", "echo", List.of("source"),
+                inputs -> Map.of("value", inputs.getData("source", String.class) + "-left", "sleep", 300))
+            .stage("right", "echo", List.of("source"),
+                inputs -> Map.of("value", inputs.getData("source", String.class) + "-right", "sleep", 300))
+            .stage("join", "echo", List.of("left", "right"),
+                inputs -> Map.of("value", inputs.getData("left", String.class) + "+" + inputs.getData("right", String.class),
+                    "sleep", 50))
+            .build();
+
+        AgentPipeline.PipelineResult result = pipeline.execute(registry, Map.of("seed", "s")).get(10, TimeUnit.SECONDS);
+
+        assertTrue(result.isSuccess());
+        assertEquals("s-left+s-right", result.getStage("join").getResult().getData());
+        assertTrue(result.getTotalDuration().toMillis() < 650,
+            "Parallel branches overlap, took " + result.getTotalDuration().toMillis() + "ms");
+        assertTrue(result.getStage("join").getStartOffset()
+            .compareTo(result.getStage("left").getEndOffset()) >= 0);
+        List<String> criticalPath = result.getCriticalPath();
+        assertEquals(3, criticalPath.size());
+        assertEquals("source", criticalPath.get(0));
+        assertEquals("join", criticalPath.get(2));
+    }
+
+    @Test
+    void conditionsAndFailuresSkipDownstreamStages() throws Exception {
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry();
+        registry.registerAgent(new SleepyAgent());
+
+        AgentPipeline pipeline = AgentPipeline.builder("partial")
+            .stage("fail", "fail", List.of(), inputs -> Map.of())
+            .stage("after-fail", "echo", List.of("fail"), inputs -> Map.of("value", "never"))
+            .stage("unwanted", "echo", List.of(), inputs -> false, inputs -> Map.of("value", "never"))
+            .stage("ok", "echo", List.of(), inputs -> Map.of("value", "ran"))
+            .build();
+
+        AgentPipeline.PipelineResult result = pipeline.execute(registry, Map.of()).get(10, TimeUnit.SECONDS);
+
+        assertFalse(result.isSuccess());
+        assertEquals(StageStatus.FAILED, result.getStage("fail").getStatus());
+        assertEquals(StageStatus.SKIPPED, result.getStage("after-fail").getStatus());
+        assertEquals(StageStatus.SKIPPED, result.getStage("unwanted").getStatus());
+        assertEquals(StageStatus.SUCCEEDED, result.getStage("ok").getStatus());
+    }
+
+    @Test
+    void refusesUnknownDependenciesAndCycles() {
+        assertThrows(IllegalArgumentException.class, () -> AgentPipeline.builder("unknown")
+            .stage("a", "echo", List.of("missing"), inputs -> Map.of())
+            .build());
+        assertThrows(IllegalArgumentException.class, () -> AgentPipeline.builder("cycle")
+            .stage("a", "echo", List.of("b"), inputs -> Map.of())
+            .stage("b", "echo", List.of("a"), inputs -> Map.of())
+            .build());
+
+        AgentPipeline ordered = AgentPipeline.builder("ordered")
+            .stage("last", "echo", List.of("first"), inputs -> Map.of())
+            .stage("first", "echo", List.of(), inputs -> Map.of())
+            .build();
+        assertEquals(List.of("first", "last"), ordered.getStageNames());
+    }
+
+    /**
+     * Agent that echoes its "value" parameter after sleeping "sleep" milliseconds
+     */
+    private static class SleepyAgent implements WorkspaceAgent {
+        private final AgentExecutor executor = AgentExecutor.forAgent(this, AgentExecutor.Workload.IO);
+
+        @Override
+        public String getAgentId() { return "sleepy"; }
+
+        @Override
+        public AgentCapabilities getCapabilities() {
+            return new AgentCapabilities("sleepy", Set.of("echo", "fail"), Map.of("echo", "Echo", "fail", "Fail"),
+                Set.of(), 10);
+        }
+
+        @Override
+        public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
+            return executor.execute(() -> {
+                if (operation.equals("fail")) {
+                    return AgentResult.failure("failed on purpose", 0);
+                }
+                try {
+                    Thread.sleep(((Number) parameters.getOrDefault("sleep", 0)).longValue());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return AgentResult.success(parameters.get("value"), 0);
+            });
+        }
+
+        @Override
+        public AgentHealth getHealth() { return AgentHealth.HEALTHY; }
+
+        @Override
+        public AgentMetrics getMetrics() { return executor.getMetrics(); }
+
+        @Override
+        public void initialize(AgentConfiguration config) { }
+
+        @Override
+        public void shutdown() { executor.close(); }
+
+        @Override
+        public boolean isReady() { return true; }
+    }
+}
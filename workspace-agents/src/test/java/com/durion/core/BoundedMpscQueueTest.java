@@ -0,0 +1,61 @@
+package com.durion.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the bounded multi-producer, single-consumer queue.
+ *
+ * Verifies that producers overflowing the ring wait instead of losing
+ * elements and that the consumer sees each producer's elements in order.
+ */
+public class BoundedMpscQueueTest {
+
+    @Test
+    void overflowingProducersLoseNothingAndKeepTheirOrder() throws Exception {
+        BoundedMpscQueue<int[]> queue = new BoundedMpscQueue<>(16);
+        List<int[]> taken = new ArrayList<>();
+        Thread consumer = new Thread(() -> {
+            while (taken.size() < 4000) {
+                if (queue.drainTo(taken::add) == 0) {
+                    queue.awaitElement(TimeUnit.MILLISECONDS.toNanos(50));
+                }
+            }
+        });
+        queue.setConsumer(consumer);
+        consumer.start();
+
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        for (int producer = 0; producer < 4; producer++) {
+            int id = producer;
+            producers.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    queue.put(new int[] { id, i });
+                }
+            });
+        }
+        producers.shutdown();
+        assertTrue(producers.awaitTermination(10, TimeUnit.SECONDS));
+        consumer.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertEquals(16, queue.getCapacity());
+        assertEquals(4000, taken.size());
+        assertEquals(0, queue.getPendingCount());
+        Map<Integer, Integer> nextByProducer = new HashMap<>();
+        for (int[] element : taken) {
+            int expected = nextByProducer.getOrDefault(element[0], 0);
+            assertEquals(expected, element[1], "Producer " + element[0] + " out of order");
+            nextByProducer.put(element[0], expected + 1);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.durion.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the domain corpus index.
+ *
+ * Verifies lookups by issue, domain, label and term, domain inference, and
+ * that refreshes re-read only changed files.
+ */
+public class DomainCorpusIndexTest {
+
+    @Test
+    void indexesStoriesAndBusinessRules() throws Exception {
+        Path domains = Files.createTempDirectory("corpus-index");
+        writeStory(domains, "crm", 170, "[FRONTEND] [STORY] Contacts: Capture Multiple Contact Points",
+                "# Contacts\nManage email and phone contact points for a party.");
+        writeStory(domains, "inventory", 42, "[STORY] Stock: Adjust Bin Quantities",
+                "# Stock\nAdjust on-hand quantities per warehouse bin.");
+        Files.createDirectories(domains.resolve("crm/.business-rules"));
+        Files.writeString(domains.resolve("crm/.business-rules/AGENT_GUIDE.md"),
+                "# CRM Agent Guide\nParty contact points have one primary per kind.");
+
+        DomainCorpusIndex index = new DomainCorpusIndex(domains);
+        DomainCorpusIndex.RefreshResult result = index.refresh();
+
+        assertEquals(5, result.getAdded());
+        assertEquals(5, index.size());
+        Optional<DomainCorpusIndex.Document> story = index.getStory(170);
+        assertTrue(story.isPresent());
+        assertEquals("crm", story.get().getDomain());
+        assertEquals(DomainCorpusIndex.DocumentKind.STORY_META, story.get().getKind());
+        assertEquals(2, index.findByIssue(170).size(), "Metadata and story body");
+        assertEquals(3, index.findByDomain("CRM").size());
+        assertEquals(1, index.findByLabel("domain:inventory").size());
+        assertEquals(List.of("AGENT_GUIDE.md"), index.search("primary party").stream()
+                .filter(d -> d.getKind() == DomainCorpusIndex.DocumentKind.BUSINESS_RULE)
+                .map(d -> d.getPath().getFileName().toString()).toList());
+        assertTrue(index.search("nonexistent").isEmpty());
+
+        assertEquals(Optional.of("crm"), index.inferDomain("Update a customer's contact phone number"));
+        assertEquals(Optional.of("inventory"), index.inferDomain("Bin quantities are wrong in the warehouse"));
+        assertEquals(Optional.empty(), index.inferDomain("zzz qqq"));
+        assertEquals(Optional.empty(), index.inferDomain("Contacts and stock"), "No domain clearly wins");
+    }
+
+    @Test
+    void refreshReadsOnlyChangedFiles() throws Exception {
+        Path domains = Files.createTempDirectory("corpus-refresh");
+        writeStory(domains, "crm", 1, "[STORY] Contacts: Capture", "# Contacts");
+        writeStory(domains, "pricing", 2, "[STORY] Pricing: Override", "# Pricing");
+        DomainCorpusIndex index = new DomainCorpusIndex(domains);
+        index.refresh();
+
+        DomainCorpusIndex.RefreshResult unchanged = index.refresh();
+        assertFalse(unchanged.hasChanges());
+        assertEquals(4, unchanged.getTotalDocuments());
+
+        Path body = domains.resolve("crm/.ui/frontend-story-crm-1.wf.md");
+        Files.writeString(body, "# Contacts\nNow mentions loyalty tiers.");
+        Files.setLastModifiedTime(body, FileTime.fromMillis(System.currentTimeMillis() + 5000));
+        Files.delete(domains.resolve("pricing/.ui/frontend-story-pricing-2.wf.md"));
+        writeStory(domains, "pricing", 3, "[STORY] Pricing: Promotions", "# Promotions");
+
+        DomainCorpusIndex.RefreshResult changed = index.refresh();
+        assertEquals(2, changed.getAdded());
+        assertEquals(1, changed.getUpdated());
+        assertEquals(1, changed.getRemoved());
+        assertEquals(1, index.search("loyalty").size());
+        assertEquals(1, index.findByIssue(2).size());
+        index.close();
+    }
+
+    private static void writeStory(Path domains, String domain, int issue, String title, String body)
+            throws Exception {
+        Path ui = Files.createDirectories(domains.resolve(domain).resolve(".ui"));
+        String name = "frontend-story-" + domain + "-" + issue;
+        Files.writeString(ui.resolve(name + ".wf.meta.json"), "{\n"
+                + "  \"issue_number\": " + issue + ",\n"
+                + "  \"issue_title\": \"" + title + "\",\n"
+                + "  \"domain\": \"" + domain + "\",\n"
+                + "  \"shortname\": \"" + name + "\",\n"
+                + "  \"labels\": [\"domain:" + domain + "\", \"type:story\"]\n"
+                + "}");
+        Files.writeString(ui.resolve(name + ".wf.md"), body);
+    }
+}
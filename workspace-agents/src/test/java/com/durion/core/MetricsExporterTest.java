@@ -0,0 +1,121 @@
+package com.durion.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the Prometheus metrics endpoint.
+ *
+ * Verifies that histograms are cumulative with an overflow bucket, that
+ * families contributed by several collectors share one HELP and TYPE line,
+ * that a scrape over HTTP returns the registry's operation metrics, and that
+ * the endpoint is off unless configured.
+ */
+public class MetricsExporterTest {
+
+    @Test
+    void rendersCumulativeHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram(new double[] {0.01, 0.1});
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(50));
+        histogram.record(TimeUnit.SECONDS.toNanos(2));
+
+        String text = new MetricsExporter()
+            .register(writer -> writer.histogram("test_seconds", "Test latency", Map.of("op", "a"), histogram))
+            .register(writer -> writer.histogram("test_seconds", "Test latency", Map.of("op", "b"),
+                new LatencyHistogram()))
+            .scrape();
+
+        assertTrue(text.startsWith("# HELP test_seconds Test latency\n# TYPE test_seconds histogram\n"), text);
+        assertEquals(1, text.split("# TYPE", -1).length - 1, "One TYPE line per family");
+        assertTrue(text.contains("test_seconds_bucket{op=\"a\",le=\"0.01\"} 1\n"), text);
+        assertTrue(text.contains("test_seconds_bucket{op=\"a\",le=\"0.1\"} 2\n"), text);
+        assertTrue(text.contains("test_seconds_bucket{op=\"a\",le=\"+Inf\"} 3\n"), text);
+        assertTrue(text.contains("test_seconds_count{op=\"a\"} 3\n"), text);
+        assertTrue(text.contains("test_seconds_sum{op=\"a\"} 2.055\n"), text);
+        assertTrue(text.contains("test_seconds_count{op=\"b\"} 0\n"), text);
+    }
+
+    @Test
+    void isDisabledUnlessConfigured() {
+        AgentConfiguration defaults = new AgentConfiguration("metrics-test", new Properties(), Map.of());
+        assertTrue(defaults.getMetricsPort() < 0);
+        assertEquals("", defaults.getMetricsHost(), "Empty binds loopback only");
+    }
+
+    @Test
+    void servesRegistryMetricsOverHttp() throws Exception {
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry(
+            new AgentConfiguration("metrics-test", new Properties(), Map.of()));
+        registry.registerAgent(new CountingAgent());
+        for (int i = 0; i < 3; i++) {
+            registry.executeOperation("count", Map.of("n", i)).get(5, TimeUnit.SECONDS);
+        }
+
+        try (MetricsExporter exporter = new MetricsExporter().register(registry).start(0)) {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + exporter.getPort() + MetricsExporter.PATH))
+                    .timeout(Duration.ofSeconds(5))
+                    .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+            assertEquals(200, response.statusCode());
+            assertEquals(MetricsExporter.CONTENT_TYPE, response.headers().firstValue("Content-Type").orElse(null));
+            String text = response.body();
+            assertTrue(text.contains("# TYPE durion_agent_operation_duration_seconds histogram\n"), text);
+            assertTrue(text.contains(
+                "durion_agent_operation_duration_seconds_count{agent=\"counter\",operation=\"count\"} 3\n"), text);
+            assertTrue(text.contains(
+                "durion_agent_operations_total{agent=\"counter\",operation=\"count\",outcome=\"success\"} 3\n"), text);
+            assertTrue(text.contains("durion_agent_health{agent=\"counter\",state=\"HEALTHY\"} 1\n"), text);
+            assertTrue(text.contains("durion_admission_admitted_total 3\n"), text);
+        }
+    }
+
+    /**
+     * Agent that succeeds immediately
+     */
+    private static class CountingAgent implements WorkspaceAgent {
+
+        @Override
+        public String getAgentId() { return "counter"; }
+
+        @Override
+        public AgentCapabilities getCapabilities() {
+            return new AgentCapabilities("counting", Set.of("count"), Map.of("count", "Count"), Set.of(), 100);
+        }
+
+        @Override
+        public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
+            return CompletableFuture.completedFuture(AgentResult.success(parameters.get("n"), 0));
+        }
+
+        @Override
+        public AgentHealth getHealth() { return AgentHealth.HEALTHY; }
+
+        @Override
+        public AgentMetrics getMetrics() { return new AgentMetricsRecorder().snapshot(); }
+
+        @Override
+        public void initialize(AgentConfiguration config) { }
+
+        @Override
+        public void shutdown() { }
+
+        @Override
+        public boolean isReady() { return true; }
+    }
+}
@@ -0,0 +1,170 @@
+package com.durion.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for memoization of cacheable agent operations.
+ *
+ * Verifies expiry, LRU eviction and generation-guarded inserts in the cache
+ * itself, that results are kept per agent, and that the registry answers
+ * repeated cacheable operations from the cache until a mutating operation
+ * or a reported state change invalidates them.
+ */
+public class OperationResultCacheTest {
+
+    @Test
+    void expiresEntriesAndEvictsLeastRecentlyUsed() {
+        AtomicLong clock = new AtomicLong();
+        OperationResultCache cache = new OperationResultCache(2, Duration.ofSeconds(10), clock::get);
+        OperationKey a = new OperationKey("op", Map.of("id", "a"));
+        OperationKey b = new OperationKey("op", Map.of("id", "b"));
+        OperationKey c = new OperationKey("op", Map.of("id", "c"));
+
+        cache.put("agent", a, AgentResult.success("a", 0));
+        cache.put("agent", b, AgentResult.success("b", 0));
+        cache.put("agent", c, AgentResult.failure("c", 0));
+        assertTrue(cache.get("agent", a).isPresent(), "Touching a makes b the eldest");
+        cache.put("agent", c, AgentResult.success("c", 0));
+        assertEquals(2, cache.size());
+        assertFalse(cache.get("agent", b).isPresent());
+        assertEquals(1, cache.getEvictionCount());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertFalse(cache.get("agent", a).isPresent());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void dropsResultsComputedBeforeAnInvalidation() {
+        OperationResultCache cache = new OperationResultCache();
+        OperationKey key = new OperationKey("op", Map.of());
+
+        long generation = cache.getGeneration();
+        cache.invalidate("other");
+        cache.put("agent", key, AgentResult.success("stale", 0), generation);
+        assertEquals(0, cache.size());
+
+        cache.put("agent", key, AgentResult.success("fresh", 0), cache.getGeneration());
+        assertEquals("fresh", cache.get("agent", key).get().getData());
+        assertEquals(1, cache.invalidate("op"));
+    }
+
+    @Test
+    void keepsEachAgentsResultsApart() {
+        OperationResultCache cache = new OperationResultCache();
+        OperationKey key = new OperationKey("op", Map.of("id", 1));
+
+        cache.put("first", key, AgentResult.success("from first", 0));
+        assertFalse(cache.get("second", key).isPresent());
+        cache.put("second", key, AgentResult.success("from second", 0));
+        assertEquals("from first", cache.get("first", key).get().getData());
+
+        assertEquals(1, cache.invalidate("first", "op"));
+        assertFalse(cache.get("first", key).isPresent());
+        assertEquals("from second", cache.get("second", key).get().getData());
+    }
+
+    @Test
+    void registryAnswersRepeatedOperationsFromCacheUntilStateChanges() throws Exception {
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry();
+        CountingAgent agent = new CountingAgent();
+        registry.registerAgent(agent);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(registry.executeOperation("read", Map.of("id", 1)).get(5, TimeUnit.SECONDS).isSuccess());
+        }
+        registry.executeOperation("read", Map.of("id", 2)).get(5, TimeUnit.SECONDS);
+        assertEquals(2, agent.reads.get(), "Only distinct parameters reach the agent");
+
+        registry.executeOperation("report", Map.of()).get(5, TimeUnit.SECONDS);
+        registry.executeOperation("read", Map.of("id", 1)).get(5, TimeUnit.SECONDS);
+        assertEquals(2, agent.reads.get(), "Operations not declared mutating keep the cache");
+
+        registry.executeOperation("write", Map.of()).get(5, TimeUnit.SECONDS);
+        registry.executeOperation("read", Map.of("id", 1)).get(5, TimeUnit.SECONDS);
+        assertEquals(3, agent.reads.get(), "A write drops the agent's cached reads");
+
+        agent.listener.accept("read");
+        registry.executeOperation("read", Map.of("id", 1)).get(5, TimeUnit.SECONDS);
+        assertEquals(4, agent.reads.get(), "Agents can report their own state changes");
+    }
+
+    @Test
+    void callsJoiningAComputationAreNotCountedAsMisses() throws Exception {
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry();
+        CountingAgent agent = new CountingAgent();
+        agent.gate = new CompletableFuture<>();
+        registry.registerAgent(agent);
+
+        CompletableFuture<AgentResult> first = registry.executeOperation("read", Map.of("id", 1));
+        CompletableFuture<AgentResult> second = registry.executeOperation("read", Map.of("id", 1));
+        agent.gate.complete(null);
+
+        assertTrue(first.get(5, TimeUnit.SECONDS).isSuccess());
+        assertTrue(second.get(5, TimeUnit.SECONDS).isSuccess());
+        assertEquals(1, agent.reads.get());
+        assertEquals(1, registry.getResultCache().getMissCount());
+        assertEquals(0, registry.getResultCache().getHitCount());
+    }
+
+    /**
+     * Agent with a cacheable read, a read-only report and a mutating write
+     */
+    private static class CountingAgent implements WorkspaceAgent {
+        private final AtomicInteger reads = new AtomicInteger();
+        private volatile Consumer<String> listener = operation -> { };
+        private volatile CompletableFuture<Void> gate = CompletableFuture.completedFuture(null);
+
+        @Override
+        public String getAgentId() { return "counting"; }
+
+        @Override
+        public AgentCapabilities getCapabilities() {
+            return new AgentCapabilities("counting", Set.of("read", "report", "write"),
+                Map.of("read", "Read", "report", "Report", "write", "Write"), Set.of(), 10,
+                Set.of("read"), Set.of("write"));
+        }
+
+        @Override
+        public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
+            if (operation.equals("read")) {
+                reads.incrementAndGet();
+            }
+            return gate.thenApply(ignored -> AgentResult.success(operation, 0));
+        }
+
+        @Override
+        public void addCacheInvalidationListener(Consumer<String> listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public AgentHealth getHealth() { return AgentHealth.HEALTHY; }
+
+        @Override
+        public AgentMetrics getMetrics() { return new AgentMetricsRecorder().snapshot(); }
+
+        @Override
+        public void initialize(AgentConfiguration config) { }
+
+        @Override
+        public void shutdown() { }
+
+        @Override
+        public boolean isReady() { return true; }
+    }
+}
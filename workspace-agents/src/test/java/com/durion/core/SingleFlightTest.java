@@ -0,0 +1,158 @@
+package com.durion.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for single-flight coalescing of identical concurrent calls.
+ */
+public class SingleFlightTest {
+
+    @Test
+    void identicalConcurrentCallsShareOneExecution() throws Exception {
+        SingleFlight<OperationKey, AgentResult> singleFlight = new SingleFlight<>();
+        AtomicInteger started = new AtomicInteger();
+        CompletableFuture<AgentResult> work = new CompletableFuture<>();
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("storyId", "42");
+        List<CompletableFuture<AgentResult>> callers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            callers.add(singleFlight.execute(new OperationKey("CLASSIFY_STORY", parameters), () -> {
+                started.incrementAndGet();
+                return work;
+            }));
+        }
+        CompletableFuture<AgentResult> other = singleFlight.execute(
+                new OperationKey("CLASSIFY_STORY", Map.of("storyId", "43")),
+                () -> CompletableFuture.completedFuture(AgentResult.success("43", 0)));
+
+        assertEquals(1, started.get());
+        assertEquals(4, singleFlight.getCoalescedCount());
+        assertEquals("43", other.get(1, TimeUnit.SECONDS).getData());
+
+        callers.get(0).cancel(true);
+        work.complete(AgentResult.success("42", 0));
+        for (int i = 1; i < callers.size(); i++) {
+            assertEquals("42", callers.get(i).get(1, TimeUnit.SECONDS).getData());
+        }
+        assertEquals(0, singleFlight.getInFlightCount());
+
+        singleFlight.execute(new OperationKey("CLASSIFY_STORY", parameters), () -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture(AgentResult.success("again", 0));
+        }).get(1, TimeUnit.SECONDS);
+        assertEquals(2, started.get(), "Completed calls are not cached");
+    }
+
+    @Test
+    void workWithoutFutureFailsAndReleasesTheKey() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+        CompletableFuture<String> failed = singleFlight.execute("key", () -> null);
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> failed.get(1, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof IllegalStateException);
+        assertEquals(0, singleFlight.getInFlightCount());
+        assertEquals("fresh", singleFlight.execute("key", () -> CompletableFuture.completedFuture("fresh"))
+            .get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void releasedExecutionsAreNotJoinedByLaterCalls() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        CompletableFuture<String> stale = new CompletableFuture<>();
+        CompletableFuture<String> joined = singleFlight.execute("doc", () -> stale);
+        CompletableFuture<String> early = singleFlight.execute("doc", () -> CompletableFuture.completedFuture("unused"));
+
+        singleFlight.release(key -> key.equals("doc"));
+        CompletableFuture<String> later = singleFlight.execute("doc", () -> CompletableFuture.completedFuture("fresh"));
+        stale.complete("stale");
+
+        assertEquals("fresh", later.get(1, TimeUnit.SECONDS));
+        assertEquals("stale", joined.get(1, TimeUnit.SECONDS));
+        assertEquals("stale", early.get(1, TimeUnit.SECONDS), "Callers that joined before the release keep its result");
+        assertEquals(2, singleFlight.getExecutionCount());
+    }
+
+    @Test
+    void registryCoalescesIdenticalOperations() throws Exception {
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry();
+        CompletableFuture<AgentResult> gate = new CompletableFuture<>();
+        AtomicInteger executions = new AtomicInteger();
+        registry.registerAgent(new WorkspaceAgent() {
+            public String getAgentId() { return "docs"; }
+            public AgentCapabilities getCapabilities() {
+                return new AgentCapabilities("docs", java.util.Set.of("GENERATE"), Map.of(), java.util.Set.of(), 10);
+            }
+            public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
+                executions.incrementAndGet();
+                return gate;
+            }
+            public AgentHealth getHealth() { return AgentHealth.HEALTHY; }
+            public AgentMetrics getMetrics() { return new AgentMetricsRecorder().snapshot(); }
+            public void initialize(AgentConfiguration config) { }
+            public void shutdown() { }
+            public boolean isReady() { return true; }
+        });
+
+        CompletableFuture<AgentResult> first = registry.executeCoalesced("GENERATE", Map.of());
+        CompletableFuture<AgentResult> second = registry.executeCoalesced("GENERATE", new HashMap<>());
+        assertFalse(first.isDone());
+        gate.complete(AgentResult.success("doc", 0));
+
+        assertTrue(first.get(1, TimeUnit.SECONDS).isSuccess());
+        assertTrue(second.get(1, TimeUnit.SECONDS).isSuccess());
+        assertEquals(1, executions.get());
+        assertEquals(1, registry.getCoalescedCount());
+    }
+
+    @Test
+    void registryStartsFreshWorkAfterAStateChange() throws Exception {
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry();
+        List<CompletableFuture<AgentResult>> generations = new java.util.concurrent.CopyOnWriteArrayList<>();
+        registry.registerAgent(new WorkspaceAgent() {
+            public String getAgentId() { return "docs"; }
+            public AgentCapabilities getCapabilities() {
+                return new AgentCapabilities("docs", java.util.Set.of("GENERATE", "UPDATE"), Map.of(), java.util.Set.of(), 10,
+                    java.util.Set.of(), java.util.Set.of("UPDATE"));
+            }
+            public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
+                if (operation.equals("UPDATE")) {
+                    return CompletableFuture.completedFuture(AgentResult.success("updated", 0));
+                }
+                CompletableFuture<AgentResult> generation = new CompletableFuture<>();
+                generations.add(generation);
+                return generation;
+            }
+            public AgentHealth getHealth() { return AgentHealth.HEALTHY; }
+            public AgentMetrics getMetrics() { return new AgentMetricsRecorder().snapshot(); }
+            public void initialize(AgentConfiguration config) { }
+            public void shutdown() { }
+            public boolean isReady() { return true; }
+        });
+
+        CompletableFuture<AgentResult> before = registry.executeCoalesced("GENERATE", Map.of());
+        assertTrue(registry.executeOperation("UPDATE", Map.of()).get(1, TimeUnit.SECONDS).isSuccess());
+        CompletableFuture<AgentResult> after = registry.executeCoalesced("GENERATE", Map.of());
+
+        assertEquals(2, generations.size(), "A call after the state change does not join the stale generation");
+        generations.get(0).complete(AgentResult.success("old", 0));
+        generations.get(1).complete(AgentResult.success("new", 0));
+        assertEquals("old", before.get(1, TimeUnit.SECONDS).getData());
+        assertEquals("new", after.get(1, TimeUnit.SECONDS).getData());
+    }
+}
@@ -0,0 +1,93 @@
+package com.durion.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the story event bus.
+ *
+ * Verifies that bursts from concurrent publishers overflow the ring without
+ * losing events, that a burst is delivered as one batch in publication
+ * order, that subscribers only see the event types they asked for, and that
+ * a flush only cuts short the batches holding the events it waits for.
+ */
+public class StoryEventBusTest {
+
+    @Test
+    void concurrentBurstIsDeliveredWithoutLoss() throws Exception {
+        StoryEventBus bus = new StoryEventBus(16, Duration.ofMillis(200));
+        List<List<StoryEvent>> batches = Collections.synchronizedList(new ArrayList<>());
+        bus.subscribe(Set.of(StoryEvent.STORY_CREATED), batches::add);
+
+        ExecutorService publishers = Executors.newFixedThreadPool(4);
+        for (int worker = 0; worker < 4; worker++) {
+            int id = worker;
+            publishers.submit(() -> {
+                for (int i = 0; i < 250; i++) {
+                    bus.publish(new StoryEvent(StoryEvent.STORY_CREATED, "STORY-" + id + "-" + i));
+                }
+            });
+        }
+        publishers.shutdown();
+        assertTrue(publishers.awaitTermination(10, TimeUnit.SECONDS));
+        bus.close();
+
+        assertEquals(1000, bus.getPublishedCount());
+        assertEquals(1000, bus.getDeliveredCount());
+        assertEquals(1000, batches.stream().mapToInt(List::size).sum());
+        assertTrue(batches.size() <= 2, "Burst coalesced into " + batches.size() + " batches");
+        assertEquals(0, bus.getPendingCount());
+    }
+
+    @Test
+    void subscribersReceiveOnlyTheirTypesInOrder() throws Exception {
+        StoryEventBus bus = new StoryEventBus(64, Duration.ofSeconds(30));
+        List<StoryEvent> created = Collections.synchronizedList(new ArrayList<>());
+        List<StoryEvent> labels = Collections.synchronizedList(new ArrayList<>());
+        bus.subscribe(Set.of(StoryEvent.STORY_CREATED), created::addAll);
+        StoryEventBus.Subscription labelSubscription = bus.subscribe(Set.of(StoryEvent.LABELS_CHANGED), labels::addAll);
+
+        bus.publish(new StoryEvent(StoryEvent.STORY_CREATED, "STORY-1"));
+        bus.publish(new StoryEvent(StoryEvent.LABELS_CHANGED, "STORY-1"));
+        bus.publish(new StoryEvent(StoryEvent.STORY_CREATED, "STORY-2"));
+        bus.flush();
+
+        assertEquals(1, bus.getBatchCount(), "Flush closes the window early");
+        assertEquals(List.of("STORY-1", "STORY-2"), created.stream().map(StoryEvent::getStoryId).toList());
+        assertEquals(1, labels.size());
+
+        labelSubscription.close();
+        bus.publish(new StoryEvent(StoryEvent.LABELS_CHANGED, "STORY-3"));
+        bus.close();
+        assertEquals(1, labels.size());
+    }
+
+    @Test
+    void flushDoesNotShortenTheNextBatchWindow() throws Exception {
+        StoryEventBus bus = new StoryEventBus(64, Duration.ofSeconds(30));
+        List<StoryEvent> created = Collections.synchronizedList(new ArrayList<>());
+        bus.subscribe(Set.of(StoryEvent.STORY_CREATED), created::addAll);
+
+        bus.publish(new StoryEvent(StoryEvent.STORY_CREATED, "STORY-1"));
+        assertTrue(bus.flush());
+        assertTrue(bus.flush(), "Nothing left to deliver");
+        bus.publish(new StoryEvent(StoryEvent.STORY_CREATED, "STORY-2"));
+        Thread.sleep(300);
+
+        assertEquals(1, bus.getBatchCount(), "The new event waits for its own window");
+        assertEquals(1, created.size());
+        bus.close();
+        assertEquals(2, created.size());
+    }
+}
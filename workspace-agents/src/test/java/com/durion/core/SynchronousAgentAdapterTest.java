@@ -0,0 +1,120 @@
+package com.durion.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.durion.agents.WorkflowCoordinationAgent;
+
+/**
+ * Tests for hosting synchronous agents in the registry.
+ *
+ * Verifies that parameter maps reach the synchronous agent as positional
+ * arguments, that its operations are routed and measured like any other
+ * agent's, and that slow operations time out instead of blocking callers.
+ */
+public class SynchronousAgentAdapterTest {
+
+    @Test
+    void registryRoutesToSynchronousAgentWithPositionalArguments() throws Exception {
+        SynchronousAgentAdapter adapter = new SynchronousAgentAdapter(new EchoAgent(),
+            List.of("first", "second"), AgentExecutor.Workload.CPU);
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry();
+        adapter.initialize(new AgentConfiguration("adapter-test", new Properties(), Map.of()));
+        registry.registerAgent(adapter);
+
+        AgentResult result = registry.executeOperation("echo", Map.of("second", "b", "first", "a"))
+            .get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        assertEquals("[a, b]", result.getData());
+        AgentResult failed = registry.executeOperation("explode", Map.of()).get(5, TimeUnit.SECONDS);
+        assertFalse(failed.isSuccess());
+        assertEquals(2, adapter.getMetrics().getTotalRequests());
+        assertEquals(1, adapter.getMetrics().getSuccessfulRequests());
+        adapter.shutdown();
+    }
+
+    @Test
+    void slowSynchronousOperationTimesOut() throws Exception {
+        SynchronousAgentAdapter adapter = new SynchronousAgentAdapter(new EchoAgent()) {
+            @Override
+            public Duration getResponseTimeTarget() {
+                return Duration.ofMillis(100);
+            }
+        };
+
+        AgentResult result = adapter.executeWithDeadline("sleep", Map.of()).get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isTimeout());
+        adapter.shutdown();
+    }
+
+    @Test
+    void hostsWorkflowCoordinationAgent() throws Exception {
+        SynchronousAgentAdapter adapter = new SynchronousAgentAdapter(new WorkflowCoordinationAgent());
+        adapter.initialize(new AgentConfiguration("adapter-test", new Properties(), Map.of()));
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry();
+        registry.registerAgent(adapter);
+
+        assertTrue(adapter.isReady());
+        AgentResult result = registry.executeOperation("enforce_versioning", Map.of()).get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        adapter.shutdown();
+    }
+
+    /**
+     * Synchronous agent that echoes its arguments, throws, or sleeps
+     */
+    private static class EchoAgent implements com.durion.interfaces.WorkspaceAgent {
+
+        @Override
+        public String getAgentId() { return "echo"; }
+
+        @Override
+        public AgentCapabilities getCapabilities() {
+            return new AgentCapabilities("echo", Set.of("echo", "explode", "sleep"),
+                Map.of("echo", "Echo", "explode", "Throw", "sleep", "Sleep"), Set.of(), 4);
+        }
+
+        @Override
+        public AgentResult execute(String operation, Object... parameters) {
+            switch (operation) {
+                case "explode":
+                    throw new IllegalStateException("boom");
+                case "sleep":
+                    try {
+                        Thread.sleep(5000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return AgentResult.success("woke", 5000);
+                default:
+                    return AgentResult.success(Arrays.toString(parameters), 0);
+            }
+        }
+
+        @Override
+        public AgentHealth getHealth() { return AgentHealth.HEALTHY; }
+
+        @Override
+        public AgentMetrics getMetrics() { return new AgentMetricsRecorder().snapshot(); }
+
+        @Override
+        public void initialize() { }
+
+        @Override
+        public void shutdown() { }
+    }
+}
@@ -0,0 +1,214 @@
+package com.durion.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests for tracing across agent operations.
+ *
+ * Verifies that spans are children of the span current when work was
+ * submitted, across the registry, the agent executor's threads and pipeline
+ * stages, that each trace goes only to its own exporter, that work outside a
+ * trace records nothing, and that the file exporter writes Zipkin JSON.
+ */
+public class TracerTest {
+
+    private final List<Span> spans = new CopyOnWriteArrayList<>();
+
+    @Test
+    void propagatesThroughRegistryAndExecutor() throws Exception {
+        WorkspaceAgentRegistry registry = registryWith(new TracedAgent());
+
+        Span poll = Tracer.startTrace("story.poll", spans::add);
+        Span.Scope pollScope = poll.makeCurrent();
+        try {
+            registry.executeOperation("work", Map.of()).get(5, TimeUnit.SECONDS);
+        } finally {
+            pollScope.close();
+            poll.end();
+        }
+
+        Span root = span("story.poll");
+        Span route = span("route work");
+        Span operation = span("work");
+        Span inner = span("inner");
+        assertNull(root.getParentId());
+        assertEquals(root.getSpanId(), route.getParentId());
+        assertEquals(route.getSpanId(), operation.getParentId());
+        assertEquals(operation.getSpanId(), inner.getParentId(), "Executor thread runs under the operation span");
+        assertTrue(spans.stream().allMatch(span -> span.getTraceId().equals(root.getTraceId())));
+        assertEquals("traced", route.getAttributes().get("agent.id"));
+        assertEquals("success", route.getAttributes().get("agent.outcome"));
+        assertSame(Span.NOOP, Tracer.currentSpan(), "Scopes restore the previous span");
+    }
+
+    @Test
+    void tracesPipelineStages() throws Exception {
+        WorkspaceAgentRegistry registry = registryWith(new TracedAgent());
+        AgentPipeline pipeline = AgentPipeline.builder("twice")
+            .stage("first", "work", List.of(), inputs -> true, inputs -> Map.of())
+            .stage("second", "work", List.of("first"), inputs -> true, inputs -> Map.of())
+            .build();
+
+        Span run = Tracer.startTrace("run", spans::add);
+        Span.Scope runScope = run.makeCurrent();
+        try {
+            pipeline.execute(registry, Map.of()).get(5, TimeUnit.SECONDS);
+        } finally {
+            runScope.close();
+            run.end();
+        }
+
+        Span pipelineSpan = span("pipeline twice");
+        Span second = span("stage second");
+        assertEquals(pipelineSpan.getSpanId(), span("stage first").getParentId());
+        assertEquals(pipelineSpan.getSpanId(), second.getParentId());
+        assertEquals("SUCCEEDED", second.getAttributes().get("pipeline.stage_status"));
+        assertEquals(2, spans.stream().filter(span -> span.getName().equals("inner")).count());
+    }
+
+    @Test
+    void recordsNothingOutsideATrace() {
+        Span span = Tracer.startSpan("ignored").setAttribute("issue.number", 1);
+        Span.Scope scope = span.makeCurrent();
+        assertSame(Span.NOOP, Tracer.currentSpan());
+        scope.close();
+        span.end();
+
+        assertFalse(span.isRecording());
+        assertTrue(span.getAttributes().isEmpty());
+        assertSame(Span.NOOP, Tracer.startTrace("disabled", null));
+    }
+
+    @Test
+    void keepsEachTraceWithItsExporter() throws Exception {
+        List<Span> otherSpans = new CopyOnWriteArrayList<>();
+        Span first = Tracer.startTrace("first", spans::add);
+        Span second = Tracer.startTrace("second", otherSpans::add);
+
+        CompletableFuture<Void> elsewhere = CompletableFuture.runAsync(() -> {
+            Span.Scope scope = second.makeCurrent();
+            try {
+                Tracer.startSpan("second child").end();
+            } finally {
+                scope.close();
+            }
+        });
+        Span.Scope scope = first.makeCurrent();
+        try {
+            Tracer.startSpan("first child").end();
+        } finally {
+            scope.close();
+        }
+        elsewhere.get(5, TimeUnit.SECONDS);
+        first.end();
+        second.end();
+
+        assertEquals(List.of("first child", "first"), spans.stream().map(Span::getName).toList());
+        assertEquals(List.of("second child", "second"), otherSpans.stream().map(Span::getName).toList());
+    }
+
+    @Test
+    void writesZipkinJsonLines() throws Exception {
+        Path file = Files.createTempDirectory("tracer-test").resolve("traces/spans.jsonl");
+        try (ZipkinFileSpanExporter exporter = new ZipkinFileSpanExporter(file, "test-service")) {
+            Span parent = Tracer.startTrace("story.process", exporter).setAttribute("issue.number", 42);
+            Span.Scope scope = parent.makeCurrent();
+            try {
+                Tracer.startSpan("github list_issues", Span.Kind.CLIENT)
+                    .setAttribute("github.repository", "owner/repo")
+                    .setError("HTTP 502")
+                    .end();
+            } finally {
+                scope.close();
+                parent.end();
+            }
+            assertTrue(exporter.flush(5, TimeUnit.SECONDS));
+            assertEquals(2, exporter.getExportedCount());
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        JsonNode client = mapper.readTree(lines.get(0));
+        JsonNode parent = mapper.readTree(lines.get(1));
+        assertEquals("github list_issues", client.get("name").asText());
+        assertEquals("CLIENT", client.get("kind").asText());
+        assertEquals(parent.get("id").asText(), client.get("parentId").asText());
+        assertEquals(32, client.get("traceId").asText().length());
+        assertEquals("owner/repo", client.get("tags").get("github.repository").asText());
+        assertEquals("HTTP 502", client.get("tags").get("error").asText());
+        assertEquals("42", parent.get("tags").get("issue.number").asText());
+        assertEquals("test-service", parent.get("localEndpoint").get("serviceName").asText());
+        assertTrue(parent.get("duration").asLong() >= client.get("duration").asLong());
+    }
+
+    private Span span(String name) {
+        return spans.stream().filter(span -> span.getName().equals(name)).findFirst()
+            .orElseThrow(() -> new AssertionError("No span named " + name + " in " + spans.stream()
+                .map(Span::getName).toList()));
+    }
+
+    private static WorkspaceAgentRegistry registryWith(WorkspaceAgent agent) {
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry(
+            new AgentConfiguration("tracing-test", new Properties(), Map.of()));
+        registry.registerAgent(agent);
+        return registry;
+    }
+
+    /**
+     * Agent that starts a span of its own on its executor thread
+     */
+    private static class TracedAgent implements WorkspaceAgent {
+        private final AgentExecutor executor = AgentExecutor.forAgent(this, AgentExecutor.Workload.IO);
+
+        @Override
+        public String getAgentId() { return "traced"; }
+
+        @Override
+        public AgentCapabilities getCapabilities() {
+            return new AgentCapabilities("traced", Set.of("work"), Map.of("work", "Work"), Set.of(), 10);
+        }
+
+        @Override
+        public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
+            return executor.execute(() -> {
+                Tracer.startSpan("inner").end();
+                return AgentResult.success(operation, 0);
+            });
+        }
+
+        @Override
+        public AgentHealth getHealth() { return AgentHealth.HEALTHY; }
+
+        @Override
+        public AgentMetrics getMetrics() { return executor.getMetrics(); }
+
+        @Override
+        public void initialize(AgentConfiguration config) { }
+
+        @Override
+        public void shutdown() { executor.close(); }
+
+        @Override
+        public boolean isReady() { return true; }
+    }
+}
@@ -0,0 +1,130 @@
+package com.durion.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for load-aware routing in the agent registry.
+ *
+ * Verifies that concurrent operations spread across agents by outstanding
+ * load, that unhealthy agents are skipped while another candidate is left
+ * but still tried when none is, and that the operation index follows
+ * registration.
+ */
+public class WorkspaceAgentRegistryRoutingTest {
+
+    @Test
+    void concurrentOperationsSpreadAcrossAgents() throws Exception {
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry();
+        List<StubAgent> stubs = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            StubAgent stub = new StubAgent("stub-" + i, AgentHealth.HEALTHY);
+            stubs.add(stub);
+            registry.registerAgent(stub);
+        }
+
+        List<CompletableFuture<AgentResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            futures.add(registry.executeOperation("work", Map.of()));
+        }
+        for (StubAgent stub : stubs) {
+            assertTrue(stub.started.get() >= 5, stub.getAgentId() + " got " + stub.started.get());
+            assertEquals(stub.started.get(), registry.getOutstandingRequests(stub.getAgentId()));
+        }
+
+        stubs.forEach(StubAgent::finishAll);
+        for (CompletableFuture<AgentResult> future : futures) {
+            assertTrue(future.get(5, TimeUnit.SECONDS).isSuccess());
+        }
+        assertEquals(0, registry.getOutstandingRequests("stub-0"));
+    }
+
+    @Test
+    void skipsUnhealthyAgentsAndFollowsRegistration() throws Exception {
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry();
+        StubAgent unhealthy = new StubAgent("unhealthy", AgentHealth.UNHEALTHY);
+        StubAgent degraded = new StubAgent("degraded", AgentHealth.DEGRADED);
+        registry.registerAgent(unhealthy);
+
+        CompletableFuture<AgentResult> onlyCandidate = registry.executeOperation("work", Map.of());
+        assertEquals(1, unhealthy.started.get(), "The least bad agent is tried when all are unhealthy");
+        unhealthy.finishAll();
+        assertTrue(onlyCandidate.get(5, TimeUnit.SECONDS).isSuccess());
+
+        registry.registerAgent(degraded);
+        for (int i = 0; i < 5; i++) {
+            registry.executeOperation("work", Map.of());
+        }
+        assertEquals(1, unhealthy.started.get());
+        assertEquals(5, degraded.started.get());
+        degraded.finishAll();
+
+        assertEquals(2, registry.findAgentsForOperation("work").size());
+        registry.unregisterAgent("degraded");
+        assertEquals(List.of(unhealthy), registry.findAgentsForOperation("work"));
+        AgentResult missing = registry.executeOperation("other", Map.of()).get(5, TimeUnit.SECONDS);
+        assertTrue(missing.getMessage().contains("No agents available"));
+    }
+
+    /**
+     * Agent whose operations stay outstanding until released
+     */
+    private static class StubAgent implements WorkspaceAgent {
+        private final String agentId;
+        private final AgentHealth health;
+        private final AtomicInteger started = new AtomicInteger();
+        private final List<CompletableFuture<AgentResult>> pending = new ArrayList<>();
+
+        StubAgent(String agentId, AgentHealth health) {
+            this.agentId = agentId;
+            this.health = health;
+        }
+
+        synchronized void finishAll() {
+            pending.forEach(future -> future.complete(AgentResult.success(agentId, 0)));
+            pending.clear();
+        }
+
+        @Override
+        public String getAgentId() { return agentId; }
+
+        @Override
+        public AgentCapabilities getCapabilities() {
+            return new AgentCapabilities("stub", Set.of("work"), Map.of("work", "Work"), Set.of(), 100);
+        }
+
+        @Override
+        public synchronized CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
+            started.incrementAndGet();
+            CompletableFuture<AgentResult> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        }
+
+        @Override
+        public AgentHealth getHealth() { return health; }
+
+        @Override
+        public AgentMetrics getMetrics() { return new AgentMetricsRecorder().snapshot(); }
+
+        @Override
+        public void initialize(AgentConfiguration config) { }
+
+        @Override
+        public void shutdown() { }
+
+        @Override
+        public boolean isReady() { return true; }
+    }
+}
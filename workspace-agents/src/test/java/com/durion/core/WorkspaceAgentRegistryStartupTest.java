@@ -0,0 +1,137 @@
+package com.durion.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for registry-driven agent startup.
+ *
+ * Verifies that independent agents initialize concurrently, that an agent
+ * starts only after the registered agents it requires, that lazy agents are
+ * initialized on first use, and that dependency cycles are refused.
+ */
+public class WorkspaceAgentRegistryStartupTest {
+
+    private static final AgentConfiguration CONFIG =
+        new AgentConfiguration("startup-test", new Properties(), Map.of());
+
+    @Test
+    void independentAgentsStartConcurrentlyAndDependentsWait() throws Exception {
+        Map<String, Long> readyAt = new ConcurrentHashMap<>();
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry();
+        registry.registerAgent(new SlowStartAgent("a", Set.of(), 200, readyAt));
+        registry.registerAgent(new SlowStartAgent("b", Set.of(), 200, readyAt));
+        registry.registerAgent(new SlowStartAgent("c", Set.of(), 200, readyAt));
+        registry.registerAgent(new SlowStartAgent("d", Set.of("a-type", "java21"), 100, readyAt));
+
+        long start = System.nanoTime();
+        Map<String, Duration> timeToReady = registry.startAgents(CONFIG).get(10, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(Set.of("a", "b", "c", "d"), timeToReady.keySet());
+        assertTrue(elapsedMillis < 600, "Independent agents overlap, took " + elapsedMillis + "ms");
+        assertTrue(readyAt.get("d") - readyAt.get("a") >= TimeUnit.MILLISECONDS.toNanos(100),
+            "d starts after a is ready");
+        assertTrue(timeToReady.get("d").compareTo(timeToReady.get("a")) > 0);
+        assertTrue(registry.getTimeToReady("b").isPresent());
+    }
+
+    @Test
+    void lazyAgentStartsOnFirstUse() throws Exception {
+        Map<String, Long> readyAt = new ConcurrentHashMap<>();
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry();
+        SlowStartAgent eager = new SlowStartAgent("eager", Set.of(), 0, readyAt);
+        SlowStartAgent lazy = new SlowStartAgent("lazy", Set.of(), 50, readyAt);
+        registry.registerAgent(eager);
+        registry.registerLazyAgent(lazy);
+
+        registry.startAgents(CONFIG).get(10, TimeUnit.SECONDS);
+        assertTrue(eager.isReady());
+        assertFalse(lazy.isReady());
+
+        AgentResult result = registry.executeOperation("lazy-op", Map.of()).get(10, TimeUnit.SECONDS);
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        assertTrue(lazy.isReady());
+        assertTrue(registry.getTimeToReady("lazy").isPresent());
+    }
+
+    @Test
+    void refusesDependencyCycles() {
+        Map<String, Long> readyAt = new ConcurrentHashMap<>();
+        WorkspaceAgentRegistry registry = new WorkspaceAgentRegistry();
+        registry.registerAgent(new SlowStartAgent("x", Set.of("y"), 0, readyAt));
+        registry.registerAgent(new SlowStartAgent("y", Set.of("x-type"), 0, readyAt));
+
+        assertThrows(IllegalStateException.class, () -> registry.startAgents(CONFIG));
+    }
+
+    /**
+     * Agent whose initialization takes a fixed time and records when it finished
+     */
+    private static class SlowStartAgent implements WorkspaceAgent {
+        private final String agentId;
+        private final Set<String> dependencies;
+        private final long initMillis;
+        private final Map<String, Long> readyAt;
+        private volatile boolean ready = false;
+
+        SlowStartAgent(String agentId, Set<String> dependencies, long initMillis, Map<String, Long> readyAt) {
+            this.agentId = agentId;
+            this.dependencies = dependencies;
+            this.initMillis = initMillis;
+            this.readyAt = readyAt;
+        }
+
+        @Override
+        public String getAgentId() { return agentId; }
+
+        @Override
+        public AgentCapabilities getCapabilities() {
+            return new AgentCapabilities(agentId + "-type", Set.of(agentId + "-op"), Map.of(agentId + "-op", "Op"),
+                dependencies, 10);
+        }
+
+        @Override
+        public CompletableFuture<AgentResult> execute(String operation, Map<String, Object> parameters) {
+            return CompletableFuture.completedFuture(ready
+                ? AgentResult.success(agentId, 0)
+                : AgentResult.failure(agentId + " used before initialization", 0));
+        }
+
+        @Override
+        public AgentHealth getHealth() { return ready ? AgentHealth.HEALTHY : AgentHealth.UNHEALTHY; }
+
+        @Override
+        public AgentMetrics getMetrics() { return new AgentMetricsRecorder().snapshot(); }
+
+        @Override
+        public void initialize(AgentConfiguration config) {
+            try {
+                Thread.sleep(initMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            readyAt.put(agentId, System.nanoTime());
+            ready = true;
+        }
+
+        @Override
+        public void shutdown() { ready = false; }
+
+        @Override
+        public boolean isReady() { return ready; }
+    }
+}